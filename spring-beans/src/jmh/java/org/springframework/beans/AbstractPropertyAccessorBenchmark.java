@@ -38,7 +38,7 @@ public class AbstractPropertyAccessorBenchmark {
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
-		@Param({"DirectFieldAccessor", "BeanWrapper"})
+		@Param({"DirectFieldAccessor", "BeanWrapper", "GeneratedBeanWrapper"})
 		public String accessor;
 
 		@Param({"none", "stringTrimmer", "numberOnPath", "numberOnNestedPath", "numberOnType"})
@@ -58,7 +58,9 @@ public class AbstractPropertyAccessorBenchmark {
 				this.propertyAccessor = new DirectFieldAccessor(this.target);
 			}
 			else {
-				this.propertyAccessor = new BeanWrapperImpl(this.target);
+				BeanWrapperImpl beanWrapper = new BeanWrapperImpl(this.target);
+				beanWrapper.setUseGeneratedAccessors(this.accessor.equals("GeneratedBeanWrapper"));
+				this.propertyAccessor = beanWrapper;
 			}
 			switch (this.customEditor) {
 				case "stringTrimmer" ->
@@ -80,6 +82,11 @@ public class AbstractPropertyAccessorBenchmark {
 		return state.target;
 	}
 
+	@Benchmark
+	public Object getPropertyValue(BenchmarkState state) {
+		return state.propertyAccessor.getPropertyValue("array");
+	}
+
 	@SuppressWarnings("unused")
 	private static class PrimitiveArrayBean {
 
@@ -17,6 +17,7 @@
 package org.springframework.beans;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -34,11 +35,21 @@ public class BeanUtilsBenchmark {
 
 	private Constructor<TestClass1> noArgConstructor;
 	private Constructor<TestClass2> constructor;
+	private WideBean source;
+	private WideBean target;
+	private Method readMethod;
+	private Method writeMethod;
 
 	@Setup
 	public void setUp() throws NoSuchMethodException {
 		this.noArgConstructor = TestClass1.class.getDeclaredConstructor();
 		this.constructor = TestClass2.class.getDeclaredConstructor(int.class, String.class);
+		this.source = new WideBean();
+		this.source.setName("name");
+		this.source.setCount(42);
+		this.target = new WideBean();
+		this.readMethod = WideBean.class.getMethod("getName");
+		this.writeMethod = WideBean.class.getMethod("setName", String.class);
 	}
 
 	@Benchmark
@@ -51,6 +62,31 @@ public class BeanUtilsBenchmark {
 		return BeanUtils.instantiateClass(this.constructor, 1, "str");
 	}
 
+	/**
+	 * Run with {@code -Dspring.beans.generated-accessors=true} to compare with
+	 * generated accessors.
+	 * @see BeanWrapperImpl#GENERATED_ACCESSORS_PROPERTY_NAME
+	 */
+	@Benchmark
+	public Object copyProperties() {
+		BeanUtils.copyProperties(this.source, this.target);
+		return this.target;
+	}
+
+	@Benchmark
+	public Object reflectivePropertyAccess() throws Exception {
+		Object value = this.readMethod.invoke(this.source);
+		this.writeMethod.invoke(this.target, value);
+		return this.target;
+	}
+
+	@Benchmark
+	public Object generatedPropertyAccess() throws Exception {
+		Object value = GeneratedPropertyAccessors.invoke(this.readMethod, this.source);
+		GeneratedPropertyAccessors.invoke(this.writeMethod, this.target, value);
+		return this.target;
+	}
+
 	static class TestClass1 {
 	}
 
@@ -65,4 +101,97 @@ public class BeanUtilsBenchmark {
 		}
 	}
 
+	public static class WideBean {
+		private String name;
+		private int count;
+		private long id;
+		private boolean active;
+		private String description;
+		private String email;
+		private String city;
+		private String country;
+		private Integer rank;
+		private Double score;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return this.count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public long getId() {
+			return this.id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public boolean isActive() {
+			return this.active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public String getDescription() {
+			return this.description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		public String getEmail() {
+			return this.email;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+		public String getCity() {
+			return this.city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
+
+		public String getCountry() {
+			return this.country;
+		}
+
+		public void setCountry(String country) {
+			this.country = country;
+		}
+
+		public Integer getRank() {
+			return this.rank;
+		}
+
+		public void setRank(Integer rank) {
+			this.rank = rank;
+		}
+
+		public Double getScore() {
+			return this.score;
+		}
+
+		public void setScore(Double score) {
+			this.score = score;
+		}
+	}
+
 }
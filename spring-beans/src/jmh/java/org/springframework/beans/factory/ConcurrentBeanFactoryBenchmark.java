@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,10 +18,14 @@ package org.springframework.beans.factory;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -30,6 +34,8 @@ import org.openjdk.jmh.infra.Blackhole;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.beans.propertyeditors.CustomDateEditor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.lang.Nullable;
 
 import static org.springframework.core.testfixture.io.ResourceTestUtils.qualifiedResource;
 
@@ -38,6 +44,9 @@ import static org.springframework.core.testfixture.io.ResourceTestUtils.qualifie
  * This benchmark requires to customize the number of worker threads {@code -t <int>} on the
  * CLI when running this particular benchmark to leverage concurrency.
  *
+ * <p>The scoped bean benchmark resolves scoped beans, which depend on a lazily
+ * initialized singleton, from a large number of virtual threads and requires JDK 21.
+ *
  * @author Brian Clozel
  */
 @BenchmarkMode(Mode.Throughput)
@@ -61,17 +70,65 @@ public class ConcurrentBeanFactoryBenchmark {
 
 	}
 
+	@State(Scope.Benchmark)
+	public static class ScopedBeanState {
+
+		@Param({"1000"})
+		public int threadCount;
+
+		public VirtualThreadTaskExecutor executor;
+
+		public DefaultListableBeanFactory factory;
+
+		@Setup
+		public void setup() {
+			this.factory = new DefaultListableBeanFactory();
+			this.factory.registerScope("task", new TaskScope());
+			new XmlBeanDefinitionReader(this.factory).loadBeanDefinitions(
+					qualifiedResource(ConcurrentBeanFactoryBenchmark.class, "context.xml"));
+
+			this.factory.addPropertyEditorRegistrar(
+					registry -> registry.registerCustomEditor(Date.class,
+							new CustomDateEditor(new SimpleDateFormat("yyyy/MM/dd"), false)));
+			this.executor = new VirtualThreadTaskExecutor("benchmark-");
+		}
+
+	}
+
 	@Benchmark
 	public void concurrentBeanCreation(BenchmarkState state, Blackhole bh) {
 		bh.consume(state.factory.getBean("bean1"));
 		bh.consume(state.factory.getBean("bean2"));
 	}
 
+	@Benchmark
+	public void concurrentScopedBeanResolution(ScopedBeanState state, Blackhole bh) throws InterruptedException {
+		Object[] beans = new Object[state.threadCount];
+		CountDownLatch latch = new CountDownLatch(state.threadCount);
+		for (int i = 0; i < state.threadCount; i++) {
+			int index = i;
+			state.executor.execute(() -> {
+				try {
+					// Each virtual thread starts with a new scope, see TaskScope
+					beans[index] = state.factory.getBean("scopedBean", ConcurrentBean.class).getDependency();
+				}
+				finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		bh.consume(beans);
+	}
+
 
 	public static class ConcurrentBean {
 
 		private Date date;
 
+		@Nullable
+		private ConcurrentBean dependency;
+
 		public Date getDate() {
 			return this.date;
 		}
@@ -79,5 +136,52 @@ public class ConcurrentBeanFactoryBenchmark {
 		public void setDate(Date date) {
 			this.date = date;
 		}
+
+		@Nullable
+		public ConcurrentBean getDependency() {
+			return this.dependency;
+		}
+
+		public void setDependency(@Nullable ConcurrentBean dependency) {
+			this.dependency = dependency;
+		}
+	}
+
+
+	/**
+	 * Scope holding beans per thread, similar to a request scope
+	 * with a new request per thread.
+	 */
+	private static class TaskScope implements org.springframework.beans.factory.config.Scope {
+
+		private final ThreadLocal<Map<String, Object>> scopedObjects = ThreadLocal.withInitial(HashMap::new);
+
+		@Override
+		public Object get(String name, ObjectFactory<?> objectFactory) {
+			return this.scopedObjects.get().computeIfAbsent(name, key -> objectFactory.getObject());
+		}
+
+		@Override
+		@Nullable
+		public Object remove(String name) {
+			return this.scopedObjects.get().remove(name);
+		}
+
+		@Override
+		public void registerDestructionCallback(String name, Runnable callback) {
+		}
+
+		@Override
+		@Nullable
+		public Object resolveContextualObject(String key) {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public String getConversationId() {
+			return null;
+		}
 	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.LifecycleBean;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.ResolvableType;
 
 /**
  * Benchmark for retrieving various bean types from the {@link DefaultListableBeanFactory}.
@@ -133,10 +134,60 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class TypeLookupChangesState extends Shared {
+
+		@Param({"5000"})
+		public int beanCount;
+
+		public ResolvableType genericType;
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < this.beanCount; i++) {
+				Class<?> beanClass = switch (i % 4) {
+					case 0 -> A.class;
+					case 1 -> B.class;
+					case 2 -> TestBean.class;
+					default -> StringHolder.class;
+				};
+				this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(beanClass));
+			}
+			this.beanFactory.freezeConfiguration();
+			this.genericType = ResolvableType.forClassWithGenerics(Holder.class, String.class);
+		}
+	}
+
+	@Benchmark
+	public Object beanNamesForTypeManyBeans(TypeLookupChangesState state) {
+		return state.beanFactory.getBeanNamesForType(TestBean.class);
+	}
+
+	@Benchmark
+	public Object beanNamesForGenericTypeManyBeans(TypeLookupChangesState state) {
+		return state.beanFactory.getBeanNamesForType(state.genericType);
+	}
+
+	@Benchmark
+	public Object beanNamesForTypeWithRegistrationChanges(TypeLookupChangesState state) {
+		DefaultListableBeanFactory beanFactory = state.beanFactory;
+		beanFactory.registerBeanDefinition("extra", new RootBeanDefinition(TestBean.class));
+		String[] withExtra = beanFactory.getBeanNamesForType(TestBean.class);
+		beanFactory.removeBeanDefinition("extra");
+		return new Object[] {withExtra, beanFactory.getBeanNamesForType(TestBean.class)};
+	}
+
 	static class A {
 	}
 
 	static class B {
 	}
 
+	static class Holder<T> {
+	}
+
+	static class StringHolder extends Holder<String> {
+	}
+
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericTypeAwareAutowireCandidateResolver;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Benchmark for generic type resolution during autowiring, matching generic
+ * dependencies against bean definitions with generic target types.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.Throughput)
+public class GenericAutowiringBenchmark {
+
+	@Benchmark
+	public void isAutowireCandidate(BenchmarkState state, Blackhole bh) throws Exception {
+		for (String beanName : state.beanNames) {
+			bh.consume(state.beanFactory.isAutowireCandidate(beanName, state.fieldDescriptor));
+		}
+	}
+
+	@Benchmark
+	public void getBeanNamesForGenericType(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBeanNamesForType(state.dependencyType, true, false));
+	}
+
+	@Benchmark
+	public void resolveFieldTypeForImplementation(BenchmarkState state, Blackhole bh) {
+		ResolvableType fieldType = ResolvableType.forField(state.field, Consumer.class);
+		bh.consume(fieldType.as(Repository.class).getGeneric().resolve());
+	}
+
+	@Benchmark
+	public void isAssignableFromParameterizedType(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.dependencyType.isAssignableFrom(
+				ResolvableType.forClassWithGenerics(SimpleRepository.class, String.class)));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		private static final Class<?>[] ENTITY_TYPES = {String.class, Integer.class, Long.class, Double.class,
+				BigDecimal.class, BigInteger.class, UUID.class, Instant.class, Duration.class, LocalDate.class};
+
+		@Param({"10", "100"})
+		public int numberOfBeans;
+
+		DefaultListableBeanFactory beanFactory;
+
+		String[] beanNames;
+
+		Field field;
+
+		DependencyDescriptor fieldDescriptor;
+
+		ResolvableType dependencyType;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.beanFactory = new DefaultListableBeanFactory();
+			this.beanFactory.setAutowireCandidateResolver(new GenericTypeAwareAutowireCandidateResolver());
+			for (int i = 0; i < this.numberOfBeans; i++) {
+				RootBeanDefinition bd = new RootBeanDefinition(SimpleRepository.class);
+				bd.setTargetType(ResolvableType.forClassWithGenerics(
+						SimpleRepository.class, ENTITY_TYPES[i % ENTITY_TYPES.length]));
+				this.beanFactory.registerBeanDefinition("repository" + i, bd);
+			}
+			this.beanNames = this.beanFactory.getBeanDefinitionNames();
+			this.field = AbstractConsumer.class.getDeclaredField("repository");
+			this.fieldDescriptor = new DependencyDescriptor(this.field, true);
+			this.fieldDescriptor.setContainingClass(Consumer.class);
+			this.dependencyType = this.fieldDescriptor.getResolvableType();
+		}
+	}
+
+
+	public interface Repository<T> {
+	}
+
+
+	public static class SimpleRepository<T> implements Repository<T> {
+	}
+
+
+	public abstract static class AbstractConsumer<T> {
+
+		Repository<T> repository;
+	}
+
+
+	public static class Consumer extends AbstractConsumer<String> {
+	}
+
+}
@@ -706,6 +706,9 @@ public abstract class BeanUtils {
 	 * <tr><td>{@code List<Integer>}</td><td>{@code List<Long>}</td><td>no</td></tr>
 	 * <tr><td>{@code List<Integer>}</td><td>{@code List<Number>}</td><td>no</td></tr>
 	 * </table>
+	 * <p>As of Spring Framework 6.1, property methods are invoked through generated
+	 * accessors rather than through reflection if the
+	 * {@link BeanWrapperImpl#GENERATED_ACCESSORS_PROPERTY_NAME} Spring property is set.
 	 * @param source the source bean
 	 * @param target the target bean
 	 * @throws BeansException if the copying failed
@@ -801,10 +804,16 @@ public abstract class BeanUtils {
 					if (readMethod != null) {
 						if (isAssignable(writeMethod, readMethod, sourcePd, targetPd)) {
 							try {
-								ReflectionUtils.makeAccessible(readMethod);
-								Object value = readMethod.invoke(source);
-								ReflectionUtils.makeAccessible(writeMethod);
-								writeMethod.invoke(target, value);
+								if (GeneratedPropertyAccessors.isEnabledByDefault()) {
+									Object value = GeneratedPropertyAccessors.invoke(readMethod, source);
+									GeneratedPropertyAccessors.invoke(writeMethod, target, value);
+								}
+								else {
+									ReflectionUtils.makeAccessible(readMethod);
+									Object value = readMethod.invoke(source);
+									ReflectionUtils.makeAccessible(writeMethod);
+									writeMethod.invoke(target, value);
+								}
 							}
 							catch (Throwable ex) {
 								throw new FatalBeanException(
@@ -57,6 +57,22 @@ import org.springframework.util.ReflectionUtils;
  */
 public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements BeanWrapper {
 
+	/**
+	 * System property that instructs Spring to invoke bean property read and
+	 * write methods through accessor classes generated per bean class rather
+	 * than through reflection: {@code "spring.beans.generated-accessors"}.
+	 * <p>The default is "false". Consider switching this flag to "true" for
+	 * applications that bind or copy many properties on hot paths, e.g. form
+	 * binding through a {@code DataBinder}, row mapping through a
+	 * {@code BeanPropertyRowMapper} or {@link BeanUtils#copyProperties}, at
+	 * the expense of generating one class per bean class on first access.
+	 * <p>The setting can be overridden per instance through
+	 * {@link #setUseGeneratedAccessors}. It has no effect in a native image.
+	 * @since 6.1
+	 */
+	public static final String GENERATED_ACCESSORS_PROPERTY_NAME = "spring.beans.generated-accessors";
+
+
 	/**
 	 * Cached introspections results for this object, to prevent encountering
 	 * the cost of JavaBeans introspection every time.
@@ -64,6 +80,8 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	@Nullable
 	private CachedIntrospectionResults cachedIntrospectionResults;
 
+	private boolean useGeneratedAccessors = GeneratedPropertyAccessors.isEnabledByDefault();
+
 
 	/**
 	 * Create a new empty BeanWrapperImpl. Wrapped instance needs to be set afterwards.
@@ -120,6 +138,7 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	 */
 	private BeanWrapperImpl(Object object, String nestedPath, BeanWrapperImpl parent) {
 		super(object, nestedPath, parent);
+		this.useGeneratedAccessors = parent.useGeneratedAccessors;
 	}
 
 
@@ -153,6 +172,27 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		}
 	}
 
+	/**
+	 * Set whether to invoke property read and write methods through accessor
+	 * classes generated per bean class rather than through reflection.
+	 * <p>Default is "false", unless the {@link #GENERATED_ACCESSORS_PROPERTY_NAME}
+	 * Spring property has been set to "true". Nested property accessors
+	 * inherit this setting.
+	 * @since 6.1
+	 * @see #GENERATED_ACCESSORS_PROPERTY_NAME
+	 */
+	public void setUseGeneratedAccessors(boolean useGeneratedAccessors) {
+		this.useGeneratedAccessors = useGeneratedAccessors;
+	}
+
+	/**
+	 * Return whether property methods are invoked through generated accessors.
+	 * @since 6.1
+	 */
+	public boolean isUseGeneratedAccessors() {
+		return this.useGeneratedAccessors;
+	}
+
 	/**
 	 * Obtain a lazily initialized CachedIntrospectionResults instance
 	 * for the wrapped object.
@@ -268,6 +308,9 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		public Object getValue() throws Exception {
 			Method readMethod = this.pd.getReadMethod();
 			Assert.state(readMethod != null, "No read method available");
+			if (isUseGeneratedAccessors()) {
+				return GeneratedPropertyAccessors.invoke(readMethod, getWrappedInstance());
+			}
 			ReflectionUtils.makeAccessible(readMethod);
 			return readMethod.invoke(getWrappedInstance(), (Object[]) null);
 		}
@@ -275,6 +318,10 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		@Override
 		public void setValue(@Nullable Object value) throws Exception {
 			Method writeMethod = this.pd.getWriteMethodForActualAccess();
+			if (isUseGeneratedAccessors()) {
+				GeneratedPropertyAccessors.invoke(writeMethod, getWrappedInstance(), value);
+				return;
+			}
 			ReflectionUtils.makeAccessible(writeMethod);
 			writeMethod.invoke(getWrappedInstance(), value);
 		}
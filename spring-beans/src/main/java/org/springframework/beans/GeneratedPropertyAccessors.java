@@ -0,0 +1,252 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cglib.core.SpringNamingPolicy;
+import org.springframework.cglib.reflect.FastClass;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Internal helper that invokes bean property read and write methods through
+ * accessor classes generated per bean class with CGLIB's {@link FastClass},
+ * dispatching on a method index instead of going through reflective
+ * {@link Method#invoke} calls.
+ *
+ * <p>Methods for which no accessor can be generated, e.g. methods declared by
+ * JDK classes, non-visible methods or any method when running in a native
+ * image, are invoked reflectively as usual.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ * @see BeanWrapperImpl#setUseGeneratedAccessors
+ * @see BeanWrapperImpl#GENERATED_ACCESSORS_PROPERTY_NAME
+ */
+abstract class GeneratedPropertyAccessors {
+
+	private static final boolean enabledByDefault =
+			SpringProperties.getFlag(BeanWrapperImpl.GENERATED_ACCESSORS_PROPERTY_NAME);
+
+	private static final Log logger = LogFactory.getLog(GeneratedPropertyAccessors.class);
+
+	private static final Map<Method, MethodAccessor> accessorCache = new ConcurrentReferenceHashMap<>(256);
+
+
+	/**
+	 * Whether generated accessors are enabled by default, as indicated by the
+	 * {@link BeanWrapperImpl#GENERATED_ACCESSORS_PROPERTY_NAME} Spring property.
+	 */
+	static boolean isEnabledByDefault() {
+		return enabledByDefault;
+	}
+
+	/**
+	 * Invoke the given method on the given target, with the same exception
+	 * semantics as {@link Method#invoke(Object, Object...)}.
+	 * @param method the property read or write method to invoke
+	 * @param target the target instance
+	 * @param args the arguments, if any
+	 * @return the value returned by the method, if any
+	 * @throws InvocationTargetException if the invoked method threw an exception
+	 * @throws IllegalAccessException if the method is not accessible
+	 */
+	@Nullable
+	static Object invoke(Method method, Object target, @Nullable Object... args)
+			throws InvocationTargetException, IllegalAccessException {
+
+		MethodAccessor accessor = accessorCache.get(method);
+		if (accessor == null) {
+			accessor = createAccessor(method);
+			accessorCache.put(method, accessor);
+		}
+		return accessor.invoke(target, args);
+	}
+
+	private static MethodAccessor createAccessor(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		if (!NativeDetector.inNativeImage() && declaringClass.getClassLoader() != null &&
+				!Modifier.isPrivate(method.getModifiers())) {
+			try {
+				FastClass.Generator generator = new FastClass.Generator();
+				generator.setType(declaringClass);
+				generator.setContextClass(declaringClass);
+				generator.setClassLoader(declaringClass.getClassLoader());
+				generator.setNamingPolicy(SpringNamingPolicy.INSTANCE);
+				generator.setAttemptLoad(true);
+				FastClass fastClass = generator.create();
+				int index = fastClass.getIndex(method.getName(), method.getParameterTypes());
+				if (index >= 0) {
+					return new FastClassMethodAccessor(fastClass, index, method);
+				}
+			}
+			catch (Throwable ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Could not generate accessor for " + method + " - using reflection instead", ex);
+				}
+			}
+		}
+		return new ReflectiveMethodAccessor(method);
+	}
+
+
+	/**
+	 * Strategy for invoking a specific property method.
+	 */
+	private interface MethodAccessor {
+
+		@Nullable
+		Object invoke(Object target, @Nullable Object[] args) throws InvocationTargetException, IllegalAccessException;
+	}
+
+
+	/**
+	 * {@link MethodAccessor} that dispatches through a generated {@link FastClass}.
+	 */
+	private static class FastClassMethodAccessor implements MethodAccessor {
+
+		private static final Object[] NO_ARGS = new Object[0];
+
+		private final FastClass fastClass;
+
+		private final int index;
+
+		private final Method method;
+
+		private final Class<?>[] parameterTypes;
+
+		FastClassMethodAccessor(FastClass fastClass, int index, Method method) {
+			this.fastClass = fastClass;
+			this.index = index;
+			this.method = method;
+			this.parameterTypes = method.getParameterTypes();
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(Object target, @Nullable Object[] args) throws InvocationTargetException {
+			if (args == null) {
+				args = NO_ARGS;
+			}
+			// Same checks as Method.invoke: the generated accessor would otherwise cast
+			// the arguments itself, reporting a mismatch as an InvocationTargetException
+			// with a ClassCastException or NullPointerException from unboxing.
+			if (args.length != this.parameterTypes.length) {
+				throw new IllegalArgumentException("Wrong number of arguments for " + this.method);
+			}
+			for (int i = 0; i < args.length; i++) {
+				Object arg = args[i];
+				if (!isAssignableArgument(this.parameterTypes[i], arg)) {
+					throw new IllegalArgumentException("Argument type mismatch for parameter " + i +
+							" of " + this.method + ": " + (arg != null ? arg.getClass().getName() : "null"));
+				}
+				if (arg instanceof Character ch && this.parameterTypes[i].isPrimitive() &&
+						this.parameterTypes[i] != char.class) {
+					// Widened char: the generated accessor unboxes numeric parameters from a Number
+					args = args.clone();
+					args[i] = (int) ch;
+				}
+			}
+			return this.fastClass.invoke(this.index, target, args);
+		}
+
+		/**
+		 * Determine whether the given argument can be passed for a parameter of the
+		 * given type, applying unboxing and widening primitive conversions but no
+		 * narrowing conversions, as {@link Method#invoke} does.
+		 */
+		private static boolean isAssignableArgument(Class<?> parameterType, @Nullable Object arg) {
+			if (!parameterType.isPrimitive()) {
+				return (arg == null || parameterType.isInstance(arg));
+			}
+			if (arg == null) {
+				return false;
+			}
+			Class<?> argType = arg.getClass();
+			if (parameterType == boolean.class) {
+				return (argType == Boolean.class);
+			}
+			if (parameterType == char.class) {
+				return (argType == Character.class);
+			}
+			int rank = wideningRank(argType);
+			if (rank < 0) {
+				return false;
+			}
+			if (argType == Character.class) {
+				// char widens to int, long, float and double only
+				return (parameterType != byte.class && parameterType != short.class);
+			}
+			return (rank <= wideningRank(parameterType));
+		}
+
+		private static int wideningRank(Class<?> type) {
+			if (type == Byte.class || type == byte.class) {
+				return 0;
+			}
+			else if (type == Short.class || type == short.class || type == Character.class) {
+				return 1;
+			}
+			else if (type == Integer.class || type == int.class) {
+				return 2;
+			}
+			else if (type == Long.class || type == long.class) {
+				return 3;
+			}
+			else if (type == Float.class || type == float.class) {
+				return 4;
+			}
+			else if (type == Double.class || type == double.class) {
+				return 5;
+			}
+			return -1;
+		}
+	}
+
+
+	/**
+	 * {@link MethodAccessor} that uses plain reflection.
+	 */
+	private static class ReflectiveMethodAccessor implements MethodAccessor {
+
+		private final Method method;
+
+		ReflectiveMethodAccessor(Method method) {
+			ReflectionUtils.makeAccessible(method);
+			this.method = method;
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(Object target, @Nullable Object[] args)
+				throws InvocationTargetException, IllegalAccessException {
+
+			return this.method.invoke(target, args);
+		}
+	}
+
+}
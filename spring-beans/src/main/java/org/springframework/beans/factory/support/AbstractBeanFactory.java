@@ -1468,6 +1468,25 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 		}
 	}
 
+	/**
+	 * Remove the merged bean definition for the specified bean, also dropping
+	 * type information derived from its factory bean, which would otherwise be
+	 * carried over to the recreated merged definition.
+	 * @param beanName the bean name to clear the merged definition for
+	 * @since 6.1
+	 * @see #clearMergedBeanDefinition(String)
+	 */
+	void clearMergedFactoryMethodBeanDefinition(String beanName) {
+		clearMergedBeanDefinition(beanName);
+		RootBeanDefinition bd = this.mergedBeanDefinitions.get(beanName);
+		if (bd != null) {
+			bd.isFactoryBean = null;
+			bd.resolvedTargetType = null;
+			bd.factoryMethodReturnType = null;
+			bd.factoryMethodToIntrospect = null;
+		}
+	}
+
 	/**
 	 * Clear the merged bean definition cache, removing entries for beans
 	 * which are not considered eligible for full metadata caching yet.
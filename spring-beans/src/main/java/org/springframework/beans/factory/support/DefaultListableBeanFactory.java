@@ -26,18 +26,30 @@ import java.lang.annotation.Annotation;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -46,6 +58,7 @@ import java.util.stream.Stream;
 import jakarta.inject.Provider;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -67,8 +80,10 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues.ValueHolder;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.MergedAnnotation;
@@ -139,6 +154,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private static final Map<String, Reference<DefaultListableBeanFactory>> serializableFactories =
 			new ConcurrentHashMap<>(8);
 
+	/** Maximum number of changed beans to keep track of before clearing the by-type caches. */
+	private static final int BY_TYPE_CACHE_CHANGE_LIMIT = 256;
+
 	/** Optional id for this factory, for serialization purposes. */
 	@Nullable
 	private String serializationId;
@@ -156,6 +174,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Resolver to use for checking if a bean definition is an autowire candidate. */
 	private AutowireCandidateResolver autowireCandidateResolver = SimpleAutowireCandidateResolver.INSTANCE;
 
+	/** Optional Executor for pre-instantiating independent singletons concurrently. */
+	@Nullable
+	private Executor bootstrapExecutor;
+
 	/** Map from dependency type to corresponding autowired value. */
 	private final Map<Class<?>, Object> resolvableDependencies = new ConcurrentHashMap<>(16);
 
@@ -165,11 +187,17 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map from bean name to merged BeanDefinitionHolder. */
 	private final Map<String, BeanDefinitionHolder> mergedBeanDefinitionHolders = new ConcurrentHashMap<>(256);
 
-	/** Map of singleton and non-singleton bean names, keyed by dependency type. */
-	private final Map<Class<?>, String[]> allBeanNamesByType = new ConcurrentHashMap<>(64);
+	/** Map of singleton and non-singleton bean names, keyed by dependency type or generic type key. */
+	private final Map<Object, BeanNamesForType> allBeanNamesByType = new ConcurrentHashMap<>(64);
+
+	/** Map of singleton-only bean names, keyed by dependency type or generic type key. */
+	private final Map<Object, BeanNamesForType> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
-	/** Map of singleton-only bean names, keyed by dependency type. */
-	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
+	/** Names of beans changed since the by-type caches were last cleared, in order of change. */
+	private final List<String> beanNamesByTypeChanges = new ArrayList<>(16);
+
+	/** Version of the by-type caches at the first entry of {@link #beanNamesByTypeChanges}. */
+	private long beanNamesByTypeBaseVersion;
 
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
@@ -307,6 +335,38 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.autowireCandidateResolver;
 	}
 
+	/**
+	 * Set an {@link Executor} for pre-instantiating singletons concurrently.
+	 * <p>When set, {@link #preInstantiateSingletons()} groups the non-lazy
+	 * singletons by the dependencies declared in their bean definitions, i.e.
+	 * {@code depends-on} relationships, bean references in constructor arguments
+	 * and property values as well as factory beans, and instantiates independent
+	 * groups concurrently on the given executor. Singletons within a group are
+	 * instantiated in registration order, and {@link SmartInitializingSingleton}
+	 * callbacks are still invoked sequentially on the calling thread afterwards.
+	 * <p>Dependencies that are only known at runtime, e.g. autowired ones, may
+	 * cross groups: the creation of each singleton is then guarded by its own
+	 * lock, and other threads wait for the fully initialized instance. If several
+	 * groups fail, the failure of the group registered first is reported.
+	 * <p>By default, this is not set, and singletons are instantiated one after
+	 * another on the calling thread.
+	 * @param bootstrapExecutor the executor to use, or {@code null} for none
+	 * @since 6.1
+	 */
+	public void setBootstrapExecutor(@Nullable Executor bootstrapExecutor) {
+		this.bootstrapExecutor = bootstrapExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} for pre-instantiating singletons concurrently,
+	 * if any.
+	 * @since 6.1
+	 */
+	@Nullable
+	public Executor getBootstrapExecutor() {
+		return this.bootstrapExecutor;
+	}
+
 
 	@Override
 	public void copyConfigurationFrom(ConfigurableBeanFactory otherFactory) {
@@ -315,6 +375,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
+			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
 			// Make resolvable dependencies (e.g. ResourceLoader) available here as well
@@ -516,9 +577,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		if (resolved != null && !type.hasGenerics()) {
 			return getBeanNamesForType(resolved, includeNonSingletons, allowEagerInit);
 		}
-		else {
+		GenericTypeKey typeKey = (isConfigurationFrozen() && allowEagerInit ?
+				GenericTypeKey.of(type, getBeanClassLoader()) : null);
+		if (typeKey == null) {
 			return doGetBeanNamesForType(type, includeNonSingletons, allowEagerInit);
 		}
+		return getCachedBeanNamesForType(typeKey, type, includeNonSingletons);
 	}
 
 	@Override
@@ -531,17 +595,116 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		if (!isConfigurationFrozen() || type == null || !allowEagerInit) {
 			return doGetBeanNamesForType(ResolvableType.forRawClass(type), includeNonSingletons, allowEagerInit);
 		}
-		Map<Class<?>, String[]> cache =
+		if (!ClassUtils.isCacheSafe(type, getBeanClassLoader())) {
+			return doGetBeanNamesForType(ResolvableType.forRawClass(type), includeNonSingletons, true);
+		}
+		return getCachedBeanNamesForType(type, ResolvableType.forRawClass(type), includeNonSingletons);
+	}
+
+	/**
+	 * Return the bean names for the given type from the by-type caches,
+	 * only checking the beans that changed since the cached names were
+	 * determined, or all beans if none are cached yet.
+	 * @param typeKey the cache key, either the raw class or a {@link GenericTypeKey}
+	 * @param type the type to match
+	 * @param includeNonSingletons whether to include prototype or scoped beans too
+	 * @see #updateByTypeCache(String)
+	 */
+	private String[] getCachedBeanNamesForType(Object typeKey, ResolvableType type, boolean includeNonSingletons) {
+		Map<Object, BeanNamesForType> cache =
 				(includeNonSingletons ? this.allBeanNamesByType : this.singletonBeanNamesByType);
-		String[] resolvedBeanNames = cache.get(type);
-		if (resolvedBeanNames != null) {
-			return resolvedBeanNames;
+		BeanNamesForType cached = cache.get(typeKey);
+		long version;
+		List<String> changedBeanNames = null;
+		synchronized (this.beanNamesByTypeChanges) {
+			version = this.beanNamesByTypeBaseVersion + this.beanNamesByTypeChanges.size();
+			if (cached != null) {
+				if (cached.version() == version) {
+					return cached.beanNames();
+				}
+				if (cached.version() >= this.beanNamesByTypeBaseVersion) {
+					int firstChange = (int) (cached.version() - this.beanNamesByTypeBaseVersion);
+					changedBeanNames = new ArrayList<>(
+							this.beanNamesByTypeChanges.subList(firstChange, this.beanNamesByTypeChanges.size()));
+				}
+			}
 		}
-		resolvedBeanNames = doGetBeanNamesForType(ResolvableType.forRawClass(type), includeNonSingletons, true);
-		if (ClassUtils.isCacheSafe(type, getBeanClassLoader())) {
-			cache.put(type, resolvedBeanNames);
+		String[] beanNames = (changedBeanNames != null ?
+				updateBeanNamesForType(cached.beanNames(), changedBeanNames, type, includeNonSingletons) :
+				doGetBeanNamesForType(type, includeNonSingletons, true));
+		cache.put(typeKey, new BeanNamesForType(beanNames, version));
+		return beanNames;
+	}
+
+	/**
+	 * Update previously determined bean names for the given type, checking
+	 * the changed beans as well as beans derived from them (transitively) again.
+	 */
+	private String[] updateBeanNamesForType(String[] beanNames, List<String> changedBeanNames,
+			ResolvableType type, boolean includeNonSingletons) {
+
+		// Beans with a changed parent or factory bean may have changed their type too,
+		// transitively through chains of parents and factory beans
+		Map<String, List<String>> derivedBeanNames = new HashMap<>();
+		for (Map.Entry<String, BeanDefinition> entry : this.beanDefinitionMap.entrySet()) {
+			BeanDefinition bd = entry.getValue();
+			if (bd.getParentName() != null) {
+				derivedBeanNames.computeIfAbsent(bd.getParentName(), name -> new ArrayList<>()).add(entry.getKey());
+			}
+			if (bd.getFactoryBeanName() != null) {
+				derivedBeanNames.computeIfAbsent(bd.getFactoryBeanName(), name -> new ArrayList<>()).add(entry.getKey());
+			}
+		}
+		Set<String> changed = new HashSet<>(changedBeanNames);
+		Deque<String> toCheck = new ArrayDeque<>(changed);
+		while (!toCheck.isEmpty()) {
+			for (String derivedBeanName : derivedBeanNames.getOrDefault(toCheck.poll(), Collections.emptyList())) {
+				if (changed.add(derivedBeanName)) {
+					toCheck.add(derivedBeanName);
+				}
+			}
+		}
+
+		Set<String> matches = new HashSet<>();
+		for (String beanName : beanNames) {
+			if (!changed.contains(BeanFactoryUtils.transformedBeanName(beanName))) {
+				matches.add(beanName);
+			}
+		}
+		Set<String> manualSingletonNames = this.manualSingletonNames;
+		for (String beanName : changed) {
+			String match = null;
+			if (this.beanDefinitionMap.containsKey(beanName)) {
+				if (!isAlias(beanName)) {
+					match = matchBeanDefinition(beanName, type, includeNonSingletons, true);
+				}
+			}
+			else if (manualSingletonNames.contains(beanName)) {
+				match = matchManualSingleton(beanName, type, includeNonSingletons);
+			}
+			if (match != null) {
+				matches.add(match);
+			}
+		}
+
+		// Keep the order of a full check: bean definitions first, then manual singletons
+		List<String> result = new ArrayList<>(matches.size());
+		for (String beanName : this.beanDefinitionNames) {
+			addIfMatched(beanName, matches, result);
+		}
+		for (String beanName : manualSingletonNames) {
+			addIfMatched(beanName, matches, result);
+		}
+		return StringUtils.toStringArray(result);
+	}
+
+	private static void addIfMatched(String beanName, Set<String> matches, List<String> result) {
+		if (matches.contains(beanName)) {
+			result.add(beanName);
+		}
+		else if (matches.contains(FACTORY_BEAN_PREFIX + beanName)) {
+			result.add(FACTORY_BEAN_PREFIX + beanName);
 		}
-		return resolvedBeanNames;
 	}
 
 	private String[] doGetBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
@@ -551,84 +714,113 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		for (String beanName : this.beanDefinitionNames) {
 			// Only consider bean as eligible if the bean name is not defined as alias for some other bean.
 			if (!isAlias(beanName)) {
-				try {
-					RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
-					// Only check bean definition if it is complete.
-					if (!mbd.isAbstract() && (allowEagerInit ||
-							(mbd.hasBeanClass() || !mbd.isLazyInit() || isAllowEagerClassLoading()) &&
-									!requiresEagerInitForType(mbd.getFactoryBeanName()))) {
-						boolean isFactoryBean = isFactoryBean(beanName, mbd);
-						BeanDefinitionHolder dbd = mbd.getDecoratedDefinition();
-						boolean matchFound = false;
-						boolean allowFactoryBeanInit = (allowEagerInit || containsSingleton(beanName));
-						boolean isNonLazyDecorated = (dbd != null && !mbd.isLazyInit());
-						if (!isFactoryBean) {
-							if (includeNonSingletons || isSingleton(beanName, mbd, dbd)) {
-								matchFound = isTypeMatch(beanName, type, allowFactoryBeanInit);
-							}
-						}
-						else {
-							if (includeNonSingletons || isNonLazyDecorated ||
-									(allowFactoryBeanInit && isSingleton(beanName, mbd, dbd))) {
-								matchFound = isTypeMatch(beanName, type, allowFactoryBeanInit);
-							}
-							if (!matchFound) {
-								// In case of FactoryBean, try to match FactoryBean instance itself next.
-								beanName = FACTORY_BEAN_PREFIX + beanName;
-								if (includeNonSingletons || isSingleton(beanName, mbd, dbd)) {
-									matchFound = isTypeMatch(beanName, type, allowFactoryBeanInit);
-								}
-							}
-						}
-						if (matchFound) {
-							result.add(beanName);
-						}
-					}
-				}
-				catch (CannotLoadBeanClassException | BeanDefinitionStoreException ex) {
-					if (allowEagerInit) {
-						throw ex;
-					}
-					// Probably a placeholder: let's ignore it for type matching purposes.
-					LogMessage message = (ex instanceof CannotLoadBeanClassException ?
-							LogMessage.format("Ignoring bean class loading failure for bean '%s'", beanName) :
-							LogMessage.format("Ignoring unresolvable metadata in bean definition '%s'", beanName));
-					logger.trace(message, ex);
-					// Register exception, in case the bean was accidentally unresolvable.
-					onSuppressedException(ex);
-				}
-				catch (NoSuchBeanDefinitionException ex) {
-					// Bean definition got removed while we were iterating -> ignore.
+				String match = matchBeanDefinition(beanName, type, includeNonSingletons, allowEagerInit);
+				if (match != null) {
+					result.add(match);
 				}
 			}
 		}
 
 		// Check manually registered singletons too.
 		for (String beanName : this.manualSingletonNames) {
-			try {
-				// In case of FactoryBean, match object created by FactoryBean.
-				if (isFactoryBean(beanName)) {
-					if ((includeNonSingletons || isSingleton(beanName)) && isTypeMatch(beanName, type)) {
-						result.add(beanName);
-						// Match found for this bean: do not match FactoryBean itself anymore.
-						continue;
+			String match = matchManualSingleton(beanName, type, includeNonSingletons);
+			if (match != null) {
+				result.add(match);
+			}
+		}
+
+		return StringUtils.toStringArray(result);
+	}
+
+	/**
+	 * Check whether the given bean definition matches the given type.
+	 * @return the bean name, the FactoryBean name if the FactoryBean itself
+	 * matches, or {@code null} if no match
+	 */
+	@Nullable
+	private String matchBeanDefinition(
+			String beanName, ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
+
+		try {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			// Only check bean definition if it is complete.
+			if (!mbd.isAbstract() && (allowEagerInit ||
+					(mbd.hasBeanClass() || !mbd.isLazyInit() || isAllowEagerClassLoading()) &&
+							!requiresEagerInitForType(mbd.getFactoryBeanName()))) {
+				boolean isFactoryBean = isFactoryBean(beanName, mbd);
+				BeanDefinitionHolder dbd = mbd.getDecoratedDefinition();
+				boolean matchFound = false;
+				boolean allowFactoryBeanInit = (allowEagerInit || containsSingleton(beanName));
+				boolean isNonLazyDecorated = (dbd != null && !mbd.isLazyInit());
+				if (!isFactoryBean) {
+					if (includeNonSingletons || isSingleton(beanName, mbd, dbd)) {
+						matchFound = isTypeMatch(beanName, type, allowFactoryBeanInit);
 					}
-					// In case of FactoryBean, try to match FactoryBean itself next.
-					beanName = FACTORY_BEAN_PREFIX + beanName;
 				}
-				// Match raw bean instance (might be raw FactoryBean).
-				if (isTypeMatch(beanName, type)) {
-					result.add(beanName);
+				else {
+					if (includeNonSingletons || isNonLazyDecorated ||
+							(allowFactoryBeanInit && isSingleton(beanName, mbd, dbd))) {
+						matchFound = isTypeMatch(beanName, type, allowFactoryBeanInit);
+					}
+					if (!matchFound) {
+						// In case of FactoryBean, try to match FactoryBean instance itself next.
+						beanName = FACTORY_BEAN_PREFIX + beanName;
+						if (includeNonSingletons || isSingleton(beanName, mbd, dbd)) {
+							matchFound = isTypeMatch(beanName, type, allowFactoryBeanInit);
+						}
+					}
+				}
+				if (matchFound) {
+					return beanName;
 				}
 			}
-			catch (NoSuchBeanDefinitionException ex) {
-				// Shouldn't happen - probably a result of circular reference resolution...
-				logger.trace(LogMessage.format(
-						"Failed to check manually registered singleton with name '%s'", beanName), ex);
+		}
+		catch (CannotLoadBeanClassException | BeanDefinitionStoreException ex) {
+			if (allowEagerInit) {
+				throw ex;
 			}
+			// Probably a placeholder: let's ignore it for type matching purposes.
+			LogMessage message = (ex instanceof CannotLoadBeanClassException ?
+					LogMessage.format("Ignoring bean class loading failure for bean '%s'", beanName) :
+					LogMessage.format("Ignoring unresolvable metadata in bean definition '%s'", beanName));
+			logger.trace(message, ex);
+			// Register exception, in case the bean was accidentally unresolvable.
+			onSuppressedException(ex);
+		}
+		catch (NoSuchBeanDefinitionException ex) {
+			// Bean definition got removed while we were iterating -> ignore.
 		}
+		return null;
+	}
 
-		return StringUtils.toStringArray(result);
+	/**
+	 * Check whether the given manually registered singleton matches the given type.
+	 * @return the bean name, the FactoryBean name if the FactoryBean itself
+	 * matches, or {@code null} if no match
+	 */
+	@Nullable
+	private String matchManualSingleton(String beanName, ResolvableType type, boolean includeNonSingletons) {
+		try {
+			// In case of FactoryBean, match object created by FactoryBean.
+			if (isFactoryBean(beanName)) {
+				if ((includeNonSingletons || isSingleton(beanName)) && isTypeMatch(beanName, type)) {
+					// Match found for this bean: do not match FactoryBean itself anymore.
+					return beanName;
+				}
+				// In case of FactoryBean, try to match FactoryBean itself next.
+				beanName = FACTORY_BEAN_PREFIX + beanName;
+			}
+			// Match raw bean instance (might be raw FactoryBean).
+			if (isTypeMatch(beanName, type)) {
+				return beanName;
+			}
+		}
+		catch (NoSuchBeanDefinitionException ex) {
+			// Shouldn't happen - probably a result of circular reference resolution...
+			logger.trace(LogMessage.format(
+					"Failed to check manually registered singleton with name '%s'", beanName), ex);
+		}
+		return null;
 	}
 
 	private boolean isSingleton(String beanName, RootBeanDefinition mbd, @Nullable BeanDefinitionHolder dbd) {
@@ -960,17 +1152,15 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		List<String> beanNames = new ArrayList<>(this.beanDefinitionNames);
 
 		// Trigger initialization of all non-lazy singleton beans...
-		for (String beanName : beanNames) {
-			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
-			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
-				if (isFactoryBean(beanName)) {
-					Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
-					if (bean instanceof SmartFactoryBean<?> smartFactoryBean && smartFactoryBean.isEagerInit()) {
-						getBean(beanName);
-					}
-				}
-				else {
-					getBean(beanName);
+		Executor executor = this.bootstrapExecutor;
+		if (executor != null) {
+			preInstantiateSingletonsConcurrently(beanNames, executor);
+		}
+		else {
+			for (String beanName : beanNames) {
+				RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+				if (isPreInstantiationCandidate(bd)) {
+					preInstantiateSingleton(beanName);
 				}
 			}
 		}
@@ -988,6 +1178,205 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	}
 
 
+	private boolean isPreInstantiationCandidate(RootBeanDefinition bd) {
+		return (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit());
+	}
+
+	private void preInstantiateSingleton(String beanName) {
+		if (isFactoryBean(beanName)) {
+			Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
+			if (bean instanceof SmartFactoryBean<?> smartFactoryBean && smartFactoryBean.isEagerInit()) {
+				getBean(beanName);
+			}
+		}
+		else {
+			getBean(beanName);
+		}
+	}
+
+	/**
+	 * Pre-instantiate groups of singletons without known dependencies on
+	 * each other concurrently, reporting the failure of the first group.
+	 * @see #setBootstrapExecutor
+	 */
+	private void preInstantiateSingletonsConcurrently(List<String> beanNames, Executor executor) {
+		List<List<String>> groups = groupSingletonsByDependencies(beanNames);
+		Throwable[] failures = new Throwable[groups.size()];
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[groups.size()];
+		setConcurrentSingletonCreation(true);
+		try {
+			for (int i = 0; i < groups.size(); i++) {
+				List<String> group = groups.get(i);
+				int index = i;
+				CompletableFuture<Void> future = new CompletableFuture<>();
+				Runnable task = () -> {
+					failures[index] = preInstantiateSingletonGroup(group);
+					future.complete(null);
+				};
+				try {
+					executor.execute(task);
+				}
+				catch (RejectedExecutionException ex) {
+					task.run();
+				}
+				futures[i] = future;
+			}
+			CompletableFuture.allOf(futures).join();
+		}
+		finally {
+			setConcurrentSingletonCreation(false);
+		}
+
+		Throwable failure = null;
+		for (Throwable groupFailure : failures) {
+			if (groupFailure != null) {
+				if (failure == null) {
+					failure = groupFailure;
+				}
+				else {
+					failure.addSuppressed(groupFailure);
+				}
+			}
+		}
+		if (failure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (failure instanceof Error error) {
+			throw error;
+		}
+		if (failure != null) {
+			throw new IllegalStateException("Failed to pre-instantiate singletons", failure);
+		}
+	}
+
+	@Nullable
+	private Throwable preInstantiateSingletonGroup(List<String> beanNames) {
+		StartupStep instantiateGroup = getApplicationStartup().start("spring.beans.instantiate-group")
+				.tag("thread", Thread.currentThread().getName())
+				.tag("beanCount", String.valueOf(beanNames.size()));
+		try {
+			for (String beanName : beanNames) {
+				preInstantiateSingleton(beanName);
+			}
+			return null;
+		}
+		catch (Throwable ex) {
+			instantiateGroup.tag("exception", ex.getClass().toString())
+					.tag("message", String.valueOf(ex.getMessage()));
+			return ex;
+		}
+		finally {
+			instantiateGroup.end();
+		}
+	}
+
+	/**
+	 * Group the non-lazy singletons among the given bean names by their
+	 * dependencies, with each group in registration order and the groups
+	 * ordered by their first singleton.
+	 * <p>Takes into account the dependencies declared in bean definitions as
+	 * well as the dependencies resolved so far, e.g. through autowiring while
+	 * creating the bean post-processors. Dependencies that only get resolved
+	 * while creating the singletons are guarded by their creation locks.
+	 * @see #getDependenciesForBean
+	 */
+	private List<List<String>> groupSingletonsByDependencies(List<String> beanNames) {
+		Map<String, String> groupRoots = new HashMap<>(beanNames.size());
+		List<String> candidates = new ArrayList<>(beanNames.size());
+		for (String beanName : beanNames) {
+			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+			if (isPreInstantiationCandidate(bd)) {
+				candidates.add(beanName);
+			}
+			Set<String> dependencies = new LinkedHashSet<>();
+			collectDeclaredDependencies(bd, dependencies);
+			Collections.addAll(dependencies, getDependenciesForBean(beanName));
+			for (String dependency : dependencies) {
+				String dependencyName = canonicalName(BeanFactoryUtils.transformedBeanName(dependency));
+				String dependencyRoot = findGroupRoot(groupRoots, dependencyName);
+				String root = findGroupRoot(groupRoots, beanName);
+				if (!root.equals(dependencyRoot)) {
+					groupRoots.put(dependencyRoot, root);
+				}
+			}
+		}
+		Map<String, List<String>> groups = new LinkedHashMap<>();
+		for (String beanName : candidates) {
+			groups.computeIfAbsent(findGroupRoot(groupRoots, beanName), root -> new ArrayList<>()).add(beanName);
+		}
+		return new ArrayList<>(groups.values());
+	}
+
+	private static String findGroupRoot(Map<String, String> groupRoots, String beanName) {
+		String root = beanName;
+		String parent;
+		while ((parent = groupRoots.get(root)) != null) {
+			root = parent;
+		}
+		if (!root.equals(beanName)) {
+			// Compress the path for subsequent lookups
+			groupRoots.put(beanName, root);
+		}
+		return root;
+	}
+
+	private void collectDeclaredDependencies(BeanDefinition bd, Set<String> dependencies) {
+		String[] dependsOn = bd.getDependsOn();
+		if (dependsOn != null) {
+			Collections.addAll(dependencies, dependsOn);
+		}
+		if (bd.getFactoryBeanName() != null) {
+			dependencies.add(bd.getFactoryBeanName());
+		}
+		if (bd.hasConstructorArgumentValues()) {
+			for (ValueHolder valueHolder : bd.getConstructorArgumentValues().getIndexedArgumentValues().values()) {
+				collectDeclaredDependencies(valueHolder.getValue(), dependencies);
+			}
+			for (ValueHolder valueHolder : bd.getConstructorArgumentValues().getGenericArgumentValues()) {
+				collectDeclaredDependencies(valueHolder.getValue(), dependencies);
+			}
+		}
+		if (bd.hasPropertyValues()) {
+			for (PropertyValue pv : bd.getPropertyValues().getPropertyValues()) {
+				collectDeclaredDependencies(pv.getValue(), dependencies);
+			}
+		}
+	}
+
+	private void collectDeclaredDependencies(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof RuntimeBeanReference reference) {
+			if (reference.getBeanType() != null) {
+				Collections.addAll(dependencies, getBeanNamesForType(reference.getBeanType(), true, false));
+			}
+			else {
+				dependencies.add(reference.getBeanName());
+			}
+		}
+		else if (value instanceof BeanDefinitionHolder holder) {
+			collectDeclaredDependencies(holder.getBeanDefinition(), dependencies);
+		}
+		else if (value instanceof BeanDefinition innerBd) {
+			collectDeclaredDependencies(innerBd, dependencies);
+		}
+		else if (value instanceof Collection<?> collection) {
+			for (Object element : collection) {
+				collectDeclaredDependencies(element, dependencies);
+			}
+		}
+		else if (value instanceof Map<?, ?> map) {
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				collectDeclaredDependencies(entry.getKey(), dependencies);
+				collectDeclaredDependencies(entry.getValue(), dependencies);
+			}
+		}
+		else if (value instanceof Object[] array) {
+			for (Object element : array) {
+				collectDeclaredDependencies(element, dependencies);
+			}
+		}
+	}
+
+
 	//---------------------------------------------------------------------
 	// Implementation of BeanDefinitionRegistry interface
 	//---------------------------------------------------------------------
@@ -1080,7 +1469,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			resetBeanDefinition(beanName);
 		}
 		else if (isConfigurationFrozen()) {
-			clearByTypeCache();
+			updateByTypeCache(beanName);
 		}
 	}
 
@@ -1148,6 +1537,31 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 				}
 			}
 		}
+
+		// Beans created through the given bean as factory bean derive their type from it.
+		clearFactoryMethodBeanDefinitions(beanName);
+	}
+
+	/**
+	 * Clear the merged bean definitions of all beans created through the given
+	 * bean as factory bean, following chains of factory beans.
+	 * @param factoryBeanName the name of the factory bean
+	 * @see AbstractBeanDefinition#getFactoryBeanName()
+	 */
+	private void clearFactoryMethodBeanDefinitions(String factoryBeanName) {
+		Set<String> cleared = new HashSet<>();
+		Deque<String> toCheck = new ArrayDeque<>();
+		toCheck.add(factoryBeanName);
+		while (!toCheck.isEmpty()) {
+			String name = toCheck.poll();
+			for (String bdName : this.beanDefinitionNames) {
+				BeanDefinition bd = this.beanDefinitionMap.get(bdName);
+				if (bd != null && name.equals(bd.getFactoryBeanName()) && cleared.add(bdName)) {
+					clearMergedFactoryMethodBeanDefinition(bdName);
+					toCheck.add(bdName);
+				}
+			}
+		}
 	}
 
 	/**
@@ -1185,7 +1599,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		super.registerSingleton(beanName, singletonObject);
 		updateManualSingletonNames(set -> set.add(beanName), set -> !this.beanDefinitionMap.containsKey(beanName));
-		clearByTypeCache();
+		updateByTypeCache(beanName);
 	}
 
 	@Override
@@ -1199,7 +1613,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	public void destroySingleton(String beanName) {
 		super.destroySingleton(beanName);
 		removeManualSingletonName(beanName);
-		clearByTypeCache();
+		updateByTypeCache(beanName);
 	}
 
 	private void removeManualSingletonName(String beanName) {
@@ -1231,12 +1645,37 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	/**
+	 * Remove any assumptions about by-type mappings for the given bean,
+	 * to be checked again on the next lookup of the cached types.
+	 * @param beanName the name of the registered, removed or reset bean
+	 */
+	private void updateByTypeCache(String beanName) {
+		synchronized (this.beanNamesByTypeChanges) {
+			if (this.allBeanNamesByType.isEmpty() && this.singletonBeanNamesByType.isEmpty()) {
+				// Nothing cached yet: no changes to keep track of
+				clearByTypeCache();
+			}
+			else if (this.beanNamesByTypeChanges.size() >= BY_TYPE_CACHE_CHANGE_LIMIT) {
+				// Checking the changed beans is not worth it anymore
+				clearByTypeCache();
+			}
+			else {
+				this.beanNamesByTypeChanges.add(beanName);
+			}
+		}
+	}
+
 	/**
 	 * Remove any assumptions about by-type mappings.
 	 */
 	private void clearByTypeCache() {
-		this.allBeanNamesByType.clear();
-		this.singletonBeanNamesByType.clear();
+		synchronized (this.beanNamesByTypeChanges) {
+			this.allBeanNamesByType.clear();
+			this.singletonBeanNamesByType.clear();
+			this.beanNamesByTypeBaseVersion += this.beanNamesByTypeChanges.size() + 1;
+			this.beanNamesByTypeChanges.clear();
+		}
 	}
 
 
@@ -1968,6 +2407,71 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	}
 
 
+	/**
+	 * Bean names matching a type, as cached at the given version of the
+	 * by-type caches.
+	 */
+	private record BeanNamesForType(String[] beanNames, long version) {
+	}
+
+
+	/**
+	 * Cache key for a type with generics, consisting of its raw class and the
+	 * keys of its generics: either classes, nested generic type keys, or
+	 * {@link #UNBOUNDED_WILDCARD}.
+	 */
+	private record GenericTypeKey(Class<?> rawClass, List<Object> generics) {
+
+		private static final Object UNBOUNDED_WILDCARD = new Object();
+
+		/**
+		 * Create a key for the given type, if it can be cached safely.
+		 * @return the key, or {@code null} if the type refers to type variables,
+		 * bounded wildcards, generic enclosing types, or classes that are not
+		 * cache-safe
+		 */
+		@Nullable
+		static GenericTypeKey of(ResolvableType type, @Nullable ClassLoader classLoader) {
+			Object key = keyFor(type, classLoader);
+			return (key instanceof GenericTypeKey genericTypeKey ? genericTypeKey : null);
+		}
+
+		@Nullable
+		private static Object keyFor(ResolvableType type, @Nullable ClassLoader classLoader) {
+			Type javaType = type.getType();
+			if (javaType instanceof WildcardType wildcardType) {
+				Type[] upperBounds = wildcardType.getUpperBounds();
+				return (wildcardType.getLowerBounds().length == 0 && upperBounds.length == 1 &&
+						upperBounds[0] == Object.class ? UNBOUNDED_WILDCARD : null);
+			}
+			if (!(javaType instanceof Class || javaType instanceof ParameterizedType)) {
+				return null;
+			}
+			Class<?> rawClass = type.resolve();
+			if (rawClass == null || rawClass.isArray() || !ClassUtils.isCacheSafe(rawClass, classLoader)) {
+				return null;
+			}
+			if (!(javaType instanceof ParameterizedType parameterizedType)) {
+				return (rawClass.getTypeParameters().length == 0 ? rawClass : null);
+			}
+			if (parameterizedType.getOwnerType() instanceof ParameterizedType) {
+				// Generics of the enclosing type are not part of the key
+				return null;
+			}
+			ResolvableType[] generics = type.getGenerics();
+			List<Object> genericKeys = new ArrayList<>(generics.length);
+			for (ResolvableType generic : generics) {
+				Object genericKey = keyFor(generic, classLoader);
+				if (genericKey == null) {
+					return null;
+				}
+				genericKeys.add(genericKey);
+			}
+			return new GenericTypeKey(rawClass, genericKeys);
+		}
+	}
+
+
 	/**
 	 * Minimal id reference to the factory.
 	 * Resolved to the actual factory instance on deserialization.
@@ -16,15 +16,20 @@
 
 package org.springframework.beans.factory.support;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCreationNotAllowedException;
@@ -32,6 +37,7 @@ import org.springframework.beans.factory.BeanCurrentlyInCreationException;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.SimpleAliasRegistry;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -94,12 +100,12 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	private final Set<String> inCreationCheckExclusions =
 			Collections.newSetFromMap(new ConcurrentHashMap<>(16));
 
-	/** Collection of suppressed Exceptions, available for associating related causes. */
-	@Nullable
-	private Set<Exception> suppressedExceptions;
+	/** Collections of suppressed Exceptions per creating thread, available for associating related causes. */
+	private final ThreadLocal<Set<Exception>> suppressedExceptions =
+			new NamedThreadLocal<>("Suppressed exceptions during singleton creation");
 
 	/** Flag that indicates whether we're currently within destroySingletons. */
-	private boolean singletonsCurrentlyInDestruction = false;
+	private volatile boolean singletonsCurrentlyInDestruction = false;
 
 	/** Disposable bean instances: bean name to disposable instance. */
 	private final Map<String, DisposableBean> disposableBeans = new LinkedHashMap<>();
@@ -113,12 +119,38 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/** Map between depending bean names: bean name to Set of bean names for the bean's dependencies. */
 	private final Map<String, Set<String>> dependenciesForBeanMap = new ConcurrentHashMap<>(64);
 
+	/** Lock guarding the consistent registration of singleton instances and factories. */
+	private final Lock singletonLock = new ReentrantLock();
+
+	/**
+	 * Per-bean creation locks: bean name to lock guarding the creation of that singleton.
+	 * Unlocked entries are removed along with their singleton, so a lock only counts as
+	 * acquired while it is still mapped to its bean name.
+	 */
+	private final Map<String, SingletonCreationLock> singletonCreationLocks = new ConcurrentHashMap<>(256);
+
+	/** Threads waiting for a singleton creation lock: thread to bean name and early reference flag. */
+	private final Map<Thread, SingletonLockWait> singletonLockWaits = new ConcurrentHashMap<>(16);
+
+	/** Lock guarding the notification of threads waiting for a singleton creation lock. */
+	private final Lock singletonLockWaitLock = new ReentrantLock();
+
+	/** Signalled whenever a creation lock is released or a thread starts waiting for one. */
+	private final Condition singletonLockWaitChanged = this.singletonLockWaitLock.newCondition();
+
+	/** Number of changes signalled so far, guarded by the wait lock. */
+	private long singletonLockWaitChanges;
+
+	/** Flag that indicates whether singletons are currently pre-instantiated by several threads. */
+	private volatile boolean concurrentSingletonCreation = false;
+
 
 	@Override
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		Assert.notNull(beanName, "Bean name must not be null");
 		Assert.notNull(singletonObject, "Singleton object must not be null");
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			Object oldObject = this.singletonObjects.get(beanName);
 			if (oldObject != null) {
 				throw new IllegalStateException("Could not register object [" + singletonObject +
@@ -126,6 +158,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 			}
 			addSingleton(beanName, singletonObject);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -135,12 +170,16 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @param singletonObject the singleton object
 	 */
 	protected void addSingleton(String beanName, Object singletonObject) {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			this.singletonObjects.put(beanName, singletonObject);
 			this.singletonFactories.remove(beanName);
 			this.earlySingletonObjects.remove(beanName);
 			this.registeredSingletons.add(beanName);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	/**
@@ -153,13 +192,17 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	protected void addSingletonFactory(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(singletonFactory, "Singleton factory must not be null");
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			if (!this.singletonObjects.containsKey(beanName)) {
 				this.singletonFactories.put(beanName, singletonFactory);
 				this.earlySingletonObjects.remove(beanName);
 				this.registeredSingletons.add(beanName);
 			}
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	@Override
@@ -172,30 +215,63 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * Return the (raw) singleton object registered under the given name.
 	 * <p>Checks already instantiated singletons and also allows for an early
 	 * reference to a currently created singleton (resolving a circular reference).
+	 * Early references are only exposed to the thread creating the singleton.
 	 * @param beanName the name of the bean to look for
 	 * @param allowEarlyReference whether early references should be created or not
 	 * @return the registered singleton object, or {@code null} if none found
 	 */
 	@Nullable
 	protected Object getSingleton(String beanName, boolean allowEarlyReference) {
-		// Quick check for existing instance without full singleton lock
+		// Quick check for existing instance without any lock
 		Object singletonObject = this.singletonObjects.get(beanName);
 		if (singletonObject == null && isSingletonCurrentlyInCreation(beanName)) {
-			singletonObject = this.earlySingletonObjects.get(beanName);
-			if (singletonObject == null && allowEarlyReference) {
-				synchronized (this.singletonObjects) {
-					// Consistent creation of early reference within full singleton lock
-					singletonObject = this.singletonObjects.get(beanName);
+			// Only expose early references to the thread creating the singleton:
+			// other threads wait for the fully initialized instance instead.
+			SingletonCreationLock lock = this.singletonCreationLocks.get(beanName);
+			if (lock != null && lock.isHeldByCurrentThread()) {
+				singletonObject = getEarlySingletonObject(beanName, allowEarlyReference);
+			}
+		}
+		return singletonObject;
+	}
+
+	/**
+	 * Return an early reference to the given singleton in creation, without
+	 * holding the singleton lock while creating it.
+	 */
+	@Nullable
+	private Object getEarlySingletonObject(String beanName, boolean allowEarlyReference) {
+		Object singletonObject = this.earlySingletonObjects.get(beanName);
+		if (singletonObject == null && allowEarlyReference) {
+			ObjectFactory<?> singletonFactory;
+			this.singletonLock.lock();
+			try {
+				singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject != null) {
+					return singletonObject;
+				}
+				singletonFactory = this.singletonFactories.get(beanName);
+			}
+			finally {
+				this.singletonLock.unlock();
+			}
+			if (singletonFactory != null) {
+				// Guard against creation of the early reference by several threads
+				// in case of a circular reference between threads
+				synchronized (singletonFactory) {
+					singletonObject = this.earlySingletonObjects.get(beanName);
 					if (singletonObject == null) {
-						singletonObject = this.earlySingletonObjects.get(beanName);
-						if (singletonObject == null) {
-							ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
-							if (singletonFactory != null) {
-								singletonObject = singletonFactory.getObject();
+						singletonObject = singletonFactory.getObject();
+						this.singletonLock.lock();
+						try {
+							if (this.singletonFactories.get(beanName) == singletonFactory) {
 								this.earlySingletonObjects.put(beanName, singletonObject);
 								this.singletonFactories.remove(beanName);
 							}
 						}
+						finally {
+							this.singletonLock.unlock();
+						}
 					}
 				}
 			}
@@ -213,55 +289,67 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(beanName, "Bean name must not be null");
-		synchronized (this.singletonObjects) {
-			Object singletonObject = this.singletonObjects.get(beanName);
-			if (singletonObject == null) {
-				if (this.singletonsCurrentlyInDestruction) {
-					throw new BeanCreationNotAllowedException(beanName,
-							"Singleton bean creation not allowed while singletons of this factory are in destruction " +
-							"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
-				}
-				if (logger.isDebugEnabled()) {
-					logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
-				}
-				beforeSingletonCreation(beanName);
-				boolean newSingleton = false;
-				boolean recordSuppressedExceptions = (this.suppressedExceptions == null);
-				if (recordSuppressedExceptions) {
-					this.suppressedExceptions = new LinkedHashSet<>();
-				}
-				try {
-					singletonObject = singletonFactory.getObject();
-					newSingleton = true;
-				}
-				catch (IllegalStateException ex) {
-					// Has the singleton object implicitly appeared in the meantime ->
-					// if yes, proceed with it since the exception indicates that state.
-					singletonObject = this.singletonObjects.get(beanName);
-					if (singletonObject == null) {
-						throw ex;
-					}
-				}
-				catch (BeanCreationException ex) {
-					if (recordSuppressedExceptions) {
-						for (Exception suppressedException : this.suppressedExceptions) {
-							ex.addRelatedCause(suppressedException);
-						}
-					}
+		Object earlySingletonObject = lockSingletonCreation(beanName, true);
+		if (earlySingletonObject != null) {
+			return earlySingletonObject;
+		}
+		try {
+			return createSingleton(beanName, singletonFactory);
+		}
+		finally {
+			unlockSingletonCreation(beanName);
+		}
+	}
+
+	private Object createSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+		Object singletonObject = this.singletonObjects.get(beanName);
+		if (singletonObject == null) {
+			if (this.singletonsCurrentlyInDestruction) {
+				throw new BeanCreationNotAllowedException(beanName,
+						"Singleton bean creation not allowed while singletons of this factory are in destruction " +
+						"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
+			}
+			beforeSingletonCreation(beanName);
+			boolean newSingleton = false;
+			Set<Exception> suppressedExceptions = null;
+			if (this.suppressedExceptions.get() == null) {
+				suppressedExceptions = new LinkedHashSet<>();
+				this.suppressedExceptions.set(suppressedExceptions);
+			}
+			try {
+				singletonObject = singletonFactory.getObject();
+				newSingleton = true;
+			}
+			catch (IllegalStateException ex) {
+				// Has the singleton object implicitly appeared in the meantime ->
+				// if yes, proceed with it since the exception indicates that state.
+				singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject == null) {
 					throw ex;
 				}
-				finally {
-					if (recordSuppressedExceptions) {
-						this.suppressedExceptions = null;
+			}
+			catch (BeanCreationException ex) {
+				if (suppressedExceptions != null) {
+					for (Exception suppressedException : suppressedExceptions) {
+						ex.addRelatedCause(suppressedException);
 					}
-					afterSingletonCreation(beanName);
 				}
-				if (newSingleton) {
-					addSingleton(beanName, singletonObject);
+				throw ex;
+			}
+			finally {
+				if (suppressedExceptions != null) {
+					this.suppressedExceptions.remove();
 				}
+				afterSingletonCreation(beanName);
+			}
+			if (newSingleton) {
+				addSingleton(beanName, singletonObject);
 			}
-			return singletonObject;
 		}
+		return singletonObject;
 	}
 
 	/**
@@ -274,10 +362,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @see BeanCreationException#getRelatedCauses()
 	 */
 	protected void onSuppressedException(Exception ex) {
-		synchronized (this.singletonObjects) {
-			if (this.suppressedExceptions != null && this.suppressedExceptions.size() < SUPPRESSED_EXCEPTIONS_LIMIT) {
-				this.suppressedExceptions.add(ex);
-			}
+		Set<Exception> suppressedExceptions = this.suppressedExceptions.get();
+		if (suppressedExceptions != null && suppressedExceptions.size() < SUPPRESSED_EXCEPTIONS_LIMIT) {
+			suppressedExceptions.add(ex);
 		}
 	}
 
@@ -285,15 +372,20 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * Remove the bean with the given name from the singleton cache of this factory,
 	 * to be able to clean up eager registration of a singleton if creation failed.
 	 * @param beanName the name of the bean
-	 * @see #getSingletonMutex()
 	 */
 	protected void removeSingleton(String beanName) {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			this.singletonObjects.remove(beanName);
 			this.singletonFactories.remove(beanName);
 			this.earlySingletonObjects.remove(beanName);
 			this.registeredSingletons.remove(beanName);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
+		// Keep the creation lock while held, e.g. when cleaning up after a failed creation
+		this.singletonCreationLocks.computeIfPresent(beanName, (name, lock) -> (lock.isLocked() ? lock : null));
 	}
 
 	@Override
@@ -303,18 +395,244 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 
 	@Override
 	public String[] getSingletonNames() {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			return StringUtils.toStringArray(this.registeredSingletons);
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
 	}
 
 	@Override
 	public int getSingletonCount() {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			return this.registeredSingletons.size();
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
+	}
+
+
+	/**
+	 * Acquire the creation lock for the given singleton, waiting for another
+	 * thread that currently holds it.
+	 * <p>If waiting would deadlock on a circular reference between threads,
+	 * an early reference to the singleton is returned instead if available
+	 * and allowed, without acquiring the lock.
+	 * @param beanName the name of the bean
+	 * @param allowEarlyReference whether an early reference may be returned
+	 * @return {@code null} if the lock has been acquired, or an early reference
+	 * @throws BeanCurrentlyInCreationException in case of an unresolvable
+	 * circular reference between threads
+	 * @since 6.1
+	 * @see #unlockSingletonCreation
+	 */
+	@Nullable
+	Object lockSingletonCreation(String beanName, boolean allowEarlyReference) {
+		while (true) {
+			SingletonCreationLock lock =
+					this.singletonCreationLocks.computeIfAbsent(beanName, name -> new SingletonCreationLock());
+			Object earlySingletonObject = (lock.tryLock() ? null : awaitSingletonCreationLock(
+					beanName, lock, allowEarlyReference));
+			if (earlySingletonObject != null || isCurrentSingletonCreationLock(beanName, lock)) {
+				return earlySingletonObject;
+			}
+		}
 	}
 
+	/**
+	 * Wait for the given creation lock, checking for circular references
+	 * between threads whenever a creation lock is released or another thread
+	 * starts waiting: a new cycle can only be formed by a thread starting to
+	 * wait, which wakes up all the other waiting threads.
+	 * @return {@code null} if the lock has been acquired, or an early reference
+	 */
+	@Nullable
+	private Object awaitSingletonCreationLock(String beanName, SingletonCreationLock lock, boolean allowEarlyReference) {
+		Thread currentThread = Thread.currentThread();
+		this.singletonLockWaits.put(currentThread, new SingletonLockWait(beanName, allowEarlyReference));
+		signalSingletonLockWaitChange();
+		try {
+			while (true) {
+				long changes = getSingletonLockWaitChanges();
+				if (lock.tryLock()) {
+					return null;
+				}
+				List<SingletonLockWait> cycle = findSingletonLockCycle(currentThread, lock);
+				if (cycle != null) {
+					if (allowEarlyReference) {
+						Object earlySingletonObject = getEarlySingletonObject(beanName, true);
+						if (earlySingletonObject != null) {
+							return earlySingletonObject;
+						}
+					}
+					if (cycle.stream().noneMatch(this::hasEarlySingletonObject)) {
+						throw new BeanCurrentlyInCreationException(beanName,
+								"Unresolvable circular reference between threads creating singletons " +
+								cycle.stream().map(SingletonLockWait::beanName).toList());
+					}
+				}
+				awaitSingletonLockWaitChange(changes);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new BeanCreationNotAllowedException(beanName,
+					"Interrupted while waiting for another thread creating the singleton");
+		}
+		finally {
+			this.singletonLockWaits.remove(currentThread);
+		}
+	}
+
+	/**
+	 * Release the creation lock for the given singleton.
+	 * @param beanName the name of the bean
+	 * @since 6.1
+	 * @see #lockSingletonCreation
+	 */
+	void unlockSingletonCreation(String beanName) {
+		SingletonCreationLock lock = this.singletonCreationLocks.get(beanName);
+		Assert.state(lock != null, () -> "No creation lock for singleton '" + beanName + "'");
+		lock.unlock();
+		if (!this.singletonLockWaits.isEmpty()) {
+			signalSingletonLockWaitChange();
+		}
+	}
+
+	/**
+	 * Try to acquire the creation lock for the given singleton, without waiting.
+	 * @param beanName the name of the bean
+	 * @return whether the lock has been acquired
+	 * @since 6.1
+	 * @see #unlockSingletonCreation
+	 */
+	boolean tryLockSingletonCreation(String beanName) {
+		while (true) {
+			SingletonCreationLock lock =
+					this.singletonCreationLocks.computeIfAbsent(beanName, name -> new SingletonCreationLock());
+			if (!lock.tryLock()) {
+				return false;
+			}
+			if (isCurrentSingletonCreationLock(beanName, lock)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Check whether the given acquired lock is still the creation lock of the
+	 * given singleton, releasing it otherwise: the lock may have been removed
+	 * along with the singleton while waiting for it.
+	 */
+	private boolean isCurrentSingletonCreationLock(String beanName, SingletonCreationLock lock) {
+		if (this.singletonCreationLocks.get(beanName) == lock) {
+			return true;
+		}
+		lock.unlock();
+		if (!this.singletonLockWaits.isEmpty()) {
+			signalSingletonLockWaitChange();
+		}
+		return false;
+	}
+
+	private long getSingletonLockWaitChanges() {
+		this.singletonLockWaitLock.lock();
+		try {
+			return this.singletonLockWaitChanges;
+		}
+		finally {
+			this.singletonLockWaitLock.unlock();
+		}
+	}
+
+	/**
+	 * Wake up the threads waiting for a creation lock, after releasing a lock
+	 * or registering a wait. A thread releasing a lock only needs to do so if
+	 * there are any waits, since a thread registers its wait before trying the
+	 * lock it is waiting for.
+	 */
+	private void signalSingletonLockWaitChange() {
+		this.singletonLockWaitLock.lock();
+		try {
+			this.singletonLockWaitChanges++;
+			this.singletonLockWaitChanged.signalAll();
+		}
+		finally {
+			this.singletonLockWaitLock.unlock();
+		}
+	}
+
+	/**
+	 * Wait until a change has been signalled since the given number of changes.
+	 */
+	private void awaitSingletonLockWaitChange(long changes) throws InterruptedException {
+		this.singletonLockWaitLock.lock();
+		try {
+			while (this.singletonLockWaitChanges == changes) {
+				this.singletonLockWaitChanged.await();
+			}
+		}
+		finally {
+			this.singletonLockWaitLock.unlock();
+		}
+	}
+
+	/**
+	 * Set whether singletons are currently pre-instantiated by several threads.
+	 * @since 6.1
+	 * @see #isConcurrentSingletonCreation()
+	 */
+	void setConcurrentSingletonCreation(boolean concurrentSingletonCreation) {
+		this.concurrentSingletonCreation = concurrentSingletonCreation;
+	}
+
+	/**
+	 * Return whether singletons are currently pre-instantiated by several threads.
+	 * @since 6.1
+	 */
+	boolean isConcurrentSingletonCreation() {
+		return this.concurrentSingletonCreation;
+	}
+
+	/**
+	 * Find a cycle of threads waiting for creation locks held by each other,
+	 * starting with the given thread waiting for the given lock.
+	 * @return the waits forming the cycle, or {@code null} if none
+	 */
+	@Nullable
+	private List<SingletonLockWait> findSingletonLockCycle(Thread currentThread, SingletonCreationLock lock) {
+		List<SingletonLockWait> cycle = new ArrayList<>();
+		SingletonLockWait wait = this.singletonLockWaits.get(currentThread);
+		Thread owner = lock.getOwnerThread();
+		while (wait != null && owner != null && cycle.size() <= this.singletonLockWaits.size()) {
+			cycle.add(wait);
+			if (owner == currentThread) {
+				return cycle;
+			}
+			wait = this.singletonLockWaits.get(owner);
+			SingletonCreationLock ownerLock = (wait != null ? this.singletonCreationLocks.get(wait.beanName()) : null);
+			owner = (ownerLock != null ? ownerLock.getOwnerThread() : null);
+		}
+		return null;
+	}
+
+	private boolean hasEarlySingletonObject(SingletonLockWait wait) {
+		if (!wait.allowEarlyReference()) {
+			return false;
+		}
+		this.singletonLock.lock();
+		try {
+			return (this.earlySingletonObjects.containsKey(wait.beanName()) ||
+					this.singletonFactories.containsKey(wait.beanName()));
+		}
+		finally {
+			this.singletonLock.unlock();
+		}
+	}
 
 	public void setCurrentlyInCreation(String beanName, boolean inCreation) {
 		Assert.notNull(beanName, "Bean name must not be null");
@@ -508,9 +826,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		if (logger.isTraceEnabled()) {
 			logger.trace("Destroying singletons in " + this);
 		}
-		synchronized (this.singletonObjects) {
-			this.singletonsCurrentlyInDestruction = true;
-		}
+		this.singletonsCurrentlyInDestruction = true;
 
 		String[] disposableBeanNames;
 		synchronized (this.disposableBeans) {
@@ -532,13 +848,18 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @since 4.3.15
 	 */
 	protected void clearSingletonCache() {
-		synchronized (this.singletonObjects) {
+		this.singletonLock.lock();
+		try {
 			this.singletonObjects.clear();
 			this.singletonFactories.clear();
 			this.earlySingletonObjects.clear();
 			this.registeredSingletons.clear();
 			this.singletonsCurrentlyInDestruction = false;
 		}
+		finally {
+			this.singletonLock.unlock();
+		}
+		this.singletonCreationLocks.values().removeIf(lock -> !lock.isLocked());
 	}
 
 	/**
@@ -623,14 +944,35 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 
 	/**
 	 * Exposes the singleton mutex to subclasses and external collaborators.
-	 * <p>Subclasses should synchronize on the given Object if they perform
-	 * any sort of extended singleton creation phase. In particular, subclasses
-	 * should <i>not</i> have their own mutexes involved in singleton creation,
-	 * to avoid the potential for deadlocks in lazy-init situations.
+	 * <p>As of 6.1, the creation of each singleton is guarded by a lock for the
+	 * specific bean, and this registry does not synchronize on the returned
+	 * Object itself anymore. Collaborators should not hold it while obtaining
+	 * beans from the factory, since this could deadlock with a thread creating
+	 * a singleton that in turn synchronizes on it; use a local lock instead.
 	 */
 	@Override
 	public final Object getSingletonMutex() {
 		return this.singletonObjects;
 	}
 
+
+	/**
+	 * Lock guarding the creation of a specific singleton, exposing its owner.
+	 */
+	@SuppressWarnings("serial")
+	private static class SingletonCreationLock extends ReentrantLock {
+
+		@Nullable
+		Thread getOwnerThread() {
+			return getOwner();
+		}
+	}
+
+
+	/**
+	 * A thread waiting for the creation lock of the given singleton.
+	 */
+	private record SingletonLockWait(String beanName, boolean allowEarlyReference) {
+	}
+
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.testfixture.beans.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * {@link BeanWrapperImpl} tests with {@linkplain BeanWrapperImpl#setUseGeneratedAccessors
+ * generated accessors}, running the shared property accessor tests as well.
+ *
+ * @author Spring Framework Team
+ */
+class BeanWrapperGeneratedAccessorsTests extends AbstractPropertyAccessorTests {
+
+	@Override
+	protected BeanWrapperImpl createAccessor(Object target) {
+		BeanWrapperImpl accessor = new BeanWrapperImpl(target);
+		accessor.setUseGeneratedAccessors(true);
+		return accessor;
+	}
+
+
+	@Test
+	void nestedAccessorsInheritSetting() {
+		TestBean target = new TestBean();
+		target.setSpouse(new TestBean());
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.setPropertyValue("spouse.name", "kerry");
+		assertThat(target.getSpouse().getName()).isEqualTo("kerry");
+		assertThat(((BeanWrapperImpl) accessor.getPropertyAccessorForPropertyPath("spouse.name"))
+				.isUseGeneratedAccessors()).isTrue();
+	}
+
+	@Test
+	void nonPublicBeanClass() {
+		PackagePrivateBean target = new PackagePrivateBean();
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.setPropertyValue("value", "42");
+		assertThat(accessor.getPropertyValue("value")).isEqualTo(42);
+	}
+
+	@Test
+	void setterExceptionIsWrapped() {
+		PackagePrivateBean target = new PackagePrivateBean();
+		BeanWrapperImpl accessor = createAccessor(target);
+		assertThatExceptionOfType(MethodInvocationException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("value", "-1"))
+				.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void invokeGeneratedAccessor() throws Exception {
+		PackagePrivateBean target = new PackagePrivateBean();
+		Method writeMethod = PackagePrivateBean.class.getMethod("setValue", int.class);
+		Method readMethod = PackagePrivateBean.class.getMethod("getValue");
+		GeneratedPropertyAccessors.invoke(writeMethod, target, 7);
+		assertThat(GeneratedPropertyAccessors.invoke(readMethod, target)).isEqualTo(7);
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				GeneratedPropertyAccessors.invoke(writeMethod, target, (Object) null));
+	}
+
+	@Test
+	void invokeGeneratedAccessorWithArgumentOfWrongType() throws Exception {
+		PackagePrivateBean target = new PackagePrivateBean();
+		Method writeMethod = PackagePrivateBean.class.getMethod("setValue", int.class);
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				writeMethod.invoke(target, "7"));
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				GeneratedPropertyAccessors.invoke(writeMethod, target, "7"));
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				GeneratedPropertyAccessors.invoke(writeMethod, target, 7L));
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				GeneratedPropertyAccessors.invoke(writeMethod, target, 7, 8));
+		assertThat(target.getValue()).isZero();
+	}
+
+	@Test
+	void invokeGeneratedAccessorWithWidenedArgument() throws Exception {
+		PackagePrivateBean target = new PackagePrivateBean();
+		Method writeMethod = PackagePrivateBean.class.getMethod("setValue", int.class);
+		GeneratedPropertyAccessors.invoke(writeMethod, target, (short) 7);
+		assertThat(target.getValue()).isEqualTo(7);
+		GeneratedPropertyAccessors.invoke(writeMethod, target, 'A');
+		assertThat(target.getValue()).isEqualTo(65);
+	}
+
+	@Test
+	void invokeJdkMethodReflectively() throws Exception {
+		Method method = Object.class.getMethod("getClass");
+		assertThat(GeneratedPropertyAccessors.invoke(method, "test")).isEqualTo(String.class);
+	}
+
+
+	static class PackagePrivateBean {
+
+		private int value;
+
+		public int getValue() {
+			return this.value;
+		}
+
+		public void setValue(int value) {
+			if (value < 0) {
+				throw new IllegalStateException("Negative value");
+			}
+			this.value = value;
+		}
+	}
+
+}
@@ -1550,6 +1550,71 @@ class DefaultListableBeanFactoryTests {
 		assertThat(bean.getBeanName()).isEqualTo("bd1");
 	}
 
+	@Test
+	void getBeanNamesForTypeWithChangesAgainstFrozen() {
+		lbf.registerBeanDefinition("bd1", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("bd2", new RootBeanDefinition(NestedTestBean.class));
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd1");
+
+		lbf.registerBeanDefinition("bd3", new RootBeanDefinition(TestBean.class));
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd1", "bd3");
+
+		lbf.registerBeanDefinition("bd2", new RootBeanDefinition(DerivedTestBean.class));
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd1", "bd2", "bd3");
+
+		lbf.removeBeanDefinition("bd1");
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd2", "bd3");
+
+		lbf.registerSingleton("manual", new TestBean());
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd2", "bd3", "manual");
+
+		lbf.destroySingleton("manual");
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd2", "bd3");
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).isEmpty();
+	}
+
+	@Test
+	void getBeanNamesForTypeWithChangedFactoryBeanChainAgainstFrozen() {
+		RootBeanDefinition factoryFactory = new RootBeanDefinition(TestBeanFactoryFactory.class);
+		lbf.registerBeanDefinition("c", factoryFactory);
+		RootBeanDefinition factory = new RootBeanDefinition();
+		factory.setFactoryBeanName("c");
+		factory.setFactoryMethodName("createTestBeanFactory");
+		lbf.registerBeanDefinition("b", factory);
+		RootBeanDefinition bean = new RootBeanDefinition();
+		bean.setFactoryBeanName("b");
+		bean.setFactoryMethodName("createTestBeanNonStatic");
+		lbf.registerBeanDefinition("a", bean);
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("a");
+
+		lbf.registerBeanDefinition("c", new RootBeanDefinition(Object.class));
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).isEmpty();
+
+		lbf.registerBeanDefinition("c", factoryFactory);
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("a");
+	}
+
+	@Test
+	void getBeanNamesForGenericTypeWithChangesAgainstFrozen() {
+		ResolvableType cityRepository = ResolvableType.forClassWithGenerics(Repository.class, City.class, Long.class);
+		ResolvableType otherRepository = ResolvableType.forClassWithGenerics(Repository.class, String.class, Long.class);
+		lbf.registerBeanDefinition("repo1", new RootBeanDefinition(CityRepository.class));
+		lbf.registerBeanDefinition("testBean", new RootBeanDefinition(TestBean.class));
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(cityRepository)).containsExactly("repo1");
+		assertThat(lbf.getBeanNamesForType(otherRepository)).isEmpty();
+
+		lbf.registerBeanDefinition("repo2", new RootBeanDefinition(CityRepository.class));
+		assertThat(lbf.getBeanNamesForType(cityRepository)).containsExactly("repo1", "repo2");
+		assertThat(lbf.getBeanNamesForType(otherRepository)).isEmpty();
+
+		lbf.removeBeanDefinition("repo1");
+		assertThat(lbf.getBeanNamesForType(cityRepository)).containsExactly("repo2");
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClass(Repository.class))).containsExactly("repo2");
+	}
+
 	@Test
 	void getBeanByTypeDefinedInParent() {
 		DefaultListableBeanFactory parent = new DefaultListableBeanFactory();
@@ -3221,6 +3286,14 @@ class DefaultListableBeanFactoryTests {
 	}
 
 
+	public static class TestBeanFactoryFactory {
+
+		public TestBeanFactory createTestBeanFactory() {
+			return new TestBeanFactory();
+		}
+	}
+
+
 	public static class ArrayBean {
 
 		private Integer[] integerArray;
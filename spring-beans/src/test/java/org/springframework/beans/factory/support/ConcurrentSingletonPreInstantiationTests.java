@@ -0,0 +1,325 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.BeanCurrentlyInCreationException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link DefaultListableBeanFactory#preInstantiateSingletons()} with a
+ * {@linkplain DefaultListableBeanFactory#setBootstrapExecutor bootstrap executor}.
+ *
+ * @author Spring Framework Team
+ */
+class ConcurrentSingletonPreInstantiationTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	private final Map<String, String> creationThreads = new ConcurrentHashMap<>();
+
+
+	ConcurrentSingletonPreInstantiationTests() {
+		this.beanFactory.setBootstrapExecutor(this.executor);
+		this.beanFactory.registerSingleton("creationThreads", this.creationThreads);
+	}
+
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	void independentSingletonsAreCreatedConcurrently() {
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		this.beanFactory.registerSingleton("barrier", barrier);
+		registerBean("first", AwaitingBean.class);
+		registerBean("second", AwaitingBean.class);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.beanFactory.getBean("first", AwaitingBean.class).initialized).isTrue();
+		assertThat(this.beanFactory.getBean("second", AwaitingBean.class).initialized).isTrue();
+		assertThat(this.creationThreads.get("first")).isNotEqualTo(this.creationThreads.get("second"));
+	}
+
+	@Test
+	void singletonsWithDeclaredDependenciesAreCreatedOnSameThread() {
+		registerBean("first", RecordingBean.class);
+		RootBeanDefinition second = new RootBeanDefinition(RecordingBean.class);
+		second.setDependsOn("first");
+		this.beanFactory.registerBeanDefinition("second", second);
+		RootBeanDefinition third = new RootBeanDefinition(RecordingBean.class);
+		third.getPropertyValues().add("collaborator", new RuntimeBeanReference("second"));
+		this.beanFactory.registerBeanDefinition("third", third);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.creationThreads.get("second")).isEqualTo(this.creationThreads.get("first"));
+		assertThat(this.creationThreads.get("third")).isEqualTo(this.creationThreads.get("first"));
+	}
+
+	@Test
+	void singletonsWithResolvedDependenciesAreCreatedOnSameThread() {
+		registerBean("first", RecordingBean.class);
+		registerBean("second", RecordingBean.class);
+		this.beanFactory.registerDependentBean("first", "second");
+		RootBeanDefinition third = new RootBeanDefinition(RecordingBean.class);
+		third.getPropertyValues().add("collaborator", new RuntimeBeanReference(SlowBean.class));
+		this.beanFactory.registerBeanDefinition("third", third);
+		registerBean("slow", SlowBean.class);
+		RootBeanDefinition fourth = new RootBeanDefinition(RecordingBean.class);
+		fourth.setDependsOn("slow");
+		this.beanFactory.registerBeanDefinition("fourth", fourth);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.creationThreads.get("second")).isEqualTo(this.creationThreads.get("first"));
+		assertThat(this.creationThreads.get("fourth")).isEqualTo(this.creationThreads.get("third"));
+	}
+
+	@Test
+	void runtimeDependencyIsFullyInitialized() {
+		registerBean("lookup", LookupBean.class);
+		registerBean("slow", SlowBean.class);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.beanFactory.getBean(LookupBean.class).slowBean.initialized).isTrue();
+	}
+
+	@Test
+	void circularReferenceBetweenThreads() {
+		this.beanFactory.registerSingleton("barrier", new CyclicBarrier(2));
+		RootBeanDefinition first = new RootBeanDefinition(CircularBean.class);
+		first.getPropertyValues().add("otherName", "second");
+		this.beanFactory.registerBeanDefinition("first", first);
+		RootBeanDefinition second = new RootBeanDefinition(CircularBean.class);
+		second.getPropertyValues().add("otherName", "first");
+		this.beanFactory.registerBeanDefinition("second", second);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		CircularBean firstBean = this.beanFactory.getBean("first", CircularBean.class);
+		CircularBean secondBean = this.beanFactory.getBean("second", CircularBean.class);
+		assertThat(firstBean.other).isSameAs(secondBean);
+		assertThat(secondBean.other).isSameAs(firstBean);
+	}
+
+	@Test
+	void unresolvableCircularReferenceBetweenThreads() {
+		RootBeanDefinition first = new RootBeanDefinition(ConstructorBean.class);
+		first.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+		this.beanFactory.registerBeanDefinition("first", first);
+		RootBeanDefinition second = new RootBeanDefinition(OtherConstructorBean.class);
+		second.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+		this.beanFactory.registerBeanDefinition("second", second);
+
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(this.beanFactory::preInstantiateSingletons)
+				.withRootCauseInstanceOf(BeanCurrentlyInCreationException.class);
+	}
+
+	@Test
+	void failureOfFirstRegisteredSingletonIsReported() {
+		RootBeanDefinition first = new RootBeanDefinition(FailingBean.class);
+		first.getPropertyValues().add("delay", 200);
+		this.beanFactory.registerBeanDefinition("first", first);
+		registerBean("second", FailingBean.class);
+
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(this.beanFactory::preInstantiateSingletons)
+				.satisfies(ex -> {
+					assertThat(ex.getBeanName()).isEqualTo("first");
+					assertThat(ex.getSuppressed()).singleElement()
+							.isInstanceOfSatisfying(BeanCreationException.class,
+									suppressed -> assertThat(suppressed.getBeanName()).isEqualTo("second"));
+				});
+	}
+
+	@Test
+	void smartInitializingSingletonIsInvokedOnCallingThread() {
+		registerBean("smart", SmartBean.class);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.beanFactory.getBean(SmartBean.class).callbackThread).isSameAs(Thread.currentThread());
+	}
+
+
+	private void registerBean(String beanName, Class<?> beanClass) {
+		this.beanFactory.registerBeanDefinition(beanName, new RootBeanDefinition(beanClass));
+	}
+
+
+	static class RecordingBean implements BeanNameAware, BeanFactoryAware {
+
+		String beanName;
+
+		BeanFactory beanFactory;
+
+		public void setCollaborator(Object collaborator) {
+		}
+
+		@Override
+		public void setBeanName(String beanName) {
+			this.beanName = beanName;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void setBeanFactory(BeanFactory beanFactory) {
+			this.beanFactory = beanFactory;
+			beanFactory.getBean("creationThreads", Map.class).put(this.beanName, Thread.currentThread().getName());
+		}
+	}
+
+
+	static class AwaitingBean extends RecordingBean implements InitializingBean {
+
+		boolean initialized;
+
+		@Override
+		public void afterPropertiesSet() throws Exception {
+			this.beanFactory.getBean("barrier", CyclicBarrier.class).await(5, TimeUnit.SECONDS);
+			this.initialized = true;
+		}
+	}
+
+
+	static class SlowBean implements InitializingBean {
+
+		volatile boolean initialized;
+
+		@Override
+		public void afterPropertiesSet() throws Exception {
+			Thread.sleep(200);
+			this.initialized = true;
+		}
+	}
+
+
+	static class LookupBean implements BeanFactoryAware, InitializingBean {
+
+		BeanFactory beanFactory;
+
+		SlowBean slowBean;
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) {
+			this.beanFactory = beanFactory;
+		}
+
+		@Override
+		public void afterPropertiesSet() throws Exception {
+			// Wait for the slow bean to be in creation on another thread
+			Thread.sleep(50);
+			this.slowBean = this.beanFactory.getBean(SlowBean.class);
+		}
+	}
+
+
+	static class CircularBean implements BeanFactoryAware {
+
+		BeanFactory beanFactory;
+
+		String otherName;
+
+		CircularBean other;
+
+		public void setOtherName(String otherName) {
+			this.otherName = otherName;
+		}
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) {
+			this.beanFactory = beanFactory;
+			try {
+				// Make sure that both beans are in creation before resolving the other one
+				beanFactory.getBean("barrier", CyclicBarrier.class).await(5, TimeUnit.SECONDS);
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+			this.other = beanFactory.getBean(this.otherName, CircularBean.class);
+		}
+	}
+
+
+	static class ConstructorBean {
+
+		public ConstructorBean(OtherConstructorBean other) {
+		}
+	}
+
+
+	static class OtherConstructorBean {
+
+		public OtherConstructorBean(ConstructorBean other) {
+		}
+	}
+
+
+	static class FailingBean implements InitializingBean {
+
+		private long delay;
+
+		public void setDelay(long delay) {
+			this.delay = delay;
+		}
+
+		@Override
+		public void afterPropertiesSet() throws Exception {
+			Thread.sleep(this.delay);
+			throw new IllegalStateException("Failure");
+		}
+	}
+
+
+	static class SmartBean implements SmartInitializingSingleton {
+
+		Thread callbackThread;
+
+		@Override
+		public void afterSingletonsInstantiated() {
+			this.callbackThread = Thread.currentThread();
+		}
+	}
+
+}
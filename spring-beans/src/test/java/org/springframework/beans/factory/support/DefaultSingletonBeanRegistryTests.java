@@ -16,6 +16,11 @@
 
 package org.springframework.beans.factory.support;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.testfixture.beans.DerivedTestBean;
@@ -86,4 +91,67 @@ class DefaultSingletonBeanRegistryTests {
 		assertThat(beanRegistry.isDependent("c", "c")).isTrue();
 	}
 
+	@Test
+	void singletonCreatedOnceByConcurrentThreads() throws Exception {
+		AtomicInteger creations = new AtomicInteger();
+		CountDownLatch inCreation = new CountDownLatch(1);
+		CompletableFuture<Object> first = CompletableFuture.supplyAsync(() ->
+				beanRegistry.getSingleton("tb", () -> {
+					inCreation.countDown();
+					sleep(100);
+					creations.incrementAndGet();
+					return new TestBean();
+				}));
+		inCreation.await(5, TimeUnit.SECONDS);
+
+		// Another thread waits for the fully created singleton instead of creating it again
+		Object second = beanRegistry.getSingleton("tb", () -> {
+			creations.incrementAndGet();
+			return new TestBean();
+		});
+		assertThat(second).isSameAs(first.get(5, TimeUnit.SECONDS));
+		assertThat(creations).hasValue(1);
+	}
+
+	@Test
+	void earlySingletonReferenceOnlyExposedToCreatingThread() throws Exception {
+		TestBean tb = new TestBean();
+		CountDownLatch inCreation = new CountDownLatch(1);
+		CountDownLatch checked = new CountDownLatch(1);
+		CompletableFuture<Object> creation = CompletableFuture.supplyAsync(() ->
+				beanRegistry.getSingleton("tb", () -> {
+					beanRegistry.addSingletonFactory("tb", () -> tb);
+					assertThat(beanRegistry.getSingleton("tb")).isSameAs(tb);
+					inCreation.countDown();
+					await(checked);
+					return tb;
+				}));
+		inCreation.await(5, TimeUnit.SECONDS);
+
+		assertThat(beanRegistry.isSingletonCurrentlyInCreation("tb")).isTrue();
+		assertThat(beanRegistry.getSingleton("tb")).isNull();
+		checked.countDown();
+		assertThat(creation.get(5, TimeUnit.SECONDS)).isSameAs(tb);
+		assertThat(beanRegistry.getSingleton("tb")).isSameAs(tb);
+	}
+
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 }
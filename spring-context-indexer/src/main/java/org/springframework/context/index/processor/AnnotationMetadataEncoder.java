@@ -0,0 +1,293 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index.processor;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Encode the annotation metadata of a candidate type, i.e. the information
+ * that component scanning would otherwise read from its bytecode, in the
+ * compact textual format understood by
+ * {@code org.springframework.context.index.CandidateComponentsIndex}.
+ *
+ * <p>A type is encoded as a list of its binary name, its modifiers, its
+ * superclass name, its interface names, its enclosing class name, its member
+ * class names, its runtime-retained annotations and its declared methods,
+ * each with its name, modifiers, return type, parameter types and annotations:
+ * <pre class="code">
+ * ["com.example.FooService",["abstract"],"com.example.Base",["com.example.Service"],null,[],
+ *         [@"org.springframework.context.annotation.Scope"(value="prototype")],
+ *         [["create",["static"],"com.example.Foo",["java.lang.String"],
+ *                 [@"org.springframework.context.annotation.Bean"()]]]]
+ * </pre>
+ * Annotation attribute values are encoded as quoted strings, numbers, booleans,
+ * class names ({@code C"com.example.Foo"}), enum constants
+ * ({@code E"com.example.Mode#NAME"}), nested annotations and lists. Only
+ * explicitly declared attribute values are included, as in the bytecode.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ */
+class AnnotationMetadataEncoder {
+
+	private final Elements elements;
+
+	private final Types types;
+
+
+	public AnnotationMetadataEncoder(ProcessingEnvironment env) {
+		this.elements = env.getElementUtils();
+		this.types = env.getTypeUtils();
+	}
+
+
+	/**
+	 * Encode the metadata of the specified type.
+	 * @param type the type to encode
+	 * @return the encoded metadata
+	 */
+	public String encode(TypeElement type) {
+		StringBuilder sb = new StringBuilder("[");
+		appendString(sb, getTypeName(type.asType()));
+		sb.append(',');
+		appendStrings(sb, getTypeModifiers(type));
+		sb.append(',');
+		TypeMirror superclass = type.getSuperclass();
+		appendNullableString(sb, superclass.getKind() != TypeKind.NONE ? getTypeName(superclass) : null);
+		sb.append(',');
+		List<String> interfaceNames = new ArrayList<>();
+		type.getInterfaces().forEach(i -> interfaceNames.add(getTypeName(i)));
+		appendStrings(sb, interfaceNames);
+		sb.append(',');
+		Element enclosingElement = type.getEnclosingElement();
+		appendNullableString(sb, enclosingElement instanceof TypeElement enclosingType ?
+				getTypeName(enclosingType.asType()) : null);
+		sb.append(',');
+		List<String> memberClassNames = new ArrayList<>();
+		for (Element enclosed : type.getEnclosedElements()) {
+			if (enclosed instanceof TypeElement memberType) {
+				memberClassNames.add(getTypeName(memberType.asType()));
+			}
+		}
+		appendStrings(sb, memberClassNames);
+		sb.append(',');
+		appendAnnotations(sb, type);
+		sb.append(",[");
+		boolean first = true;
+		for (Element enclosed : type.getEnclosedElements()) {
+			if (enclosed.getKind() == ElementKind.METHOD && enclosed instanceof ExecutableElement method) {
+				if (!first) {
+					sb.append(',');
+				}
+				appendMethod(sb, method);
+				first = false;
+			}
+		}
+		return sb.append("]]").toString();
+	}
+
+	private List<String> getTypeModifiers(TypeElement type) {
+		List<String> modifiers = new ArrayList<>();
+		Set<Modifier> typeModifiers = type.getModifiers();
+		boolean isInterface = type.getKind().isInterface();
+		if (isInterface || typeModifiers.contains(Modifier.ABSTRACT)) {
+			modifiers.add("abstract");
+		}
+		if (typeModifiers.contains(Modifier.FINAL)) {
+			modifiers.add("final");
+		}
+		if (isInterface) {
+			modifiers.add("interface");
+		}
+		if (type.getKind() == ElementKind.ANNOTATION_TYPE) {
+			modifiers.add("annotation");
+		}
+		if (typeModifiers.contains(Modifier.STATIC)) {
+			modifiers.add("static");
+		}
+		return modifiers;
+	}
+
+	private void appendMethod(StringBuilder sb, ExecutableElement method) {
+		List<String> modifiers = new ArrayList<>();
+		Set<Modifier> methodModifiers = method.getModifiers();
+		if (methodModifiers.contains(Modifier.ABSTRACT)) {
+			modifiers.add("abstract");
+		}
+		if (methodModifiers.contains(Modifier.FINAL)) {
+			modifiers.add("final");
+		}
+		if (methodModifiers.contains(Modifier.PRIVATE)) {
+			modifiers.add("private");
+		}
+		if (methodModifiers.contains(Modifier.STATIC)) {
+			modifiers.add("static");
+		}
+		sb.append('[');
+		appendString(sb, method.getSimpleName().toString());
+		sb.append(',');
+		appendStrings(sb, modifiers);
+		sb.append(',');
+		appendString(sb, getTypeName(method.getReturnType()));
+		sb.append(',');
+		List<String> parameterTypeNames = new ArrayList<>();
+		method.getParameters().forEach(p -> parameterTypeNames.add(getTypeName(p.asType())));
+		appendStrings(sb, parameterTypeNames);
+		sb.append(',');
+		appendAnnotations(sb, method);
+		sb.append(']');
+	}
+
+	private void appendAnnotations(StringBuilder sb, Element element) {
+		sb.append('[');
+		boolean first = true;
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (isRuntimeRetained(annotation)) {
+				if (!first) {
+					sb.append(',');
+				}
+				appendAnnotation(sb, annotation);
+				first = false;
+			}
+		}
+		sb.append(']');
+	}
+
+	private boolean isRuntimeRetained(AnnotationMirror annotation) {
+		Retention retention = annotation.getAnnotationType().asElement().getAnnotation(Retention.class);
+		return (retention != null && retention.value() == RetentionPolicy.RUNTIME);
+	}
+
+	private void appendAnnotation(StringBuilder sb, AnnotationMirror annotation) {
+		sb.append('@');
+		appendString(sb, getTypeName(annotation.getAnnotationType()));
+		sb.append('(');
+		boolean first = true;
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+				annotation.getElementValues().entrySet()) {
+			if (!first) {
+				sb.append(',');
+			}
+			sb.append(entry.getKey().getSimpleName()).append('=');
+			appendValue(sb, entry.getValue().getValue());
+			first = false;
+		}
+		sb.append(')');
+	}
+
+	private void appendValue(StringBuilder sb, Object value) {
+		if (value instanceof String string) {
+			appendString(sb, string);
+		}
+		else if (value instanceof Character character) {
+			sb.append((int) character);
+		}
+		else if (value instanceof Boolean || value instanceof Number) {
+			sb.append(value);
+		}
+		else if (value instanceof TypeMirror type) {
+			sb.append('C');
+			appendString(sb, getTypeName(type));
+		}
+		else if (value instanceof VariableElement enumConstant) {
+			sb.append('E');
+			appendString(sb, getTypeName(enumConstant.asType()) + "#" + enumConstant.getSimpleName());
+		}
+		else if (value instanceof AnnotationMirror annotation) {
+			appendAnnotation(sb, annotation);
+		}
+		else if (value instanceof List<?> list) {
+			sb.append('[');
+			for (int i = 0; i < list.size(); i++) {
+				if (i > 0) {
+					sb.append(',');
+				}
+				appendValue(sb, ((AnnotationValue) list.get(i)).getValue());
+			}
+			sb.append(']');
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported annotation value " + value);
+		}
+	}
+
+	private String getTypeName(TypeMirror type) {
+		TypeMirror erasedType = this.types.erasure(type);
+		if (erasedType instanceof DeclaredType declaredType &&
+				declaredType.asElement() instanceof TypeElement typeElement) {
+			return this.elements.getBinaryName(typeElement).toString();
+		}
+		if (erasedType instanceof ArrayType arrayType) {
+			return getTypeName(arrayType.getComponentType()) + "[]";
+		}
+		return erasedType.toString();
+	}
+
+	private static void appendStrings(StringBuilder sb, List<String> values) {
+		sb.append('[');
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			appendString(sb, values.get(i));
+		}
+		sb.append(']');
+	}
+
+	private static void appendNullableString(StringBuilder sb, String value) {
+		if (value != null) {
+			appendString(sb, value);
+		}
+		else {
+			sb.append("null");
+		}
+	}
+
+	private static void appendString(StringBuilder sb, String value) {
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch == '"' || ch == '\\') {
+				sb.append('\\');
+			}
+			sb.append(ch);
+		}
+		sb.append('"');
+	}
+
+}
@@ -53,6 +53,8 @@ public class CandidateComponentsIndexer implements Processor {
 
 	private TypeHelper typeHelper;
 
+	private AnnotationMetadataEncoder annotationMetadataEncoder;
+
 	private List<StereotypesProvider> stereotypesProviders;
 
 
@@ -75,6 +77,7 @@ public class CandidateComponentsIndexer implements Processor {
 	public synchronized void init(ProcessingEnvironment env) {
 		this.stereotypesProviders = getStereotypesProviders(env);
 		this.typeHelper = new TypeHelper(env);
+		this.annotationMetadataEncoder = new AnnotationMetadataEncoder(env);
 		this.metadataStore = new MetadataStore(env);
 		this.metadataCollector = new MetadataCollector(env, this.metadataStore.readMetadata());
 	}
@@ -115,7 +118,10 @@ public class CandidateComponentsIndexer implements Processor {
 		Set<String> stereotypes = new LinkedHashSet<>();
 		this.stereotypesProviders.forEach(p -> stereotypes.addAll(p.getStereotypes(element)));
 		if (!stereotypes.isEmpty()) {
-			this.metadataCollector.add(new ItemMetadata(this.typeHelper.getType(element), stereotypes));
+			String annotationMetadata = (element instanceof TypeElement typeElement ?
+					this.annotationMetadataEncoder.encode(typeElement) : null);
+			this.metadataCollector.add(
+					new ItemMetadata(this.typeHelper.getType(element), stereotypes, annotationMetadata));
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,10 +34,17 @@ class ItemMetadata {
 
 	private final Set<String> stereotypes;
 
+	private final String annotationMetadata;
+
 
 	public ItemMetadata(String type, Set<String> stereotypes) {
+		this(type, stereotypes, null);
+	}
+
+	public ItemMetadata(String type, Set<String> stereotypes, String annotationMetadata) {
 		this.type = type;
 		this.stereotypes = new HashSet<>(stereotypes);
+		this.annotationMetadata = annotationMetadata;
 	}
 
 
@@ -49,4 +56,14 @@ class ItemMetadata {
 		return this.stereotypes;
 	}
 
+	/**
+	 * Return the encoded annotation metadata of the candidate, or {@code null}
+	 * if none is available.
+	 * @since 6.1
+	 * @see AnnotationMetadataEncoder
+	 */
+	public String getAnnotationMetadata() {
+		return this.annotationMetadata;
+	}
+
 }
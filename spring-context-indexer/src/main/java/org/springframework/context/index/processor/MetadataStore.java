@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,8 @@ class MetadataStore {
 
 	static final String METADATA_PATH = "META-INF/spring.components";
 
+	static final String ANNOTATION_METADATA_PATH = "META-INF/spring.components.metadata";
+
 	private final ProcessingEnvironment environment;
 
 
@@ -44,7 +46,7 @@ class MetadataStore {
 
 	public CandidateComponentsMetadata readMetadata() {
 		try {
-			return readMetadata(getMetadataResource().openInputStream());
+			return readMetadata(getMetadataResource(METADATA_PATH).openInputStream());
 		}
 		catch (IOException ex) {
 			// Failed to read metadata -> ignore.
@@ -54,25 +56,40 @@ class MetadataStore {
 
 	public void writeMetadata(CandidateComponentsMetadata metadata) throws IOException {
 		if (!metadata.getItems().isEmpty()) {
-			try (OutputStream outputStream = createMetadataResource().openOutputStream()) {
+			try (OutputStream outputStream = createMetadataResource(METADATA_PATH).openOutputStream()) {
 				PropertiesMarshaller.write(metadata, outputStream);
 			}
+			if (metadata.getItems().stream().anyMatch(item -> item.getAnnotationMetadata() != null)) {
+				try (OutputStream outputStream = createMetadataResource(ANNOTATION_METADATA_PATH).openOutputStream()) {
+					PropertiesMarshaller.writeAnnotationMetadata(metadata, outputStream);
+				}
+			}
 		}
 	}
 
 
 	private CandidateComponentsMetadata readMetadata(InputStream in) throws IOException {
-		try (in) {
-			return PropertiesMarshaller.read(in);
+		try (in; InputStream annotationMetadataIn = readAnnotationMetadata()) {
+			return PropertiesMarshaller.read(in, annotationMetadataIn);
+		}
+	}
+
+	private InputStream readAnnotationMetadata() {
+		try {
+			return getMetadataResource(ANNOTATION_METADATA_PATH).openInputStream();
+		}
+		catch (IOException ex) {
+			// Previous index without annotation metadata -> ignore.
+			return null;
 		}
 	}
 
-	private FileObject getMetadataResource() throws IOException {
-		return this.environment.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", METADATA_PATH);
+	private FileObject getMetadataResource(String path) throws IOException {
+		return this.environment.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
 	}
 
-	private FileObject createMetadataResource() throws IOException {
-		return this.environment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", METADATA_PATH);
+	private FileObject createMetadataResource(String path) throws IOException {
+		return this.environment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path);
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,13 +37,35 @@ abstract class PropertiesMarshaller {
 		props.store(out, null);
 	}
 
+	public static void writeAnnotationMetadata(CandidateComponentsMetadata metadata, OutputStream out)
+			throws IOException {
+
+		Properties props = new SortedProperties(true);
+		metadata.getItems().forEach(m -> {
+			if (m.getAnnotationMetadata() != null) {
+				props.put(m.getType(), m.getAnnotationMetadata());
+			}
+		});
+		props.store(out, null);
+	}
+
 	public static CandidateComponentsMetadata read(InputStream in) throws IOException {
+		return read(in, null);
+	}
+
+	public static CandidateComponentsMetadata read(InputStream in, InputStream annotationMetadataIn)
+			throws IOException {
+
 		CandidateComponentsMetadata result = new CandidateComponentsMetadata();
 		Properties props = new Properties();
 		props.load(in);
+		Properties annotationMetadata = new Properties();
+		if (annotationMetadataIn != null) {
+			annotationMetadata.load(annotationMetadataIn);
+		}
 		props.forEach((type, value) -> {
 			Set<String> candidates = Set.of(((String) value).split(","));
-			result.add(new ItemMetadata((String) type, candidates));
+			result.add(new ItemMetadata((String) type, candidates, annotationMetadata.getProperty((String) type)));
 		});
 		return result;
 	}
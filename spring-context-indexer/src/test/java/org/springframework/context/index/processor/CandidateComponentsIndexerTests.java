@@ -35,6 +35,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.springframework.context.index.sample.AbstractController;
 import org.springframework.context.index.sample.MetaControllerIndexed;
 import org.springframework.context.index.sample.SampleComponent;
+import org.springframework.context.index.sample.SampleConfiguredComponent;
 import org.springframework.context.index.sample.SampleController;
 import org.springframework.context.index.sample.SampleEmbedded;
 import org.springframework.context.index.sample.SampleMetaController;
@@ -217,6 +218,33 @@ class CandidateComponentsIndexerTests {
 		assertThat(metadata.getItems()).isEmpty();
 	}
 
+	@Test
+	void annotationMetadataIsRecorded() {
+		CandidateComponentsMetadata metadata = compile(SampleConfiguredComponent.class);
+		assertThat(metadata.getItems()).singleElement().satisfies(item -> assertThat(item.getAnnotationMetadata())
+				.startsWith("[\"" + SampleConfiguredComponent.class.getName() + "\",[],\"java.lang.Object\",[],null,[],")
+				.contains("@\"org.springframework.stereotype.Component\"(value=\"configured\")")
+				.contains("@\"org.springframework.context.annotation.Scope\"(scopeName=\"prototype\"," +
+						"proxyMode=E\"org.springframework.context.annotation.ScopedProxyMode#TARGET_CLASS\")")
+				.contains("@\"org.springframework.context.annotation.Lazy\"()")
+				.contains("@\"org.springframework.context.annotation.Primary\"()")
+				.contains("@\"org.springframework.beans.factory.annotation.Qualifier\"(value=\"sample\")")
+				.endsWith("[[\"sampleComponent\",[\"static\"],\"" + SampleComponent.class.getName() + "\"," +
+						"[\"java.lang.String\",\"int[]\"],[@\"org.springframework.context.annotation.Bean\"" +
+						"(name=[\"first\",\"second\"],autowireCandidate=false)]]]]"));
+	}
+
+	@Test
+	void annotationMetadataUsesBinaryNames() {
+		CandidateComponentsMetadata metadata = compile(SampleEmbedded.class);
+		String nestedType = "org.springframework.context.index.sample.SampleEmbedded.Another$AnotherPublicCandidate";
+		assertThat(metadata.getItems()).filteredOn(item -> item.getType().equals(nestedType))
+				.singleElement().satisfies(item -> assertThat(item.getAnnotationMetadata())
+						.startsWith("[\"" + SampleEmbedded.Another.AnotherPublicCandidate.class.getName() +
+								"\",[\"static\"],\"java.lang.Object\",[],\"" +
+								SampleEmbedded.Another.class.getName() + "\",[],"));
+	}
+
 	private void testComponent(Class<?>... classes) {
 		CandidateComponentsMetadata metadata = compile(classes);
 		for (Class<?> c : classes) {
@@ -247,10 +275,12 @@ class CandidateComponentsIndexerTests {
 
 	private CandidateComponentsMetadata readGeneratedMetadata(File outputLocation) {
 		File metadataFile = new File(outputLocation, MetadataStore.METADATA_PATH);
+		File annotationMetadataFile = new File(outputLocation, MetadataStore.ANNOTATION_METADATA_PATH);
 		if (metadataFile.isFile()) {
-			try (FileInputStream fileInputStream = new FileInputStream(metadataFile)) {
-				CandidateComponentsMetadata metadata = PropertiesMarshaller.read(fileInputStream);
-				return metadata;
+			try (FileInputStream fileInputStream = new FileInputStream(metadataFile);
+					FileInputStream annotationMetadataInputStream = (annotationMetadataFile.isFile() ?
+							new FileInputStream(annotationMetadataFile) : null)) {
+				return PropertiesMarshaller.read(fileInputStream, annotationMetadataInputStream);
 			}
 			catch (IOException ex) {
 				throw new IllegalStateException("Failed to read metadata from disk", ex);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,10 +22,12 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Tests for {@link PropertiesMarshaller}.
@@ -63,6 +65,26 @@ public class PropertiesMarshallerTests {
 		assertThat(contents.split(System.lineSeparator())).containsExactly("com.a=type", "com.b=type", "com.c=type");
 	}
 
+	@Test
+	public void readWriteAnnotationMetadata() throws IOException {
+		CandidateComponentsMetadata metadata = new CandidateComponentsMetadata();
+		metadata.add(new ItemMetadata("com.foo", Set.of("first"), "[\"com.foo\",[],null,[],null,[],[],[]]"));
+		metadata.add(createItem("com.bar", "first"));
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		PropertiesMarshaller.write(metadata, outputStream);
+		ByteArrayOutputStream annotationMetadataOutputStream = new ByteArrayOutputStream();
+		PropertiesMarshaller.writeAnnotationMetadata(metadata, annotationMetadataOutputStream);
+		CandidateComponentsMetadata readMetadata = PropertiesMarshaller.read(
+				new ByteArrayInputStream(outputStream.toByteArray()),
+				new ByteArrayInputStream(annotationMetadataOutputStream.toByteArray()));
+		assertThat(readMetadata).has(Metadata.of("com.foo", "first"));
+		assertThat(readMetadata).has(Metadata.of("com.bar", "first"));
+		assertThat(readMetadata.getItems()).extracting(ItemMetadata::getType, ItemMetadata::getAnnotationMetadata)
+				.containsExactlyInAnyOrder(tuple("com.foo", "[\"com.foo\",[],null,[],null,[],[],[]]"),
+						tuple("com.bar", null));
+	}
+
 	private static ItemMetadata createItem(String type, String... stereotypes) {
 		return new ItemMetadata(type, new HashSet<>(Arrays.asList(stereotypes)));
 	}
@@ -16,6 +16,8 @@
 
 package org.springframework.context.annotation;
 
+import java.io.IOException;
+
 import jakarta.annotation.Resource;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -24,6 +26,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -32,6 +35,10 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.ITestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.stereotype.Component;
 
 /**
  * Benchmark for bean annotation processing with various annotations.
@@ -78,6 +85,36 @@ public class AnnotationProcessorBenchmark {
 		return tb.getSpouse();
 	}
 
+	@Benchmark
+	public void reflectionMetadata(MetadataState state, Blackhole bh) {
+		AnnotationMetadata metadata = AnnotationMetadata.introspect(AnnotatedConfiguration.class);
+		bh.consume(metadata.getAnnotationTypes());
+		bh.consume(metadata.isAnnotated(Component.class.getName()));
+		bh.consume(metadata.getAnnotationAttributes(Lazy.class.getName()));
+	}
+
+	@Benchmark
+	public void asmMetadata(MetadataState state, Blackhole bh) {
+		AnnotationMetadata metadata = state.asmMetadata;
+		bh.consume(metadata.getMetaAnnotationTypes(Configuration.class.getName()));
+		bh.consume(metadata.isAnnotated(Component.class.getName()));
+		bh.consume(metadata.getAnnotationAttributes(Lazy.class.getName()));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class MetadataState {
+
+		public AnnotationMetadata asmMetadata;
+
+		@Setup
+		public void setup() throws IOException {
+			MetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory();
+			this.asmMetadata = metadataReaderFactory.getMetadataReader(
+					AnnotatedConfiguration.class.getName()).getAnnotationMetadata();
+		}
+	}
+
 
 	private static class ResourceAnnotatedTestBean extends org.springframework.beans.testfixture.beans.TestBean {
 
@@ -99,4 +136,15 @@ public class AnnotationProcessorBenchmark {
 		}
 	}
 
+	@Configuration
+	@Lazy
+	@Primary
+	static class AnnotatedConfiguration {
+
+		@Bean
+		TestBean testBean() {
+			return new TestBean();
+		}
+	}
+
 }
@@ -17,11 +17,22 @@
 package org.springframework.context.index;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
@@ -43,6 +54,11 @@ import org.springframework.util.MultiValueMap;
  * not a rule. Similarly, the {@code stereotype} is usually the fully qualified name of
  * a target type but it can be any marker really.
  *
+ * <p>As of 6.1, the index may also provide the annotation metadata of candidate
+ * types, as recorded at build time in {@code META-INF/spring.components.metadata},
+ * so that they can be {@linkplain #getMetadataReader(String) introspected} without
+ * reading their bytecode.
+ *
  * @author Stephane Nicoll
  * @since 5.0
  * @deprecated as of 6.1, in favor of the AOT engine.
@@ -52,11 +68,29 @@ public class CandidateComponentsIndex {
 
 	private static final AntPathMatcher pathMatcher = new AntPathMatcher(".");
 
+	private static final Log logger = LogFactory.getLog(CandidateComponentsIndex.class);
+
 	private final MultiValueMap<String, Entry> index;
 
+	private final Map<String, String> annotationMetadata;
+
+	@Nullable
+	private final ClassLoader classLoader;
+
 
 	CandidateComponentsIndex(List<Properties> content) {
+		this(content, Collections.emptyList(), null);
+	}
+
+	CandidateComponentsIndex(List<Properties> content, List<Properties> annotationMetadata,
+			@Nullable ClassLoader classLoader) {
+
 		this.index = parseIndex(content);
+		this.annotationMetadata = new HashMap<>();
+		for (Properties entry : annotationMetadata) {
+			entry.forEach((type, metadata) -> this.annotationMetadata.put((String) type, (String) metadata));
+		}
+		this.classLoader = classLoader;
 	}
 
 	private static MultiValueMap<String, Entry> parseIndex(List<Properties> content) {
@@ -91,6 +125,35 @@ public class CandidateComponentsIndex {
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return a {@link MetadataReader} for the specified candidate type, based on
+	 * the annotation metadata recorded for it at build time.
+	 * @param type the candidate type, as returned by {@link #getCandidateTypes}
+	 * @return a {@code MetadataReader} for the type, or {@code null} if the index
+	 * does not provide its annotation metadata, in which case the bytecode of the
+	 * type needs to be read instead
+	 * @since 6.1
+	 */
+	@Nullable
+	public MetadataReader getMetadataReader(String type) {
+		String metadata = this.annotationMetadata.get(type);
+		if (metadata == null) {
+			return null;
+		}
+		try {
+			AnnotationMetadata annotationMetadata = IndexedMetadataParser.parse(metadata, this.classLoader);
+			Resource resource = new ClassPathResource(ClassUtils.convertClassNameToResourcePath(
+					annotationMetadata.getClassName()) + ClassUtils.CLASS_FILE_SUFFIX, this.classLoader);
+			return new IndexedMetadataReader(resource, annotationMetadata);
+		}
+		catch (IllegalArgumentException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring annotation metadata from index for " + type + ": " + ex.getMessage());
+			}
+			return null;
+		}
+	}
+
 
 	private static class Entry {
 
@@ -113,4 +176,27 @@ public class CandidateComponentsIndex {
 		}
 	}
 
+
+	/**
+	 * {@link MetadataReader} for annotation metadata from the index.
+	 */
+	private record IndexedMetadataReader(Resource resource, AnnotationMetadata annotationMetadata)
+			implements MetadataReader {
+
+		@Override
+		public Resource getResource() {
+			return this.resource;
+		}
+
+		@Override
+		public ClassMetadata getClassMetadata() {
+			return this.annotationMetadata;
+		}
+
+		@Override
+		public AnnotationMetadata getAnnotationMetadata() {
+			return this.annotationMetadata;
+		}
+	}
+
 }
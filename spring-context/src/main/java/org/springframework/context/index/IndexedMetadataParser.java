@@ -0,0 +1,373 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.annotation.AnnotationFilter;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Parser for the annotation metadata that the {@code spring-context-indexer}
+ * annotation processor records in {@value CandidateComponentsIndexLoader#COMPONENTS_METADATA_RESOURCE_LOCATION}.
+ *
+ * <p>A type is described by a list of its binary name, its modifiers, its
+ * superclass name, its interface names, its enclosing class name, its member
+ * class names, its annotations and its declared methods, each with its name,
+ * modifiers, return type, parameter types and annotations. Annotations are
+ * turned into {@link MergedAnnotation} instances with the same attribute
+ * values as if they had been read from the bytecode of the type.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ */
+final class IndexedMetadataParser {
+
+	@Nullable
+	private final ClassLoader classLoader;
+
+	private final String input;
+
+	private int position;
+
+
+	private IndexedMetadataParser(String input, @Nullable ClassLoader classLoader) {
+		this.input = input;
+		this.classLoader = classLoader;
+	}
+
+
+	/**
+	 * Parse the given annotation metadata.
+	 * @param metadata the metadata recorded in the index
+	 * @param classLoader the ClassLoader to use for loading annotation types
+	 * @return the corresponding {@link AnnotationMetadata}
+	 * @throws IllegalArgumentException if the metadata is invalid
+	 */
+	static AnnotationMetadata parse(String metadata, @Nullable ClassLoader classLoader) {
+		IndexedMetadataParser parser = new IndexedMetadataParser(metadata, classLoader);
+		List<?> type = parser.readList();
+		if (parser.position != metadata.length() || type.size() != 8) {
+			throw parser.invalid();
+		}
+		return parser.createAnnotationMetadata(type);
+	}
+
+
+	private AnnotationMetadata createAnnotationMetadata(List<?> type) {
+		String className = asString(type.get(0), false);
+		Set<MethodMetadata> declaredMethods = new LinkedHashSet<>(4);
+		for (Object method : asList(type.get(7))) {
+			declaredMethods.add(createMethodMetadata(className, asList(method)));
+		}
+		return new IndexedAnnotationMetadata(className, asStringSet(type.get(1)), asString(type.get(4), true),
+				asString(type.get(2), true), StringUtils.toStringArray(asStringList(type.get(3))),
+				StringUtils.toStringArray(asStringList(type.get(5))), declaredMethods,
+				createAnnotations(asList(type.get(6)), className));
+	}
+
+	private MethodMetadata createMethodMetadata(String declaringClassName, List<?> method) {
+		if (method.size() != 5) {
+			throw invalid();
+		}
+		String methodName = asString(method.get(0), false);
+		List<String> parameterTypeNames = asStringList(method.get(3));
+		String source = declaringClassName + "." + methodName + "(" + String.join(",", parameterTypeNames) + ")";
+		return new IndexedMethodMetadata(methodName, asStringSet(method.get(1)), declaringClassName,
+				asString(method.get(2), false), parameterTypeNames, createAnnotations(asList(method.get(4)), source));
+	}
+
+	private MergedAnnotations createAnnotations(List<?> annotations, Object source) {
+		List<MergedAnnotation<?>> result = new ArrayList<>(annotations.size());
+		for (Object annotation : annotations) {
+			if (!(annotation instanceof EncodedAnnotation encodedAnnotation)) {
+				throw invalid();
+			}
+			if (AnnotationFilter.PLAIN.matches(encodedAnnotation.typeName())) {
+				continue;
+			}
+			try {
+				Class<?> annotationType = ClassUtils.forName(encodedAnnotation.typeName(), this.classLoader);
+				result.add(createAnnotation(annotationType, encodedAnnotation, source));
+			}
+			catch (ClassNotFoundException | LinkageError ex) {
+				// Annotation not present at runtime -> ignore, as for bytecode.
+			}
+		}
+		return MergedAnnotations.of(result);
+	}
+
+	@SuppressWarnings("unchecked")
+	private MergedAnnotation<?> createAnnotation(Class<?> annotationType, EncodedAnnotation annotation, Object source) {
+		Map<String, Object> attributes = new LinkedHashMap<>(annotation.attributes().size());
+		annotation.attributes().forEach((name, value) -> {
+			Method attribute = ReflectionUtils.findMethod(annotationType, name);
+			if (attribute == null) {
+				throw new IllegalArgumentException(
+						"No attribute '" + name + "' in annotation " + annotationType.getName());
+			}
+			attributes.put(name, adaptValue(value, attribute.getReturnType(), source));
+		});
+		return MergedAnnotation.of(this.classLoader, source, (Class<Annotation>) annotationType,
+				(attributes.isEmpty() ? Collections.emptyMap() : attributes));
+	}
+
+	/**
+	 * Adapt the given value to the given attribute type, using the same value
+	 * types as when reading the annotation from bytecode, i.e. class names
+	 * for class references and {@link MergedAnnotation} for nested annotations.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Object adaptValue(@Nullable Object value, Class<?> type, Object source) {
+		if (type.isArray()) {
+			Class<?> componentType = type.componentType();
+			List<?> elements = (value instanceof List<?> list ? list : Collections.singletonList(value));
+			Class<?> arrayType = (componentType == Class.class ? String.class :
+					(componentType.isAnnotation() ? MergedAnnotation.class : componentType));
+			Object array = Array.newInstance(arrayType, elements.size());
+			for (int i = 0; i < elements.size(); i++) {
+				Array.set(array, i, adaptValue(elements.get(i), componentType, source));
+			}
+			return array;
+		}
+		if (value instanceof NumberValue number) {
+			String text = number.value();
+			if (type == int.class) {
+				return Integer.valueOf(text);
+			}
+			if (type == long.class) {
+				return Long.valueOf(text);
+			}
+			if (type == short.class) {
+				return Short.valueOf(text);
+			}
+			if (type == byte.class) {
+				return Byte.valueOf(text);
+			}
+			if (type == char.class) {
+				return (char) Integer.parseInt(text);
+			}
+			if (type == float.class) {
+				return Float.valueOf(text);
+			}
+			if (type == double.class) {
+				return Double.valueOf(text);
+			}
+		}
+		else if (value instanceof ClassValue classValue && type == Class.class) {
+			return classValue.className();
+		}
+		else if (value instanceof EnumValue enumValue && type.isEnum()) {
+			return Enum.valueOf((Class<? extends Enum>) type, enumValue.name());
+		}
+		else if (value instanceof EncodedAnnotation annotation && type.isAnnotation()) {
+			return createAnnotation(type, annotation, source);
+		}
+		else if ((value instanceof String && type == String.class) ||
+				(value instanceof Boolean && type == boolean.class)) {
+			return value;
+		}
+		throw new IllegalArgumentException("Value " + value + " is not compatible with " + type.getName());
+	}
+
+
+	// Reading the encoded metadata
+
+	@Nullable
+	private Object readValue() {
+		char ch = current();
+		switch (ch) {
+			case '"' -> {
+				return readString();
+			}
+			case '[' -> {
+				return readList();
+			}
+			case '@' -> {
+				return readAnnotation();
+			}
+			case 'C' -> {
+				this.position++;
+				return new ClassValue(readString());
+			}
+			case 'E' -> {
+				this.position++;
+				String enumValue = readString();
+				int separator = enumValue.lastIndexOf('#');
+				if (separator == -1) {
+					throw invalid();
+				}
+				return new EnumValue(enumValue.substring(0, separator), enumValue.substring(separator + 1));
+			}
+		}
+		String token = readToken();
+		return switch (token) {
+			case "null" -> null;
+			case "true" -> Boolean.TRUE;
+			case "false" -> Boolean.FALSE;
+			default -> new NumberValue(token);
+		};
+	}
+
+	private List<?> readList() {
+		expect('[');
+		List<Object> result = new ArrayList<>();
+		if (current() == ']') {
+			this.position++;
+			return result;
+		}
+		while (true) {
+			result.add(readValue());
+			if (current() == ']') {
+				this.position++;
+				return result;
+			}
+			expect(',');
+		}
+	}
+
+	private EncodedAnnotation readAnnotation() {
+		expect('@');
+		String typeName = readString();
+		expect('(');
+		Map<String, Object> attributes = new LinkedHashMap<>(4);
+		if (current() == ')') {
+			this.position++;
+			return new EncodedAnnotation(typeName, attributes);
+		}
+		while (true) {
+			int separator = this.input.indexOf('=', this.position);
+			if (separator == -1) {
+				throw invalid();
+			}
+			String name = this.input.substring(this.position, separator);
+			this.position = separator + 1;
+			attributes.put(name, readValue());
+			if (current() == ')') {
+				this.position++;
+				return new EncodedAnnotation(typeName, attributes);
+			}
+			expect(',');
+		}
+	}
+
+	private String readString() {
+		expect('"');
+		StringBuilder sb = new StringBuilder();
+		while (true) {
+			char ch = current();
+			this.position++;
+			if (ch == '"') {
+				return sb.toString();
+			}
+			if (ch == '\\') {
+				ch = current();
+				this.position++;
+			}
+			sb.append(ch);
+		}
+	}
+
+	private String readToken() {
+		int start = this.position;
+		while (this.position < this.input.length() && ",)]".indexOf(this.input.charAt(this.position)) == -1) {
+			this.position++;
+		}
+		if (start == this.position) {
+			throw invalid();
+		}
+		return this.input.substring(start, this.position);
+	}
+
+	private char current() {
+		if (this.position >= this.input.length()) {
+			throw invalid();
+		}
+		return this.input.charAt(this.position);
+	}
+
+	private void expect(char expected) {
+		if (current() != expected) {
+			throw invalid();
+		}
+		this.position++;
+	}
+
+	private IllegalArgumentException invalid() {
+		return new IllegalArgumentException(
+				"Invalid annotation metadata at position " + this.position + ": " + this.input);
+	}
+
+	@Nullable
+	private String asString(@Nullable Object value, boolean nullable) {
+		if ((value == null && nullable) || value instanceof String) {
+			return (String) value;
+		}
+		throw invalid();
+	}
+
+	private List<?> asList(@Nullable Object value) {
+		if (value instanceof List<?> list) {
+			return list;
+		}
+		throw invalid();
+	}
+
+	private List<String> asStringList(@Nullable Object value) {
+		List<?> list = asList(value);
+		List<String> result = new ArrayList<>(list.size());
+		for (Object element : list) {
+			result.add(asString(element, false));
+		}
+		return result;
+	}
+
+	private Set<String> asStringSet(@Nullable Object value) {
+		return new HashSet<>(asStringList(value));
+	}
+
+
+	private record EncodedAnnotation(String typeName, Map<String, Object> attributes) {
+	}
+
+	private record ClassValue(String className) {
+	}
+
+	private record EnumValue(String enumType, String name) {
+	}
+
+	private record NumberValue(String value) {
+	}
+
+}
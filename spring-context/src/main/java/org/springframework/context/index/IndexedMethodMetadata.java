@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link MethodMetadata} created from the annotation metadata recorded in
+ * the components index at build time.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ * @see IndexedMetadataParser
+ */
+final class IndexedMethodMetadata implements MethodMetadata {
+
+	private final String methodName;
+
+	private final Set<String> modifiers;
+
+	private final String declaringClassName;
+
+	private final String returnTypeName;
+
+	private final List<String> parameterTypeNames;
+
+	private final MergedAnnotations annotations;
+
+
+	IndexedMethodMetadata(String methodName, Set<String> modifiers, String declaringClassName,
+			String returnTypeName, List<String> parameterTypeNames, MergedAnnotations annotations) {
+
+		this.methodName = methodName;
+		this.modifiers = modifiers;
+		this.declaringClassName = declaringClassName;
+		this.returnTypeName = returnTypeName;
+		this.parameterTypeNames = parameterTypeNames;
+		this.annotations = annotations;
+	}
+
+
+	@Override
+	public String getMethodName() {
+		return this.methodName;
+	}
+
+	@Override
+	public String getDeclaringClassName() {
+		return this.declaringClassName;
+	}
+
+	@Override
+	public String getReturnTypeName() {
+		return this.returnTypeName;
+	}
+
+	@Override
+	public boolean isAbstract() {
+		return this.modifiers.contains("abstract");
+	}
+
+	@Override
+	public boolean isStatic() {
+		return this.modifiers.contains("static");
+	}
+
+	@Override
+	public boolean isFinal() {
+		return this.modifiers.contains("final");
+	}
+
+	@Override
+	public boolean isOverridable() {
+		return !isStatic() && !isFinal() && !this.modifiers.contains("private");
+	}
+
+	@Override
+	public MergedAnnotations getAnnotations() {
+		return this.annotations;
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || (other instanceof IndexedMethodMetadata that &&
+				this.declaringClassName.equals(that.declaringClassName) &&
+				this.methodName.equals(that.methodName) &&
+				this.parameterTypeNames.equals(that.parameterTypeNames)));
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * this.declaringClassName.hashCode() + this.methodName.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return this.declaringClassName + "." + this.methodName +
+				"(" + String.join(",", this.parameterTypeNames) + ")";
+	}
+
+}
@@ -54,12 +54,18 @@ import example.scannable.sub.BarComponent;
 import org.aspectj.lang.annotation.Aspect;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Lookup;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.testfixture.index.CandidateComponentsTestClassLoader;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.RegexPatternTypeFilter;
@@ -89,6 +95,11 @@ class ClassPathScanningCandidateComponentProviderTests {
 			ClassPathScanningCandidateComponentProviderTests.class.getClassLoader(),
 			new ClassPathResource("spring.components", NamedComponent.class));
 
+	private static final ClassLoader TEST_METADATA_CLASSLOADER = CandidateComponentsTestClassLoader.indexWithMetadata(
+			ClassPathScanningCandidateComponentProviderTests.class.getClassLoader(),
+			new ClassPathResource("spring.components", NamedComponent.class),
+			new ClassPathResource("spring.components.metadata", NamedComponent.class));
+
 	private static final Set<Class<?>> springComponents = Set.of(
 			DefaultNamedComponent.class,
 			NamedComponent.class,
@@ -132,6 +143,47 @@ class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, "example", true, true, true);
 	}
 
+	@Test
+	void defaultsWithIndexAndAnnotationMetadata() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(TEST_METADATA_CLASSLOADER));
+		provider.setMetadataReaderFactory(new NonReadingMetadataReaderFactory());
+		testDefault(provider, "example", true, true, true);
+	}
+
+	@Test
+	void annotationMetadataFromIndex() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(TEST_METADATA_CLASSLOADER));
+		provider.setMetadataReaderFactory(new NonReadingMetadataReaderFactory());
+		Set<BeanDefinition> candidates = provider.findCandidateComponents(TEST_BASE_PACKAGE);
+
+		AnnotationMetadata namedComponent = getMetadata(candidates, NamedComponent.class);
+		assertThat(namedComponent.getAnnotationAttributes(Component.class.getName()))
+				.containsEntry("value", "myNamedComponent");
+		assertThat(namedComponent.hasAnnotation(Lazy.class.getName())).isTrue();
+		AnnotationMetadata stubFooDao = getMetadata(candidates, StubFooDao.class);
+		assertThat(stubFooDao.hasMetaAnnotation(Component.class.getName())).isTrue();
+		assertThat(stubFooDao.getInterfaceNames()).containsExactly(FooDao.class.getName());
+		AnnotationMetadata fooServiceImpl = getMetadata(candidates, FooServiceImpl.class);
+		assertThat(fooServiceImpl.isAbstract()).isTrue();
+		assertThat(fooServiceImpl.getAnnotationAttributes(DependsOn.class.getName()))
+				.containsEntry("value", new String[] {"myNamedComponent"});
+		assertThat(fooServiceImpl.getAnnotatedMethods(Lookup.class.getName()))
+				.singleElement().satisfies(method -> {
+					assertThat(method.getMethodName()).isEqualTo("fooDao");
+					assertThat(method.getReturnTypeName()).isEqualTo(FooDao.class.getName());
+					assertThat(method.isAbstract()).isTrue();
+				});
+	}
+
+	private static AnnotationMetadata getMetadata(Set<BeanDefinition> candidates, Class<?> beanClass) {
+		return candidates.stream()
+				.filter(candidate -> beanClass.getName().equals(candidate.getBeanClassName()))
+				.map(candidate -> ((AnnotatedBeanDefinition) candidate).getMetadata())
+				.findFirst().orElseThrow();
+	}
+
 	private void testDefault(ClassPathScanningCandidateComponentProvider provider, String basePackage,
 			boolean includeScannedJakartaComponents, boolean includeScannedJavaxComponents, boolean includeIndexedComponents) {
 
@@ -556,6 +608,20 @@ class ClassPathScanningCandidateComponentProviderTests {
 	}
 
 
+	private static class NonReadingMetadataReaderFactory extends SimpleMetadataReaderFactory {
+
+		@Override
+		public MetadataReader getMetadataReader(String className) {
+			throw new IllegalStateException("Unexpected class reading: " + className);
+		}
+
+		@Override
+		public MetadataReader getMetadataReader(Resource resource) {
+			throw new IllegalStateException("Unexpected class reading: " + resource);
+		}
+	}
+
+
 	@Profile(TEST_DEFAULT_PROFILE_NAME)
 	@Component(DefaultProfileAnnotatedComponent.BEAN_NAME)
 	private static class DefaultProfileAnnotatedComponent {
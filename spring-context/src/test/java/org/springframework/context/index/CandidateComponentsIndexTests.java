@@ -21,8 +21,14 @@ import java.util.Collections;
 import java.util.Properties;
 import java.util.Set;
 
+import example.scannable.NamedComponent;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.stereotype.Component;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -78,6 +84,46 @@ public class CandidateComponentsIndexTests {
 				.contains("com.example.Foo");
 	}
 
+	@Test
+	public void getMetadataReader() {
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				Collections.singletonList(createProperties(NamedComponent.class.getName(), Component.class.getName())),
+				Collections.singletonList(createProperties(NamedComponent.class.getName(),
+						"[\"example.scannable.NamedComponent\",[],\"java.lang.Object\",[],null,[]," +
+						"[@\"org.springframework.stereotype.Component\"(value=\"myNamedComponent\")," +
+						"@\"org.springframework.context.annotation.Lazy\"()],[]]")),
+				getClass().getClassLoader());
+		MetadataReader metadataReader = index.getMetadataReader(NamedComponent.class.getName());
+		assertThat(metadataReader).isNotNull();
+		assertThat(metadataReader.getResource().getFilename()).isEqualTo("NamedComponent.class");
+		AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
+		assertThat(metadata.getClassName()).isEqualTo(NamedComponent.class.getName());
+		assertThat(metadata.isConcrete()).isTrue();
+		assertThat(metadata.isIndependent()).isTrue();
+		assertThat(metadata.getSuperClassName()).isEqualTo(Object.class.getName());
+		assertThat(metadata.getAnnotationTypes()).containsExactly(
+				Component.class.getName(), Lazy.class.getName());
+		assertThat(metadata.getAnnotationAttributes(Component.class.getName()))
+				.containsEntry("value", "myNamedComponent");
+		assertThat(metadata.getAnnotationAttributes(Lazy.class.getName())).containsEntry("value", true);
+	}
+
+	@Test
+	public void getMetadataReaderWithoutMetadata() {
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				Collections.singletonList(createSampleProperties()));
+		assertThat(index.getMetadataReader("com.example.service.One")).isNull();
+	}
+
+	@Test
+	public void getMetadataReaderWithInvalidMetadata() {
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				Collections.singletonList(createSampleProperties()),
+				Collections.singletonList(createProperties("com.example.service.One", "[\"com.example.service.One\"")),
+				getClass().getClassLoader());
+		assertThat(index.getMetadataReader("com.example.service.One")).isNull();
+	}
+
 	private static Properties createProperties(String key, String stereotypes) {
 		Properties properties = new Properties();
 		properties.put(key, String.join(",", stereotypes));
@@ -54,33 +54,61 @@ public class CandidateComponentsTestClassLoader extends ClassLoader {
 	 * specified resources.
 	 */
 	public static ClassLoader index(ClassLoader classLoader, Resource... resources) {
-		return new CandidateComponentsTestClassLoader(classLoader,
-				Collections.enumeration(Stream.of(resources).map(r -> {
-					try {
-						return r.getURL();
-					}
-					catch (Exception ex) {
-						throw new IllegalArgumentException("Invalid resource " + r, ex);
-					}
-				}).toList()));
+		return new CandidateComponentsTestClassLoader(classLoader, toUrls(resources));
+	}
+
+	/**
+	 * Create a test {@link ClassLoader} that creates an index with the
+	 * specified {@link Resource}, complemented by the annotation metadata
+	 * from the specified metadata {@link Resource}.
+	 * @param classLoader the classloader to use for all other operations
+	 * @param resource the resource for the index file
+	 * @param metadataResource the resource for the annotation metadata file
+	 * @return a test {@link ClassLoader} with an index built based on the
+	 * specified resources.
+	 */
+	public static ClassLoader indexWithMetadata(ClassLoader classLoader, Resource resource, Resource metadataResource) {
+		return new CandidateComponentsTestClassLoader(classLoader, toUrls(resource), toUrls(metadataResource));
+	}
+
+	private static Enumeration<URL> toUrls(Resource... resources) {
+		return Collections.enumeration(Stream.of(resources).map(r -> {
+			try {
+				return r.getURL();
+			}
+			catch (Exception ex) {
+				throw new IllegalArgumentException("Invalid resource " + r, ex);
+			}
+		}).toList());
 	}
 
 
 	@Nullable
 	private final Enumeration<URL> resourceUrls;
 
+	@Nullable
+	private final Enumeration<URL> metadataResourceUrls;
+
 	@Nullable
 	private final IOException cause;
 
 	public CandidateComponentsTestClassLoader(ClassLoader classLoader, Enumeration<URL> resourceUrls) {
+		this(classLoader, resourceUrls, Collections.emptyEnumeration());
+	}
+
+	public CandidateComponentsTestClassLoader(ClassLoader classLoader, Enumeration<URL> resourceUrls,
+			Enumeration<URL> metadataResourceUrls) {
+
 		super(classLoader);
 		this.resourceUrls = resourceUrls;
+		this.metadataResourceUrls = metadataResourceUrls;
 		this.cause = null;
 	}
 
 	public CandidateComponentsTestClassLoader(ClassLoader parent, IOException cause) {
 		super(parent);
 		this.resourceUrls = null;
+		this.metadataResourceUrls = null;
 		this.cause = cause;
 	}
 
@@ -93,6 +121,12 @@ public class CandidateComponentsTestClassLoader extends ClassLoader {
 			}
 			throw this.cause;
 		}
+		if (org.springframework.context.index.CandidateComponentsIndexLoader.COMPONENTS_METADATA_RESOURCE_LOCATION.equals(name)) {
+			if (this.metadataResourceUrls != null) {
+				return this.metadataResourceUrls;
+			}
+			throw this.cause;
+		}
 		return super.getResources(name);
 	}
 
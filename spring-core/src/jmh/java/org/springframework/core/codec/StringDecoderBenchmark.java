@@ -18,6 +18,7 @@ package org.springframework.core.codec;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -53,6 +54,11 @@ public class StringDecoderBenchmark {
 		blackhole.consume(state.parseLines().blockLast());
 	}
 
+	@Benchmark
+	public void parseNdjsonLines(NdjsonLinesState state, Blackhole blackhole) {
+		blackhole.consume(state.parseLines().blockLast());
+	}
+
 
 	@State(Scope.Benchmark)
 	@SuppressWarnings({"NotNullFieldNotInitialized", "ConstantConditions"})
@@ -66,18 +72,23 @@ public class StringDecoderBenchmark {
 		@Param("10240")
 		int totalSize;
 
-		@Param("2000")
+		@Param({"2000", "65536"})
 		int chunkSize;
 
+		@Param({"newline", "multiple"})
+		String delimiters;
+
 		List<DataBuffer> chunks;
 
-		StringDecoder decoder = StringDecoder.textPlainOnly(Arrays.asList("\r\n", "\n"), false);
+		StringDecoder decoder;
 
 		MimeType mimeType = new MimeType("text", "plain", CHARSET);
 
 
 		@Setup(Level.Trial)
 		public void setup() {
+			this.decoder = StringDecoder.textPlainOnly(delimiters(this.delimiters), false);
+
 			String eventTemplate = """
 					id:$1
 					event:some-event
@@ -111,4 +122,67 @@ public class StringDecoderBenchmark {
 		}
 	}
 
+
+	@State(Scope.Benchmark)
+	@SuppressWarnings({"NotNullFieldNotInitialized", "ConstantConditions"})
+	public static class NdjsonLinesState {
+
+		private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+		private static final ResolvableType ELEMENT_TYPE = ResolvableType.forClass(String.class);
+
+
+		@Param("1048576")
+		int totalSize;
+
+		@Param({"8192", "262144"})
+		int chunkSize;
+
+		@Param({"newline", "multiple"})
+		String delimiters;
+
+		List<DataBuffer> chunks;
+
+		StringDecoder decoder;
+
+		MimeType mimeType = new MimeType("application", "x-ndjson", CHARSET);
+
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.decoder = StringDecoder.allMimeTypes(delimiters(this.delimiters), true);
+
+			StringBuilder builder = new StringBuilder(this.totalSize);
+			for (int index = 1; builder.length() < this.totalSize; index++) {
+				builder.append(String.format(
+						"{\"id\":%d,\"name\":\"item-%05d\",\"tags\":[\"a\",\"b\",\"c\"],\"payload\":\"%s\"}\n",
+						index, index, "x".repeat(index % 200)));
+			}
+			byte[] bytes = builder.toString().getBytes(CHARSET);
+			DataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+			this.chunks = new ArrayList<>();
+			for (int offset = 0; offset < bytes.length; offset += this.chunkSize) {
+				int length = Math.min(this.chunkSize, bytes.length - offset);
+				DataBuffer buffer = bufferFactory.allocateBuffer(length);
+				buffer.write(bytes, offset, length);
+				this.chunks.add(buffer);
+			}
+		}
+
+		public Flux<String> parseLines() {
+			Flux<DataBuffer> input = Flux.fromIterable(this.chunks).doOnNext(DataBufferUtils::retain);
+			return this.decoder.decode(input, ELEMENT_TYPE, this.mimeType, Collections.emptyMap());
+		}
+	}
+
+
+	static List<String> delimiters(String name) {
+		return switch (name) {
+			case "newline" -> Arrays.asList("\r\n", "\n");
+			case "multiple" -> Arrays.asList("\r\n", "\n", "\u001e", "\r");
+			default -> throw new IllegalArgumentException("Unknown delimiters: " + name);
+		};
+	}
+
 }
@@ -34,6 +34,7 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -102,6 +103,71 @@ public class GenericConversionServiceBenchmark {
 	}
 
 
+	@Benchmark
+	public void convertStringToIntegerWithConversionService(ValueBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.source, state.sourceTypeDesc, state.integerTypeDesc));
+	}
+
+	@Benchmark
+	public void convertStringToIntegerWithResolvedConverter(ValueBenchmarkState state, Blackhole bh) {
+		bh.consume(state.integerConverter.convert(state.source));
+	}
+
+	@Benchmark
+	public void convertStringToValueOfTypeWithConversionService(ValueBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.source, state.sourceTypeDesc, state.valueOfTypeDesc));
+	}
+
+	@Benchmark
+	public void convertStringToValueOfTypeWithResolvedConverter(ValueBenchmarkState state, Blackhole bh) {
+		bh.consume(state.valueOfConverter.convert(state.source));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ValueBenchmarkState {
+
+		DefaultConversionService conversionService = new DefaultConversionService();
+
+		String source = "42";
+
+		TypeDescriptor sourceTypeDesc = TypeDescriptor.valueOf(String.class);
+
+		TypeDescriptor integerTypeDesc = TypeDescriptor.valueOf(Integer.class);
+
+		TypeDescriptor valueOfTypeDesc = TypeDescriptor.valueOf(ValueOfType.class);
+
+		Converter<Object, Object> integerConverter;
+
+		Converter<Object, Object> valueOfConverter;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.integerConverter = this.conversionService.resolveConverter(this.sourceTypeDesc, this.integerTypeDesc);
+			this.valueOfConverter = this.conversionService.resolveConverter(this.sourceTypeDesc, this.valueOfTypeDesc);
+		}
+	}
+
+
+	public static class ValueOfType {
+
+		private final String value;
+
+		private ValueOfType(String value) {
+			this.value = value;
+		}
+
+		public static ValueOfType valueOf(String value) {
+			return new ValueOfType(value);
+		}
+
+		@Override
+		public String toString() {
+			return this.value;
+		}
+	}
+
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
@@ -40,7 +40,8 @@ import org.openjdk.jmh.infra.Blackhole;
  * Benchmarks for {@link ConcurrentReferenceHashMap}.
  * <p>This benchmark ensures that {@link ConcurrentReferenceHashMap} performs
  * better than {@link java.util.Collections#synchronizedMap(Map)} with
- * concurrent read operations.
+ * concurrent read operations, and compares it with the open-addressing
+ * {@link ConcurrentReferenceOpenHashMap}.
  * <p>Typically this can be run with {@code "java -jar spring-core-jmh.jar -t 30 -f 2 ConcurrentReferenceHashMapBenchmark"}.
  * @author Brian Clozel
  */
@@ -58,7 +59,7 @@ public class ConcurrentReferenceHashMapBenchmark {
 	@State(Scope.Benchmark)
 	public static class ConcurrentMapBenchmarkData {
 
-		@Param({"500"})
+		@Param({"500", "200000"})
 		public int capacity;
 		private final Function<String, String> generator = key -> key + "value";
 
@@ -80,6 +81,40 @@ public class ConcurrentReferenceHashMapBenchmark {
 		}
 	}
 
+	@Benchmark
+	public void concurrentOpenMap(ConcurrentOpenMapBenchmarkData data, Blackhole bh) {
+		for (String element : data.elements) {
+			WeakReference<String> value = data.map.get(element);
+			bh.consume(value);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class ConcurrentOpenMapBenchmarkData {
+
+		@Param({"500", "200000"})
+		public int capacity;
+
+		private final Function<String, String> generator = key -> key + "value";
+
+		public List<String> elements;
+
+		public Map<String, WeakReference<String>> map;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			this.elements = new ArrayList<>(this.capacity);
+			this.map = new ConcurrentReferenceOpenHashMap<>();
+			Random random = new Random();
+			random.ints(this.capacity).forEach(value -> {
+				String element = String.valueOf(value);
+				this.elements.add(element);
+				this.map.put(element, new WeakReference<>(this.generator.apply(element)));
+			});
+			this.elements.sort(String::compareTo);
+		}
+	}
+
 	@Benchmark
 	public void synchronizedMap(SynchronizedMapBenchmarkData data, Blackhole bh) {
 		for (String element : data.elements) {
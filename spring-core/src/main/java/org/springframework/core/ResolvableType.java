@@ -94,6 +94,13 @@ public class ResolvableType implements Serializable {
 	private static final ConcurrentReferenceHashMap<ResolvableType, ResolvableType> cache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	/**
+	 * Shared instances for types without type provider and variable resolver,
+	 * keyed by the type itself for lookups without allocation.
+	 */
+	private static final ConcurrentReferenceHashMap<Type, ResolvableType> internedTypes =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	/**
 	 * The underlying Java type being managed.
@@ -1044,7 +1051,16 @@ public class ResolvableType implements Serializable {
 	 * @see #forClassWithGenerics(Class, Class...)
 	 */
 	public static ResolvableType forClass(@Nullable Class<?> clazz) {
-		return new ResolvableType(clazz);
+		Class<?> classToUse = (clazz != null ? clazz : Object.class);
+		ResolvableType resolvableType = internedTypes.get(classToUse);
+		if (resolvableType == null) {
+			resolvableType = new ResolvableType(classToUse);
+			ResolvableType existing = internedTypes.putIfAbsent(classToUse, resolvableType);
+			if (existing != null) {
+				resolvableType = existing;
+			}
+		}
+		return resolvableType;
 	}
 
 	/**
@@ -1461,6 +1477,13 @@ public class ResolvableType implements Serializable {
 			return NONE;
 		}
 
+		// Without type provider and variable resolver, the type fully determines
+		// the ResolvableType - so share a single instance per type, including
+		// its lazily resolved super type, interfaces and generics...
+		if (typeProvider == null && variableResolver == null) {
+			return forInternedType(type);
+		}
+
 		// For simple Class references, build the wrapper right away -
 		// no expensive resolution necessary, so not worth caching...
 		if (type instanceof Class) {
@@ -1481,12 +1504,35 @@ public class ResolvableType implements Serializable {
 		return resultType;
 	}
 
+	/**
+	 * Return the shared {@code ResolvableType} for the specified {@link Type}
+	 * without type provider and variable resolver.
+	 * @param type the source type
+	 * @return the shared {@code ResolvableType} for the specified {@link Type}
+	 * @since 6.1
+	 */
+	private static ResolvableType forInternedType(Type type) {
+		if (type instanceof Class<?> clazz) {
+			return forClass(clazz);
+		}
+		ResolvableType resolvableType = internedTypes.get(type);
+		if (resolvableType == null) {
+			resolvableType = new ResolvableType(type, (ResolvableType) null, null, null);
+			ResolvableType existing = internedTypes.putIfAbsent(type, resolvableType);
+			if (existing != null) {
+				resolvableType = existing;
+			}
+		}
+		return resolvableType;
+	}
+
 	/**
 	 * Clear the internal {@code ResolvableType}/{@code SerializableTypeWrapper} cache.
 	 * @since 4.2
 	 */
 	public static void clearCache() {
 		cache.clear();
+		internedTypes.clear();
 		SerializableTypeWrapper.cache.clear();
 	}
 
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+/**
+ * Snapshot of the statistics recorded by the internal per-class annotation
+ * model cache, as returned by {@link AnnotationUtils#getCacheStatistics()}.
+ *
+ * @param hitCount the number of lookups that found a cached model
+ * @param missCount the number of lookups that created a new model
+ * @param evictionCount the number of models dropped when clearing the cache
+ * once its limit had been reached
+ * @author Spring Framework Team
+ * @since 6.1
+ * @see AnnotationUtils#getCacheStatistics()
+ */
+public record AnnotationCacheStatistics(long hitCount, long missCount, long evictionCount) {
+
+	/**
+	 * Return the number of lookups, i.e. hits and misses.
+	 */
+	public long requestCount() {
+		return this.hitCount + this.missCount;
+	}
+
+	/**
+	 * Return the ratio of lookups that found a cached model, or {@code 1.0}
+	 * if there were no lookups.
+	 */
+	public double hitRatio() {
+		long requestCount = requestCount();
+		return (requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount);
+	}
+
+}
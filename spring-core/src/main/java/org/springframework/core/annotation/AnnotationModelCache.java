@@ -0,0 +1,164 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.springframework.core.annotation.MergedAnnotations.Search;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Bounded, soft-referencing cache of per-class annotation models, shared by all callers that
+ * introspect the annotations of a {@link Class} with the default
+ * {@link AnnotationFilter#PLAIN PLAIN} filter: {@link MergedAnnotations#from}
+ * and therefore {@link AnnotationUtils}, {@link AnnotatedElementUtils} and
+ * reflection-based {@code AnnotationMetadata}, as well as the meta-annotation
+ * lookups of ASM-based {@code AnnotationMetadata}.
+ *
+ * <p>Each model holds the {@link MergedAnnotations} views of its class for
+ * each {@link SearchStrategy}, so that the annotations of a class hierarchy
+ * are only aggregated once, no matter how many components ask for them.
+ * Models are softly referenced, like the other annotation caches, so that
+ * they do not keep classes and their class loaders from being collected
+ * under memory pressure; all models are evicted once {@link #CACHE_LIMIT}
+ * classes are cached. Declared annotations and annotation type mappings
+ * remain cached by {@link AnnotationsScanner} and {@link AnnotationTypeMappings}.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ * @see AnnotationUtils#getCacheStatistics()
+ * @see AnnotationUtils#clearCache()
+ */
+final class AnnotationModelCache {
+
+	/**
+	 * The maximum number of classes for which an annotation model is cached.
+	 */
+	static final int CACHE_LIMIT = 1024;
+
+	private static final Map<Class<?>, AnnotationModel> cache = new ConcurrentReferenceHashMap<>(256);
+
+	private static final LongAdder hits = new LongAdder();
+
+	private static final LongAdder misses = new LongAdder();
+
+	private static final LongAdder evictions = new LongAdder();
+
+
+	private AnnotationModelCache() {
+	}
+
+
+	/**
+	 * Return the annotation model for the given class, creating it if necessary.
+	 * @param type the class to return the model for
+	 * @return the annotation model
+	 */
+	static AnnotationModel forClass(Class<?> type) {
+		AnnotationModel model = cache.get(type);
+		if (model != null) {
+			hits.increment();
+			return model;
+		}
+		misses.increment();
+		int size = cache.size();
+		if (size >= CACHE_LIMIT) {
+			// Too many classes introspected -> start over rather than growing further
+			cache.clear();
+			evictions.add(size);
+		}
+		model = new AnnotationModel(type);
+		AnnotationModel existing = cache.putIfAbsent(type, model);
+		return (existing != null ? existing : model);
+	}
+
+	/**
+	 * Determine whether {@link MergedAnnotations} created with the given
+	 * settings can be served from the cached annotation models.
+	 */
+	static boolean isCacheable(Predicate<Class<?>> searchEnclosingClass,
+			RepeatableContainers repeatableContainers, AnnotationFilter annotationFilter) {
+
+		return (searchEnclosingClass == Search.never && annotationFilter == AnnotationFilter.PLAIN &&
+				(repeatableContainers == RepeatableContainers.standardRepeatables() ||
+						repeatableContainers == RepeatableContainers.none()));
+	}
+
+	/**
+	 * Return the hit, miss and eviction counts of the cache.
+	 */
+	static AnnotationCacheStatistics getStatistics() {
+		return new AnnotationCacheStatistics(hits.sum(), misses.sum(), evictions.sum());
+	}
+
+	/**
+	 * Return the number of cached annotation models.
+	 */
+	static int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Clear all cached annotation models.
+	 */
+	static void clear() {
+		cache.clear();
+	}
+
+
+	/**
+	 * Annotation model for a single class. Each view is created lazily:
+	 * concurrent creations of the same view may happen but are harmless,
+	 * since they produce equivalent results.
+	 */
+	static final class AnnotationModel {
+
+		private final Class<?> type;
+
+		private final MergedAnnotations[] standardRepeatables = new MergedAnnotations[SearchStrategy.values().length];
+
+		private final MergedAnnotations[] noRepeatables = new MergedAnnotations[SearchStrategy.values().length];
+
+		AnnotationModel(Class<?> type) {
+			this.type = type;
+		}
+
+		/**
+		 * Return the {@link MergedAnnotations} of the class for the given search
+		 * strategy and repeatable containers, using the
+		 * {@link AnnotationFilter#PLAIN PLAIN} filter.
+		 */
+		MergedAnnotations getMergedAnnotations(SearchStrategy searchStrategy,
+				RepeatableContainers repeatableContainers) {
+
+			MergedAnnotations[] mergedAnnotations = (repeatableContainers == RepeatableContainers.none() ?
+					this.noRepeatables : this.standardRepeatables);
+			int index = searchStrategy.ordinal();
+			MergedAnnotations result = mergedAnnotations[index];
+			if (result == null) {
+				result = TypeMappedAnnotations.create(this.type, searchStrategy, Search.never,
+						repeatableContainers, AnnotationFilter.PLAIN);
+				mergedAnnotations[index] = result;
+			}
+			return result;
+		}
+	}
+
+}
@@ -1319,11 +1319,30 @@ public abstract class AnnotationUtils {
 		}
 	}
 
+	/**
+	 * Return the hit, miss and eviction counts of the internal per-class
+	 * annotation model cache since it was created.
+	 * <p>The model cache is bounded: all models are evicted once annotations
+	 * of too many classes have been introspected. Models are also released
+	 * under memory pressure, which is not reflected in the eviction count.
+	 * @return the statistics of the annotation model cache
+	 * @since 6.1
+	 * @see #clearCache()
+	 */
+	public static AnnotationCacheStatistics getCacheStatistics() {
+		return AnnotationModelCache.getStatistics();
+	}
+
 	/**
 	 * Clear the internal annotation metadata cache.
+	 * <p>As of 6.1, this includes the per-class annotation model cache that
+	 * is shared by {@link MergedAnnotations}, {@link AnnotatedElementUtils}
+	 * and reflection-based {@code AnnotationMetadata}.
 	 * @since 4.3.15
+	 * @see #getCacheStatistics()
 	 */
 	public static void clearCache() {
+		AnnotationModelCache.clear();
 		AnnotationTypeMappings.clearCache();
 		AnnotationsScanner.clearCache();
 		AttributeMethods.cache.clear();
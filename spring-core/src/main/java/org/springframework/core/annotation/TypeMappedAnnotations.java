@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -256,6 +256,17 @@ final class TypeMappedAnnotations implements MergedAnnotations {
 			Predicate<Class<?>> searchEnclosingClass, RepeatableContainers repeatableContainers,
 			AnnotationFilter annotationFilter) {
 
+		if (element instanceof Class<?> type &&
+				AnnotationModelCache.isCacheable(searchEnclosingClass, repeatableContainers, annotationFilter)) {
+			return AnnotationModelCache.forClass(type).getMergedAnnotations(searchStrategy, repeatableContainers);
+		}
+		return create(element, searchStrategy, searchEnclosingClass, repeatableContainers, annotationFilter);
+	}
+
+	static MergedAnnotations create(AnnotatedElement element, SearchStrategy searchStrategy,
+			Predicate<Class<?>> searchEnclosingClass, RepeatableContainers repeatableContainers,
+			AnnotationFilter annotationFilter) {
+
 		if (AnnotationsScanner.isKnownEmpty(element, searchStrategy, searchEnclosingClass)) {
 			return NONE;
 		}
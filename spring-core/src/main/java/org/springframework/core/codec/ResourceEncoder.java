@@ -44,6 +44,15 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	 */
 	public static final int DEFAULT_BUFFER_SIZE = StreamUtils.BUFFER_SIZE;
 
+	/**
+	 * The hint key for a {@code Boolean} that indicates whether file-based
+	 * resources should be read through memory-mapped regions rather than
+	 * copied into allocated buffers.
+	 * @since 6.1
+	 * @see DataBufferUtils#readMapped(Resource, long, long, DataBufferFactory, int)
+	 */
+	public static final String MEMORY_MAPPED_HINT = ResourceEncoder.class.getName() + ".memoryMapped";
+
 	private final int bufferSize;
 
 
@@ -72,6 +81,9 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 			String logPrefix = Hints.getLogPrefix(hints);
 			logger.debug(logPrefix + "Writing [" + resource + "]");
 		}
+		if (hints != null && Boolean.TRUE.equals(hints.get(MEMORY_MAPPED_HINT))) {
+			return DataBufferUtils.readMapped(resource, 0, Long.MAX_VALUE, bufferFactory, this.bufferSize);
+		}
 		return DataBufferUtils.read(resource, bufferFactory, this.bufferSize);
 	}
 
@@ -16,6 +16,7 @@
 
 package org.springframework.core.codec;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -31,6 +32,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.FileRegionDataBuffer;
 import org.springframework.core.io.support.ResourceRegion;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -56,6 +58,15 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 	 */
 	public static final String BOUNDARY_STRING_HINT = ResourceRegionEncoder.class.getName() + ".boundaryString";
 
+	/**
+	 * The hint key for a {@code Boolean} that indicates whether regions of
+	 * file-based resources may be encoded as {@link FileRegionDataBuffer}
+	 * instances rather than read into memory. To be set only when the
+	 * consumer of the encoded buffers supports file regions.
+	 * @since 6.1
+	 */
+	public static final String FILE_REGION_HINT = ResourceRegionEncoder.class.getName() + ".fileRegion";
+
 	private final int bufferSize;
 
 
@@ -129,7 +140,20 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 					"Writing region " + position + "-" + (position + count) + " of [" + resource + "]");
 		}
 
-		Flux<DataBuffer> in = DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize);
+		if (hints != null && Boolean.TRUE.equals(hints.get(FILE_REGION_HINT)) && resource.isFile()) {
+			try {
+				File file = resource.getFile();
+				long length = Math.max(0, Math.min(count, file.length() - position));
+				return Flux.just(new FileRegionDataBuffer(file.toPath(), position, length));
+			}
+			catch (IOException ex) {
+				// fall back to reading the region
+			}
+		}
+
+		Flux<DataBuffer> in = (hints != null && Boolean.TRUE.equals(hints.get(ResourceEncoder.MEMORY_MAPPED_HINT)) ?
+				DataBufferUtils.readMapped(resource, position, count, bufferFactory, this.bufferSize) :
+				DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize));
 		if (logger.isDebugEnabled()) {
 			in = in.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger));
 		}
@@ -16,7 +16,9 @@
 
 package org.springframework.core.convert;
 
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * A service interface for type conversion. This is the entry point into the convert system.
@@ -108,4 +110,50 @@ public interface ConversionService {
 	@Nullable
 	Object convert(@Nullable Object source, @Nullable TypeDescriptor sourceType, TypeDescriptor targetType);
 
+	/**
+	 * Resolve a {@link Converter} from {@code sourceType} to {@code targetType}
+	 * that callers can hold onto for repeated conversions between these types.
+	 * <p>Delegates to {@link #resolveConverter(TypeDescriptor, TypeDescriptor)}.
+	 * @param sourceType the source type to convert from (required)
+	 * @param targetType the target type to convert to (required)
+	 * @return a converter for non-null instances of {@code sourceType}
+	 * @throws ConverterNotFoundException if no conversion between the given
+	 * types is available
+	 * @throws IllegalArgumentException if either type is {@code null}
+	 * @since 6.1
+	 */
+	@SuppressWarnings("unchecked")
+	default <S, T> Converter<S, T> resolveConverter(Class<S> sourceType, Class<T> targetType) {
+		Assert.notNull(sourceType, "Source type to convert from cannot be null");
+		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		return (Converter<S, T>) resolveConverter(TypeDescriptor.valueOf(sourceType), TypeDescriptor.valueOf(targetType));
+	}
+
+	/**
+	 * Resolve a {@link Converter} from {@code sourceType} to {@code targetType}
+	 * that callers can hold onto for repeated conversions between these types,
+	 * e.g. per bound property or per result set column.
+	 * <p>The returned converter behaves like {@link #convert(Object, TypeDescriptor, TypeDescriptor)}
+	 * for non-null sources. The default implementation simply delegates to that
+	 * method for each conversion; implementations may determine a more direct
+	 * conversion path upfront, avoiding the converter lookup per invocation.
+	 * Note that such a converter is not affected by converters registered
+	 * after it has been resolved.
+	 * @param sourceType context about the source type to convert from (required)
+	 * @param targetType context about the target type to convert to (required)
+	 * @return a converter for non-null instances of {@code sourceType}
+	 * @throws ConverterNotFoundException if no conversion between the given
+	 * types is available
+	 * @throws IllegalArgumentException if either type is {@code null}
+	 * @since 6.1
+	 */
+	default Converter<Object, Object> resolveConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		Assert.notNull(sourceType, "Source type to convert from cannot be null");
+		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		if (!canConvert(sourceType, targetType)) {
+			throw new ConverterNotFoundException(sourceType, targetType);
+		}
+		return source -> convert(source, sourceType, targetType);
+	}
+
 }
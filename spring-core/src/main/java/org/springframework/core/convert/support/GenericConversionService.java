@@ -185,6 +185,26 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return handleConverterNotFound(source, sourceType, targetType);
 	}
 
+	/**
+	 * Resolve a {@link Converter} from {@code sourceType} to {@code targetType},
+	 * determining the matching converter once instead of on every conversion.
+	 * <p>Converters registered as {@link Converter} or {@link ConverterFactory}
+	 * are invoked directly, and conventions-based conversions through a
+	 * to-method, static factory method, or factory constructor are invoked
+	 * through a {@link java.lang.invoke.MethodHandle} rather than reflection.
+	 * @since 6.1
+	 */
+	@Override
+	public Converter<Object, Object> resolveConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		Assert.notNull(sourceType, "Source type to convert from cannot be null");
+		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		GenericConverter converter = getConverter(sourceType, targetType);
+		if (converter == null) {
+			throw new ConverterNotFoundException(sourceType, targetType);
+		}
+		return new ResolvedConverter(getDirectConverter(converter, sourceType, targetType), sourceType, targetType);
+	}
+
 	@Override
 	public String toString() {
 		return this.converters.toString();
@@ -275,6 +295,30 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return generics;
 	}
 
+	@SuppressWarnings("unchecked")
+	private Converter<Object, Object> getDirectConverter(
+			GenericConverter converter, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+		if (converter == NO_OP_CONVERTER) {
+			return source -> source;
+		}
+		if (converter instanceof ConverterAdapter converterAdapter) {
+			return converterAdapter.converter;
+		}
+		if (converter instanceof ConverterFactoryAdapter converterFactoryAdapter) {
+			Converter<?, ?> factoryConverter = converterFactoryAdapter.converterFactory.getConverter(targetType.getObjectType());
+			return (Converter<Object, Object>) factoryConverter;
+		}
+		if (converter instanceof ObjectToObjectConverter) {
+			Converter<Object, Object> methodHandleConverter =
+					ObjectToObjectConverter.resolveConverter(sourceType, targetType);
+			if (methodHandleConverter != null) {
+				return methodHandleConverter;
+			}
+		}
+		return source -> converter.convert(source, sourceType, targetType);
+	}
+
 	private void invalidateCache() {
 		this.converterCache.clear();
 	}
@@ -416,6 +460,56 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * {@link Converter} resolved for a specific source/target type pair,
+	 * applying the same validation and exception handling as
+	 * {@link GenericConversionService#convert(Object, TypeDescriptor, TypeDescriptor)}.
+	 */
+	private static final class ResolvedConverter implements Converter<Object, Object> {
+
+		private final Converter<Object, Object> converter;
+
+		private final TypeDescriptor sourceType;
+
+		private final TypeDescriptor targetType;
+
+		public ResolvedConverter(Converter<Object, Object> converter, TypeDescriptor sourceType, TypeDescriptor targetType) {
+			this.converter = converter;
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+
+		@Override
+		@Nullable
+		public Object convert(Object source) {
+			if (!this.sourceType.getObjectType().isInstance(source)) {
+				throw new IllegalArgumentException("Source to convert from must be an instance of [" +
+						this.sourceType + "]; instead it was a [" + source.getClass().getName() + "]");
+			}
+			Object result;
+			try {
+				result = this.converter.convert(source);
+			}
+			catch (ConversionFailedException ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new ConversionFailedException(this.sourceType, this.targetType, source, ex);
+			}
+			if (result == null && this.targetType.isPrimitive()) {
+				throw new ConversionFailedException(this.sourceType, this.targetType, null,
+						new IllegalArgumentException("A null value cannot be assigned to a primitive type"));
+			}
+			return result;
+		}
+
+		@Override
+		public String toString() {
+			return this.sourceType + " -> " + this.targetType + " : " + this.converter;
+		}
+	}
+
+
 	/**
 	 * Key for use with the converter cache.
 	 */
@@ -16,6 +16,9 @@
 
 package org.springframework.core.convert.support;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
@@ -28,6 +31,7 @@ import java.util.Set;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
@@ -129,6 +133,41 @@ final class ObjectToObjectConverter implements ConditionalGenericConverter {
 	}
 
 
+	/**
+	 * Resolve a {@link Converter} for the given types that invokes the to-method,
+	 * static factory method, or factory constructor through a pre-adapted
+	 * {@link MethodHandle} instead of reflection.
+	 * @param sourceType the source type to convert from
+	 * @param targetType the target type to convert to
+	 * @return the converter, or {@code null} if no applicable conversion method
+	 * or constructor exists or it cannot be accessed through a method handle
+	 * @since 6.1
+	 */
+	@Nullable
+	static Converter<Object, Object> resolveConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		Executable executable = getValidatedExecutable(targetType.getType(), sourceType.getType());
+		try {
+			MethodHandle methodHandle;
+			if (executable instanceof Method method) {
+				ReflectionUtils.makeAccessible(method);
+				methodHandle = MethodHandles.lookup().unreflect(method);
+			}
+			else if (executable instanceof Constructor<?> constructor) {
+				ReflectionUtils.makeAccessible(constructor);
+				methodHandle = MethodHandles.lookup().unreflectConstructor(constructor);
+			}
+			else {
+				return null;
+			}
+			return new MethodHandleConverter(
+					methodHandle.asType(MethodType.methodType(Object.class, Object.class)), sourceType, targetType);
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			// Fall back to reflective invocation
+			return null;
+		}
+	}
+
 	static boolean hasConversionMethodOrConstructor(Class<?> targetClass, Class<?> sourceClass) {
 		return (getValidatedExecutable(targetClass, sourceClass) != null);
 	}
@@ -214,4 +253,40 @@ final class ObjectToObjectConverter implements ConditionalGenericConverter {
 		return ClassUtils.getConstructorIfAvailable(targetClass, sourceClass);
 	}
 
+
+	/**
+	 * {@link Converter} invoking a to-method, static factory method, or factory
+	 * constructor through a {@link MethodHandle} of type {@code (Object)Object}.
+	 */
+	private static final class MethodHandleConverter implements Converter<Object, Object> {
+
+		private final MethodHandle methodHandle;
+
+		private final TypeDescriptor sourceType;
+
+		private final TypeDescriptor targetType;
+
+		MethodHandleConverter(MethodHandle methodHandle, TypeDescriptor sourceType, TypeDescriptor targetType) {
+			this.methodHandle = methodHandle;
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+
+		@Override
+		@Nullable
+		public Object convert(Object source) {
+			try {
+				return (Object) this.methodHandle.invokeExact(source);
+			}
+			catch (Throwable ex) {
+				throw new ConversionFailedException(this.sourceType, this.targetType, source, ex);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return this.methodHandle.toString();
+		}
+	}
+
 }
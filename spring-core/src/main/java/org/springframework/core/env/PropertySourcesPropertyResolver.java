@@ -16,12 +16,21 @@
 
 package org.springframework.core.env;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.lang.Nullable;
 
 /**
  * {@link PropertyResolver} implementation that resolves property values against
  * an underlying set of {@link PropertySources}.
  *
+ * <p>Resolved values may optionally be cached per key and target type through
+ * {@link #setCacheResolvedProperties}, avoiding repeated iteration over all
+ * property sources, placeholder resolution and type conversion for frequently
+ * requested keys.
+ *
  * @author Chris Beams
  * @author Juergen Hoeller
  * @since 3.1
@@ -34,6 +43,12 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	@Nullable
 	private final PropertySources propertySources;
 
+	private boolean cacheResolvedProperties = false;
+
+	private final Map<CacheKey, CachedValue> resolvedPropertyCache = new ConcurrentHashMap<>(64);
+
+	private volatile int cacheVersion;
+
 
 	/**
 	 * Create a new resolver against the given property sources.
@@ -44,6 +59,77 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	}
 
 
+	/**
+	 * Set whether to cache resolved property values per key and target type,
+	 * including the absence of a value.
+	 * <p>Default is "false". Switch this flag to "true" when property values are
+	 * requested repeatedly at runtime, e.g. for {@code @Value} injection into
+	 * request-scoped beans. The cache is invalidated automatically whenever the
+	 * underlying {@link MutablePropertySources} are modified, or when the
+	 * conversion service or placeholder handling of this resolver changes.
+	 * Changes to the content of an individual {@link PropertySource}, such as
+	 * system properties being set after startup, are not detected: call
+	 * {@link #clearCache()} after such changes.
+	 * <p>Note that cached values are shared between callers, so converted values
+	 * of mutable types such as arrays should not be modified.
+	 * @since 6.1
+	 * @see #clearCache()
+	 */
+	public void setCacheResolvedProperties(boolean cacheResolvedProperties) {
+		this.cacheResolvedProperties = cacheResolvedProperties;
+		clearCache();
+	}
+
+	/**
+	 * Return whether resolved property values are cached.
+	 * @since 6.1
+	 */
+	public boolean isCacheResolvedProperties() {
+		return this.cacheResolvedProperties;
+	}
+
+	/**
+	 * Clear the resolved property cache, e.g. after the content of one of the
+	 * underlying property sources has changed.
+	 * @since 6.1
+	 * @see #setCacheResolvedProperties
+	 */
+	public void clearCache() {
+		this.cacheVersion++;
+		this.resolvedPropertyCache.clear();
+	}
+
+	@Override
+	public void setConversionService(ConfigurableConversionService conversionService) {
+		super.setConversionService(conversionService);
+		clearCache();
+	}
+
+	@Override
+	public void setIgnoreUnresolvableNestedPlaceholders(boolean ignoreUnresolvableNestedPlaceholders) {
+		super.setIgnoreUnresolvableNestedPlaceholders(ignoreUnresolvableNestedPlaceholders);
+		clearCache();
+	}
+
+	@Override
+	public void setPlaceholderPrefix(String placeholderPrefix) {
+		super.setPlaceholderPrefix(placeholderPrefix);
+		clearCache();
+	}
+
+	@Override
+	public void setPlaceholderSuffix(String placeholderSuffix) {
+		super.setPlaceholderSuffix(placeholderSuffix);
+		clearCache();
+	}
+
+	@Override
+	public void setValueSeparator(@Nullable String valueSeparator) {
+		super.setValueSeparator(valueSeparator);
+		clearCache();
+	}
+
+
 	@Override
 	public boolean containsProperty(String key) {
 		if (this.propertySources != null) {
@@ -75,7 +161,31 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	}
 
 	@Nullable
+	@SuppressWarnings("unchecked")
 	protected <T> T getProperty(String key, Class<T> targetValueType, boolean resolveNestedPlaceholders) {
+		if (!this.cacheResolvedProperties) {
+			return doGetProperty(key, targetValueType, resolveNestedPlaceholders);
+		}
+		int cacheVersion = this.cacheVersion;
+		int modificationCount = getModificationCount();
+		CacheKey cacheKey = new CacheKey(key, targetValueType, resolveNestedPlaceholders);
+		CachedValue cachedValue = this.resolvedPropertyCache.get(cacheKey);
+		if (cachedValue != null && cachedValue.cacheVersion() == cacheVersion &&
+				cachedValue.modificationCount() == modificationCount) {
+			return (T) cachedValue.value();
+		}
+		T value = doGetProperty(key, targetValueType, resolveNestedPlaceholders);
+		this.resolvedPropertyCache.put(cacheKey, new CachedValue(value, cacheVersion, modificationCount));
+		return value;
+	}
+
+	private int getModificationCount() {
+		return (this.propertySources instanceof MutablePropertySources mutablePropertySources ?
+				mutablePropertySources.getModificationCount() : 0);
+	}
+
+	@Nullable
+	private <T> T doGetProperty(String key, Class<T> targetValueType, boolean resolveNestedPlaceholders) {
 		if (this.propertySources != null) {
 			for (PropertySource<?> propertySource : this.propertySources) {
 				if (logger.isTraceEnabled()) {
@@ -117,4 +227,12 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 		}
 	}
 
+
+	private record CacheKey(String key, Class<?> targetType, boolean resolveNestedPlaceholders) {
+	}
+
+
+	private record CachedValue(@Nullable Object value, int cacheVersion, int modificationCount) {
+	}
+
 }
@@ -20,11 +20,15 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
@@ -70,6 +74,8 @@ public abstract class DataBufferUtils {
 
 	private static final int DEFAULT_CHUNK_SIZE = 1024;
 
+	private static final long MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+
 
 
 	//---------------------------------------------------------------------
@@ -238,6 +244,75 @@ public abstract class DataBufferUtils {
 		return position == 0 ? result : skipUntilByteCount(result, position);
 	}
 
+	/**
+	 * Read the given file {@code Path} into a {@code Flux} of {@code DataBuffer}s
+	 * that are backed by memory-mapped regions of the file, starting at the
+	 * given position and reading at most the given number of bytes. The buffers
+	 * are obtained through {@link DataBufferFactory#wrap(ByteBuffer)}, so that
+	 * the content of the file is not copied onto the heap. The file is mapped in
+	 * regions of at most 64 MB, never beyond the requested byte count, and the
+	 * channel is closed when the flux is terminated.
+	 * <p>Note that the mapped regions themselves are unmapped by the JVM once
+	 * they are no longer referenced, i.e. once all buffers are released and
+	 * garbage collected. This mode is therefore best suited for large files
+	 * that are served repeatedly and benefit from the OS page cache.
+	 * @param path the path to read bytes from
+	 * @param position the position to start reading from
+	 * @param count the maximum number of bytes to read, or {@link Long#MAX_VALUE}
+	 * to read until the end of the file
+	 * @param bufferFactory the factory to wrap the mapped regions with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers backed by memory-mapped file regions
+	 * @since 6.1
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Path path, long position, long count, DataBufferFactory bufferFactory, int bufferSize) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(count >= 0, "'count' must be >= 0");
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be > 0");
+
+		return Flux.using(() -> FileChannel.open(path, StandardOpenOption.READ),
+				channel -> Flux.generate(
+						new MappedFileChannelGenerator(channel, position, count, bufferFactory, bufferSize)),
+				DataBufferUtils::closeChannel);
+
+		// No doOnDiscard as operators used do not cache
+	}
+
+	/**
+	 * Read the given {@code Resource} into a {@code Flux} of {@code DataBuffer}s
+	 * that are backed by memory-mapped regions of the file, starting at the
+	 * given position and reading at most the given number of bytes.
+	 * <p>If the resource is a file, it is read via
+	 * {@link #readMapped(Path, long, long, DataBufferFactory, int)}, or else this
+	 * method falls back on {@link #read(Resource, long, DataBufferFactory, int)}.
+	 * @param resource the resource to read from
+	 * @param position the position to start reading from
+	 * @param count the maximum number of bytes to read, or {@link Long#MAX_VALUE}
+	 * to read until the end of the resource
+	 * @param bufferFactory the factory to create data buffers with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers read from the given resource
+	 * @since 6.1
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Resource resource, long position, long count, DataBufferFactory bufferFactory, int bufferSize) {
+
+		try {
+			if (resource.isFile()) {
+				return readMapped(resource.getFile().toPath(), position, count, bufferFactory, bufferSize);
+			}
+		}
+		catch (IOException ignore) {
+			// fallback to read(Resource...), below
+		}
+		Flux<DataBuffer> result = read(resource, position, bufferFactory, bufferSize);
+		return (count == Long.MAX_VALUE ? result : takeUntilByteCount(result, count));
+	}
+
 
 	//---------------------------------------------------------------------
 	// Writing
@@ -273,6 +348,8 @@ public abstract class DataBufferUtils {
 	 * {@linkplain #release(DataBuffer) release} the data buffers in the source.
 	 * If releasing is required, then subscribe to the returned {@code Flux}
 	 * with a {@link #releaseConsumer()}.
+	 * <p>{@link FileRegionDataBuffer File regions} in the source are transferred
+	 * to the channel directly from their file, without being read into memory.
 	 * <p>Note that the writing process does not start until the returned
 	 * {@code Flux} is subscribed to.
 	 * @param source the stream of data buffers to be written
@@ -759,10 +836,13 @@ public abstract class DataBufferUtils {
 
 		private final NestedMatcher[] matchers;
 
+		private final ByteCandidates candidates;
+
 		byte[] longestDelimiter = NO_DELIMITER;
 
 		CompositeMatcher(byte[][] delimiters) {
 			this.matchers = initMatchers(delimiters);
+			this.candidates = new ByteCandidates(delimiters);
 		}
 
 		private static NestedMatcher[] initMatchers(byte[][] delimiters) {
@@ -778,6 +858,15 @@ public abstract class DataBufferUtils {
 			this.longestDelimiter = NO_DELIMITER;
 
 			for (int pos = dataBuffer.readPosition(); pos < dataBuffer.writePosition(); pos++) {
+				int next = this.candidates.indexOf(dataBuffer, pos);
+				if (next != pos) {
+					// Skipped bytes that are not part of any delimiter
+					reset();
+					if (next == -1) {
+						return -1;
+					}
+					pos = next;
+				}
 				byte b = dataBuffer.getByte(pos);
 
 				for (NestedMatcher matcher : this.matchers) {
@@ -833,20 +922,17 @@ public abstract class DataBufferUtils {
 
 		private final byte[] delimiter;
 
+		private final ByteCandidates candidates;
+
 		SingleByteMatcher(byte[] delimiter) {
 			Assert.isTrue(delimiter.length == 1, "Expected a 1 byte delimiter");
 			this.delimiter = delimiter;
+			this.candidates = new ByteCandidates(delimiter);
 		}
 
 		@Override
 		public int match(DataBuffer dataBuffer) {
-			for (int pos = dataBuffer.readPosition(); pos < dataBuffer.writePosition(); pos++) {
-				byte b = dataBuffer.getByte(pos);
-				if (match(b)) {
-					return pos;
-				}
-			}
-			return -1;
+			return this.candidates.indexOf(dataBuffer, dataBuffer.readPosition());
 		}
 
 		@Override
@@ -872,11 +958,14 @@ public abstract class DataBufferUtils {
 
 		private final byte[] delimiter;
 
+		private final ByteCandidates candidates;
+
 		private int matches = 0;
 
 
 		protected AbstractNestedMatcher(byte[] delimiter) {
 			this.delimiter = delimiter;
+			this.candidates = new ByteCandidates(delimiter);
 		}
 
 		protected void setMatches(int index) {
@@ -890,6 +979,15 @@ public abstract class DataBufferUtils {
 		@Override
 		public int match(DataBuffer dataBuffer) {
 			for (int pos = dataBuffer.readPosition(); pos < dataBuffer.writePosition(); pos++) {
+				int next = this.candidates.indexOf(dataBuffer, pos);
+				if (next != pos) {
+					// Skipped bytes that are not part of the delimiter
+					reset();
+					if (next == -1) {
+						return -1;
+					}
+					pos = next;
+				}
 				byte b = dataBuffer.getByte(pos);
 				if (match(b)) {
 					reset();
@@ -905,6 +1003,7 @@ public abstract class DataBufferUtils {
 				this.matches++;
 				return (this.matches == delimiter().length);
 			}
+			this.matches = (b == this.delimiter[0] ? 1 : 0);
 			return false;
 		}
 
@@ -972,6 +1071,153 @@ public abstract class DataBufferUtils {
 	}
 
 
+	/**
+	 * Set of bytes that can start or continue a delimiter match, used to skip
+	 * over all other bytes. Up to 4 distinct bytes are searched for 8 bytes at
+	 * a time (SWAR), with a byte-by-byte scan for short ranges and larger sets.
+	 */
+	private static final class ByteCandidates {
+
+		private static final int MAX_SWAR_CANDIDATES = 4;
+
+		private static final int MIN_SWAR_LENGTH = 16;
+
+		private static final long ONES = 0x0101010101010101L;
+
+		private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+		private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+		private final boolean[] table = new boolean[256];
+
+		@Nullable
+		private final long[] patterns;
+
+		ByteCandidates(byte[]... delimiters) {
+			int count = 0;
+			for (byte[] delimiter : delimiters) {
+				for (byte b : delimiter) {
+					if (!this.table[b & 0xFF]) {
+						this.table[b & 0xFF] = true;
+						count++;
+					}
+				}
+			}
+			if (count <= MAX_SWAR_CANDIDATES) {
+				this.patterns = new long[count];
+				int i = 0;
+				for (int b = 0; b < this.table.length; b++) {
+					if (this.table[b]) {
+						this.patterns[i++] = ONES * b;
+					}
+				}
+			}
+			else {
+				this.patterns = null;
+			}
+		}
+
+		/**
+		 * Return the index of the first candidate byte in the given buffer at
+		 * or after {@code fromIndex}, or -1 if there is none.
+		 */
+		int indexOf(DataBuffer dataBuffer, int fromIndex) {
+			int end = dataBuffer.writePosition();
+			if (this.patterns == null || end - fromIndex < MIN_SWAR_LENGTH) {
+				for (int pos = fromIndex; pos < end; pos++) {
+					if (this.table[dataBuffer.getByte(pos) & 0xFF]) {
+						return pos;
+					}
+				}
+				return -1;
+			}
+			DefaultDataBuffer defaultDataBuffer = (dataBuffer instanceof PooledDefaultDataBuffer pooled ?
+					pooled.delegate() : (dataBuffer instanceof DefaultDataBuffer defaultBuffer ? defaultBuffer : null));
+			if (defaultDataBuffer != null) {
+				// Indexes of the underlying buffer match those of the data buffer: no need to iterate
+				ByteBuffer byteBuffer = defaultDataBuffer.getByteBuffer();
+				return (byteBuffer.hasArray() ?
+						indexOf(byteBuffer.array(), byteBuffer.arrayOffset(), fromIndex, end) :
+						indexOf(byteBuffer, fromIndex, end));
+			}
+			int offset = dataBuffer.readPosition();
+			try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+				while (iterator.hasNext()) {
+					ByteBuffer byteBuffer = iterator.next();
+					int start = byteBuffer.position();
+					int length = byteBuffer.remaining();
+					if (fromIndex < offset + length) {
+						int from = start + Math.max(fromIndex - offset, 0);
+						int index = indexOf(byteBuffer, from, byteBuffer.limit());
+						if (index != -1) {
+							return offset + index - start;
+						}
+					}
+					offset += length;
+				}
+			}
+			return -1;
+		}
+
+		private int indexOf(ByteBuffer byteBuffer, int from, int limit) {
+			boolean bigEndian = (byteBuffer.order() == ByteOrder.BIG_ENDIAN);
+			int pos = from;
+			for (; pos + Long.BYTES <= limit; pos += Long.BYTES) {
+				long found = candidateBytes(byteBuffer.getLong(pos));
+				if (found != 0) {
+					int bits = (bigEndian ? Long.numberOfLeadingZeros(found) : Long.numberOfTrailingZeros(found));
+					return pos + bits / Byte.SIZE;
+				}
+			}
+			for (; pos < limit; pos++) {
+				if (this.table[byteBuffer.get(pos) & 0xFF]) {
+					return pos;
+				}
+			}
+			return -1;
+		}
+
+		private int indexOf(byte[] array, int arrayOffset, int from, int limit) {
+			int pos = from;
+			for (; pos + Long.BYTES <= limit; pos += Long.BYTES) {
+				long found = candidateBytes((long) LONG_VIEW.get(array, arrayOffset + pos));
+				if (found != 0) {
+					return pos + Long.numberOfLeadingZeros(found) / Byte.SIZE;
+				}
+			}
+			for (; pos < limit; pos++) {
+				if (this.table[array[arrayOffset + pos] & 0xFF]) {
+					return pos;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Return a word with the high bit set in exactly those bytes of the
+		 * given word that are candidates.
+		 */
+		private long candidateBytes(long word) {
+			long[] patterns = this.patterns;
+			Assert.state(patterns != null, "No patterns");
+			long found = 0;
+			for (long pattern : patterns) {
+				found |= zeroBytes(word ^ pattern);
+			}
+			return found;
+		}
+
+		/**
+		 * Return a word with the high bit set in exactly those bytes of the
+		 * given word that are zero.
+		 */
+		private static long zeroBytes(long word) {
+			long result = (word & LOW_SEVEN_BITS) + LOW_SEVEN_BITS;
+			return ~(result | word | LOW_SEVEN_BITS);
+		}
+	}
+
+
 	private static class ReadableByteChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
 
 		private final ReadableByteChannel channel;
@@ -1018,6 +1264,59 @@ public abstract class DataBufferUtils {
 	}
 
 
+	private static class MappedFileChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
+
+		private final FileChannel channel;
+
+		private final DataBufferFactory dataBufferFactory;
+
+		private final int bufferSize;
+
+		private long position;
+
+		private long remaining;
+
+		@Nullable
+		private ByteBuffer region;
+
+		public MappedFileChannelGenerator(FileChannel channel, long position, long count,
+				DataBufferFactory dataBufferFactory, int bufferSize) {
+
+			this.channel = channel;
+			this.position = position;
+			this.remaining = count;
+			this.dataBufferFactory = dataBufferFactory;
+			this.bufferSize = bufferSize;
+		}
+
+		@Override
+		public void accept(SynchronousSink<DataBuffer> sink) {
+			try {
+				ByteBuffer region = this.region;
+				if (region == null || !region.hasRemaining()) {
+					long size = Math.min(Math.min(this.channel.size() - this.position, MAPPED_REGION_SIZE),
+							this.remaining);
+					if (size <= 0) {
+						sink.complete();
+						return;
+					}
+					region = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, size);
+					this.region = region;
+					this.position += size;
+					this.remaining -= size;
+				}
+				int length = Math.min(region.remaining(), this.bufferSize);
+				ByteBuffer slice = region.slice(region.position(), length);
+				region.position(region.position() + length);
+				sink.next(this.dataBufferFactory.wrap(slice));
+			}
+			catch (IOException ex) {
+				sink.error(ex);
+			}
+		}
+	}
+
+
 	private static class ReadCompletionHandler implements CompletionHandler<Integer, ReadCompletionHandler.Attachment> {
 
 		private final AsynchronousFileChannel channel;
@@ -1150,10 +1449,15 @@ public abstract class DataBufferUtils {
 		@Override
 		protected void hookOnNext(DataBuffer dataBuffer) {
 			try {
-				try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
-					ByteBuffer byteBuffer = iterator.next();
-					while (byteBuffer.hasRemaining()) {
-						this.channel.write(byteBuffer);
+				if (dataBuffer instanceof FileRegionDataBuffer fileRegion) {
+					fileRegion.transferTo(this.channel);
+				}
+				else {
+					try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+						ByteBuffer byteBuffer = iterator.next();
+						while (byteBuffer.hasRemaining()) {
+							this.channel.write(byteBuffer);
+						}
 					}
 				}
 				this.sink.next(dataBuffer);
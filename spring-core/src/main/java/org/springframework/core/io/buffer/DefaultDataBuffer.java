@@ -90,6 +90,14 @@ public class DefaultDataBuffer implements DataBuffer {
 		return this.byteBuffer;
 	}
 
+	/**
+	 * Return the underlying {@code ByteBuffer} for absolute reads at the
+	 * indexes of this buffer, leaving its position and limit untouched.
+	 */
+	ByteBuffer getByteBuffer() {
+		return this.byteBuffer;
+	}
+
 	private void setNativeBuffer(ByteBuffer byteBuffer) {
 		this.byteBuffer = byteBuffer;
 		this.capacity = byteBuffer.remaining();
@@ -416,8 +424,7 @@ public class DefaultDataBuffer implements DataBuffer {
 
 	@Override
 	public DataBuffer.ByteBufferIterator readableByteBuffers() {
-		ByteBuffer readOnly = this.byteBuffer.asReadOnlyBuffer();
-		readOnly.clear().position(this.readPosition).limit(this.writePosition - this.readPosition);
+		ByteBuffer readOnly = this.byteBuffer.slice(this.readPosition, readableByteCount()).asReadOnlyBuffer();
 		return new ByteBufferIterator(readOnly);
 	}
 
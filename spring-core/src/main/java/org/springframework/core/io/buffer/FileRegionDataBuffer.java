@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link DataBuffer} that stands in for a region of a file, so that the region
+ * can be transferred to its destination without being read into memory, e.g.
+ * through {@code FileChannel#transferTo} or {@code sendfile}.
+ *
+ * <p>The buffer itself is empty: consumers that are not aware of file regions
+ * need to obtain the content of the region through {@link #read(DataBufferFactory, int)}
+ * instead. File region buffers are therefore only to be produced for consumers
+ * that are known to support them, typically when requested through an encoding
+ * hint such as {@link org.springframework.core.codec.ResourceRegionEncoder#FILE_REGION_HINT}.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ */
+public final class FileRegionDataBuffer extends DataBufferWrapper {
+
+	private final Path file;
+
+	private final long position;
+
+	private final long count;
+
+
+	/**
+	 * Create a new {@code FileRegionDataBuffer} for the given region.
+	 * @param file the file that contains the region
+	 * @param position the position within the file at which the region starts
+	 * @param count the number of bytes in the region
+	 */
+	public FileRegionDataBuffer(Path file, long position, long count) {
+		super(DefaultDataBufferFactory.sharedInstance.allocateBuffer(0));
+		Assert.notNull(file, "File must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(count >= 0, "'count' must be >= 0");
+		this.file = file;
+		this.position = position;
+		this.count = count;
+	}
+
+
+	/**
+	 * Return the file that contains the region.
+	 */
+	public Path getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Return the position within the file at which the region starts.
+	 */
+	public long getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * Return the number of bytes in the region.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Transfer the content of the region to the given channel, through
+	 * {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+	 * @param channel the channel to write to
+	 * @return the number of bytes transferred
+	 * @throws IOException in case of I/O errors
+	 */
+	public long transferTo(WritableByteChannel channel) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+			long end = Math.min(this.position + this.count, fileChannel.size());
+			long position = this.position;
+			while (position < end) {
+				long transferred = fileChannel.transferTo(position, end - position, channel);
+				if (transferred <= 0) {
+					break;
+				}
+				position += transferred;
+			}
+			return position - this.position;
+		}
+	}
+
+	/**
+	 * Read the content of the region into regular data buffers, for consumers
+	 * that cannot transfer the region directly.
+	 * @param bufferFactory the factory to create data buffers with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers with the content of the region
+	 */
+	public Flux<DataBuffer> read(DataBufferFactory bufferFactory, int bufferSize) {
+		Flux<DataBuffer> in = DataBufferUtils.readAsynchronousFileChannel(
+				() -> AsynchronousFileChannel.open(this.file, StandardOpenOption.READ),
+				this.position, bufferFactory, bufferSize);
+		return DataBufferUtils.takeUntilByteCount(in, this.count);
+	}
+
+
+	@Override
+	public String toString() {
+		return "FileRegionDataBuffer [" + this.file + ", position=" + this.position + ", count=" + this.count + "]";
+	}
+
+}
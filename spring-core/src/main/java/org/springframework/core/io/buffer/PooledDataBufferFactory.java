@@ -0,0 +1,443 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBufferFactory} interface that recycles the
+ * {@link ByteBuffer ByteBuffers} behind the buffers it allocates, as a
+ * drop-in alternative to {@link DefaultDataBufferFactory} for runtimes that do
+ * not have Netty on the classpath (i.e. Servlet).
+ *
+ * <p>Requested capacities are rounded up to the next power of two, and each of
+ * these size classes is backed by its own bounded pool. Buffers allocated by this
+ * factory are {@link PooledDataBuffer PooledDataBuffers} with an initial reference
+ * count of 1, and their memory is returned to the pool once the count drops to 0
+ * through {@link DataBufferUtils#release(DataBuffer)}. Recently released memory
+ * is first kept in a small per-thread cache, so that a thread that releases and
+ * then allocates a buffer of the same size class does not contend with others.
+ * Capacities larger than the {@linkplain #PooledDataBufferFactory(boolean, int, int, int)
+ * maximum pooled capacity}, as well as buffers that grow beyond their size class,
+ * are allocated outside the pool and left to the garbage collector.
+ *
+ * <p>When {@linkplain #setLeakDetection(boolean) leak detection} is enabled, the
+ * factory logs a warning for buffers that are garbage collected without having
+ * been released, including the stack trace of the allocation and the hints
+ * given through {@link DataBufferUtils#touch(DataBuffer, Object)}.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ * @see DefaultDataBufferFactory
+ */
+public class PooledDataBufferFactory implements DataBufferFactory {
+
+	/**
+	 * The default maximum capacity that is served from the pool.
+	 */
+	public static final int DEFAULT_MAX_POOLED_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default number of buffers kept in the shared pool, per size class.
+	 */
+	public static final int DEFAULT_MAX_POOL_SIZE = 256;
+
+	/**
+	 * The default number of buffers kept in each per-thread cache, per size class.
+	 */
+	public static final int DEFAULT_THREAD_CACHE_SIZE = 8;
+
+	private static final int MIN_POOLED_CAPACITY_SHIFT = 6;
+
+	private static final int MIN_POOLED_CAPACITY = 1 << MIN_POOLED_CAPACITY_SHIFT;
+
+	private static final int MAX_HINTS = 8;
+
+	private static final Log logger = LogFactory.getLog(PooledDataBufferFactory.class);
+
+
+	private final boolean preferDirect;
+
+	private final int maxPooledCapacity;
+
+	private final int threadCacheSize;
+
+	private final ArrayBlockingQueue<ByteBuffer>[] pools;
+
+	@Nullable
+	private final ThreadLocal<ThreadCache> threadCache;
+
+	private final DefaultDataBufferFactory delegateFactory;
+
+	private volatile boolean leakDetection;
+
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} with default settings,
+	 * allocating heap buffers.
+	 */
+	public PooledDataBufferFactory() {
+		this(false);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory}, indicating whether direct
+	 * buffers should be created by {@link #allocateBuffer(int)}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PooledDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_MAX_POOL_SIZE, DEFAULT_THREAD_CACHE_SIZE);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} with the given pool settings.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 * @param maxPooledCapacity the largest capacity served from the pool,
+	 * rounded up to the next power of two
+	 * @param maxPoolSize the number of released buffers kept in the shared
+	 * pool, per size class
+	 * @param threadCacheSize the number of released buffers kept for the
+	 * releasing thread, per size class; {@code 0} to disable thread-local
+	 * caching, e.g. when buffers are mostly handled by virtual threads
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public PooledDataBufferFactory(boolean preferDirect, int maxPooledCapacity, int maxPoolSize, int threadCacheSize) {
+		Assert.isTrue(maxPooledCapacity > 0, "'maxPooledCapacity' should be larger than 0");
+		Assert.isTrue(maxPoolSize > 0, "'maxPoolSize' should be larger than 0");
+		Assert.isTrue(threadCacheSize >= 0, "'threadCacheSize' must not be negative");
+		this.preferDirect = preferDirect;
+		this.maxPooledCapacity = MIN_POOLED_CAPACITY << sizeClass(maxPooledCapacity);
+		this.threadCacheSize = threadCacheSize;
+		this.pools = new ArrayBlockingQueue[sizeClass(this.maxPooledCapacity) + 1];
+		for (int i = 0; i < this.pools.length; i++) {
+			this.pools[i] = new ArrayBlockingQueue<>(maxPoolSize);
+		}
+		this.threadCache = (threadCacheSize > 0 ? ThreadLocal.withInitial(() -> new ThreadCache(this.pools.length)) : null);
+		this.delegateFactory = new DefaultDataBufferFactory(preferDirect);
+	}
+
+
+	/**
+	 * Enable or disable the detection of buffers that are garbage collected
+	 * without having been released. Detection records the stack trace of every
+	 * allocation, and should therefore only be enabled for diagnostic purposes.
+	 * <p>By default, this is set to {@code false}.
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+	}
+
+	/**
+	 * Return whether leak detection is enabled.
+	 */
+	public boolean isLeakDetection() {
+		return this.leakDetection;
+	}
+
+	/**
+	 * Return the largest capacity served from the pool.
+	 */
+	public int getMaxPooledCapacity() {
+		return this.maxPooledCapacity;
+	}
+
+
+	@Override
+	@Deprecated
+	public PooledDataBuffer allocateBuffer() {
+		return allocateBuffer(DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	@Override
+	public PooledDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must not be negative");
+		if (initialCapacity > this.maxPooledCapacity) {
+			ByteBuffer byteBuffer = allocate(initialCapacity);
+			return new PooledDefaultDataBuffer(this, new PooledMemory(this, byteBuffer, -1, null),
+					DefaultDataBuffer.fromEmptyByteBuffer(this.delegateFactory, byteBuffer));
+		}
+		int sizeClass = sizeClass(initialCapacity);
+		ByteBuffer byteBuffer = obtain(sizeClass);
+		PooledMemory memory = new PooledMemory(this, byteBuffer, sizeClass,
+				(this.leakDetection ? new LeakInfo() : null));
+		PooledDefaultDataBuffer dataBuffer = new PooledDefaultDataBuffer(this, memory,
+				DefaultDataBuffer.fromEmptyByteBuffer(this.delegateFactory, byteBuffer));
+		memory.track(dataBuffer);
+		return dataBuffer;
+	}
+
+	@Override
+	public PooledDataBuffer wrap(ByteBuffer byteBuffer) {
+		ByteBuffer slice = byteBuffer.slice();
+		return new PooledDefaultDataBuffer(this, new PooledMemory(this, slice, -1, null),
+				DefaultDataBuffer.fromFilledByteBuffer(this.delegateFactory, slice));
+	}
+
+	@Override
+	public PooledDataBuffer wrap(byte[] bytes) {
+		return wrap(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation allocates a single buffer to contain the data in
+	 * {@code dataBuffers}.
+	 */
+	@Override
+	public PooledDataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		int capacity = dataBuffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+		PooledDataBuffer result = allocateBuffer(capacity);
+		dataBuffers.forEach(result::write);
+		dataBuffers.forEach(DataBufferUtils::release);
+		return result;
+	}
+
+	@Override
+	public boolean isDirect() {
+		return this.preferDirect;
+	}
+
+
+	private ByteBuffer obtain(int sizeClass) {
+		ByteBuffer byteBuffer = null;
+		if (this.threadCache != null) {
+			byteBuffer = this.threadCache.get().poll(sizeClass);
+		}
+		if (byteBuffer == null) {
+			byteBuffer = this.pools[sizeClass].poll();
+		}
+		if (byteBuffer == null) {
+			byteBuffer = allocate(MIN_POOLED_CAPACITY << sizeClass);
+		}
+		return byteBuffer.clear();
+	}
+
+	private void recycle(ByteBuffer byteBuffer, int sizeClass) {
+		if (this.threadCache != null && this.threadCache.get().offer(sizeClass, byteBuffer, this.threadCacheSize)) {
+			return;
+		}
+		this.pools[sizeClass].offer(byteBuffer);
+	}
+
+	private ByteBuffer allocate(int capacity) {
+		return (this.preferDirect ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+	}
+
+	private static int sizeClass(int capacity) {
+		if (capacity <= MIN_POOLED_CAPACITY) {
+			return 0;
+		}
+		return (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1)) - MIN_POOLED_CAPACITY_SHIFT;
+	}
+
+
+	@Override
+	public String toString() {
+		return "PooledDataBufferFactory (preferDirect=" + this.preferDirect +
+				", maxPooledCapacity=" + this.maxPooledCapacity + ")";
+	}
+
+
+	/**
+	 * Per-thread stacks of released buffers, one per size class.
+	 */
+	private static final class ThreadCache {
+
+		private final ByteBuffer[][] buffers;
+
+		private final int[] counts;
+
+		ThreadCache(int sizeClasses) {
+			this.buffers = new ByteBuffer[sizeClasses][];
+			this.counts = new int[sizeClasses];
+		}
+
+		@Nullable
+		ByteBuffer poll(int sizeClass) {
+			int count = this.counts[sizeClass];
+			if (count == 0) {
+				return null;
+			}
+			ByteBuffer[] stack = this.buffers[sizeClass];
+			ByteBuffer byteBuffer = stack[--count];
+			stack[count] = null;
+			this.counts[sizeClass] = count;
+			return byteBuffer;
+		}
+
+		boolean offer(int sizeClass, ByteBuffer byteBuffer, int maxSize) {
+			int count = this.counts[sizeClass];
+			if (count == maxSize) {
+				return false;
+			}
+			ByteBuffer[] stack = this.buffers[sizeClass];
+			if (stack == null) {
+				stack = new ByteBuffer[maxSize];
+				this.buffers[sizeClass] = stack;
+			}
+			stack[count] = byteBuffer;
+			this.counts[sizeClass] = count + 1;
+			return true;
+		}
+	}
+
+
+	/**
+	 * The memory behind one or more {@link PooledDefaultDataBuffer} instances,
+	 * along with the reference count shared between them.
+	 */
+	static final class PooledMemory {
+
+		private static final AtomicIntegerFieldUpdater<PooledMemory> REF_COUNT_UPDATER =
+				AtomicIntegerFieldUpdater.newUpdater(PooledMemory.class, "refCount");
+
+		private final PooledDataBufferFactory factory;
+
+		private final ByteBuffer byteBuffer;
+
+		private final int sizeClass;
+
+		@Nullable
+		private final LeakInfo leakInfo;
+
+		private volatile int refCount = 1;
+
+		PooledMemory(PooledDataBufferFactory factory, ByteBuffer byteBuffer, int sizeClass,
+				@Nullable LeakInfo leakInfo) {
+
+			this.factory = factory;
+			this.byteBuffer = byteBuffer;
+			this.sizeClass = sizeClass;
+			this.leakInfo = leakInfo;
+		}
+
+		boolean isAllocated() {
+			return this.refCount > 0;
+		}
+
+		void retain() {
+			while (true) {
+				int refCount = this.refCount;
+				if (refCount <= 0) {
+					throw new IllegalStateException("DataBuffer has already been released");
+				}
+				if (REF_COUNT_UPDATER.compareAndSet(this, refCount, refCount + 1)) {
+					return;
+				}
+			}
+		}
+
+		boolean release() {
+			while (true) {
+				int refCount = this.refCount;
+				if (refCount <= 0) {
+					throw new IllegalStateException("DataBuffer has already been released");
+				}
+				if (REF_COUNT_UPDATER.compareAndSet(this, refCount, refCount - 1)) {
+					if (refCount == 1) {
+						if (this.sizeClass >= 0) {
+							this.factory.recycle(this.byteBuffer, this.sizeClass);
+						}
+						return true;
+					}
+					return false;
+				}
+			}
+		}
+
+		void touch(Object hint) {
+			if (this.leakInfo != null) {
+				this.leakInfo.addHint(hint);
+			}
+		}
+
+		void track(PooledDefaultDataBuffer dataBuffer) {
+			if (this.leakInfo != null) {
+				this.leakInfo.track(dataBuffer, this);
+			}
+		}
+	}
+
+
+	/**
+	 * Diagnostic information for the detection of buffers that are garbage
+	 * collected before having been released.
+	 */
+	static final class LeakInfo {
+
+		private static final AtomicIntegerFieldUpdater<LeakInfo> VIEW_COUNT_UPDATER =
+				AtomicIntegerFieldUpdater.newUpdater(LeakInfo.class, "viewCount");
+
+		private final Throwable allocationSite = new Throwable("Buffer allocation");
+
+		private final Deque<String> hints = new ArrayDeque<>(MAX_HINTS);
+
+		private volatile int viewCount;
+
+		void addHint(Object hint) {
+			String value = String.valueOf(hint);
+			synchronized (this.hints) {
+				if (this.hints.size() == MAX_HINTS) {
+					this.hints.removeFirst();
+				}
+				this.hints.addLast(value);
+			}
+		}
+
+		void track(PooledDefaultDataBuffer dataBuffer, PooledMemory memory) {
+			VIEW_COUNT_UPDATER.incrementAndGet(this);
+			LeakDetector.cleaner.register(dataBuffer, () -> {
+				if (VIEW_COUNT_UPDATER.decrementAndGet(this) == 0 && memory.isAllocated() &&
+						logger.isWarnEnabled()) {
+					String hints;
+					synchronized (this.hints) {
+						hints = this.hints.toString();
+					}
+					logger.warn("DataBuffer leak detected: buffer of capacity " + memory.byteBuffer.capacity() +
+							" was garbage collected without having been released. Recent hints: " + hints,
+							this.allocationSite);
+				}
+			});
+		}
+	}
+
+
+	/**
+	 * Holder for the {@link Cleaner}, so that its thread only gets started
+	 * once leak detection is used.
+	 */
+	private static final class LeakDetector {
+
+		static final Cleaner cleaner = Cleaner.create();
+	}
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.IntPredicate;
+
+import org.springframework.core.io.buffer.PooledDataBufferFactory.PooledMemory;
+import org.springframework.lang.Nullable;
+
+/**
+ * Implementation of the {@link PooledDataBuffer} interface that decorates a
+ * {@link DefaultDataBuffer} with the reference count of the pooled memory it
+ * is based on. Constructed using the {@link PooledDataBufferFactory}.
+ *
+ * <p>Buffers created through {@link #split(int)} share the memory and its
+ * reference count with the buffer they were split from, and need to be
+ * released separately.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ * @see PooledDataBufferFactory
+ */
+final class PooledDefaultDataBuffer implements PooledDataBuffer {
+
+	private final PooledDataBufferFactory dataBufferFactory;
+
+	private final PooledMemory memory;
+
+	private final DefaultDataBuffer delegate;
+
+
+	PooledDefaultDataBuffer(PooledDataBufferFactory dataBufferFactory, PooledMemory memory,
+			DefaultDataBuffer delegate) {
+
+		this.dataBufferFactory = dataBufferFactory;
+		this.memory = memory;
+		this.delegate = delegate;
+	}
+
+
+	DefaultDataBuffer delegate() {
+		if (!this.memory.isAllocated()) {
+			throw new IllegalStateException("DataBuffer has been released");
+		}
+		return this.delegate;
+	}
+
+	@Override
+	public PooledDataBufferFactory factory() {
+		return this.dataBufferFactory;
+	}
+
+	@Override
+	public int indexOf(IntPredicate predicate, int fromIndex) {
+		return delegate().indexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+		return delegate().lastIndexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int readableByteCount() {
+		return this.delegate.readableByteCount();
+	}
+
+	@Override
+	public int writableByteCount() {
+		return this.delegate.writableByteCount();
+	}
+
+	@Override
+	public int capacity() {
+		return this.delegate.capacity();
+	}
+
+	@Override
+	@Deprecated
+	public PooledDefaultDataBuffer capacity(int capacity) {
+		delegate().capacity(capacity);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer ensureWritable(int capacity) {
+		delegate().ensureWritable(capacity);
+		return this;
+	}
+
+	@Override
+	public int readPosition() {
+		return this.delegate.readPosition();
+	}
+
+	@Override
+	public PooledDefaultDataBuffer readPosition(int readPosition) {
+		this.delegate.readPosition(readPosition);
+		return this;
+	}
+
+	@Override
+	public int writePosition() {
+		return this.delegate.writePosition();
+	}
+
+	@Override
+	public PooledDefaultDataBuffer writePosition(int writePosition) {
+		this.delegate.writePosition(writePosition);
+		return this;
+	}
+
+	@Override
+	public byte getByte(int index) {
+		return delegate().getByte(index);
+	}
+
+	@Override
+	public byte read() {
+		return delegate().read();
+	}
+
+	@Override
+	public PooledDefaultDataBuffer read(byte[] destination) {
+		delegate().read(destination);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer read(byte[] destination, int offset, int length) {
+		delegate().read(destination, offset, length);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(byte b) {
+		delegate().write(b);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(byte[] source) {
+		delegate().write(source);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(byte[] source, int offset, int length) {
+		delegate().write(source, offset, length);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(DataBuffer... buffers) {
+		delegate().write(buffers);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(ByteBuffer... buffers) {
+		delegate().write(buffers);
+		return this;
+	}
+
+	@Override
+	@Deprecated
+	public DataBuffer slice(int index, int length) {
+		return delegate().slice(index, length);
+	}
+
+	@Override
+	@Deprecated
+	public DataBuffer retainedSlice(int index, int length) {
+		DataBuffer slice = delegate().slice(index, length);
+		this.memory.retain();
+		PooledDefaultDataBuffer result = new PooledDefaultDataBuffer(this.dataBufferFactory, this.memory, (DefaultDataBuffer) slice);
+		this.memory.track(result);
+		return result;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer split(int index) {
+		DefaultDataBuffer split = (DefaultDataBuffer) delegate().split(index);
+		this.memory.retain();
+		PooledDefaultDataBuffer result = new PooledDefaultDataBuffer(this.dataBufferFactory, this.memory, split);
+		this.memory.track(result);
+		return result;
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer() {
+		return delegate().asByteBuffer();
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer(int index, int length) {
+		return delegate().asByteBuffer(index, length);
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer toByteBuffer(int index, int length) {
+		return delegate().toByteBuffer(index, length);
+	}
+
+	@Override
+	public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+		delegate().toByteBuffer(srcPos, dest, destPos, length);
+	}
+
+	@Override
+	public ByteBufferIterator readableByteBuffers() {
+		return delegate().readableByteBuffers();
+	}
+
+	@Override
+	public ByteBufferIterator writableByteBuffers() {
+		return delegate().writableByteBuffers();
+	}
+
+	@Override
+	public String toString(int index, int length, Charset charset) {
+		return delegate().toString(index, length, charset);
+	}
+
+	@Override
+	public boolean isAllocated() {
+		return this.memory.isAllocated();
+	}
+
+	@Override
+	public PooledDefaultDataBuffer retain() {
+		this.memory.retain();
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer touch(Object hint) {
+		this.memory.touch(hint);
+		return this;
+	}
+
+	@Override
+	public boolean release() {
+		return this.memory.release();
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || (other instanceof PooledDefaultDataBuffer that &&
+				this.delegate.equals(that.delegate)));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.delegate.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PooledDefaultDataBuffer (r: %d, w: %d, c: %d)",
+				readPosition(), writePosition(), capacity());
+	}
+
+}
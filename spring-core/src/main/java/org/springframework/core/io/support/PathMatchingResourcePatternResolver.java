@@ -36,12 +36,20 @@ import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -160,6 +168,11 @@ import org.springframework.util.StringUtils;
  * combined results. Consequently, some of the limitations of classpath searches
  * may not apply when applications are deployed as modules.
  *
+ * <p>As of Spring Framework 6.1, the entries of each jar file are read once and
+ * kept in a sorted index that is shared by all patterns resolved against that
+ * jar file, see {@link #setCacheJarEntries}. Independent root directories may
+ * be searched in parallel, see {@link #setRootDirectoryExecutor}.
+ *
  * <p><b>WARNING:</b> Note that "{@code classpath*:}" when combined with
  * Ant-style patterns will only work reliably with at least one root directory
  * before the pattern starts, unless the actual target files reside in the file
@@ -247,6 +260,14 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 
 	private PathMatcher pathMatcher = new AntPathMatcher();
 
+	/** Jar entries cache: either local or shared at the ResourceLoader level. */
+	private final Map<Resource, JarEntries> jarEntriesCache;
+
+	private boolean cacheJarEntries = true;
+
+	@Nullable
+	private Executor rootDirectoryExecutor;
+
 
 	/**
 	 * Create a new PathMatchingResourcePatternResolver with a DefaultResourceLoader.
@@ -255,17 +276,24 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 	 */
 	public PathMatchingResourcePatternResolver() {
 		this.resourceLoader = new DefaultResourceLoader();
+		this.jarEntriesCache = new ConcurrentHashMap<>(64);
 	}
 
 	/**
 	 * Create a new PathMatchingResourcePatternResolver.
 	 * <p>ClassLoader access will happen via the thread context class loader.
+	 * <p>As of 6.1, jar file entries are cached at the level of the given
+	 * ResourceLoader if it is a {@link DefaultResourceLoader}, i.e. shared
+	 * with other resolvers for the same ResourceLoader.
 	 * @param resourceLoader the ResourceLoader to load root directories and
 	 * actual resources with
+	 * @see DefaultResourceLoader#getResourceCache
 	 */
 	public PathMatchingResourcePatternResolver(ResourceLoader resourceLoader) {
 		Assert.notNull(resourceLoader, "ResourceLoader must not be null");
 		this.resourceLoader = resourceLoader;
+		this.jarEntriesCache = (resourceLoader instanceof DefaultResourceLoader defaultResourceLoader ?
+				defaultResourceLoader.getResourceCache(JarEntries.class) : new ConcurrentHashMap<>(64));
 	}
 
 	/**
@@ -277,6 +305,7 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 	 */
 	public PathMatchingResourcePatternResolver(@Nullable ClassLoader classLoader) {
 		this.resourceLoader = new DefaultResourceLoader(classLoader);
+		this.jarEntriesCache = new ConcurrentHashMap<>(64);
 	}
 
 
@@ -310,6 +339,45 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return this.pathMatcher;
 	}
 
+	/**
+	 * Specify whether to keep an index of the entries of each jar file that
+	 * has been searched, reusing it for subsequent patterns instead of opening
+	 * and iterating the jar file again.
+	 * <p>Default is {@code true}. Switch this to {@code false} for jar files
+	 * that may change while the application is running.
+	 * @since 6.1
+	 * @see #clearCache()
+	 */
+	public void setCacheJarEntries(boolean cacheJarEntries) {
+		this.cacheJarEntries = cacheJarEntries;
+	}
+
+	/**
+	 * Specify an {@link Executor} for searching independent root directories
+	 * in parallel, e.g. all jar files that contain a given package for a
+	 * "{@code classpath*:}" pattern.
+	 * <p>The matching resources are returned in the same order as for a
+	 * sequential search. Note that overridden search methods such as
+	 * {@link #doFindPathMatchingJarResources} and
+	 * {@link #doFindPathMatchingFileResources} need to be thread-safe then.
+	 * <p>Default is none, searching one root directory after another.
+	 * @since 6.1
+	 */
+	public void setRootDirectoryExecutor(@Nullable Executor rootDirectoryExecutor) {
+		this.rootDirectoryExecutor = rootDirectoryExecutor;
+	}
+
+	/**
+	 * Clear the cache of jar file entries, if any.
+	 * <p>Note that this also affects other resolvers that share the cache
+	 * through a common {@link DefaultResourceLoader}.
+	 * @since 6.1
+	 * @see #setCacheJarEntries
+	 */
+	public void clearCache() {
+		this.jarEntriesCache.clear();
+	}
+
 
 	@Override
 	public Resource getResource(String location) {
@@ -557,24 +625,41 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		String subPattern = locationPattern.substring(rootDirPath.length());
 		Resource[] rootDirResources = getResources(rootDirPath);
 		Set<Resource> result = new LinkedHashSet<>(16);
-		for (Resource rootDirResource : rootDirResources) {
-			rootDirResource = resolveRootDirResource(rootDirResource);
-			URL rootDirUrl = rootDirResource.getURL();
-			if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
-				URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
-				if (resolvedUrl != null) {
-					rootDirUrl = resolvedUrl;
-				}
-				rootDirResource = new UrlResource(rootDirUrl);
-			}
-			if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
-				result.addAll(VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher()));
+		Executor executor = this.rootDirectoryExecutor;
+		if (executor != null && rootDirResources.length > 1) {
+			List<CompletableFuture<Set<Resource>>> futures = new ArrayList<>(rootDirResources.length);
+			for (Resource rootDirResource : rootDirResources) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return findPathMatchingResourcesInRootDir(rootDirResource, subPattern);
+					}
+					catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				}, executor));
 			}
-			else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
-				result.addAll(doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern));
+			for (CompletableFuture<Set<Resource>> future : futures) {
+				try {
+					result.addAll(future.join());
+				}
+				catch (CompletionException ex) {
+					Throwable cause = ex.getCause();
+					if (cause instanceof UncheckedIOException uncheckedIOException) {
+						throw uncheckedIOException.getCause();
+					}
+					if (cause instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					}
+					if (cause instanceof Error error) {
+						throw error;
+					}
+					throw ex;
+				}
 			}
-			else {
-				result.addAll(doFindPathMatchingFileResources(rootDirResource, subPattern));
+		}
+		else {
+			for (Resource rootDirResource : rootDirResources) {
+				result.addAll(findPathMatchingResourcesInRootDir(rootDirResource, subPattern));
 			}
 		}
 		if (logger.isTraceEnabled()) {
@@ -583,6 +668,29 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return result.toArray(new Resource[0]);
 	}
 
+	private Set<Resource> findPathMatchingResourcesInRootDir(Resource rootDirResource, String subPattern)
+			throws IOException {
+
+		rootDirResource = resolveRootDirResource(rootDirResource);
+		URL rootDirUrl = rootDirResource.getURL();
+		if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
+			URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
+			if (resolvedUrl != null) {
+				rootDirUrl = resolvedUrl;
+			}
+			rootDirResource = new UrlResource(rootDirUrl);
+		}
+		if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
+			return VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher());
+		}
+		else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
+			return doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern);
+		}
+		else {
+			return doFindPathMatchingFileResources(rootDirResource, subPattern);
+		}
+	}
+
 	/**
 	 * Determine the root directory for the given location.
 	 * <p>Used for determining the starting point for file matching, resolving the
@@ -658,9 +766,15 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 
 		if (con instanceof JarURLConnection jarCon) {
 			// Should usually be the case for traditional JAR files.
+			jarFileUrl = jarCon.getJarFileURL().toExternalForm();
+			JarEntries cachedEntries = getCachedJarEntries(jarFileUrl);
+			if (cachedEntries != null) {
+				String entryName = jarCon.getEntryName();
+				return cachedEntries.findMatchingResources(
+						rootDirResource, (entryName != null ? entryName : ""), subPattern, getPathMatcher());
+			}
 			ResourceUtils.useCachesIfNecessary(jarCon);
 			jarFile = jarCon.getJarFile();
-			jarFileUrl = jarCon.getJarFileURL().toExternalForm();
 			JarEntry jarEntry = jarCon.getJarEntry();
 			rootEntryPath = (jarEntry != null ? jarEntry.getName() : "");
 			closeJarFile = !jarCon.getUseCaches();
@@ -671,21 +785,24 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 			// being arbitrary as long as following the entry format.
 			// We'll also handle paths with and without leading "file:" prefix.
 			String urlFile = rootDirUrl.getFile();
+			int separatorIndex = urlFile.indexOf(ResourceUtils.WAR_URL_SEPARATOR);
+			if (separatorIndex == -1) {
+				separatorIndex = urlFile.indexOf(ResourceUtils.JAR_URL_SEPARATOR);
+			}
+			if (separatorIndex != -1) {
+				jarFileUrl = urlFile.substring(0, separatorIndex);
+				rootEntryPath = urlFile.substring(separatorIndex + 2);  // both separators are 2 chars
+			}
+			else {
+				jarFileUrl = urlFile;
+				rootEntryPath = "";
+			}
+			JarEntries cachedEntries = getCachedJarEntries(jarFileUrl);
+			if (cachedEntries != null) {
+				return cachedEntries.findMatchingResources(rootDirResource, rootEntryPath, subPattern, getPathMatcher());
+			}
 			try {
-				int separatorIndex = urlFile.indexOf(ResourceUtils.WAR_URL_SEPARATOR);
-				if (separatorIndex == -1) {
-					separatorIndex = urlFile.indexOf(ResourceUtils.JAR_URL_SEPARATOR);
-				}
-				if (separatorIndex != -1) {
-					jarFileUrl = urlFile.substring(0, separatorIndex);
-					rootEntryPath = urlFile.substring(separatorIndex + 2);  // both separators are 2 chars
-					jarFile = getJarFile(jarFileUrl);
-				}
-				else {
-					jarFile = new JarFile(urlFile);
-					jarFileUrl = urlFile;
-					rootEntryPath = "";
-				}
+				jarFile = (separatorIndex != -1 ? getJarFile(jarFileUrl) : new JarFile(urlFile));
 				closeJarFile = true;
 			}
 			catch (ZipException ex) {
@@ -700,6 +817,12 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 			if (logger.isTraceEnabled()) {
 				logger.trace("Looking for matching resources in jar file [" + jarFileUrl + "]");
 			}
+			Resource cacheKey = (this.cacheJarEntries ? getJarEntriesCacheKey(jarFileUrl) : null);
+			if (cacheKey != null) {
+				JarEntries jarEntries = new JarEntries(jarFile);
+				this.jarEntriesCache.put(cacheKey, jarEntries);
+				return jarEntries.findMatchingResources(rootDirResource, rootEntryPath, subPattern, getPathMatcher());
+			}
 			if (StringUtils.hasLength(rootEntryPath) && !rootEntryPath.endsWith("/")) {
 				// Root entry path must end with slash to allow for proper matching.
 				// The Sun JRE does not return a slash here, but BEA JRockit does.
@@ -725,6 +848,23 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		}
 	}
 
+	@Nullable
+	private JarEntries getCachedJarEntries(String jarFileUrl) {
+		Resource cacheKey = (this.cacheJarEntries ? getJarEntriesCacheKey(jarFileUrl) : null);
+		return (cacheKey != null ? this.jarEntriesCache.get(cacheKey) : null);
+	}
+
+	@Nullable
+	private static Resource getJarEntriesCacheKey(String jarFileUrl) {
+		try {
+			return new UrlResource(jarFileUrl);
+		}
+		catch (MalformedURLException ex) {
+			// No protocol, as in "jar:/mypath/myjar.jar" -> not cached.
+			return null;
+		}
+	}
+
 	/**
 	 * Resolve the given jar file URL into a JarFile object.
 	 */
@@ -936,6 +1076,42 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 	}
 
 
+	/**
+	 * Sorted index of the entries of a jar file, allowing for matching the
+	 * entries below a given root entry without iterating the entire jar file.
+	 */
+	private static final class JarEntries {
+
+		private final NavigableSet<String> entryPaths = new TreeSet<>();
+
+		JarEntries(JarFile jarFile) {
+			for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+				this.entryPaths.add(entries.nextElement().getName());
+			}
+		}
+
+		Set<Resource> findMatchingResources(Resource rootDirResource, String rootEntryPath, String subPattern,
+				PathMatcher pathMatcher) throws IOException {
+
+			if (StringUtils.hasLength(rootEntryPath) && !rootEntryPath.endsWith("/")) {
+				// Root entry path must end with slash to allow for proper matching.
+				rootEntryPath = rootEntryPath + "/";
+			}
+			Set<Resource> result = new LinkedHashSet<>(8);
+			for (String entryPath : this.entryPaths.tailSet(rootEntryPath, true)) {
+				if (!entryPath.startsWith(rootEntryPath)) {
+					break;
+				}
+				String relativePath = entryPath.substring(rootEntryPath.length());
+				if (pathMatcher.match(subPattern, relativePath)) {
+					result.add(rootDirResource.createRelative(relativePath));
+				}
+			}
+			return result;
+		}
+	}
+
+
 	/**
 	 * Inner delegate class, avoiding a hard JBoss VFS API dependency at runtime.
 	 */
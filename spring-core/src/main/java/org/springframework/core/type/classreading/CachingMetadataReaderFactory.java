@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,20 +17,30 @@
 package org.springframework.core.type.classreading;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
 
 /**
  * Caching implementation of the {@link MetadataReaderFactory} interface,
  * caching a {@link MetadataReader} instance per Spring {@link Resource} handle
  * (i.e. per ".class" file).
  *
+ * <p>Class metadata may additionally be cached in the file system across JVM
+ * restarts, either through {@link #setCacheDirectory} or through the
+ * {@value #CACHE_DIRECTORY_PROPERTY_NAME} system property. Entries in that
+ * cache are bound to the length and last-modified timestamp of the jar file
+ * or class file that they have been read from.
+ *
  * @author Juergen Hoeller
  * @author Costin Leau
  * @since 2.5
@@ -40,10 +50,23 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	/** Default maximum number of entries for a local MetadataReader cache: 256. */
 	public static final int DEFAULT_CACHE_LIMIT = 256;
 
+	/**
+	 * System property that specifies a directory for caching class metadata
+	 * in the file system across JVM restarts: {@value}.
+	 * <p>The default is to keep class metadata in memory only.
+	 * @since 6.1
+	 * @see #setCacheDirectory
+	 */
+	public static final String CACHE_DIRECTORY_PROPERTY_NAME = "spring.classreading.cache.dir";
+
 	/** MetadataReader cache: either local or shared at the ResourceLoader level. */
 	@Nullable
 	private Map<Resource, MetadataReader> metadataReaderCache;
 
+	/** File system cache for class metadata, if any. */
+	@Nullable
+	private PersistentMetadataReaderCache persistentCache = getDefaultPersistentCache();
+
 
 	/**
 	 * Create a new CachingMetadataReaderFactory for the default class loader,
@@ -112,6 +135,25 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 		}
 	}
 
+	/**
+	 * Specify a directory for caching class metadata in the file system,
+	 * reusing it across JVM restarts.
+	 * <p>Class files are only read again if the jar file or class file that
+	 * contains them has changed, as indicated by its length and last-modified
+	 * timestamp. Newly read metadata is written on {@link #clearCache()}, so
+	 * metadata read by a JVM that terminates before is not reused on restart.
+	 * <p>Default is the value of the {@value #CACHE_DIRECTORY_PROPERTY_NAME}
+	 * system property, if any. Specify {@code null} to keep class metadata in
+	 * memory only.
+	 * @param cacheDirectory the directory to keep the cache files in,
+	 * possibly shared with other factories and JVMs
+	 * @since 6.1
+	 */
+	public void setCacheDirectory(@Nullable Path cacheDirectory) {
+		this.persistentCache = (cacheDirectory != null ?
+				new PersistentMetadataReaderCache(cacheDirectory) : null);
+	}
+
 
 	@Override
 	public MetadataReader getMetadataReader(Resource resource) throws IOException {
@@ -119,7 +161,7 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 			// No synchronization necessary...
 			MetadataReader metadataReader = this.metadataReaderCache.get(resource);
 			if (metadataReader == null) {
-				metadataReader = super.getMetadataReader(resource);
+				metadataReader = createMetadataReader(resource);
 				this.metadataReaderCache.put(resource, metadataReader);
 			}
 			return metadataReader;
@@ -128,21 +170,35 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 			synchronized (this.metadataReaderCache) {
 				MetadataReader metadataReader = this.metadataReaderCache.get(resource);
 				if (metadataReader == null) {
-					metadataReader = super.getMetadataReader(resource);
+					metadataReader = createMetadataReader(resource);
 					this.metadataReaderCache.put(resource, metadataReader);
 				}
 				return metadataReader;
 			}
 		}
 		else {
-			return super.getMetadataReader(resource);
+			return createMetadataReader(resource);
 		}
 	}
 
+	private MetadataReader createMetadataReader(Resource resource) throws IOException {
+		PersistentMetadataReaderCache persistentCache = this.persistentCache;
+		if (persistentCache != null) {
+			return persistentCache.getMetadataReader(resource, getResourceLoader().getClassLoader());
+		}
+		return super.getMetadataReader(resource);
+	}
+
 	/**
 	 * Clear the local MetadataReader cache, if any, removing all cached class metadata.
+	 * <p>As of 6.1, this also writes any newly read class metadata to the
+	 * {@linkplain #setCacheDirectory cache directory}, if any, releasing
+	 * the metadata loaded from there.
 	 */
 	public void clearCache() {
+		if (this.persistentCache != null) {
+			this.persistentCache.persist();
+		}
 		if (this.metadataReaderCache instanceof LocalResourceCache) {
 			synchronized (this.metadataReaderCache) {
 				this.metadataReaderCache.clear();
@@ -155,6 +211,14 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	}
 
 
+	@Nullable
+	private static PersistentMetadataReaderCache getDefaultPersistentCache() {
+		String cacheDirectory = SpringProperties.getProperty(CACHE_DIRECTORY_PROPERTY_NAME);
+		return (StringUtils.hasText(cacheDirectory) ?
+				new PersistentMetadataReaderCache(Paths.get(cacheDirectory)) : null);
+	}
+
+
 	@SuppressWarnings("serial")
 	private static class LocalResourceCache extends LinkedHashMap<Resource, MetadataReader> {
 
@@ -0,0 +1,430 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.Attribute;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.FieldVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.ModuleVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.RecordComponentVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.TypePath;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * File system cache for the class metadata read by a
+ * {@link CachingMetadataReaderFactory}, reused across JVM restarts.
+ *
+ * <p>Metadata is kept as a stripped-down class file that only retains what
+ * {@link SimpleAnnotationMetadataReadingVisitor} looks at: the class header,
+ * its nesting information, runtime-visible annotations and method signatures
+ * with their runtime-visible annotations. There is one cache file per jar
+ * file and per class file directory. Each entry records the length and the
+ * last-modified timestamp of the file it has been read from, i.e. the jar
+ * file or the class file itself, and is discarded as soon as these change.
+ *
+ * <p>Cache files are loaded on demand and written on {@link #persist()},
+ * replacing any previous file atomically where supported, so that concurrently
+ * starting JVMs never see a partially written cache file. Loaded metadata is
+ * released on {@code persist()}, leaving in-memory caching to the local cache
+ * of the {@link CachingMetadataReaderFactory}. Metadata that has been read
+ * by a JVM that terminates before the next {@code persist()} call is not
+ * written at all and simply read from the class file again on the next start.
+ * Any failure to read or write a cache file is logged and otherwise ignored:
+ * the metadata is then simply read from the original class file.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ */
+final class PersistentMetadataReaderCache {
+
+	private static final int FORMAT_MARKER = 0x53504D31;
+
+	private static final String CACHE_FILE_SUFFIX = ".metadata";
+
+	private static final Log logger = LogFactory.getLog(PersistentMetadataReaderCache.class);
+
+
+	private final Path cacheDirectory;
+
+	private final Map<String, CacheFile> cacheFiles = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Create a new cache for the given directory.
+	 * @param cacheDirectory the directory to keep the cache files in
+	 */
+	PersistentMetadataReaderCache(Path cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+
+	/**
+	 * Return the {@link MetadataReader} for the given class file resource,
+	 * using cached metadata if it is still up-to-date.
+	 * @param resource the class file resource
+	 * @param classLoader the ClassLoader to use for loading annotation types
+	 * @return the corresponding MetadataReader
+	 * @throws IOException if the class file could not be read
+	 */
+	MetadataReader getMetadataReader(Resource resource, @Nullable ClassLoader classLoader) throws IOException {
+		Source source = getSource(resource);
+		if (source == null) {
+			return new SimpleMetadataReader(resource, classLoader);
+		}
+		CacheFile cacheFile = this.cacheFiles.computeIfAbsent(source.container(),
+				container -> new CacheFile(this.cacheDirectory.resolve(
+						DigestUtils.md5DigestAsHex(container.getBytes(StandardCharsets.UTF_8)) + CACHE_FILE_SUFFIX),
+						container, source.archive()));
+		long length = source.file().length();
+		long lastModified = source.file().lastModified();
+		byte[] classFile = cacheFile.get(source.entry(), length, lastModified);
+		if (classFile == null) {
+			classFile = stripClassFile(SimpleMetadataReader.getClassReader(resource));
+			cacheFile.put(source.entry(), length, lastModified, classFile);
+		}
+		return new SimpleMetadataReader(resource, classLoader, new ClassReader(classFile));
+	}
+
+	/**
+	 * Write all cache files that received new metadata since they were loaded,
+	 * releasing the loaded metadata: it is loaded again when needed.
+	 */
+	void persist() {
+		for (Map.Entry<String, CacheFile> entry : this.cacheFiles.entrySet()) {
+			entry.getValue().persist();
+			this.cacheFiles.remove(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Determine the file that the given resource has been read from, if it
+	 * resides in a jar file or directory in the file system.
+	 */
+	@Nullable
+	private static Source getSource(Resource resource) {
+		try {
+			URL url = resource.getURL();
+			if (ResourceUtils.isJarURL(url)) {
+				URL archiveUrl = ResourceUtils.extractArchiveURL(url);
+				if (ResourceUtils.isFileURL(archiveUrl)) {
+					File archive = ResourceUtils.getFile(archiveUrl);
+					return new Source(archive.getAbsolutePath(), url.toExternalForm(), archive, true);
+				}
+			}
+			else if (ResourceUtils.isFileURL(url)) {
+				File classFile = ResourceUtils.getFile(url).getAbsoluteFile();
+				return new Source(classFile.getParent(), classFile.getName(), classFile, false);
+			}
+		}
+		catch (IOException ex) {
+			// Not resolvable in the file system -> no persistent caching.
+		}
+		return null;
+	}
+
+	/**
+	 * Create a class file that only retains the metadata that is relevant
+	 * for a {@link SimpleAnnotationMetadataReadingVisitor}.
+	 */
+	private static byte[] stripClassFile(ClassReader classReader) {
+		ClassWriter classWriter = new ClassWriter(0);
+		classReader.accept(new StrippingClassVisitor(classWriter), SimpleMetadataReader.PARSING_OPTIONS);
+		return classWriter.toByteArray();
+	}
+
+
+	/**
+	 * The location of a class file: the jar file or directory that contains it,
+	 * its name within that container, and the file whose timestamp is checked.
+	 */
+	private record Source(String container, String entry, File file, boolean archive) {
+	}
+
+
+	private record Entry(long length, long lastModified, byte[] classFile) {
+	}
+
+
+	/**
+	 * The cached metadata for a single jar file or class file directory.
+	 */
+	private static final class CacheFile {
+
+		private final Path path;
+
+		private final String container;
+
+		private final boolean archive;
+
+		@Nullable
+		private volatile Map<String, Entry> entries;
+
+		private volatile boolean modified;
+
+		CacheFile(Path path, String container, boolean archive) {
+			this.path = path;
+			this.container = container;
+			this.archive = archive;
+		}
+
+		@Nullable
+		byte[] get(String name, long length, long lastModified) {
+			Map<String, Entry> entries = getEntries();
+			Entry entry = entries.get(name);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.length() == length && entry.lastModified() == lastModified) {
+				return entry.classFile();
+			}
+			if (this.archive) {
+				// The jar file has changed -> all of its entries are stale.
+				entries.values().removeIf(candidate ->
+						candidate.length() != length || candidate.lastModified() != lastModified);
+				this.modified = true;
+			}
+			return null;
+		}
+
+		void put(String name, long length, long lastModified, byte[] classFile) {
+			getEntries().put(name, new Entry(length, lastModified, classFile));
+			this.modified = true;
+		}
+
+		private Map<String, Entry> getEntries() {
+			Map<String, Entry> entries = this.entries;
+			if (entries == null) {
+				synchronized (this) {
+					entries = this.entries;
+					if (entries == null) {
+						entries = load();
+						this.entries = entries;
+					}
+				}
+			}
+			return entries;
+		}
+
+		private Map<String, Entry> load() {
+			Map<String, Entry> entries = new ConcurrentHashMap<>();
+			try (DataInputStream in = new DataInputStream(
+					new BufferedInputStream(Files.newInputStream(this.path)))) {
+				if (in.readInt() != FORMAT_MARKER || !this.container.equals(in.readUTF())) {
+					return entries;
+				}
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String name = in.readUTF();
+					long length = in.readLong();
+					long lastModified = in.readLong();
+					byte[] classFile = new byte[in.readInt()];
+					in.readFully(classFile);
+					entries.put(name, new Entry(length, lastModified, classFile));
+				}
+				return entries;
+			}
+			catch (NoSuchFileException ex) {
+				return entries;
+			}
+			catch (IOException | RuntimeException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring invalid metadata cache file " + this.path, ex);
+				}
+				return new ConcurrentHashMap<>();
+			}
+		}
+
+		synchronized void persist() {
+			Map<String, Entry> entries = this.entries;
+			if (!this.modified || entries == null) {
+				return;
+			}
+			this.modified = false;
+			Path tempFile = null;
+			try {
+				Files.createDirectories(this.path.getParent());
+				tempFile = Files.createTempFile(this.path.getParent(), this.path.getFileName().toString(), ".tmp");
+				try (DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+					Map<String, Entry> snapshot = Map.copyOf(entries);
+					out.writeInt(FORMAT_MARKER);
+					out.writeUTF(this.container);
+					out.writeInt(snapshot.size());
+					for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+						out.writeUTF(entry.getKey());
+						out.writeLong(entry.getValue().length());
+						out.writeLong(entry.getValue().lastModified());
+						out.writeInt(entry.getValue().classFile().length);
+						out.write(entry.getValue().classFile());
+					}
+				}
+				try {
+					Files.move(tempFile, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException ex) {
+					Files.move(tempFile, this.path, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			catch (IOException | RuntimeException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to write metadata cache file " + this.path, ex);
+				}
+				if (tempFile != null) {
+					try {
+						Files.deleteIfExists(tempFile);
+					}
+					catch (IOException ignored) {
+					}
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * {@link ClassVisitor} that drops everything that is not relevant for a
+	 * {@link SimpleAnnotationMetadataReadingVisitor}.
+	 */
+	private static final class StrippingClassVisitor extends ClassVisitor {
+
+		StrippingClassVisitor(ClassVisitor classVisitor) {
+			super(SpringAsmInfo.ASM_VERSION, classVisitor);
+		}
+
+		@Override
+		public void visit(int version, int access, String name, String signature,
+				@Nullable String superName, String[] interfaces) {
+
+			super.visit(version, access, name, null, superName, interfaces);
+		}
+
+		@Override
+		public void visitSource(String source, String debug) {
+		}
+
+		@Override
+		@Nullable
+		public ModuleVisitor visitModule(String name, int access, String version) {
+			return null;
+		}
+
+		@Override
+		public void visitNestHost(String nestHost) {
+		}
+
+		@Override
+		public void visitNestMember(String nestMember) {
+		}
+
+		@Override
+		public void visitPermittedSubclass(String permittedSubclass) {
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+			return null;
+		}
+
+		@Override
+		public void visitAttribute(Attribute attribute) {
+		}
+
+		@Override
+		@Nullable
+		public RecordComponentVisitor visitRecordComponent(String name, String descriptor, String signature) {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			return (visible ? super.visitAnnotation(descriptor, true) : null);
+		}
+
+		@Override
+		@Nullable
+		public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public MethodVisitor visitMethod(
+				int access, String name, String descriptor, String signature, String[] exceptions) {
+
+			if ((access & Opcodes.ACC_BRIDGE) != 0 || name.equals("<init>")) {
+				return null;
+			}
+			return new StrippingMethodVisitor(super.visitMethod(access, name, descriptor, null, null));
+		}
+	}
+
+
+	/**
+	 * {@link MethodVisitor} that only retains runtime-visible annotations.
+	 */
+	private static final class StrippingMethodVisitor extends MethodVisitor {
+
+		private final MethodVisitor methodVisitor;
+
+		StrippingMethodVisitor(MethodVisitor methodVisitor) {
+			super(SpringAsmInfo.ASM_VERSION);
+			this.methodVisitor = methodVisitor;
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			return (visible ? this.methodVisitor.visitAnnotation(descriptor, true) : null);
+		}
+
+		@Override
+		public void visitEnd() {
+			this.methodVisitor.visitEnd();
+		}
+	}
+
+}
@@ -17,16 +17,20 @@
 package org.springframework.util;
 
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
 
 import org.springframework.lang.Nullable;
 
@@ -37,6 +41,9 @@ import org.springframework.lang.Nullable;
  * <a href="https://github.com/ben-manes/concurrentlinkedhashmap">ConcurrentLinkedHashMap</a>.
  * <p>Read and write operations are internally recorded in dedicated buffers,
  * then drained at chosen times to avoid contention.
+ * <p>The capacity bounds the number of entries by default, or the total weight
+ * of the entries as determined by a weigher function. Hit, miss and eviction
+ * counts can optionally be recorded, see {@link #getStatistics()}.
  *
  * @author Brian Clozel
  * @author Ben Manes
@@ -50,12 +57,20 @@ public final class ConcurrentLruCache<K, V> {
 
 	private final int capacity;
 
-	private final AtomicInteger currentSize = new AtomicInteger();
+	private final AtomicLong currentSize = new AtomicLong();
 
 	private final ConcurrentMap<K, Node<K, V>> cache;
 
 	private final Function<K, V> generator;
 
+	@Nullable
+	private final ToIntBiFunction<? super K, ? super V> weigher;
+
+	@Nullable
+	private final StatisticsCounter statistics;
+
+	private final ConcurrentMap<K, CompletableFuture<V>> pendingLoads = new ConcurrentHashMap<>();
+
 	private final ReadOperations<K, V> readOperations;
 
 	private final WriteOperations writeOperations;
@@ -77,14 +92,37 @@ public final class ConcurrentLruCache<K, V> {
 	 * @param generator a function to generate a new value for a given key
 	 */
 	public ConcurrentLruCache(int capacity, Function<K, V> generator) {
-		this(capacity, generator, 16);
+		this(capacity, generator, null, false);
 	}
 
-	private ConcurrentLruCache(int capacity, Function<K, V> generator, int concurrencyLevel) {
+	/**
+	 * Create a new cache instance with the given capacity, generator function
+	 * and weigher function, optionally recording statistics.
+	 * @param capacity the maximum total weight of the entries in the cache
+	 * (0 indicates no caching, always generating a new value)
+	 * @param generator a function to generate a new value for a given key
+	 * @param weigher a function to determine the weight of an entry, which
+	 * must not change while the entry is cached, or {@code null} to count
+	 * each entry with a weight of 1
+	 * @param recordStatistics whether to record hit, miss and eviction counts
+	 * @since 6.1
+	 * @see #getStatistics()
+	 */
+	public ConcurrentLruCache(int capacity, Function<K, V> generator,
+			@Nullable ToIntBiFunction<? super K, ? super V> weigher, boolean recordStatistics) {
+
+		this(capacity, generator, weigher, recordStatistics, 16);
+	}
+
+	private ConcurrentLruCache(int capacity, Function<K, V> generator,
+			@Nullable ToIntBiFunction<? super K, ? super V> weigher, boolean recordStatistics, int concurrencyLevel) {
+
 		Assert.isTrue(capacity >= 0, "Capacity must be >= 0");
 		this.capacity = capacity;
 		this.cache = new ConcurrentHashMap<>(16, 0.75f, concurrencyLevel);
 		this.generator = generator;
+		this.weigher = weigher;
+		this.statistics = (recordStatistics ? new StatisticsCounter() : null);
 		this.readOperations = new ReadOperations<>(this.evictionQueue);
 		this.writeOperations = new WriteOperations();
 	}
@@ -100,19 +138,71 @@ public final class ConcurrentLruCache<K, V> {
 		}
 		final Node<K, V> node = this.cache.get(key);
 		if (node == null) {
+			recordMiss();
 			V value = this.generator.apply(key);
 			put(key, value);
 			return value;
 		}
+		recordHit();
 		processRead(node);
 		return node.getValue();
 	}
 
+	/**
+	 * Retrieve an entry from the cache, generating the value with the given
+	 * executor if it is not present. Concurrent retrievals of the same missing
+	 * key share the same value generation.
+	 * @param key the key to retrieve the entry for
+	 * @param executor the executor to generate a new value with
+	 * @return a future for the cached or newly generated value, already
+	 * completed if the value is present in the cache
+	 * @since 6.1
+	 */
+	public CompletableFuture<V> getAsync(K key, Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		if (this.capacity == 0) {
+			return CompletableFuture.supplyAsync(() -> this.generator.apply(key), executor);
+		}
+		final Node<K, V> node = this.cache.get(key);
+		if (node != null) {
+			recordHit();
+			processRead(node);
+			return CompletableFuture.completedFuture(node.getValue());
+		}
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> pending = this.pendingLoads.putIfAbsent(key, future);
+		if (pending != null) {
+			return pending;
+		}
+		recordMiss();
+		try {
+			executor.execute(() -> {
+				try {
+					V value = this.generator.apply(key);
+					put(key, value);
+					this.pendingLoads.remove(key, future);
+					future.complete(value);
+				}
+				catch (Throwable ex) {
+					this.pendingLoads.remove(key, future);
+					future.completeExceptionally(ex);
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.pendingLoads.remove(key, future);
+			future.completeExceptionally(ex);
+		}
+		return future;
+	}
+
 	private void put(K key, V value) {
 		Assert.notNull(key, "key must not be null");
 		Assert.notNull(value, "value must not be null");
+		int weight = (this.weigher != null ? this.weigher.applyAsInt(key, value) : 1);
+		Assert.isTrue(weight >= 0, "weight must be >= 0");
 		final CacheEntry<V> cacheEntry = new CacheEntry<>(value, CacheEntryState.ACTIVE);
-		final Node<K, V> node = new Node<>(key, cacheEntry);
+		final Node<K, V> node = new Node<>(key, cacheEntry, weight);
 		final Node<K, V> prior = this.cache.putIfAbsent(node.key, node);
 		if (prior == null) {
 			processWrite(new AddTask(node));
@@ -151,7 +241,8 @@ public final class ConcurrentLruCache<K, V> {
 	}
 
 	/**
-	 * Return the maximum number of entries in the cache.
+	 * Return the maximum number of entries in the cache, or the maximum total
+	 * weight of the entries if the cache was created with a weigher.
 	 * @see #size()
 	 */
 	public int capacity() {
@@ -175,6 +266,39 @@ public final class ConcurrentLruCache<K, V> {
 		return this.cache.size();
 	}
 
+	/**
+	 * Return the current total weight of the entries in the cache, which is
+	 * the same as the {@link #size() size} if the cache was created without
+	 * a weigher. Reflects pending additions and removals once processed.
+	 * @since 6.1
+	 * @see #capacity()
+	 */
+	public long weightedSize() {
+		return Math.max(this.currentSize.get(), 0);
+	}
+
+	/**
+	 * Return a snapshot of the statistics recorded by this cache, with all
+	 * counts at zero unless the cache was created with statistics enabled.
+	 * @since 6.1
+	 */
+	public Statistics getStatistics() {
+		StatisticsCounter statistics = this.statistics;
+		return (statistics != null ? statistics.snapshot() : new Statistics(0, 0, 0));
+	}
+
+	private void recordHit() {
+		if (this.statistics != null) {
+			this.statistics.hits.increment();
+		}
+	}
+
+	private void recordMiss() {
+		if (this.statistics != null) {
+			this.statistics.misses.increment();
+		}
+	}
+
 	/**
 	 * Immediately remove all entries from this cache.
 	 */
@@ -202,7 +326,7 @@ public final class ConcurrentLruCache<K, V> {
 			CacheEntry<V> current = node.get();
 			CacheEntry<V> removed = new CacheEntry<>(current.value, CacheEntryState.REMOVED);
 			if (node.compareAndSet(current, removed)) {
-				this.currentSize.lazySet(this.currentSize.get() - 1);
+				this.currentSize.lazySet(this.currentSize.get() - node.weight);
 				return;
 			}
 		}
@@ -263,7 +387,7 @@ public final class ConcurrentLruCache<K, V> {
 
 		@Override
 		public void run() {
-			currentSize.lazySet(currentSize.get() + 1);
+			currentSize.lazySet(currentSize.get() + this.node.weight);
 			if (this.node.get().isActive()) {
 				evictionQueue.add(this.node);
 				evictEntries();
@@ -278,6 +402,9 @@ public final class ConcurrentLruCache<K, V> {
 				}
 				cache.remove(node.key, node);
 				markAsRemoved(node);
+				if (statistics != null) {
+					statistics.evictions.increment();
+				}
 			}
 		}
 
@@ -345,6 +472,45 @@ public final class ConcurrentLruCache<K, V> {
 		abstract boolean shouldDrainBuffers(boolean delayable);
 	}
 
+	/**
+	 * Snapshot of the statistics recorded by a {@link ConcurrentLruCache}.
+	 * @param hitCount the number of retrievals that found a cached value
+	 * @param missCount the number of retrievals that generated a new value
+	 * @param evictionCount the number of entries evicted to stay within capacity
+	 * @since 6.1
+	 */
+	public record Statistics(long hitCount, long missCount, long evictionCount) {
+
+		/**
+		 * Return the number of retrievals, i.e. hits and misses.
+		 */
+		public long requestCount() {
+			return this.hitCount + this.missCount;
+		}
+
+		/**
+		 * Return the ratio of retrievals that found a cached value, or
+		 * {@code 1.0} if there were no retrievals.
+		 */
+		public double hitRatio() {
+			long requestCount = requestCount();
+			return (requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount);
+		}
+	}
+
+	private static final class StatisticsCounter {
+
+		final LongAdder hits = new LongAdder();
+
+		final LongAdder misses = new LongAdder();
+
+		final LongAdder evictions = new LongAdder();
+
+		Statistics snapshot() {
+			return new Statistics(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+		}
+	}
+
 	private enum CacheEntryState {
 		ACTIVE, PENDING_REMOVAL, REMOVED
 	}
@@ -486,15 +652,18 @@ public final class ConcurrentLruCache<K, V> {
 	private static final class Node<K, V> extends AtomicReference<CacheEntry<V>> {
 		final K key;
 
+		final int weight;
+
 		@Nullable
 		Node<K, V> prev;
 
 		@Nullable
 		Node<K, V> next;
 
-		Node(K key, CacheEntry<V> cacheEntry) {
+		Node(K key, CacheEntry<V> cacheEntry, int weight) {
 			super(cacheEntry);
 			this.key = key;
+			this.weight = weight;
 		}
 
 		@Nullable
@@ -0,0 +1,802 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * A variant of {@link ConcurrentReferenceHashMap} that stores the entry
+ * references of each segment in an open-addressing table with linear probing,
+ * rather than in chains of linked references.
+ *
+ * <p>Entries are held through {@link ReferenceType#SOFT soft} or
+ * {@linkplain ReferenceType#WEAK weak} references with the same semantics as in
+ * {@code ConcurrentReferenceHashMap}, and {@code null} keys and values are
+ * supported as well. As opposed to chained references, the references in an
+ * open-addressing table do not point to each other: they do not need a link to
+ * the next reference, and they can be moved to a new table as is when a segment
+ * is resized or purged, instead of being recreated. This reduces the per-entry
+ * overhead and the allocation rate for large, long-lived metadata caches.
+ *
+ * <p>Read operations do not lock: they probe a snapshot of the segment table,
+ * whose slots are written with release semantics and read with acquire
+ * semantics, so that readers only ever observe fully constructed references.
+ * Write operations lock the segment of the key.
+ *
+ * <p><b>NOTE:</b> The use of references means that there is no guarantee that items
+ * placed into the map will be subsequently available. The garbage collector may discard
+ * references at any time, so it may appear that an unknown thread is silently removing
+ * entries.
+ *
+ * <p>If not explicitly specified, this implementation will use
+ * {@linkplain SoftReference soft entry references}.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ * @param <K> the key type
+ * @param <V> the value type
+ * @see ConcurrentReferenceHashMap
+ */
+public class ConcurrentReferenceOpenHashMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private static final ReferenceType DEFAULT_REFERENCE_TYPE = ReferenceType.SOFT;
+
+	private static final int MAXIMUM_CONCURRENCY_LEVEL = 1 << 16;
+
+	private static final int MAXIMUM_SEGMENT_SIZE = 1 << 30;
+
+	/**
+	 * Marker for a slot whose entry has been removed, to be skipped when probing.
+	 */
+	private static final Object REMOVED = new Object();
+
+	/**
+	 * Access to the slots of a table that may be probed concurrently.
+	 */
+	private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+
+	/**
+	 * Array of segments indexed using the high order bits from the hash.
+	 */
+	private final Segment[] segments;
+
+	/**
+	 * When the number of used slots per table exceeds this ratio, the table is rebuilt.
+	 */
+	private final float loadFactor;
+
+	/**
+	 * The reference type: SOFT or WEAK.
+	 */
+	private final ReferenceType referenceType;
+
+	/**
+	 * The shift value used to calculate the size of the segments array and an index from the hash.
+	 */
+	private final int shift;
+
+	/**
+	 * Late binding entry set.
+	 */
+	@Nullable
+	private volatile Set<Map.Entry<K, V>> entrySet;
+
+
+	/**
+	 * Create a new {@code ConcurrentReferenceOpenHashMap} instance.
+	 */
+	public ConcurrentReferenceOpenHashMap() {
+		this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL, DEFAULT_REFERENCE_TYPE);
+	}
+
+	/**
+	 * Create a new {@code ConcurrentReferenceOpenHashMap} instance.
+	 * @param initialCapacity the initial capacity of the map
+	 */
+	public ConcurrentReferenceOpenHashMap(int initialCapacity) {
+		this(initialCapacity, DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL, DEFAULT_REFERENCE_TYPE);
+	}
+
+	/**
+	 * Create a new {@code ConcurrentReferenceOpenHashMap} instance.
+	 * @param initialCapacity the initial capacity of the map
+	 * @param referenceType the reference type used for entries (soft or weak)
+	 */
+	public ConcurrentReferenceOpenHashMap(int initialCapacity, ReferenceType referenceType) {
+		this(initialCapacity, DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL, referenceType);
+	}
+
+	/**
+	 * Create a new {@code ConcurrentReferenceOpenHashMap} instance.
+	 * @param initialCapacity the initial capacity of the map
+	 * @param loadFactor the load factor. When the ratio of used slots per table
+	 * exceeds this value, resize will be attempted. Capped so that every table
+	 * keeps at least one free slot.
+	 * @param concurrencyLevel the expected number of threads that will concurrently
+	 * write to the map
+	 * @param referenceType the reference type used for entries (soft or weak)
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentReferenceOpenHashMap(
+			int initialCapacity, float loadFactor, int concurrencyLevel, ReferenceType referenceType) {
+
+		Assert.isTrue(initialCapacity >= 0, "Initial capacity must not be negative");
+		Assert.isTrue(loadFactor > 0f, "Load factor must be positive");
+		Assert.isTrue(concurrencyLevel > 0, "Concurrency level must be positive");
+		Assert.notNull(referenceType, "Reference type must not be null");
+		this.loadFactor = loadFactor;
+		this.shift = ConcurrentReferenceHashMap.calculateShift(concurrencyLevel, MAXIMUM_CONCURRENCY_LEVEL);
+		int size = 1 << this.shift;
+		this.referenceType = referenceType;
+		int roundedUpSegmentCapacity = (int) ((initialCapacity + size - 1L) / size);
+		int initialSize = 1 << ConcurrentReferenceHashMap.calculateShift(
+				(int) Math.min(roundedUpSegmentCapacity / (double) loadFactor + 1, MAXIMUM_SEGMENT_SIZE),
+				MAXIMUM_SEGMENT_SIZE);
+		Segment[] segments = (Segment[]) Array.newInstance(Segment.class, size);
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = new Segment(Math.max(initialSize, 2));
+		}
+		this.segments = segments;
+	}
+
+
+	protected final float getLoadFactor() {
+		return this.loadFactor;
+	}
+
+	protected final int getSegmentsSize() {
+		return this.segments.length;
+	}
+
+	/**
+	 * Get the hash for a given object, apply an additional hash function to reduce
+	 * collisions. This implementation uses the same Wang/Jenkins algorithm as
+	 * {@link ConcurrentReferenceHashMap}. Subclasses can override to provide
+	 * alternative hashing.
+	 * @param o the object to hash (may be null)
+	 * @return the resulting hash code
+	 */
+	protected int getHash(@Nullable Object o) {
+		int hash = (o != null ? o.hashCode() : 0);
+		hash += (hash << 15) ^ 0xffffcd7d;
+		hash ^= (hash >>> 10);
+		hash += (hash << 3);
+		hash ^= (hash >>> 6);
+		hash += (hash << 2) + (hash << 14);
+		hash ^= (hash >>> 16);
+		return hash;
+	}
+
+	@Override
+	@Nullable
+	public V get(@Nullable Object key) {
+		Entry<K, V> entry = getEntry(key);
+		return (entry != null ? entry.getValue() : null);
+	}
+
+	@Override
+	@Nullable
+	public V getOrDefault(@Nullable Object key, @Nullable V defaultValue) {
+		Entry<K, V> entry = getEntry(key);
+		return (entry != null ? entry.getValue() : defaultValue);
+	}
+
+	@Override
+	public boolean containsKey(@Nullable Object key) {
+		return (getEntry(key) != null);
+	}
+
+	@Nullable
+	private Entry<K, V> getEntry(@Nullable Object key) {
+		int hash = getHash(key);
+		Segment segment = getSegmentForHash(hash);
+		segment.purgeIfNecessary();
+		return segment.getEntry(key, hash);
+	}
+
+	@Override
+	@Nullable
+	public V put(@Nullable K key, @Nullable V value) {
+		int hash = getHash(key);
+		return getSegmentForHash(hash).put(key, hash, value, true);
+	}
+
+	@Override
+	@Nullable
+	public V putIfAbsent(@Nullable K key, @Nullable V value) {
+		int hash = getHash(key);
+		return getSegmentForHash(hash).put(key, hash, value, false);
+	}
+
+	@Override
+	@Nullable
+	public V remove(@Nullable Object key) {
+		int hash = getHash(key);
+		Entry<K, V> entry = getSegmentForHash(hash).remove(key, hash, null, false);
+		return (entry != null ? entry.getValue() : null);
+	}
+
+	@Override
+	public boolean remove(@Nullable Object key, @Nullable Object value) {
+		int hash = getHash(key);
+		return (getSegmentForHash(hash).remove(key, hash, value, true) != null);
+	}
+
+	@Override
+	public boolean replace(@Nullable K key, @Nullable V oldValue, @Nullable V newValue) {
+		int hash = getHash(key);
+		return (getSegmentForHash(hash).replace(key, hash, oldValue, true, newValue) != null);
+	}
+
+	@Override
+	@Nullable
+	public V replace(@Nullable K key, @Nullable V value) {
+		int hash = getHash(key);
+		Entry<K, V> entry = getSegmentForHash(hash).replace(key, hash, null, false, value);
+		return (entry != null ? entry.getValue() : null);
+	}
+
+	@Override
+	public void clear() {
+		for (Segment segment : this.segments) {
+			segment.clear();
+		}
+	}
+
+	/**
+	 * Remove any entries that have been garbage collected and are no longer referenced.
+	 * Under normal circumstances garbage collected entries are automatically purged as
+	 * items are added to, removed from or read from the Map. This method can be used
+	 * to force a purge.
+	 */
+	public void purgeUnreferencedEntries() {
+		for (Segment segment : this.segments) {
+			segment.purgeIfNecessary();
+		}
+	}
+
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (Segment segment : this.segments) {
+			size += segment.count;
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (Segment segment : this.segments) {
+			if (segment.count > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet;
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+			this.entrySet = entrySet;
+		}
+		return entrySet;
+	}
+
+	private Segment getSegmentForHash(int hash) {
+		return this.segments[(hash >>> (32 - this.shift)) & (this.segments.length - 1)];
+	}
+
+
+	/**
+	 * A single segment holding an open-addressing table of entry references.
+	 * Slots are {@code null}, {@link #REMOVED}, or an {@link EntryReference}.
+	 */
+	@SuppressWarnings("serial")
+	private final class Segment extends ReentrantLock {
+
+		private final ReferenceQueue<Entry<K, V>> queue = new ReferenceQueue<>();
+
+		private final int initialSize;
+
+		/**
+		 * The slots of this segment. Readers probe a snapshot of this array
+		 * without locking while writers insert references or replace them by
+		 * {@link #REMOVED} in place, so slots are read through {@link #SLOT}
+		 * with acquire semantics and written with release semantics. A rebuilt
+		 * table is filled before it is published through this volatile field.
+		 */
+		private volatile Object[] table;
+
+		/**
+		 * The number of entry references in the table, including references
+		 * that have been garbage collected but not purged yet. Only written
+		 * with the lock held, along with the table it refers to.
+		 */
+		private volatile int count;
+
+		/**
+		 * The number of non-{@code null} slots, i.e. the entry references
+		 * plus the removed slots. Guarded by the segment lock.
+		 */
+		private int used;
+
+		/**
+		 * The number of used slots at which the table is rebuilt.
+		 */
+		private int threshold;
+
+		Segment(int initialSize) {
+			this.initialSize = initialSize;
+			setTable(new Object[initialSize]);
+		}
+
+		@Nullable
+		Entry<K, V> getEntry(@Nullable Object key, int hash) {
+			if (this.count == 0) {
+				return null;
+			}
+			// Use a local copy to protect against other threads publishing a new table
+			Object[] table = this.table;
+			int mask = table.length - 1;
+			int index = hash & mask;
+			for (int probes = 0; probes < table.length; probes++) {
+				Object slot = SLOT.getAcquire(table, index);
+				if (slot == null) {
+					return null;
+				}
+				if (slot != REMOVED) {
+					Entry<K, V> entry = matchEntry(slot, key, hash);
+					if (entry != null) {
+						return entry;
+					}
+				}
+				index = (index + 1) & mask;
+			}
+			return null;
+		}
+
+		@Nullable
+		V put(@Nullable K key, int hash, @Nullable V value, boolean overwriteExisting) {
+			lock();
+			try {
+				purge();
+				int index = indexOf(key, hash);
+				if (index >= 0) {
+					Entry<K, V> entry = entryAt(index);
+					if (entry != null) {
+						V oldValue = entry.getValue();
+						if (overwriteExisting) {
+							entry.setValue(value);
+						}
+						return oldValue;
+					}
+				}
+				if (this.used >= this.threshold) {
+					rebuild();
+				}
+				insert(this.table, createReference(new ConcurrentReferenceHashMap.Entry<>(key, value), hash));
+				this.count++;
+				return null;
+			}
+			finally {
+				unlock();
+			}
+		}
+
+		@Nullable
+		Entry<K, V> remove(@Nullable Object key, int hash, @Nullable Object value, boolean matchValue) {
+			if (this.count == 0) {
+				return null;
+			}
+			lock();
+			try {
+				purge();
+				int index = indexOf(key, hash);
+				Entry<K, V> entry = (index >= 0 ? entryAt(index) : null);
+				if (entry == null || (matchValue && !ObjectUtils.nullSafeEquals(entry.getValue(), value))) {
+					return null;
+				}
+				removeAt(index);
+				return entry;
+			}
+			finally {
+				unlock();
+			}
+		}
+
+		@Nullable
+		Entry<K, V> replace(@Nullable K key, int hash, @Nullable V oldValue, boolean matchValue, @Nullable V newValue) {
+			if (this.count == 0) {
+				return null;
+			}
+			lock();
+			try {
+				purge();
+				int index = indexOf(key, hash);
+				Entry<K, V> entry = (index >= 0 ? entryAt(index) : null);
+				if (entry == null || (matchValue && !ObjectUtils.nullSafeEquals(entry.getValue(), oldValue))) {
+					return null;
+				}
+				// Return a detached entry holding the previous value
+				Entry<K, V> previous = new ConcurrentReferenceHashMap.Entry<>(entry.getKey(), entry.getValue());
+				entry.setValue(newValue);
+				return previous;
+			}
+			finally {
+				unlock();
+			}
+		}
+
+		void clear() {
+			if (this.count == 0) {
+				return;
+			}
+			lock();
+			try {
+				while (this.queue.poll() != null) {
+					// references of the old table do not need to be purged
+				}
+				setTable(new Object[this.initialSize]);
+				this.count = 0;
+			}
+			finally {
+				unlock();
+			}
+		}
+
+		/**
+		 * Purge references that have been garbage collected, if any, without
+		 * locking when there are none.
+		 */
+		void purgeIfNecessary() {
+			if (this.queue.poll() instanceof EntryReference<?, ?> ref) {
+				lock();
+				try {
+					purge(ref);
+					purge();
+				}
+				finally {
+					unlock();
+				}
+			}
+		}
+
+		private void purge() {
+			Object ref;
+			while ((ref = this.queue.poll()) != null) {
+				purge((EntryReference<?, ?>) ref);
+			}
+		}
+
+		private void purge(EntryReference<?, ?> ref) {
+			Object[] table = this.table;
+			int mask = table.length - 1;
+			int index = ref.getHash() & mask;
+			for (int probes = 0; probes < table.length; probes++) {
+				Object slot = table[index];
+				if (slot == null) {
+					// Already dropped when the table was rebuilt
+					return;
+				}
+				if (slot == ref) {
+					removeAt(index);
+					return;
+				}
+				index = (index + 1) & mask;
+			}
+		}
+
+		/**
+		 * Return the index of the slot holding the entry for the given key,
+		 * or -1 if not found. To be called with the lock held.
+		 */
+		private int indexOf(@Nullable Object key, int hash) {
+			Object[] table = this.table;
+			int mask = table.length - 1;
+			int index = hash & mask;
+			for (int probes = 0; probes < table.length; probes++) {
+				Object slot = table[index];
+				if (slot == null) {
+					return -1;
+				}
+				if (slot != REMOVED && matchEntry(slot, key, hash) != null) {
+					return index;
+				}
+				index = (index + 1) & mask;
+			}
+			return -1;
+		}
+
+		@Nullable
+		@SuppressWarnings("unchecked")
+		private Entry<K, V> entryAt(int index) {
+			Object slot = this.table[index];
+			return (slot instanceof EntryReference<?, ?> ref ? ((EntryReference<K, V>) ref).get() : null);
+		}
+
+		private void removeAt(int index) {
+			Object slot = this.table[index];
+			if (slot instanceof EntryReference<?, ?> ref) {
+				// Cleared references are not enqueued by the garbage collector anymore
+				ref.clear();
+			}
+			SLOT.setRelease(this.table, index, REMOVED);
+			this.count--;
+		}
+
+		/**
+		 * Move the live references into a new table, dropping removed slots and
+		 * references that have been garbage collected, and doubling the size of
+		 * the table if it is still more than half full afterwards. To be called
+		 * with the lock held.
+		 */
+		private void rebuild() {
+			Object[] table = this.table;
+			int live = 0;
+			for (Object slot : table) {
+				if (slot instanceof EntryReference<?, ?> ref && ref.get() != null) {
+					live++;
+				}
+			}
+			int size = table.length;
+			if (live >= this.threshold / 2 && size < MAXIMUM_SEGMENT_SIZE) {
+				size <<= 1;
+			}
+			// Count the references actually moved: the garbage collector may have
+			// cleared some of them since they were counted for sizing the table.
+			// A reference cleared after being moved is purged from the new table.
+			Object[] rebuilt = new Object[size];
+			int moved = 0;
+			for (Object slot : table) {
+				if (slot instanceof EntryReference<?, ?> ref && ref.get() != null) {
+					insert(rebuilt, ref);
+					moved++;
+				}
+			}
+			// Count before table, so that readers of the new table see its count
+			this.count = moved;
+			setTable(rebuilt);
+			this.used = moved;
+		}
+
+		private void insert(Object[] table, EntryReference<?, ?> ref) {
+			int mask = table.length - 1;
+			int index = ref.getHash() & mask;
+			while (table[index] != null && table[index] != REMOVED) {
+				index = (index + 1) & mask;
+			}
+			if (table[index] == null) {
+				this.used++;
+			}
+			SLOT.setRelease(table, index, ref);
+		}
+
+		private void setTable(Object[] table) {
+			this.used = 0;
+			this.threshold = Math.min((int) (table.length * getLoadFactor()), table.length - 1);
+			this.table = table;
+		}
+
+		@Nullable
+		@SuppressWarnings("unchecked")
+		private Entry<K, V> matchEntry(Object slot, @Nullable Object key, int hash) {
+			EntryReference<K, V> ref = (EntryReference<K, V>) slot;
+			if (ref.getHash() == hash) {
+				Entry<K, V> entry = ref.get();
+				if (entry != null && ObjectUtils.nullSafeEquals(entry.getKey(), key)) {
+					return entry;
+				}
+			}
+			return null;
+		}
+
+		private EntryReference<K, V> createReference(Entry<K, V> entry, int hash) {
+			if (ConcurrentReferenceOpenHashMap.this.referenceType == ReferenceType.WEAK) {
+				return new WeakEntryReference<>(entry, hash, this.queue);
+			}
+			return new SoftEntryReference<>(entry, hash, this.queue);
+		}
+	}
+
+
+	/**
+	 * A reference to an {@link Entry} contained in the map, without a link
+	 * to other references.
+	 */
+	private interface EntryReference<K, V> {
+
+		@Nullable
+		Entry<K, V> get();
+
+		int getHash();
+
+		void clear();
+	}
+
+
+	/**
+	 * Internal {@link EntryReference} implementation for {@link SoftReference SoftReferences}.
+	 */
+	private static final class SoftEntryReference<K, V> extends SoftReference<Entry<K, V>>
+			implements EntryReference<K, V> {
+
+		private final int hash;
+
+		SoftEntryReference(Entry<K, V> entry, int hash, ReferenceQueue<Entry<K, V>> queue) {
+			super(entry, queue);
+			this.hash = hash;
+		}
+
+		@Override
+		public int getHash() {
+			return this.hash;
+		}
+	}
+
+
+	/**
+	 * Internal {@link EntryReference} implementation for {@link WeakReference WeakReferences}.
+	 */
+	private static final class WeakEntryReference<K, V> extends WeakReference<Entry<K, V>>
+			implements EntryReference<K, V> {
+
+		private final int hash;
+
+		WeakEntryReference(Entry<K, V> entry, int hash, ReferenceQueue<Entry<K, V>> queue) {
+			super(entry, queue);
+			this.hash = hash;
+		}
+
+		@Override
+		public int getHash() {
+			return this.hash;
+		}
+	}
+
+
+	/**
+	 * Internal entry-set implementation.
+	 */
+	private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public boolean contains(@Nullable Object o) {
+			if (o instanceof Map.Entry<?, ?> entry) {
+				int hash = getHash(entry.getKey());
+				Entry<K, V> otherEntry = getSegmentForHash(hash).getEntry(entry.getKey(), hash);
+				if (otherEntry != null) {
+					return ObjectUtils.nullSafeEquals(entry.getValue(), otherEntry.getValue());
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if (o instanceof Map.Entry<?, ?> entry) {
+				return ConcurrentReferenceOpenHashMap.this.remove(entry.getKey(), entry.getValue());
+			}
+			return false;
+		}
+
+		@Override
+		public int size() {
+			return ConcurrentReferenceOpenHashMap.this.size();
+		}
+
+		@Override
+		public void clear() {
+			ConcurrentReferenceOpenHashMap.this.clear();
+		}
+	}
+
+
+	/**
+	 * Internal entry iterator implementation, iterating over a snapshot of
+	 * each segment table.
+	 */
+	private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+		private int segmentIndex;
+
+		private int slotIndex;
+
+		@Nullable
+		private Object[] table;
+
+		@Nullable
+		private Entry<K, V> next;
+
+		@Nullable
+		private Entry<K, V> last;
+
+		@Override
+		public boolean hasNext() {
+			getNextIfNecessary();
+			return (this.next != null);
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			getNextIfNecessary();
+			if (this.next == null) {
+				throw new NoSuchElementException();
+			}
+			this.last = this.next;
+			this.next = null;
+			return this.last;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void getNextIfNecessary() {
+			Segment[] segments = ConcurrentReferenceOpenHashMap.this.segments;
+			while (this.next == null) {
+				if (this.table == null || this.slotIndex >= this.table.length) {
+					if (this.segmentIndex >= segments.length) {
+						return;
+					}
+					this.table = segments[this.segmentIndex++].table;
+					this.slotIndex = 0;
+					continue;
+				}
+				Object slot = SLOT.getAcquire(this.table, this.slotIndex++);
+				if (slot instanceof EntryReference<?, ?> ref) {
+					this.next = ((EntryReference<K, V>) ref).get();
+				}
+			}
+		}
+
+		@Override
+		public void remove() {
+			Assert.state(this.last != null, "No element to remove");
+			ConcurrentReferenceOpenHashMap.this.remove(this.last.getKey());
+			this.last = null;
+		}
+	}
+
+}
@@ -116,6 +116,39 @@ class ResolvableTypeTests {
 		assertThat(type.isAssignableFrom(String.class)).isTrue();
 	}
 
+	@Test
+	void forClassReturnsSharedInstance() throws Exception {
+		ResolvableType type = ResolvableType.forClass(ExtendsList.class);
+		assertThat(ResolvableType.forClass(ExtendsList.class)).isSameAs(type);
+		assertThat(ResolvableType.forType(ExtendsList.class)).isSameAs(type);
+		assertThat(ResolvableType.forClass(null)).isSameAs(ResolvableType.forClass(Object.class));
+		assertThat(type.as(List.class)).isSameAs(ResolvableType.forClass(ExtendsList.class).as(List.class));
+	}
+
+	@Test
+	void forTypeReturnsSharedInstanceForParameterizedType() throws Exception {
+		Type listType = Fields.class.getField("charSequenceList").getGenericType();
+		ResolvableType type = ResolvableType.forType(listType);
+		assertThat(ResolvableType.forType(listType)).isSameAs(type);
+		assertThat(type.getGeneric().resolve()).isEqualTo(CharSequence.class);
+		assertThat(type.getGeneric()).isSameAs(ResolvableType.forClass(CharSequence.class));
+
+		ResolvableType.clearCache();
+		ResolvableType typeAfterClear = ResolvableType.forType(listType);
+		assertThat(typeAfterClear).isNotSameAs(type).isEqualTo(type);
+	}
+
+	@Test
+	void forFieldDoesNotReturnSharedInstance() throws Exception {
+		Field field = Fields.class.getDeclaredField("privateField");
+		Field field2 = Fields.class.getDeclaredField("otherPrivateField");
+		ResolvableType type = ResolvableType.forField(field);
+		ResolvableType type2 = ResolvableType.forField(field2);
+		assertThat(type2).isNotSameAs(type).isEqualTo(type);
+		assertThat(type.getSource()).isSameAs(field);
+		assertThat(type2.getSource()).isSameAs(field2);
+	}
+
 	@Test
 	void forRawClass() throws Exception {
 		ResolvableType type = ResolvableType.forRawClass(ExtendsList.class);
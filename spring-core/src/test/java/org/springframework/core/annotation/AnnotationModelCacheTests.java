@@ -0,0 +1,88 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.core.type.AnnotationMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AnnotationModelCache}.
+ *
+ * @author Spring Framework Team
+ */
+class AnnotationModelCacheTests {
+
+	@Test
+	void fromClassReturnsSharedInstance() {
+		MergedAnnotations annotations = MergedAnnotations.from(WithTestAnnotation.class, SearchStrategy.TYPE_HIERARCHY);
+		assertThat(MergedAnnotations.from(WithTestAnnotation.class, SearchStrategy.TYPE_HIERARCHY)).isSameAs(annotations);
+		assertThat(MergedAnnotations.from(WithTestAnnotation.class, SearchStrategy.DIRECT)).isNotSameAs(annotations);
+		assertThat(MergedAnnotations.from(WithTestAnnotation.class, SearchStrategy.TYPE_HIERARCHY,
+				RepeatableContainers.none())).isNotSameAs(annotations);
+		assertThat(annotations.isPresent(TestAnnotation.class)).isTrue();
+	}
+
+	@Test
+	void fromClassWithCustomFilterDoesNotReturnSharedInstance() {
+		MergedAnnotations annotations = MergedAnnotations.from(WithTestAnnotation.class, SearchStrategy.DIRECT,
+				RepeatableContainers.standardRepeatables(), AnnotationFilter.NONE);
+		assertThat(MergedAnnotations.from(WithTestAnnotation.class, SearchStrategy.DIRECT,
+				RepeatableContainers.standardRepeatables(), AnnotationFilter.NONE)).isNotSameAs(annotations);
+	}
+
+	@Test
+	void introspectedMetadataSharesInstanceWithMergedAnnotations() {
+		MergedAnnotations annotations = AnnotationMetadata.introspect(WithTestAnnotation.class).getAnnotations();
+		assertThat(MergedAnnotations.from(WithTestAnnotation.class, SearchStrategy.INHERITED_ANNOTATIONS,
+				RepeatableContainers.none())).isSameAs(annotations);
+	}
+
+	@Test
+	void getCacheStatisticsRecordsHitsAndMisses() {
+		AnnotationModelCache.forClass(WithTestAnnotation.class);
+		AnnotationCacheStatistics before = AnnotationUtils.getCacheStatistics();
+		AnnotationModelCache.forClass(WithTestAnnotation.class);
+		AnnotationCacheStatistics after = AnnotationUtils.getCacheStatistics();
+		assertThat(after.requestCount()).isGreaterThan(before.requestCount());
+		assertThat(after.hitCount()).isGreaterThan(before.hitCount());
+	}
+
+	@Test
+	void clearCacheRemovesModels() {
+		MergedAnnotations annotations = MergedAnnotations.from(WithTestAnnotation.class);
+		AnnotationUtils.clearCache();
+		assertThat(MergedAnnotations.from(WithTestAnnotation.class)).isNotSameAs(annotations);
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface TestAnnotation {
+	}
+
+
+	@TestAnnotation
+	static class WithTestAnnotation {
+	}
+
+}
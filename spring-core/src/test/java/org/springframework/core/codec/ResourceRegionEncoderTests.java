@@ -16,6 +16,8 @@
 
 package org.springframework.core.codec;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
 import java.util.Collections;
 import java.util.function.Consumer;
 
@@ -31,6 +33,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.FileRegionDataBuffer;
 import org.springframework.core.io.support.ResourceRegion;
 import org.springframework.core.testfixture.io.buffer.AbstractLeakCheckingTests;
 import org.springframework.util.MimeType;
@@ -116,6 +119,34 @@ class ResourceRegionEncoderTests extends AbstractLeakCheckingTests {
 				.verify();
 	}
 
+	@Test
+	void shouldEncodeResourceRegionAsFileRegion() {
+		ResourceRegion region = new ResourceRegion(
+				new ClassPathResource("ResourceRegionEncoderTests.txt", getClass()), 7, 9);
+		Flux<DataBuffer> result = this.encoder.encode(Mono.just(region), this.bufferFactory,
+				ResolvableType.forClass(ResourceRegion.class),
+				MimeTypeUtils.APPLICATION_OCTET_STREAM,
+				Collections.singletonMap(ResourceRegionEncoder.FILE_REGION_HINT, true));
+
+		StepVerifier.create(result)
+				.consumeNextWith(dataBuffer -> {
+					assertThat(dataBuffer).isInstanceOf(FileRegionDataBuffer.class);
+					FileRegionDataBuffer fileRegion = (FileRegionDataBuffer) dataBuffer;
+					assertThat(fileRegion.getPosition()).isEqualTo(7);
+					assertThat(fileRegion.getCount()).isEqualTo(9);
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					try {
+						assertThat(fileRegion.transferTo(Channels.newChannel(out))).isEqualTo(9);
+					}
+					catch (Exception ex) {
+						throw new AssertionError(ex);
+					}
+					assertThat(out.toString(UTF_8)).isEqualTo("Framework");
+				})
+				.expectComplete()
+				.verify();
+	}
+
 	@Test // gh-22107
 	void cancelWithoutDemandForMultipleResourceRegions() {
 		Resource resource = new ClassPathResource("ResourceRegionEncoderTests.txt", getClass());
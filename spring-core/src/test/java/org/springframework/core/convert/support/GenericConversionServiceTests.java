@@ -565,6 +565,58 @@ class GenericConversionServiceTests {
 		assertThat(conversionService.convert("test", TypeDescriptor.valueOf(String.class), new TypeDescriptor(getClass().getField("integerCollection")))).isEqualTo(Collections.singleton("testX"));
 	}
 
+	@Test
+	void resolveConverterForConverter() {
+		conversionService.addConverter(String.class, Integer.class, source -> (source.isEmpty() ? null : Integer.valueOf(source)));
+		Converter<String, Integer> converter = conversionService.resolveConverter(String.class, Integer.class);
+		assertThat(converter.convert("3")).isEqualTo(3);
+		assertThat(converter.convert("")).isNull();
+
+		Converter<String, Integer> primitiveConverter = conversionService.resolveConverter(String.class, int.class);
+		assertThat(primitiveConverter.convert("3")).isEqualTo(3);
+		assertThatExceptionOfType(ConversionFailedException.class).isThrownBy(() ->
+				primitiveConverter.convert(""));
+	}
+
+	@Test
+	void resolveConverterForConverterFactory() {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		Converter<String, Long> converter = conversionService.resolveConverter(String.class, Long.class);
+		assertThat(converter.convert("5")).isEqualTo(5L);
+		assertThatExceptionOfType(ConversionFailedException.class)
+				.isThrownBy(() -> converter.convert("five"))
+				.withCauseInstanceOf(NumberFormatException.class);
+	}
+
+	@Test
+	void resolveConverterForAssignableTypes() {
+		Integer value = 3;
+		assertThat(conversionService.resolveConverter(Integer.class, Number.class).convert(value)).isSameAs(value);
+	}
+
+	@Test
+	void resolveConverterForGenericConverter() throws Exception {
+		conversionService.addConverter(new CollectionToCollectionConverter(conversionService));
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		Converter<Object, Object> converter = conversionService.resolveConverter(
+				TypeDescriptor.valueOf(List.class), new TypeDescriptor(getClass().getField("integerCollection")));
+		assertThat((Collection<?>) converter.convert(List.of("1", "2"))).containsExactly(1, 2);
+	}
+
+	@Test
+	void resolveConverterNotFound() {
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() ->
+				conversionService.resolveConverter(String.class, Integer.class));
+	}
+
+	@Test
+	void resolveConverterRejectsSourceOfDifferentType() {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		Converter<Object, Object> converter = conversionService.resolveConverter(
+				TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Integer.class));
+		assertThatIllegalArgumentException().isThrownBy(() -> converter.convert(3));
+	}
+
 
 	@ExampleAnnotation(active = true)
 	public String annotatedString;
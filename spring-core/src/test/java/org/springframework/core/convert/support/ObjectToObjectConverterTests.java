@@ -21,7 +21,9 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConverterNotFoundException;
+import org.springframework.core.convert.converter.Converter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -77,6 +79,21 @@ class ObjectToObjectConverterTests {
 				.isThrownBy(() -> conversionService.convert("test", Data.class));
 	}
 
+	@Test
+	void resolvedConverterWithToMethod() {
+		Converter<Source, Data> converter = conversionService.resolveConverter(Source.class, Data.class);
+		assertThat(converter.convert(new Source("test"))).asString().isEqualTo("test");
+	}
+
+	@Test
+	void resolvedConverterWithStaticFactoryMethod() {
+		Converter<String, Code> converter = conversionService.resolveConverter(String.class, Code.class);
+		assertThat(converter.convert("test")).asString().isEqualTo("test");
+		assertThatExceptionOfType(ConversionFailedException.class)
+				.isThrownBy(() -> converter.convert(""))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
 
 	static class Source {
 
@@ -124,4 +141,26 @@ class ObjectToObjectConverterTests {
 		}
 	}
 
+
+	static class Code {
+
+		private final String value;
+
+		private Code(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public String toString() {
+			return this.value;
+		}
+
+		public static Code of(String value) {
+			if (value.isEmpty()) {
+				throw new IllegalArgumentException("Code must not be empty");
+			}
+			return new Code(value);
+		}
+	}
+
 }
@@ -332,4 +332,70 @@ class PropertySourcesPropertyResolverTests {
 			.withMessageContaining("Could not resolve placeholder 'bogus' in value \"${p1}:${p2}:${bogus}\"");
 	}
 
+	@Test
+	void cachedPropertiesAreInvalidatedOnPropertySourcesChange() {
+		PropertySourcesPropertyResolver resolver = new PropertySourcesPropertyResolver(propertySources);
+		resolver.setCacheResolvedProperties(true);
+		testProperties.put("foo", "bar");
+		testProperties.put("num", "5");
+		assertThat(resolver.getProperty("foo")).isEqualTo("bar");
+		assertThat(resolver.getProperty("num", Integer.class)).isEqualTo(5);
+		assertThat(resolver.getProperty("missing")).isNull();
+
+		testProperties.put("foo", "baz");
+		testProperties.put("missing", "found");
+		assertThat(resolver.getProperty("foo")).isEqualTo("bar");
+		assertThat(resolver.getProperty("missing")).isNull();
+
+		propertySources.addFirst(new MockPropertySource().withProperty("num", "6"));
+		assertThat(resolver.getProperty("foo")).isEqualTo("baz");
+		assertThat(resolver.getProperty("num", Integer.class)).isEqualTo(6);
+		assertThat(resolver.getProperty("missing")).isEqualTo("found");
+
+		propertySources.remove(MockPropertySource.MOCK_PROPERTIES_PROPERTY_SOURCE_NAME);
+		assertThat(resolver.getProperty("num", Integer.class)).isEqualTo(5);
+	}
+
+	@Test
+	void cachedPropertiesAreInvalidatedOnClearCache() {
+		PropertySourcesPropertyResolver resolver = new PropertySourcesPropertyResolver(propertySources);
+		resolver.setCacheResolvedProperties(true);
+		testProperties.put("foo", "${bar}");
+		testProperties.put("bar", "1");
+		assertThat(resolver.getProperty("foo")).isEqualTo("1");
+
+		testProperties.put("bar", "2");
+		assertThat(resolver.getProperty("foo")).isEqualTo("1");
+		resolver.clearCache();
+		assertThat(resolver.getProperty("foo")).isEqualTo("2");
+	}
+
+	@Test
+	void cachedPropertiesAreInvalidatedOnPlaceholderSyntaxChange() {
+		PropertySourcesPropertyResolver resolver = new PropertySourcesPropertyResolver(propertySources);
+		resolver.setCacheResolvedProperties(true);
+		testProperties.put("foo", "1");
+		assertThat(resolver.getProperty("foo")).isEqualTo("1");
+
+		testProperties.put("foo", "2");
+		resolver.setPlaceholderPrefix("${");
+		assertThat(resolver.getProperty("foo")).isEqualTo("2");
+		testProperties.put("foo", "3");
+		resolver.setPlaceholderSuffix("}");
+		assertThat(resolver.getProperty("foo")).isEqualTo("3");
+		testProperties.put("foo", "4");
+		resolver.setValueSeparator(":");
+		assertThat(resolver.getProperty("foo")).isEqualTo("4");
+	}
+
+	@Test
+	void unresolvablePlaceholdersAreNotCached() {
+		PropertySourcesPropertyResolver resolver = new PropertySourcesPropertyResolver(propertySources);
+		resolver.setCacheResolvedProperties(true);
+		testProperties.put("foo", "${bogus}");
+		assertThatIllegalArgumentException().isThrownBy(() -> resolver.getProperty("foo"));
+		resolver.setIgnoreUnresolvableNestedPlaceholders(true);
+		assertThat(resolver.getProperty("foo")).isEqualTo("${bogus}");
+	}
+
 }
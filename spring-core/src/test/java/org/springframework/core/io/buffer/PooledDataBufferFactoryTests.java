@@ -0,0 +1,152 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PooledDataBufferFactory}.
+ */
+class PooledDataBufferFactoryTests {
+
+	private final PooledDataBufferFactory factory = new PooledDataBufferFactory(false, 1024, 4, 2);
+
+
+	@Test
+	void allocateRoundsUpToSizeClass() {
+		assertAllocatedCapacity(0, 64);
+		assertAllocatedCapacity(1, 64);
+		assertAllocatedCapacity(64, 64);
+		assertAllocatedCapacity(65, 128);
+		assertAllocatedCapacity(1000, 1024);
+		assertAllocatedCapacity(1025, 1025);
+	}
+
+	private void assertAllocatedCapacity(int initialCapacity, int expected) {
+		PooledDataBuffer buffer = this.factory.allocateBuffer(initialCapacity);
+		assertThat(buffer.capacity()).isEqualTo(expected);
+		assertThat(buffer.factory()).isSameAs(this.factory);
+		assertThat(buffer.release()).isTrue();
+	}
+
+	@Test
+	void maxPooledCapacityRoundedUp() {
+		assertThat(new PooledDataBufferFactory(false, 1000, 1, 0).getMaxPooledCapacity()).isEqualTo(1024);
+	}
+
+	@Test
+	void releasedMemoryIsReused() {
+		PooledDataBuffer buffer = this.factory.allocateBuffer(10);
+		buffer.write("foo", StandardCharsets.UTF_8);
+		assertThat(buffer.release()).isTrue();
+
+		PooledDataBuffer reused = this.factory.allocateBuffer(20);
+		assertThat(reused.readableByteCount()).isZero();
+		reused.writePosition(3);
+		assertThat(reused.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+		reused.release();
+	}
+
+	@Test
+	void releasedMemoryIsReusedWithoutThreadCache() {
+		PooledDataBufferFactory factory = new PooledDataBufferFactory(true, 1024, 4, 0);
+		PooledDataBuffer buffer = factory.allocateBuffer(10);
+		buffer.write("foo", StandardCharsets.UTF_8);
+		assertThat(buffer.release()).isTrue();
+
+		PooledDataBuffer reused = factory.allocateBuffer(10);
+		reused.writePosition(3);
+		assertThat(reused.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+		reused.release();
+	}
+
+	@Test
+	void accessAfterRelease() {
+		PooledDataBuffer buffer = this.factory.allocateBuffer(10);
+		buffer.write((byte) 'a');
+		buffer.release();
+
+		assertThat(buffer.isAllocated()).isFalse();
+		assertThatIllegalStateException().isThrownBy(buffer::read);
+		assertThatIllegalStateException().isThrownBy(() -> buffer.write((byte) 'b'));
+		assertThatIllegalStateException().isThrownBy(buffer::release);
+		assertThatIllegalStateException().isThrownBy(buffer::retain);
+	}
+
+	@Test
+	void splitSharesReferenceCount() {
+		PooledDataBuffer buffer = this.factory.allocateBuffer(10);
+		buffer.write("foobar", StandardCharsets.UTF_8);
+
+		DataBuffer foo = buffer.split(3);
+		assertThat(foo).isInstanceOf(PooledDataBuffer.class);
+		assertThat(foo.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("bar");
+
+		assertThat(DataBufferUtils.release(foo)).isFalse();
+		assertThat(buffer.isAllocated()).isTrue();
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("bar");
+		assertThat(buffer.release()).isTrue();
+	}
+
+	@Test
+	void writeReturnsSameBuffer() {
+		PooledDataBuffer buffer = this.factory.allocateBuffer(2);
+		DataBuffer result = buffer.write((byte) 'a').write(new byte[] {'b', 'c'}).ensureWritable(100);
+		assertThat(result).isSameAs(buffer);
+		assertThat(buffer.capacity()).isGreaterThanOrEqualTo(103);
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("abc");
+		assertThat(buffer.release()).isTrue();
+	}
+
+	@Test
+	void wrap() {
+		PooledDataBuffer buffer = this.factory.wrap("foo".getBytes(StandardCharsets.UTF_8));
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+		assertThat(buffer.factory()).isSameAs(this.factory);
+		assertThat(buffer.release()).isTrue();
+	}
+
+	@Test
+	void join() {
+		PooledDataBuffer foo = this.factory.wrap("foo".getBytes(StandardCharsets.UTF_8));
+		PooledDataBuffer bar = this.factory.allocateBuffer(3);
+		bar.write("bar".getBytes(StandardCharsets.UTF_8));
+
+		PooledDataBuffer result = this.factory.join(List.of(foo, bar));
+		assertThat(result.toString(StandardCharsets.UTF_8)).isEqualTo("foobar");
+		assertThat(foo.isAllocated()).isFalse();
+		assertThat(bar.isAllocated()).isFalse();
+		assertThat(result.release()).isTrue();
+	}
+
+	@Test
+	void touchWithLeakDetection() {
+		this.factory.setLeakDetection(true);
+		PooledDataBuffer buffer = this.factory.allocateBuffer(10);
+		assertThat(DataBufferUtils.touch(buffer, "hint")).isSameAs(buffer);
+		assertThat(DataBufferUtils.release(buffer.split(0))).isFalse();
+		assertThat(buffer.release()).isTrue();
+	}
+
+}
@@ -21,14 +21,24 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.FileSystemResource;
@@ -278,6 +288,96 @@ class PathMatchingResourcePatternResolverTests {
 	}
 
 
+	@Nested
+	class JarEntriesCache {
+
+		@TempDir
+		Path tempDir;
+
+		@Test
+		void jarEntriesAreCachedUntilCacheIsCleared() throws IOException {
+			Path jar = this.tempDir.resolve("sample.jar");
+			String pattern = "jar:" + jar.toUri() + "!/sample/*.txt";
+			writeJar(jar, "sample/a.txt", "other/c.txt");
+			assertThat(resolver.getResources(pattern)).extracting(Resource::getFilename).containsExactly("a.txt");
+
+			writeJar(jar, "sample/a.txt", "sample/b.txt", "other/c.txt");
+			assertThat(resolver.getResources(pattern)).extracting(Resource::getFilename).containsExactly("a.txt");
+			resolver.clearCache();
+			assertThat(resolver.getResources(pattern)).extracting(Resource::getFilename)
+					.containsExactly("a.txt", "b.txt");
+		}
+
+		@Test
+		void jarEntriesAreNotCachedIfDisabled() throws IOException {
+			Path jar = this.tempDir.resolve("sample.jar");
+			String pattern = "jar:" + jar.toUri() + "!/sample/*.txt";
+			resolver.setCacheJarEntries(false);
+			writeJar(jar, "sample/a.txt");
+			assertThat(resolver.getResources(pattern)).extracting(Resource::getFilename).containsExactly("a.txt");
+
+			writeJar(jar, "sample/a.txt", "sample/b.txt");
+			assertThat(resolver.getResources(pattern)).extracting(Resource::getFilename)
+					.containsExactlyInAnyOrder("a.txt", "b.txt");
+		}
+
+		@Test
+		void jarEntriesCacheIsSharedThroughResourceLoader() throws IOException {
+			Path jar = this.tempDir.resolve("sample.jar");
+			String pattern = "jar:" + jar.toUri() + "!/sample/**/*.txt";
+			DefaultResourceLoader resourceLoader = new DefaultResourceLoader();
+			writeJar(jar, "sample/a.txt", "sample/nested/b.txt", "other/c.txt");
+			assertThat(new PathMatchingResourcePatternResolver(resourceLoader).getResources(pattern))
+					.extracting(Resource::getFilename).containsExactly("a.txt", "b.txt");
+
+			writeJar(jar, "sample/a.txt", "other/c.txt");
+			assertThat(new PathMatchingResourcePatternResolver(resourceLoader).getResources(pattern))
+					.extracting(Resource::getFilename).containsExactly("a.txt", "b.txt");
+			resourceLoader.clearResourceCaches();
+			assertThat(new PathMatchingResourcePatternResolver(resourceLoader).getResources(pattern))
+					.extracting(Resource::getFilename).containsExactly("a.txt");
+		}
+
+		@Test
+		void rootDirectoriesAreSearchedInParallel() throws IOException {
+			List<URL> jars = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				Path jar = this.tempDir.resolve("sample" + i + ".jar");
+				writeJar(jar, "sample/a" + i + ".txt", "sample/b" + i + ".txt", "other/c.txt");
+				jars.add(jar.toUri().toURL());
+			}
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			try (URLClassLoader classLoader = new URLClassLoader(jars.toArray(new URL[0]), null)) {
+				resolver = new PathMatchingResourcePatternResolver(classLoader);
+				resolver.setRootDirectoryExecutor(executor);
+				assertThat(resolver.getResources("classpath*:sample/*.txt")).extracting(Resource::getFilename)
+						.containsExactly("a0.txt", "b0.txt", "a1.txt", "b1.txt", "a2.txt", "b2.txt", "a3.txt", "b3.txt");
+			}
+			finally {
+				executor.shutdown();
+			}
+		}
+
+		private static void writeJar(Path jar, String... entries) throws IOException {
+			Set<String> directories = new HashSet<>();
+			try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+				for (String entry : entries) {
+					for (int i = entry.indexOf('/'); i != -1; i = entry.indexOf('/', i + 1)) {
+						String directory = entry.substring(0, i + 1);
+						if (directories.add(directory)) {
+							out.putNextEntry(new JarEntry(directory));
+							out.closeEntry();
+						}
+					}
+					out.putNextEntry(new JarEntry(entry));
+					out.write(entry.getBytes(StandardCharsets.UTF_8));
+					out.closeEntry();
+				}
+			}
+		}
+	}
+
+
 	private void assertFilenames(String pattern, String... filenames) {
 		assertFilenames(pattern, false, filenames);
 	}
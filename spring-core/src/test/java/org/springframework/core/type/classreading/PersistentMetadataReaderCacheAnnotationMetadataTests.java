@@ -0,0 +1,58 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AbstractAnnotationMetadataTests;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Tests for {@link AnnotationMetadata} read back from a
+ * {@link PersistentMetadataReaderCache}.
+ *
+ * @author Spring Framework Team
+ */
+class PersistentMetadataReaderCacheAnnotationMetadataTests extends AbstractAnnotationMetadataTests {
+
+	@TempDir
+	Path cacheDirectory;
+
+
+	@Override
+	protected AnnotationMetadata get(Class<?> source) {
+		try {
+			Resource resource = new ClassPathResource(
+					ClassUtils.convertClassNameToResourcePath(source.getName()) + ClassUtils.CLASS_FILE_SUFFIX,
+					source.getClassLoader());
+			PersistentMetadataReaderCache cache = new PersistentMetadataReaderCache(this.cacheDirectory);
+			cache.getMetadataReader(resource, source.getClassLoader());
+			cache.persist();
+			return new PersistentMetadataReaderCache(this.cacheDirectory)
+					.getMetadataReader(resource, source.getClassLoader()).getAnnotationMetadata();
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.Scope;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentMetadataReaderCache} and its use by
+ * {@link CachingMetadataReaderFactory}.
+ *
+ * @author Spring Framework Team
+ */
+class PersistentMetadataReaderCacheTests {
+
+	private static final String CLASS_FILE_NAME =
+			ClassUtils.convertClassNameToResourcePath(SampleComponent.class.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+
+	@TempDir
+	Path tempDirectory;
+
+	private Path cacheDirectory;
+
+	private Path classesDirectory;
+
+
+	@BeforeEach
+	void setup() {
+		this.cacheDirectory = this.tempDirectory.resolve("cache");
+		this.classesDirectory = this.tempDirectory.resolve("classes");
+	}
+
+	@Test
+	void metadataIsReusedAcrossRestarts() throws IOException {
+		CountingFileSystemResource resource = createClassFileResource();
+		assertSampleComponent(readAndPersist(resource));
+		assertSampleComponent(read(resource));
+		assertThat(resource.reads).hasValue(1);
+	}
+
+	@Test
+	void metadataIsReadAgainWhenClassFileChanges() throws IOException {
+		CountingFileSystemResource resource = createClassFileResource();
+		readAndPersist(resource);
+		File classFile = resource.getFile();
+		assertThat(classFile.setLastModified(classFile.lastModified() - 10_000)).isTrue();
+		assertSampleComponent(read(resource));
+		assertThat(resource.reads).hasValue(2);
+	}
+
+	@Test
+	void metadataFromJarIsReusedUntilJarChanges() throws IOException {
+		File jarFile = this.tempDirectory.resolve("sample.jar").toFile();
+		writeJar(jarFile);
+		CountingUrlResource resource =
+				new CountingUrlResource(new URL("jar:" + jarFile.toURI() + "!/" + CLASS_FILE_NAME));
+		assertSampleComponent(readAndPersist(resource));
+		assertSampleComponent(readAndPersist(resource));
+		assertThat(resource.reads).hasValue(1);
+
+		writeJar(jarFile);
+		assertThat(jarFile.setLastModified(jarFile.lastModified() - 10_000)).isTrue();
+		assertSampleComponent(read(resource));
+		assertThat(resource.reads).hasValue(2);
+	}
+
+	@Test
+	void metadataIsReleasedOnPersist() throws IOException {
+		CountingFileSystemResource resource = createClassFileResource();
+		PersistentMetadataReaderCache cache = new PersistentMetadataReaderCache(this.cacheDirectory);
+		cache.getMetadataReader(resource, getClass().getClassLoader());
+		cache.persist();
+		for (Path cacheFile : listCacheFiles()) {
+			Files.delete(cacheFile);
+		}
+		assertSampleComponent(cache.getMetadataReader(resource, getClass().getClassLoader()).getAnnotationMetadata());
+		assertThat(resource.reads).hasValue(2);
+	}
+
+	@Test
+	void invalidCacheFileIsIgnored() throws IOException {
+		CountingFileSystemResource resource = createClassFileResource();
+		readAndPersist(resource);
+		assertThat(listCacheFiles()).singleElement().satisfies(cacheFile ->
+				Files.write(cacheFile, new byte[] {1, 2, 3}));
+		assertSampleComponent(read(resource));
+		assertThat(resource.reads).hasValue(2);
+	}
+
+	@Test
+	void resourceOutsideOfFileSystemIsNotCached() throws IOException {
+		Resource resource = new ByteArrayResource(new ClassPathResource(CLASS_FILE_NAME).getContentAsByteArray());
+		assertSampleComponent(readAndPersist(resource));
+		assertThat(listCacheFiles()).isEmpty();
+	}
+
+	@Test
+	void cachingMetadataReaderFactoryWritesCacheOnClearCache() throws IOException {
+		CountingFileSystemResource resource = createClassFileResource();
+		CachingMetadataReaderFactory factory = new CachingMetadataReaderFactory();
+		factory.setCacheDirectory(this.cacheDirectory);
+		assertSampleComponent(factory.getMetadataReader(resource).getAnnotationMetadata());
+		assertThat(listCacheFiles()).isEmpty();
+		factory.clearCache();
+		assertThat(listCacheFiles()).hasSize(1);
+		assertSampleComponent(read(resource));
+		assertThat(resource.reads).hasValue(1);
+	}
+
+
+	private AnnotationMetadata readAndPersist(Resource resource) throws IOException {
+		PersistentMetadataReaderCache cache = new PersistentMetadataReaderCache(this.cacheDirectory);
+		AnnotationMetadata metadata = cache.getMetadataReader(resource, getClass().getClassLoader())
+				.getAnnotationMetadata();
+		cache.persist();
+		return metadata;
+	}
+
+	private AnnotationMetadata read(Resource resource) throws IOException {
+		return new PersistentMetadataReaderCache(this.cacheDirectory)
+				.getMetadataReader(resource, getClass().getClassLoader()).getAnnotationMetadata();
+	}
+
+	private List<Path> listCacheFiles() throws IOException {
+		if (!Files.exists(this.cacheDirectory)) {
+			return List.of();
+		}
+		try (Stream<Path> cacheFiles = Files.list(this.cacheDirectory)) {
+			return cacheFiles.toList();
+		}
+	}
+
+	private CountingFileSystemResource createClassFileResource() throws IOException {
+		Path classFile = this.classesDirectory.resolve(CLASS_FILE_NAME);
+		Files.createDirectories(classFile.getParent());
+		Files.write(classFile, new ClassPathResource(CLASS_FILE_NAME).getContentAsByteArray());
+		return new CountingFileSystemResource(classFile);
+	}
+
+	private static void writeJar(File jarFile) throws IOException {
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarFile.toPath()))) {
+			out.putNextEntry(new JarEntry(CLASS_FILE_NAME));
+			out.write(new ClassPathResource(CLASS_FILE_NAME).getContentAsByteArray());
+			out.closeEntry();
+		}
+	}
+
+	private static void assertSampleComponent(AnnotationMetadata metadata) {
+		assertThat(metadata.getClassName()).isEqualTo(SampleComponent.class.getName());
+		assertThat(metadata.getEnclosingClassName()).isEqualTo(PersistentMetadataReaderCacheTests.class.getName());
+		assertThat(metadata.isIndependent()).isTrue();
+		assertThat(metadata.getAnnotationAttributes(Scope.class.getName())).containsEntry("value", "prototype");
+		assertThat(metadata.getDeclaredMethods()).singleElement().satisfies(method -> {
+			assertThat(method.getMethodName()).isEqualTo("name");
+			assertThat(method.getAnnotationAttributes(Order.class.getName())).containsEntry("value", 5);
+		});
+	}
+
+
+	@Scope("prototype")
+	static class SampleComponent {
+
+		private String name = "sample";
+
+		SampleComponent() {
+		}
+
+		@Order(5)
+		String name() {
+			return this.name;
+		}
+	}
+
+
+	private static class CountingFileSystemResource extends FileSystemResource {
+
+		final AtomicInteger reads = new AtomicInteger();
+
+		CountingFileSystemResource(Path filePath) {
+			super(filePath);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			this.reads.incrementAndGet();
+			return super.getInputStream();
+		}
+	}
+
+
+	private static class CountingUrlResource extends UrlResource {
+
+		final AtomicInteger reads = new AtomicInteger();
+
+		CountingUrlResource(URL url) {
+			super(url);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			this.reads.incrementAndGet();
+			return super.getInputStream();
+		}
+	}
+
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.util;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,4 +111,93 @@ class ConcurrentLruCacheTests {
 		assertThat(this.cache.contains("k3")).isTrue();
 	}
 
+	@Test
+	void weigherAndWeightedSize() {
+		ConcurrentLruCache<String, String> cache =
+				new ConcurrentLruCache<>(10, key -> key + "value", (key, value) -> key.length(), false);
+
+		assertThat(cache.get("k1")).isEqualTo("k1value");
+		assertThat(cache.get("key2")).isEqualTo("key2value");
+		assertThat(cache.weightedSize()).isEqualTo(6);
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("key3")).isEqualTo("key3value");
+		assertThat(cache.weightedSize()).isEqualTo(10);
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.get("k4")).isEqualTo("k4value");
+		assertThat(cache.weightedSize()).isEqualTo(10);
+		assertThat(cache.contains("k1")).isFalse();
+		assertThat(cache.contains("key2")).isTrue();
+		assertThat(cache.contains("key3")).isTrue();
+		assertThat(cache.contains("k4")).isTrue();
+	}
+
+	@Test
+	void statistics() {
+		ConcurrentLruCache<String, String> cache =
+				new ConcurrentLruCache<>(2, key -> key + "value", null, true);
+
+		cache.get("k1");
+		cache.get("k1");
+		cache.get("k2");
+		cache.get("k3");
+
+		ConcurrentLruCache.Statistics statistics = cache.getStatistics();
+		assertThat(statistics.hitCount()).isEqualTo(1);
+		assertThat(statistics.missCount()).isEqualTo(3);
+		assertThat(statistics.evictionCount()).isEqualTo(1);
+		assertThat(statistics.requestCount()).isEqualTo(4);
+		assertThat(statistics.hitRatio()).isEqualTo(0.25);
+	}
+
+	@Test
+	void statisticsNotRecordedByDefault() {
+		this.cache.get("k1");
+		this.cache.get("k1");
+
+		assertThat(this.cache.getStatistics().requestCount()).isZero();
+		assertThat(this.cache.getStatistics().hitRatio()).isEqualTo(1.0);
+	}
+
+	@Test
+	void getAsync() {
+		AtomicInteger generated = new AtomicInteger();
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> {
+			generated.incrementAndGet();
+			return key + "value";
+		});
+		CompletableFuture<String> future = cache.getAsync("k1", Runnable::run);
+
+		assertThat(future).isCompletedWithValue("k1value");
+		assertThat(cache.contains("k1")).isTrue();
+		assertThat(cache.getAsync("k1", task -> {
+			throw new IllegalStateException("Should not generate again");
+		})).isCompletedWithValue("k1value");
+		assertThat(generated).hasValue(1);
+	}
+
+	@Test
+	void getAsyncSharesPendingGeneration() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> key + "value");
+		Runnable[] pending = new Runnable[1];
+		CompletableFuture<String> first = cache.getAsync("k1", task -> pending[0] = task);
+		CompletableFuture<String> second = cache.getAsync("k1", task -> {
+			throw new IllegalStateException("Should not generate again");
+		});
+
+		assertThat(second).isSameAs(first);
+		assertThat(first).isNotDone();
+		pending[0].run();
+		assertThat(first).isCompletedWithValue("k1value");
+	}
+
+	@Test
+	void getAsyncWithFailingGenerator() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> {
+			throw new IllegalStateException("Expected");
+		});
+
+		assertThat(cache.getAsync("k1", Runnable::run)).isCompletedExceptionally();
+		assertThat(cache.contains("k1")).isFalse();
+	}
+
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ConcurrentReferenceOpenHashMap}.
+ *
+ * @author Spring Framework Team
+ */
+class ConcurrentReferenceOpenHashMapTests {
+
+	// Soft references are only cleared under memory pressure
+	private final ConcurrentReferenceOpenHashMap<Integer, String> map =
+			new ConcurrentReferenceOpenHashMap<>(16, ReferenceType.SOFT);
+
+
+	@Test
+	void shouldCreateWithDefaults() {
+		ConcurrentReferenceOpenHashMap<Integer, String> map = new ConcurrentReferenceOpenHashMap<>();
+		assertThat(map.getSegmentsSize()).isEqualTo(16);
+		assertThat(map.getLoadFactor()).isEqualTo(0.75f);
+	}
+
+	@Test
+	void shouldNotAllowNegativeInitialCapacity() {
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				new ConcurrentReferenceOpenHashMap<Integer, String>(-1))
+			.withMessageContaining("Initial capacity must not be negative");
+	}
+
+	@Test
+	void shouldPutAndGet() {
+		assertThat(this.map.get(123)).isNull();
+		assertThat(this.map.put(123, "123")).isNull();
+		assertThat(this.map.get(123)).isEqualTo("123");
+		assertThat(this.map.put(123, "123b")).isEqualTo("123");
+		assertThat(this.map.get(123)).isEqualTo("123b");
+		assertThat(this.map).hasSize(1);
+	}
+
+	@Test
+	void shouldPutNullKeyAndValue() {
+		this.map.put(null, "null");
+		this.map.put(1, null);
+		assertThat(this.map.get(null)).isEqualTo("null");
+		assertThat(this.map.containsKey(1)).isTrue();
+		assertThat(this.map.get(1)).isNull();
+		assertThat(this.map.getOrDefault(2, "default")).isEqualTo("default");
+	}
+
+	@Test
+	void shouldPutIfAbsent() {
+		assertThat(this.map.putIfAbsent(123, "123")).isNull();
+		assertThat(this.map.putIfAbsent(123, "123b")).isEqualTo("123");
+		assertThat(this.map.get(123)).isEqualTo("123");
+	}
+
+	@Test
+	void shouldRemove() {
+		this.map.put(123, "123");
+		assertThat(this.map.remove(123, "456")).isFalse();
+		assertThat(this.map.remove(123)).isEqualTo("123");
+		assertThat(this.map.containsKey(123)).isFalse();
+		assertThat(this.map.isEmpty()).isTrue();
+		this.map.put(123, "123");
+		assertThat(this.map.remove(123, "123")).isTrue();
+		assertThat(this.map.remove(123)).isNull();
+	}
+
+	@Test
+	void shouldReplace() {
+		assertThat(this.map.replace(123, "123")).isNull();
+		this.map.put(123, "123");
+		assertThat(this.map.replace(123, "456", "789")).isFalse();
+		assertThat(this.map.replace(123, "123", "456")).isTrue();
+		assertThat(this.map.replace(123, "789")).isEqualTo("456");
+		assertThat(this.map.get(123)).isEqualTo("789");
+	}
+
+	@Test
+	void shouldGrowAndReuseRemovedSlots() {
+		Map<Integer, String> expected = new HashMap<>();
+		for (int i = 0; i < 10_000; i++) {
+			this.map.put(i, String.valueOf(i));
+			expected.put(i, String.valueOf(i));
+		}
+		for (int i = 0; i < 10_000; i += 2) {
+			this.map.remove(i);
+			expected.remove(i);
+		}
+		for (int i = 10_000; i < 15_000; i++) {
+			this.map.put(i, String.valueOf(i));
+			expected.put(i, String.valueOf(i));
+		}
+		assertThat(this.map).hasSize(expected.size());
+		assertThat(this.map).containsExactlyInAnyOrderEntriesOf(expected);
+	}
+
+	@Test
+	void shouldIterateAndRemove() {
+		this.map.put(1, "1");
+		this.map.put(2, "2");
+		this.map.put(3, "3");
+		Iterator<Map.Entry<Integer, String>> iterator = this.map.entrySet().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().getKey() == 2) {
+				iterator.remove();
+			}
+		}
+		assertThat(this.map).containsOnlyKeys(1, 3);
+	}
+
+	@Test
+	void shouldClear() {
+		this.map.put(1, "1");
+		this.map.put(2, "2");
+		this.map.clear();
+		assertThat(this.map).isEmpty();
+		assertThat(this.map.get(1)).isNull();
+	}
+
+	@Test
+	void shouldSupportEqualsAndHashCode() {
+		Map<Integer, String> expected = new HashMap<>();
+		for (int i = 0; i < 100; i++) {
+			this.map.put(i, String.valueOf(i));
+			expected.put(i, String.valueOf(i));
+		}
+		assertThat(this.map).isEqualTo(expected);
+		assertThat(this.map.hashCode()).isEqualTo(expected.hashCode());
+	}
+
+}
@@ -108,4 +108,26 @@ class PropertyPlaceholderHelperTests {
 				helper.replacePlaceholders(text, props));
 	}
 
+	@Test
+	void templateIsReusedWithDifferentValues() {
+		String text = "${prefix}-${name:default}-${missing}";
+		Properties props = new Properties();
+		props.setProperty("prefix", "a");
+
+		PropertyPlaceholderHelper helper = new PropertyPlaceholderHelper("${", "}", ":", true);
+		assertThat(helper.replacePlaceholders(text, props)).isEqualTo("a-default-${missing}");
+		props.setProperty("prefix", "b");
+		props.setProperty("name", "${prefix}${prefix}");
+		assertThat(helper.replacePlaceholders(text, props)).isEqualTo("b-bb-${missing}");
+	}
+
+	@Test
+	void unterminatedPlaceholderIsKeptAsLiteral() {
+		Properties props = new Properties();
+		props.setProperty("foo", "bar");
+
+		assertThat(this.helper.replacePlaceholders("${foo}-${foo", props)).isEqualTo("bar-${foo");
+		assertThat(this.helper.replacePlaceholders("${foo}-${foo", props)).isEqualTo("bar-${foo");
+	}
+
 }
@@ -21,6 +21,8 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.TypeMismatchDataAccessException;
 import org.springframework.jdbc.IncorrectResultSetColumnCountException;
@@ -53,6 +55,9 @@ public class SingleColumnRowMapper<T> implements RowMapper<T> {
 	@Nullable
 	private ConversionService conversionService = DefaultConversionService.getSharedInstance();
 
+	@Nullable
+	private volatile ResolvedConverter resolvedConverter;
+
 
 	/**
 	 * Create a new {@code SingleColumnRowMapper} for bean-style configuration.
@@ -89,6 +94,7 @@ public class SingleColumnRowMapper<T> implements RowMapper<T> {
 	 */
 	public void setConversionService(@Nullable ConversionService conversionService) {
 		this.conversionService = conversionService;
+		this.resolvedConverter = null;
 	}
 
 	/**
@@ -205,14 +211,37 @@ public class SingleColumnRowMapper<T> implements RowMapper<T> {
 				return NumberUtils.parseNumber(value.toString(),(Class<Number>) requiredType);
 			}
 		}
-		else if (this.conversionService != null && this.conversionService.canConvert(value.getClass(), requiredType)) {
-			return this.conversionService.convert(value, requiredType);
-		}
 		else {
-			throw new IllegalArgumentException(
-					"Value [" + value + "] is of type [" + value.getClass().getName() +
-					"] and cannot be converted to required type [" + requiredType.getName() + "]");
+			Converter<Object, Object> converter = getConverter(value.getClass(), requiredType);
+			if (converter == null) {
+				throw new IllegalArgumentException(
+						"Value [" + value + "] is of type [" + value.getClass().getName() +
+						"] and cannot be converted to required type [" + requiredType.getName() + "]");
+			}
+			return converter.convert(value);
+		}
+	}
+
+	/**
+	 * Obtain a converter for the given value type and required type from the
+	 * {@link ConversionService}, reusing the converter resolved for the
+	 * previous row if the types match.
+	 */
+	@Nullable
+	private Converter<Object, Object> getConverter(Class<?> valueType, Class<?> requiredType) {
+		ResolvedConverter resolvedConverter = this.resolvedConverter;
+		if (resolvedConverter != null && resolvedConverter.valueType() == valueType &&
+				resolvedConverter.requiredType() == requiredType) {
+			return resolvedConverter.converter();
+		}
+		ConversionService conversionService = this.conversionService;
+		if (conversionService == null || !conversionService.canConvert(valueType, requiredType)) {
+			return null;
 		}
+		Converter<Object, Object> converter = conversionService.resolveConverter(
+				TypeDescriptor.valueOf(valueType), TypeDescriptor.valueOf(requiredType));
+		this.resolvedConverter = new ResolvedConverter(valueType, requiredType, converter);
+		return converter;
 	}
 
 
@@ -243,4 +272,8 @@ public class SingleColumnRowMapper<T> implements RowMapper<T> {
 		return rowMapper;
 	}
 
+
+	private record ResolvedConverter(Class<?> valueType, Class<?> requiredType, Converter<Object, Object> converter) {
+	}
+
 }
@@ -100,6 +100,31 @@ public class SingleColumnRowMapperTests {
 				rowMapper.mapRow(resultSet, 1));
 	}
 
+	@Test
+	public void useConversionServiceForDifferentValueTypes() throws SQLException {
+		Timestamp timestamp = new Timestamp(0);
+
+		DefaultConversionService myConversionService = new DefaultConversionService();
+		myConversionService.addConverter(Timestamp.class, MyLocalDateTime.class,
+				source -> new MyLocalDateTime(source.toLocalDateTime()));
+		myConversionService.addConverter(String.class, MyLocalDateTime.class,
+				source -> new MyLocalDateTime(LocalDateTime.parse(source)));
+		SingleColumnRowMapper<MyLocalDateTime> rowMapper =
+				SingleColumnRowMapper.newInstance(MyLocalDateTime.class, myConversionService);
+
+		ResultSet resultSet = mock();
+		ResultSetMetaData metaData = mock();
+		given(metaData.getColumnCount()).willReturn(1);
+		given(resultSet.getMetaData()).willReturn(metaData);
+		given(resultSet.getObject(1, MyLocalDateTime.class))
+				.willThrow(new SQLFeatureNotSupportedException());
+		given(resultSet.getObject(1)).willReturn(timestamp, "2023-01-01T10:00", timestamp);
+
+		assertThat(rowMapper.mapRow(resultSet, 1).value).isEqualTo(timestamp.toLocalDateTime());
+		assertThat(rowMapper.mapRow(resultSet, 2).value).isEqualTo(LocalDateTime.of(2023, 1, 1, 10, 0));
+		assertThat(rowMapper.mapRow(resultSet, 3).value).isEqualTo(timestamp.toLocalDateTime());
+	}
+
 
 	private static class MyLocalDateTime {
 
@@ -37,6 +37,9 @@ import org.springframework.util.MimeTypeUtils;
  * Benchmarks for parsing Media Types using {@link MediaType}.
  * <p>{@code MediaType is using }{@link MimeTypeUtils} has an internal parser only accessible through a package private method.
  * The publicly accessible method is backed by a LRUCache for better performance.
+ * <p>Also benchmarks the header access pattern of a whole request through
+ * {@link HttpHeaders}, with and without the parsed values cached by read-only
+ * headers as exposed by server requests.
  *
  * @author Brian Clozel
  * @see MimeTypeUtils
@@ -58,6 +61,31 @@ public class MediaTypeBenchmark {
 		}
 	}
 
+	@Benchmark
+	public void accessRequestHeaders(RequestHeadersData data, Blackhole bh) {
+		accessHeaders(new HttpHeaders(data.headers), bh);
+	}
+
+	@Benchmark
+	public void accessReadOnlyRequestHeaders(RequestHeadersData data, Blackhole bh) {
+		accessHeaders(HttpHeaders.readOnlyHttpHeaders(data.headers), bh);
+	}
+
+	/**
+	 * Access headers the way a request is typically processed: handler
+	 * mapping, content negotiation and body decoding each read the media type
+	 * and length headers, followed by a conditional request check.
+	 */
+	private static void accessHeaders(HttpHeaders headers, Blackhole bh) {
+		for (int i = 0; i < 3; i++) {
+			bh.consume(headers.getContentType());
+			bh.consume(headers.getAccept());
+			bh.consume(headers.getContentLength());
+		}
+		bh.consume(headers.getIfNoneMatch());
+		bh.consume(headers.getIfModifiedSince());
+	}
+
 	/**
 	 * Benchmark data holding typical raw Media Types.
 	 * A {@code customTypesCount} parameter can be used to pad the list with artificial types.
@@ -118,4 +146,28 @@ public class MediaTypeBenchmark {
 
 	}
 
+	/**
+	 * Benchmark data holding the headers of a typical conditional JSON request.
+	 */
+	@State(Scope.Benchmark)
+	public static class RequestHeadersData {
+
+		public HttpHeaders headers;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.headers = new HttpHeaders();
+			this.headers.add(HttpHeaders.HOST, "example.org");
+			this.headers.add(HttpHeaders.USER_AGENT, "Mozilla/5.0 (X11; Linux x86_64; rv:109.0) Gecko/20100101 Firefox/115.0");
+			this.headers.add(HttpHeaders.ACCEPT, "application/json, text/plain;q=0.9, */*;q=0.8");
+			this.headers.add(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+			this.headers.add(HttpHeaders.ACCEPT_LANGUAGE, "en-US,en;q=0.5");
+			this.headers.add(HttpHeaders.CONTENT_TYPE, "application/json;charset=UTF-8");
+			this.headers.add(HttpHeaders.CONTENT_LENGTH, "348");
+			this.headers.add(HttpHeaders.IF_NONE_MATCH, "\"33a64df5\", W/\"0815\"");
+			this.headers.add(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 21 Oct 2015 07:28:00 GMT");
+		}
+	}
+
+
 }
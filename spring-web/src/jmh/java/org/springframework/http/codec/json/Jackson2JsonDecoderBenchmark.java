@@ -0,0 +1,105 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks for decoding JSON arrays into POJOs using Jackson, either
+ * through buffered tokens or with {@linkplain AbstractJackson2Decoder#setDirectElementDecoding
+ * direct element decoding}.
+ *
+ * @author Spring Framework Team
+ * @see AbstractJackson2Decoder
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2JsonDecoderBenchmark {
+
+	/**
+	 * Benchmark data holding a JSON array of {@link Project} elements, split in chunks.
+	 * An {@code elementCount} parameter can be used to grow the size of the array.
+	 */
+	@State(Scope.Benchmark)
+	public static class DecodeData {
+
+		@Param({"100", "10000", "100000"})
+		int elementCount;
+
+		@Param({"false", "true"})
+		boolean directElementDecoding;
+
+		@Param({"8192"})
+		int chunkSize;
+
+		Jackson2JsonDecoder jsonDecoder;
+
+		ResolvableType resolvableType;
+
+		List<byte[]> chunks;
+
+		@Setup
+		public void setup() throws Exception {
+			ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder().build();
+			this.jsonDecoder = new Jackson2JsonDecoder(objectMapper);
+			this.jsonDecoder.setDirectElementDecoding(this.directElementDecoding);
+			this.resolvableType = ResolvableType.forClass(Project.class);
+
+			List<Project> projects = new ArrayList<>(this.elementCount);
+			for (int i = 0; i < this.elementCount; i++) {
+				projects.add(new Project("project" + i, 2));
+			}
+			byte[] json = objectMapper.writeValueAsBytes(projects);
+			this.chunks = new ArrayList<>();
+			for (int i = 0; i < json.length; i += this.chunkSize) {
+				byte[] chunk = new byte[Math.min(this.chunkSize, json.length - i)];
+				System.arraycopy(json, i, chunk, 0, chunk.length);
+				this.chunks.add(chunk);
+			}
+		}
+
+	}
+
+	@Benchmark
+	public void decode(Blackhole bh, DecodeData data) {
+		Flux<DataBuffer> input = Flux.fromIterable(data.chunks)
+				.map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(ByteBuffer.wrap(chunk)));
+		data.jsonDecoder.decode(input, data.resolvableType, MediaType.APPLICATION_JSON, Collections.emptyMap())
+				.doOnNext(bh::consume)
+				.then().block();
+	}
+
+}
@@ -35,6 +35,7 @@ import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.SerializedValueCache;
 
 /**
  * Benchmarks for encoding POJOs to JSON using Jackson.
@@ -81,6 +82,25 @@ public class Jackson2JsonEncoderBenchmark {
 		return data.jsonEncoder.encodeValue(data.project, data.bufferFactory, data.resolvableType, MediaType.APPLICATION_JSON, Collections.emptyMap());
 	}
 
+	/**
+	 * Benchmark data holding a {@link Project} to be encoded with a
+	 * {@link SerializedValueCache} that caches it by identity.
+	 */
+	@State(Scope.Benchmark)
+	public static class EncodeCachedData extends EncodeSingleData {
+
+		@Setup
+		public void setupCache() {
+			this.jsonEncoder.setSerializedValueCache(SerializedValueCache.forIdentity(1024 * 1024, Project.class));
+		}
+
+	}
+
+	@Benchmark
+	public DataBuffer encodeCachedValue(EncodeCachedData data) {
+		return data.jsonEncoder.encodeValue(data.project, data.bufferFactory, data.resolvableType, MediaType.APPLICATION_JSON, Collections.emptyMap());
+	}
+
 	/**
 	 * Benchmark data holding {@link Project} to be serialized by the JSON Encoder.
 	 * A {@code projectCount} parameter can be used to grow the size of the object graph to serialize.
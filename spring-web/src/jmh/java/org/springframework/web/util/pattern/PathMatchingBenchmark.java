@@ -25,6 +25,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -92,6 +93,45 @@ public class PathMatchingBenchmark {
 		}
 	}
 
+	@State(Scope.Benchmark)
+	public static class LargeRoutesPatternParser extends PatternParserData {
+
+		@Param({"100", "1000", "10000"})
+		public int routeCount;
+
+		PathPatternIndex<PathPattern> index = new PathPatternIndex<>();
+
+		@Setup(Level.Trial)
+		public void registerPatterns() {
+			parseRoutes(RouteGenerator.largeRoutes(this.routeCount));
+			this.patterns.forEach(pattern -> this.index.add(pattern, pattern));
+			// Sample request paths across the whole route set
+			List<PathContainer> sampledPaths = new ArrayList<>();
+			for (int i = 0; i < this.requestPaths.size(); i += Math.max(1, this.requestPaths.size() / 50)) {
+				sampledPaths.add(this.requestPaths.get(i));
+			}
+			this.requestPaths = sampledPaths;
+		}
+	}
+
+	@Benchmark
+	public void matchLargeRouteSetWithPathPatternParser(LargeRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			for (PathPattern pattern : data.patterns) {
+				bh.consume(pattern.matches(path));
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchLargeRouteSetWithPathPatternIndex(LargeRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			for (PathPattern pattern : data.index.getCandidates(path)) {
+				bh.consume(pattern.matches(path));
+			}
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class AllRoutesAntPathMatcher extends AntPathMatcherData {
 
@@ -274,5 +314,21 @@ public class PathMatchingBenchmark {
 			return routes;
 		}
 
+		/**
+		 * Generate a large API with the given number of routes, spread over
+		 * resources that each declare a collection, an item and a sub-collection route.
+		 */
+		static List<Route> largeRoutes(int routeCount) {
+			List<Route> routes = new ArrayList<>(routeCount);
+			for (int i = 0; routes.size() < routeCount; i++) {
+				String resource = "/api/v" + (i % 3 + 1) + "/resource" + i;
+				routes.add(new Route(resource));
+				routes.add(new Route(resource + "/{id}", resource + "/42"));
+				routes.add(new Route(resource + "/{id}/items/{itemId}", resource + "/42/items/7"));
+			}
+			routes.add(new Route("/**", "/notfound"));
+			return routes;
+		}
+
 	}
 }
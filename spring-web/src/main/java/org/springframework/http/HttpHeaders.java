@@ -1851,7 +1851,8 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 
 	/**
 	 * Apply a read-only {@code HttpHeaders} wrapper around the given headers, if necessary.
-	 * <p>Also caches the parsed representations of the "Accept" and "Content-Type" headers.
+	 * <p>Also caches the parsed representations of the "Accept", "Content-Type",
+	 * "Content-Length" and conditional request headers.
 	 * @param headers the headers to expose
 	 * @return a read-only variant of the headers, or the original headers as-is
 	 * (in case it happens to be a read-only {@code HttpHeaders} instance already)
@@ -1864,7 +1865,8 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 
 	/**
 	 * Apply a read-only {@code HttpHeaders} wrapper around the given headers, if necessary.
-	 * <p>Also caches the parsed representations of the "Accept" and "Content-Type" headers.
+	 * <p>Also caches the parsed representations of the "Accept", "Content-Type",
+	 * "Content-Length" and conditional request headers.
 	 * @param headers the headers to expose
 	 * @return a read-only variant of the headers, or the original headers as-is
 	 */
@@ -47,6 +47,23 @@ class ReadOnlyHttpHeaders extends HttpHeaders {
 	@SuppressWarnings("serial")
 	private List<MediaType> cachedAccept;
 
+	@Nullable
+	private Long cachedContentLength;
+
+	@Nullable
+	@SuppressWarnings("serial")
+	private List<String> cachedIfMatch;
+
+	@Nullable
+	@SuppressWarnings("serial")
+	private List<String> cachedIfNoneMatch;
+
+	@Nullable
+	private Long cachedIfModifiedSince;
+
+	@Nullable
+	private Long cachedIfUnmodifiedSince;
+
 
 	ReadOnlyHttpHeaders(MultiValueMap<String, String> headers) {
 		super(headers);
@@ -77,6 +94,66 @@ class ReadOnlyHttpHeaders extends HttpHeaders {
 		}
 	}
 
+	@Override
+	public long getContentLength() {
+		if (this.cachedContentLength != null) {
+			return this.cachedContentLength;
+		}
+		else {
+			long contentLength = super.getContentLength();
+			this.cachedContentLength = contentLength;
+			return contentLength;
+		}
+	}
+
+	@Override
+	public List<String> getIfMatch() {
+		if (this.cachedIfMatch != null) {
+			return this.cachedIfMatch;
+		}
+		else {
+			List<String> ifMatch = Collections.unmodifiableList(super.getIfMatch());
+			this.cachedIfMatch = ifMatch;
+			return ifMatch;
+		}
+	}
+
+	@Override
+	public List<String> getIfNoneMatch() {
+		if (this.cachedIfNoneMatch != null) {
+			return this.cachedIfNoneMatch;
+		}
+		else {
+			List<String> ifNoneMatch = Collections.unmodifiableList(super.getIfNoneMatch());
+			this.cachedIfNoneMatch = ifNoneMatch;
+			return ifNoneMatch;
+		}
+	}
+
+	@Override
+	public long getIfModifiedSince() {
+		if (this.cachedIfModifiedSince != null) {
+			return this.cachedIfModifiedSince;
+		}
+		else {
+			long ifModifiedSince = super.getIfModifiedSince();
+			this.cachedIfModifiedSince = ifModifiedSince;
+			return ifModifiedSince;
+		}
+	}
+
+	@Override
+	public long getIfUnmodifiedSince() {
+		if (this.cachedIfUnmodifiedSince != null) {
+			return this.cachedIfUnmodifiedSince;
+		}
+		else {
+			long ifUnmodifiedSince = super.getIfUnmodifiedSince();
+			this.cachedIfUnmodifiedSince = ifUnmodifiedSince;
+			return ifUnmodifiedSince;
+		}
+	}
+
 	@Override
 	public void clearContentHeaders() {
 		// No-op.
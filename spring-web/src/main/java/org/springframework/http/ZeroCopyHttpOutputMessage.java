@@ -19,8 +19,11 @@ package org.springframework.http;
 import java.io.File;
 import java.nio.file.Path;
 
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
+import org.springframework.core.io.buffer.DataBuffer;
+
 /**
  * Sub-interface of {@code ReactiveOutputMessage} that has support for "zero-copy"
  * file transfers.
@@ -55,4 +58,33 @@ public interface ZeroCopyHttpOutputMessage extends ReactiveHttpOutputMessage {
 	 */
 	Mono<Void> writeWith(Path file, long position, long count);
 
+	/**
+	 * Whether {@link #writeWith(org.reactivestreams.Publisher)} accepts
+	 * {@link org.springframework.core.io.buffer.FileRegionDataBuffer file regions}
+	 * among the data buffers, and transfers them without copying their content
+	 * through user space. This allows interleaving file regions with regular
+	 * data buffers, e.g. for multipart byte range responses.
+	 * <p>By default, this method returns {@code false}.
+	 * @since 6.1
+	 */
+	default boolean supportsFileRegions() {
+		return false;
+	}
+
+	/**
+	 * Use the given {@link Publisher} of data buffers, which may include
+	 * {@link org.springframework.core.io.buffer.FileRegionDataBuffer file regions},
+	 * to write the body of the message to the underlying HTTP layer.
+	 * <p>To be called instead of {@link #writeWith(Publisher)} only if
+	 * {@link #supportsFileRegions()} returns {@code true}, so that other
+	 * bodies are written without looking out for file regions.
+	 * <p>By default, this method delegates to {@link #writeWith(Publisher)}.
+	 * @param body the body content publisher
+	 * @return a {@link Mono} that indicates completion or error
+	 * @since 6.1
+	 */
+	default Mono<Void> writeWithFileRegions(Publisher<? extends DataBuffer> body) {
+		return writeWith(body);
+	}
+
 }
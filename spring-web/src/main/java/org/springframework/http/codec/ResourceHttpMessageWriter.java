@@ -289,11 +289,18 @@ public class ResourceHttpMessageWriter implements HttpMessageWriter<Resource> {
 	private Mono<Void> encodeAndWriteRegions(Publisher<? extends ResourceRegion> publisher,
 			@Nullable MediaType mediaType, ReactiveHttpOutputMessage message, Map<String, Object> hints) {
 
+		boolean fileRegions = (message instanceof ZeroCopyHttpOutputMessage zeroCopyHttpOutputMessage &&
+				zeroCopyHttpOutputMessage.supportsFileRegions());
+		if (fileRegions) {
+			hints = Hints.merge(hints, ResourceRegionEncoder.FILE_REGION_HINT, true);
+		}
+
 		Flux<DataBuffer> body = this.regionEncoder
 				.encode(publisher, message.bufferFactory(), REGION_TYPE, mediaType,hints)
 				.subscribeOn(Schedulers.boundedElastic());
 
-		return message.writeWith(body);
+		return (fileRegions ? ((ZeroCopyHttpOutputMessage) message).writeWithFileRegions(body) :
+				message.writeWith(body));
 	}
 
 }
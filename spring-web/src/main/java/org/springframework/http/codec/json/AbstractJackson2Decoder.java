@@ -64,6 +64,8 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 
 	private int maxInMemorySize = 256 * 1024;
 
+	private boolean directElementDecoding;
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -94,6 +96,30 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		return this.maxInMemorySize;
 	}
 
+	/**
+	 * Set whether {@link #decode(Publisher, ResolvableType, MimeType, Map) decoding}
+	 * a stream of elements, i.e. the elements of a top-level JSON array or the
+	 * values of a JSON stream, should deserialize each element directly from
+	 * the input bytes rather than first buffering its tokens.
+	 * <p>This avoids one intermediate copy of every element, which matters for
+	 * large arrays of small objects, and only applies to textual JSON without
+	 * comments. Other formats and configurations are decoded as usual.
+	 * <p>By default this is set to {@code false}.
+	 * @param directElementDecoding whether to decode elements directly
+	 * @since 6.1
+	 */
+	public void setDirectElementDecoding(boolean directElementDecoding) {
+		this.directElementDecoding = directElementDecoding;
+	}
+
+	/**
+	 * Return whether elements are {@link #setDirectElementDecoding decoded directly}.
+	 * @since 6.1
+	 */
+	public boolean isDirectElementDecoding() {
+		return this.directElementDecoding;
+	}
+
 
 	@Override
 	public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
@@ -136,6 +162,17 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		}
 
 		Flux<DataBuffer> processed = processInput(input, elementType, mimeType, hints);
+		if (this.directElementDecoding && Jackson2ElementReader.supports(mapper.getFactory())) {
+			return Flux.deferContextual(contextView -> {
+				Map<String, Object> hintsToUse = contextView.isEmpty() ? hints :
+						Hints.merge(hints, ContextView.class.getName(), contextView);
+				ObjectReader reader = createObjectReader(mapper, elementType, hintsToUse);
+				return Jackson2ElementReader.read(processed, mapper.getFactory(), reader,
+								this::processException, getMaxInMemorySize())
+						.doOnNext(value -> logValue(value, hints));
+			});
+		}
+
 		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(processed, mapper.getFactory(), mapper,
 				true, forceUseOfBigDecimal, getMaxInMemorySize());
 
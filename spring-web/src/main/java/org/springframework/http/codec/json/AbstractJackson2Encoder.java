@@ -51,6 +51,7 @@ import org.springframework.core.log.LogFormatUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageEncoder;
 import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.converter.json.SerializedValueCache;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.Nullable;
@@ -86,6 +87,9 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 
 	private final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
 
+	@Nullable
+	private SerializedValueCache serializedValueCache;
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -104,6 +108,31 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		this.streamingMediaTypes.addAll(mediaTypes);
 	}
 
+	/**
+	 * Configure a cache for the serialized form of single values, so that
+	 * values which the cache considers cacheable, e.g. immutable reference
+	 * data, are not serialized again every time they are encoded.
+	 * <p>Cached bytes are specific to the {@code ObjectMapper}, the value type,
+	 * the MIME type and the JSON view in use. Values with Jackson filters and
+	 * elements of a {@code Flux} are always serialized.
+	 * <p>By default, this is not set.
+	 * @param serializedValueCache the cache to use, or {@code null} for none
+	 * @since 6.1
+	 */
+	public void setSerializedValueCache(@Nullable SerializedValueCache serializedValueCache) {
+		this.serializedValueCache = serializedValueCache;
+	}
+
+	/**
+	 * Return the {@link #setSerializedValueCache configured} cache for
+	 * serialized values, if any.
+	 * @since 6.1
+	 */
+	@Nullable
+	public SerializedValueCache getSerializedValueCache() {
+		return this.serializedValueCache;
+	}
+
 
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
@@ -237,37 +266,58 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 			throw new IllegalStateException("No ObjectMapper for " + valueType);
 		}
 
+		if (jsonView == null && hints != null) {
+			jsonView = (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT);
+		}
 		ObjectWriter writer = createObjectWriter(mapper, valueType, mimeType, jsonView, hints);
 		if (filters != null) {
 			writer = writer.with(filters);
 		}
 
-		ByteArrayBuilder byteBuilder = new ByteArrayBuilder(writer.getFactory()._getBufferRecycler());
+		JsonEncoding encoding = getJsonEncoding(mimeType);
+
+		logValue(hints, value);
+
+		byte[] bytes = null;
 		try {
-			JsonEncoding encoding = getJsonEncoding(mimeType);
+			SerializedValueCache cache = this.serializedValueCache;
+			if (cache != null && filters == null) {
+				Object valueToWrite = value;
+				ObjectWriter writerToUse = writer;
+				EncodingContext context = new EncodingContext(mapper, valueType, mimeType, jsonView, encoding);
+				bytes = cache.get(value, context, () -> writeValueAsBytes(mapper, writerToUse, valueToWrite, encoding));
+			}
+			if (bytes == null) {
+				bytes = writeValueAsBytes(mapper, writer, value, encoding);
+			}
+		}
+		catch (InvalidDefinitionException ex) {
+			throw new CodecException("Type definition error: " + ex.getType(), ex);
+		}
+		catch (JsonProcessingException ex) {
+			throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unexpected I/O error while writing to byte array builder", ex);
+		}
 
-			logValue(hints, value);
+		DataBuffer buffer = bufferFactory.allocateBuffer(bytes.length);
+		buffer.write(bytes);
+		Hints.touchDataBuffer(buffer, hints, logger);
+
+		return buffer;
+	}
+
+	private byte[] writeValueAsBytes(ObjectMapper mapper, ObjectWriter writer, Object value, JsonEncoding encoding)
+			throws IOException {
 
+		ByteArrayBuilder byteBuilder = new ByteArrayBuilder(writer.getFactory()._getBufferRecycler());
+		try {
 			try (JsonGenerator generator = mapper.getFactory().createGenerator(byteBuilder, encoding)) {
 				writer.writeValue(generator, value);
 				generator.flush();
 			}
-			catch (InvalidDefinitionException ex) {
-				throw new CodecException("Type definition error: " + ex.getType(), ex);
-			}
-			catch (JsonProcessingException ex) {
-				throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
-			}
-			catch (IOException ex) {
-				throw new IllegalStateException("Unexpected I/O error while writing to byte array builder", ex);
-			}
-
-			byte[] bytes = byteBuilder.toByteArray();
-			DataBuffer buffer = bufferFactory.allocateBuffer(bytes.length);
-			buffer.write(bytes);
-			Hints.touchDataBuffer(buffer, hints, logger);
-
-			return buffer;
+			return byteBuilder.toByteArray();
 		}
 		finally {
 			byteBuilder.release();
@@ -458,4 +508,12 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		}
 	}
 
+
+	/**
+	 * Serialization context for {@link SerializedValueCache} entries.
+	 */
+	private record EncodingContext(ObjectMapper mapper, ResolvableType valueType, @Nullable MimeType mimeType,
+			@Nullable Class<?> jsonView, JsonEncoding encoding) {
+	}
+
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * Alternative to {@link Jackson2Tokenizer} that decodes the elements of a
+ * top-level JSON array, or the values of a JSON stream, directly from the
+ * input bytes.
+ *
+ * <p>The non-blocking parser is only used to find element boundaries, while
+ * the bytes of the current element are kept in a window bounded by the max
+ * in-memory size. Once an element is complete, it is deserialized from that
+ * window with the {@link ObjectReader}, without copying its tokens into an
+ * intermediate {@link com.fasterxml.jackson.databind.util.TokenBuffer} first.
+ *
+ * <p>Only supports textual JSON without comments, see {@link #supports(JsonFactory)}.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ */
+final class Jackson2ElementReader {
+
+	private static final byte[] EMPTY_WINDOW = new byte[0];
+
+
+	private final JsonParser parser;
+
+	private final ByteArrayFeeder inputFeeder;
+
+	private final ObjectReader objectReader;
+
+	private final Function<IOException, RuntimeException> exceptionHandler;
+
+	private final int maxInMemorySize;
+
+	private int objectDepth;
+
+	private int arrayDepth;
+
+	/** The input bytes fed to the parser, from the start of the current element. */
+	private byte[] window = EMPTY_WINDOW;
+
+	private int windowLength;
+
+	/** Absolute input offset of the first byte in the window. */
+	private long windowOffset;
+
+	/** Absolute input offset right after the last complete token. */
+	private long tokenEnd;
+
+	/** Absolute input offset where the current element starts, or -1. */
+	private long elementStart = -1;
+
+
+	private Jackson2ElementReader(JsonParser parser, ObjectReader objectReader,
+			Function<IOException, RuntimeException> exceptionHandler, int maxInMemorySize) {
+
+		this.parser = parser;
+		this.inputFeeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+		this.objectReader = objectReader;
+		this.exceptionHandler = exceptionHandler;
+		this.maxInMemorySize = maxInMemorySize;
+	}
+
+
+	private List<Object> read(DataBuffer dataBuffer) {
+		try {
+			int bufferSize = dataBuffer.readableByteCount();
+			prepareWindow(bufferSize);
+			int start = this.windowLength;
+			dataBuffer.read(this.window, start, bufferSize);
+			this.windowLength += bufferSize;
+			this.inputFeeder.feedInput(this.window, start, this.windowLength);
+			List<Object> result = readElements();
+			assertInMemorySize();
+			return result;
+		}
+		catch (JsonProcessingException ex) {
+			throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+		}
+		catch (IOException ex) {
+			throw Exceptions.propagate(ex);
+		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+	private Flux<Object> endOfInput() {
+		return Flux.defer(() -> {
+			this.inputFeeder.endOfInput();
+			try {
+				return Flux.fromIterable(readElements());
+			}
+			catch (JsonProcessingException ex) {
+				throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+			}
+			catch (IOException ex) {
+				throw Exceptions.propagate(ex);
+			}
+		});
+	}
+
+	/**
+	 * Discard the bytes before the current element, or before the current
+	 * token if no element is in progress, and make room for the given number
+	 * of bytes. Only called once the parser has consumed all previous input.
+	 */
+	private void prepareWindow(int byteCount) {
+		long retainFrom = (this.elementStart != -1 ? this.elementStart : this.tokenEnd);
+		int discard = (int) (retainFrom - this.windowOffset);
+		if (discard > 0) {
+			System.arraycopy(this.window, discard, this.window, 0, this.windowLength - discard);
+			this.windowLength -= discard;
+			this.windowOffset += discard;
+		}
+		int required = this.windowLength + byteCount;
+		if (required > this.window.length) {
+			byte[] newWindow = new byte[Math.max(required, this.window.length * 2)];
+			System.arraycopy(this.window, 0, newWindow, 0, this.windowLength);
+			this.window = newWindow;
+		}
+	}
+
+	private List<Object> readElements() throws IOException {
+		List<Object> result = null;
+		while (!this.parser.isClosed()) {
+			JsonToken token = this.parser.nextToken();
+			if (token == JsonToken.NOT_AVAILABLE || token == null) {
+				break;
+			}
+			boolean topLevelArrayToken = (this.objectDepth == 0 &&
+					((token == JsonToken.START_ARRAY && this.arrayDepth == 0) ||
+							(token == JsonToken.END_ARRAY && this.arrayDepth == 1)));
+			if (!topLevelArrayToken && this.elementStart == -1) {
+				this.elementStart = this.tokenEnd;
+			}
+			updateDepth(token);
+			this.tokenEnd = this.parser.currentLocation().getByteOffset();
+			if (!topLevelArrayToken && this.objectDepth == 0 && this.arrayDepth <= 1 &&
+					(token.isStructEnd() || token.isScalarValue())) {
+				Object value = readElement();
+				this.elementStart = -1;
+				if (value != null) {
+					result = (result != null ? result : new ArrayList<>());
+					result.add(value);
+				}
+			}
+		}
+		return (result != null ? result : Collections.emptyList());
+	}
+
+	private void updateDepth(JsonToken token) {
+		switch (token) {
+			case START_OBJECT -> this.objectDepth++;
+			case END_OBJECT -> this.objectDepth--;
+			case START_ARRAY -> this.arrayDepth++;
+			case END_ARRAY -> this.arrayDepth--;
+		}
+	}
+
+	private Object readElement() {
+		int start = (int) (this.elementStart - this.windowOffset);
+		int end = (int) (this.tokenEnd - this.windowOffset);
+		// Skip whitespace and the separator from the previous element
+		while (start < end && isSeparator(this.window[start])) {
+			start++;
+		}
+		try {
+			return this.objectReader.readValue(this.window, start, end - start);
+		}
+		catch (IOException ex) {
+			throw this.exceptionHandler.apply(ex);
+		}
+	}
+
+	private static boolean isSeparator(byte b) {
+		return (b == ',' || b == ' ' || b == '\n' || b == '\r' || b == '\t');
+	}
+
+	private void assertInMemorySize() {
+		if (this.maxInMemorySize >= 0) {
+			long retainFrom = (this.elementStart != -1 ? this.elementStart : this.tokenEnd);
+			long byteCount = this.windowOffset + this.windowLength - retainFrom;
+			if (byteCount > this.maxInMemorySize) {
+				throw new DataBufferLimitException(
+						"Exceeded limit on max bytes per JSON object: " + this.maxInMemorySize);
+			}
+		}
+	}
+
+
+	/**
+	 * Whether elements can be read directly with the given factory, i.e. for
+	 * textual JSON that supports non-blocking parsing and disallows comments.
+	 * @param jsonFactory the factory to check
+	 */
+	public static boolean supports(JsonFactory jsonFactory) {
+		return (JsonFactory.FORMAT_NAME_JSON.equals(jsonFactory.getFormatName()) && jsonFactory.canParseAsync() &&
+				!jsonFactory.isEnabled(JsonParser.Feature.ALLOW_COMMENTS) &&
+				!jsonFactory.isEnabled(JsonParser.Feature.ALLOW_YAML_COMMENTS));
+	}
+
+	/**
+	 * Decode the given {@code Flux<DataBuffer>} into a {@code Flux<Object>} of
+	 * the non-null elements of a top-level JSON array, or of the values in a
+	 * JSON stream.
+	 * @param dataBuffers the source data buffers
+	 * @param jsonFactory the factory to use, which must be {@link #supports supported}
+	 * @param objectReader the reader to deserialize each element with
+	 * @param exceptionHandler to map deserialization failures
+	 * @param maxInMemorySize maximum memory size per element
+	 * @return the decoded elements
+	 */
+	public static Flux<Object> read(Flux<DataBuffer> dataBuffers, JsonFactory jsonFactory,
+			ObjectReader objectReader, Function<IOException, RuntimeException> exceptionHandler,
+			int maxInMemorySize) {
+
+		try {
+			JsonParser parser = jsonFactory.createNonBlockingByteArrayParser();
+			Jackson2ElementReader reader =
+					new Jackson2ElementReader(parser, objectReader, exceptionHandler, maxInMemorySize);
+			return dataBuffers.concatMapIterable(reader::read).concatWith(reader.endOfInput());
+		}
+		catch (IOException ex) {
+			return Flux.error(ex);
+		}
+	}
+
+}
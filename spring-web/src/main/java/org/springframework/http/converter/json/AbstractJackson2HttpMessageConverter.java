@@ -38,6 +38,7 @@ import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.PrettyPrinter;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.JavaType;
@@ -103,6 +104,9 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 	@Nullable
 	private final PrettyPrinter ssePrettyPrinter;
 
+	@Nullable
+	private SerializedValueCache serializedValueCache;
+
 
 	protected AbstractJackson2HttpMessageConverter(ObjectMapper objectMapper) {
 		this.defaultObjectMapper = objectMapper;
@@ -243,6 +247,33 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 		}
 	}
 
+	/**
+	 * Configure a cache for the serialized form of values, so that values
+	 * which the cache considers cacheable, e.g. immutable reference data, are
+	 * not serialized again every time they are written.
+	 * <p>Cached bytes are specific to the {@code ObjectMapper}, the target
+	 * type, the content type and the serialization view in use. Values with
+	 * Jackson filters are always serialized, and any
+	 * {@linkplain #writePrefix prefix} or {@linkplain #writeSuffix suffix}
+	 * is written separately.
+	 * <p>By default, this is not set.
+	 * @param serializedValueCache the cache to use, or {@code null} for none
+	 * @since 6.1
+	 */
+	public void setSerializedValueCache(@Nullable SerializedValueCache serializedValueCache) {
+		this.serializedValueCache = serializedValueCache;
+	}
+
+	/**
+	 * Return the {@link #setSerializedValueCache configured} cache for
+	 * serialized values, if any.
+	 * @since 6.1
+	 */
+	@Nullable
+	public SerializedValueCache getSerializedValueCache() {
+		return this.serializedValueCache;
+	}
+
 
 	@Override
 	public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
@@ -480,7 +511,23 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 				objectWriter = objectWriter.with(this.ssePrettyPrinter);
 			}
 			objectWriter = customizeWriter(objectWriter, javaType, contentType);
-			objectWriter.writeValue(generator, value);
+
+			byte[] bytes = null;
+			SerializedValueCache cache = this.serializedValueCache;
+			if (cache != null && filters == null) {
+				Object valueToWrite = value;
+				ObjectWriter writerToUse = objectWriter;
+				WriteContext context = new WriteContext(objectMapper, type, contentType, serializationView, encoding);
+				bytes = cache.get(value, context,
+						() -> writeValueAsBytes(objectMapper, writerToUse, valueToWrite, encoding));
+			}
+			if (bytes != null) {
+				generator.flush();
+				outputStream.write(bytes);
+			}
+			else {
+				objectWriter.writeValue(generator, value);
+			}
 
 			writeSuffix(generator, object);
 			generator.flush();
@@ -493,6 +540,22 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 		}
 	}
 
+	private byte[] writeValueAsBytes(ObjectMapper objectMapper, ObjectWriter objectWriter, Object value,
+			JsonEncoding encoding) throws IOException {
+
+		ByteArrayBuilder byteBuilder = new ByteArrayBuilder(objectWriter.getFactory()._getBufferRecycler());
+		try {
+			try (JsonGenerator generator = objectMapper.getFactory().createGenerator(byteBuilder, encoding)) {
+				objectWriter.writeValue(generator, value);
+				generator.flush();
+			}
+			return byteBuilder.toByteArray();
+		}
+		finally {
+			byteBuilder.release();
+		}
+	}
+
 	/**
 	 * Subclasses can use this method to customize {@link ObjectWriter} used
 	 * for writing values.
@@ -572,4 +635,13 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 	protected boolean supportsRepeatableWrites(Object o) {
 		return true;
 	}
+
+
+	/**
+	 * Serialization context for {@link SerializedValueCache} entries.
+	 */
+	private record WriteContext(ObjectMapper objectMapper, @Nullable Type type, @Nullable MediaType contentType,
+			@Nullable Class<?> serializationView, JsonEncoding encoding) {
+	}
+
 }
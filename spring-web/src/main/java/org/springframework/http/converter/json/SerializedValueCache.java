@@ -0,0 +1,220 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.converter.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.function.ThrowingSupplier;
+
+/**
+ * Cache for the serialized form of values that are written repeatedly, e.g.
+ * immutable reference data, so that they do not need to be serialized again
+ * on every request. Used by
+ * {@link AbstractJackson2HttpMessageConverter#setSerializedValueCache} and
+ * {@link org.springframework.http.codec.json.AbstractJackson2Encoder#setSerializedValueCache}.
+ *
+ * <p>Values are only cached if the configured key function returns a key for
+ * them, either their {@linkplain #forIdentity identity} or a version key that
+ * changes whenever their serialized form changes. Entries are evicted in
+ * least recently used order once their total size exceeds the configured
+ * maximum number of bytes.
+ *
+ * <p>Cached bytes are specific to a serialization context, which is provided
+ * by the caller and typically includes the {@code ObjectMapper}, the target
+ * type, the media type, the JSON view and the encoding.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ */
+public final class SerializedValueCache {
+
+	private final Function<Object, ?> keyFunction;
+
+	private final ConcurrentLruCache<CacheKey, byte[]> cache;
+
+
+	/**
+	 * Create a cache with the given maximum size, caching values for which
+	 * the given function returns a non-null key.
+	 * @param maxBytes the maximum total number of bytes to cache
+	 * @param keyFunction function returning the cache key for a value, e.g.
+	 * a version identifier, or {@code null} if the value should not be cached
+	 */
+	public SerializedValueCache(int maxBytes, Function<Object, ?> keyFunction) {
+		Assert.isTrue(maxBytes >= 0, "'maxBytes' must be >= 0");
+		Assert.notNull(keyFunction, "'keyFunction' must not be null");
+		this.keyFunction = keyFunction;
+		this.cache = new ConcurrentLruCache<>(maxBytes, CacheKey::serialize, (key, bytes) -> bytes.length, true);
+	}
+
+
+	/**
+	 * Return the serialized form of the given value, either from the cache or
+	 * by invoking the given serializer and caching its result.
+	 * @param value the value to serialize
+	 * @param context the serialization context, which must implement
+	 * {@code equals} and {@code hashCode}
+	 * @param serializer the serializer to use on a cache miss
+	 * @return the serialized value, or {@code null} if the value is not
+	 * cacheable, in which case the caller should serialize it as usual
+	 * @throws IOException if thrown by the serializer
+	 */
+	@Nullable
+	public byte[] get(Object value, Object context, ThrowingSupplier<byte[]> serializer) throws IOException {
+		Object valueKey = this.keyFunction.apply(value);
+		if (valueKey == null) {
+			return null;
+		}
+		try {
+			return this.cache.get(new CacheKey(valueKey, value.getClass(), context, serializer));
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Return the current total number of cached bytes.
+	 */
+	public long size() {
+		return this.cache.weightedSize();
+	}
+
+	/**
+	 * Return hit, miss and eviction counts for this cache.
+	 */
+	public ConcurrentLruCache.Statistics getStatistics() {
+		return this.cache.getStatistics();
+	}
+
+	/**
+	 * Remove all entries from this cache.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+
+
+	/**
+	 * Create a cache with the given maximum size, caching instances of the
+	 * given types by identity. Only suitable for immutable values.
+	 * @param maxBytes the maximum total number of bytes to cache
+	 * @param types the types of the values to cache
+	 */
+	public static SerializedValueCache forIdentity(int maxBytes, Class<?>... types) {
+		Assert.notEmpty(types, "At least one type is required");
+		return new SerializedValueCache(maxBytes, value -> {
+			for (Class<?> type : types) {
+				if (type.isInstance(value)) {
+					return new IdentityKey(value);
+				}
+			}
+			return null;
+		});
+	}
+
+
+	/**
+	 * Key for a serialized value, holding on to the serializer until the
+	 * value has been generated for it.
+	 */
+	private static final class CacheKey {
+
+		private final Object valueKey;
+
+		private final Class<?> valueClass;
+
+		private final Object context;
+
+		private final int hashCode;
+
+		@Nullable
+		private ThrowingSupplier<byte[]> serializer;
+
+		CacheKey(Object valueKey, Class<?> valueClass, Object context, ThrowingSupplier<byte[]> serializer) {
+			this.valueKey = valueKey;
+			this.valueClass = valueClass;
+			this.context = context;
+			this.serializer = serializer;
+			this.hashCode = (31 * (31 * valueKey.hashCode() + valueClass.hashCode()) + context.hashCode());
+		}
+
+		byte[] serialize() {
+			ThrowingSupplier<byte[]> serializer = this.serializer;
+			Assert.state(serializer != null, "Value already serialized");
+			// Do not retain the value to serialize once cached
+			this.serializer = null;
+			return serializer.get((message, ex) -> (ex instanceof IOException ioException ?
+					new UncheckedIOException(ioException) : new IllegalStateException(message, ex)));
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof CacheKey that &&
+					this.valueKey.equals(that.valueKey) && this.valueClass == that.valueClass &&
+					this.context.equals(that.context)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+
+	/**
+	 * Key comparing values by identity. Holds on to the value weakly, so that
+	 * cached entries do not retain values outside of the configured maximum
+	 * number of bytes; the entry for a value that has been garbage collected
+	 * can no longer be looked up, and is eventually evicted.
+	 */
+	private static final class IdentityKey {
+
+		private final WeakReference<Object> valueReference;
+
+		private final int hashCode;
+
+		IdentityKey(Object value) {
+			this.valueReference = new WeakReference<>(value);
+			this.hashCode = System.identityHashCode(value);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof IdentityKey that) || this.hashCode != that.hashCode) {
+				return false;
+			}
+			Object value = this.valueReference.get();
+			return (value != null && value == that.valueReference.get());
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+}
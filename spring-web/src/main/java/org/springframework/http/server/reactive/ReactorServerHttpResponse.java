@@ -19,20 +19,25 @@ package org.springframework.http.server.reactive;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelId;
+import io.netty.handler.ssl.SslHandler;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ChannelOperationsId;
+import reactor.netty.NettyPipeline;
 import reactor.netty.http.server.HttpServerResponse;
 
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.FileRegionDataBuffer;
 import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
@@ -54,6 +59,8 @@ class ReactorServerHttpResponse extends AbstractServerHttpResponse implements Ze
 
 	private final HttpServerResponse response;
 
+	private volatile boolean fileRegions;
+
 
 	public ReactorServerHttpResponse(HttpServerResponse response, DataBufferFactory bufferFactory) {
 		super(bufferFactory, new HttpHeaders(new Netty4HeadersAdapter(Objects.requireNonNull(response,
@@ -91,9 +98,32 @@ class ReactorServerHttpResponse extends AbstractServerHttpResponse implements Ze
 
 	@Override
 	protected Mono<Void> writeWithInternal(Publisher<? extends DataBuffer> publisher) {
+		// Only bodies written through writeWithFileRegions may contain file regions
+		if (this.fileRegions) {
+			return Flux.from(publisher)
+					.windowUntil(FileRegionDataBuffer.class::isInstance, true)
+					.concatMap(this::sendWindow)
+					.then();
+		}
 		return this.response.send(toByteBufs(publisher)).then();
 	}
 
+	/**
+	 * Send a window of buffers that may start with a file region. File regions
+	 * are sent through {@code sendFile}, since Reactor Netty drops zero-sized
+	 * {@code FileRegion} messages within a stream of objects.
+	 */
+	private Publisher<Void> sendWindow(Flux<? extends DataBuffer> buffers) {
+		return buffers.switchOnFirst((signal, flux) -> {
+			if (signal.get() instanceof FileRegionDataBuffer region) {
+				return this.response.sendFile(region.getFile(), region.getPosition(), region.getCount())
+						.send(flux.skip(1).map(NettyDataBufferFactory::toByteBuf))
+						.then();
+			}
+			return this.response.send(flux.map(NettyDataBufferFactory::toByteBuf)).then();
+		});
+	}
+
 	@Override
 	protected Mono<Void> writeAndFlushWithInternal(Publisher<? extends Publisher<? extends DataBuffer>> publisher) {
 		return this.response.sendGroups(Flux.from(publisher).map(this::toByteBufs)).then();
@@ -119,6 +149,27 @@ class ReactorServerHttpResponse extends AbstractServerHttpResponse implements Ze
 		return doCommit(() -> this.response.sendFile(file, position, count).then());
 	}
 
+	@Override
+	public Mono<Void> writeWithFileRegions(Publisher<? extends DataBuffer> body) {
+		this.fileRegions = true;
+		return writeWith(body);
+	}
+
+	@Override
+	public boolean supportsFileRegions() {
+		// Same restrictions as for sendFile: no TLS, compression, or HTTP/2 streams
+		AtomicBoolean supported = new AtomicBoolean();
+		this.response.withConnection(connection -> {
+			Channel channel = connection.channel();
+			// Accepted HTTP/1.1 channels have the server channel as parent, HTTP/2 streams the connection
+			Channel parent = channel.parent();
+			supported.set((parent == null || parent.pipeline().get(NettyPipeline.H2MultiplexHandler) == null) &&
+					channel.pipeline().get(SslHandler.class) == null &&
+					channel.pipeline().get(NettyPipeline.CompressionHandler) == null);
+		});
+		return supported.get();
+	}
+
 	private Publisher<ByteBuf> toByteBufs(Publisher<? extends DataBuffer> dataBuffers) {
 		return dataBuffers instanceof Mono ?
 				Mono.from(dataBuffers).map(NettyDataBufferFactory::toByteBuf) :
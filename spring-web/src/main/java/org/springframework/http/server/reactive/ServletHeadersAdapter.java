@@ -0,0 +1,358 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.server.reactive;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@code MultiValueMap} implementation for wrapping the headers of a Servlet
+ * request. Header values are looked up from the request on demand, rather than
+ * copied upfront; a copy is only made on the first modification, after which
+ * all operations apply to the copy. This includes modifications through the
+ * key set, values and entry set views, which read from the request until then.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ */
+class ServletHeadersAdapter implements MultiValueMap<String, String> {
+
+	private final HttpServletRequest request;
+
+	/** Copy of the request headers, created on the first modification. */
+	@Nullable
+	private MultiValueMap<String, String> headers;
+
+
+	ServletHeadersAdapter(HttpServletRequest request) {
+		this.request = request;
+	}
+
+
+	private MultiValueMap<String, String> getWritableHeaders() {
+		if (this.headers == null) {
+			MultiValueMap<String, String> headers =
+					CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH));
+			for (Enumeration<String> names = this.request.getHeaderNames(); names.hasMoreElements();) {
+				String name = names.nextElement();
+				for (Enumeration<String> values = this.request.getHeaders(name); values.hasMoreElements();) {
+					headers.add(name, values.nextElement());
+				}
+			}
+			this.headers = headers;
+		}
+		return this.headers;
+	}
+
+	@Override
+	@Nullable
+	public String getFirst(String key) {
+		return (this.headers != null ? this.headers.getFirst(key) : this.request.getHeader(key));
+	}
+
+	@Override
+	public void add(String key, @Nullable String value) {
+		getWritableHeaders().add(key, value);
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		getWritableHeaders().addAll(key, values);
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		getWritableHeaders().addAll(values);
+	}
+
+	@Override
+	public void set(String key, @Nullable String value) {
+		getWritableHeaders().set(key, value);
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		getWritableHeaders().setAll(values);
+	}
+
+	@Override
+	public Map<String, String> toSingleValueMap() {
+		if (this.headers != null) {
+			return this.headers.toSingleValueMap();
+		}
+		Map<String, String> singleValueMap = CollectionUtils.newLinkedHashMap(size());
+		keySet().forEach(key -> singleValueMap.put(key, getFirst(key)));
+		return singleValueMap;
+	}
+
+	@Override
+	public int size() {
+		if (this.headers != null) {
+			return this.headers.size();
+		}
+		Enumeration<String> names = this.request.getHeaderNames();
+		int size = 0;
+		while (names.hasMoreElements()) {
+			size++;
+			names.nextElement();
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if (this.headers != null) {
+			return this.headers.isEmpty();
+		}
+		return !this.request.getHeaderNames().hasMoreElements();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (this.headers != null) {
+			return this.headers.containsKey(key);
+		}
+		if (key instanceof String headerName) {
+			return (this.request.getHeader(headerName) != null);
+		}
+		return false;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		if (this.headers != null) {
+			return this.headers.containsValue(value);
+		}
+		if (value instanceof String) {
+			for (Enumeration<String> names = this.request.getHeaderNames(); names.hasMoreElements();) {
+				for (Enumeration<String> values = this.request.getHeaders(names.nextElement());
+						values.hasMoreElements();) {
+					if (value.equals(values.nextElement())) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@Nullable
+	public List<String> get(Object key) {
+		if (this.headers != null) {
+			return this.headers.get(key);
+		}
+		if (key instanceof String headerName) {
+			Enumeration<String> values = this.request.getHeaders(headerName);
+			if (values != null && values.hasMoreElements()) {
+				return Collections.list(values);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	@Nullable
+	public List<String> put(String key, List<String> value) {
+		return getWritableHeaders().put(key, value);
+	}
+
+	@Override
+	@Nullable
+	public List<String> remove(Object key) {
+		return getWritableHeaders().remove(key);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		getWritableHeaders().putAll(map);
+	}
+
+	@Override
+	public void clear() {
+		getWritableHeaders().clear();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		if (this.headers != null) {
+			return this.headers.keySet();
+		}
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<String> iterator() {
+				return (headers != null ? headers.keySet().iterator() : new HeaderNameIterator());
+			}
+
+			@Override
+			public int size() {
+				return ServletHeadersAdapter.this.size();
+			}
+		};
+	}
+
+	@Override
+	public Collection<List<String>> values() {
+		if (this.headers != null) {
+			return this.headers.values();
+		}
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<List<String>> iterator() {
+				if (headers != null) {
+					return headers.values().iterator();
+				}
+				HeaderNameIterator names = new HeaderNameIterator();
+				return new Iterator<>() {
+					@Override
+					public boolean hasNext() {
+						return names.hasNext();
+					}
+
+					@Override
+					public List<String> next() {
+						return get(names.next());
+					}
+
+					@Override
+					public void remove() {
+						names.remove();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return ServletHeadersAdapter.this.size();
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<String, List<String>>> entrySet() {
+		if (this.headers != null) {
+			return this.headers.entrySet();
+		}
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<String, List<String>>> iterator() {
+				if (headers != null) {
+					return headers.entrySet().iterator();
+				}
+				HeaderNameIterator names = new HeaderNameIterator();
+				return new Iterator<>() {
+					@Override
+					public boolean hasNext() {
+						return names.hasNext();
+					}
+
+					@Override
+					public Entry<String, List<String>> next() {
+						return new HeaderEntry(names.next());
+					}
+
+					@Override
+					public void remove() {
+						names.remove();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return ServletHeadersAdapter.this.size();
+			}
+		};
+	}
+
+
+	@Override
+	public String toString() {
+		return HttpHeaders.formatHeaders(this);
+	}
+
+
+
+	/**
+	 * Iterator over the header names of the request, removing headers
+	 * from the copy, which is created on the first removal.
+	 */
+	private class HeaderNameIterator implements Iterator<String> {
+
+		private final Iterator<String> names = request.getHeaderNames().asIterator();
+
+		@Nullable
+		private String currentName;
+
+		@Override
+		public boolean hasNext() {
+			return this.names.hasNext();
+		}
+
+		@Override
+		public String next() {
+			this.currentName = this.names.next();
+			return this.currentName;
+		}
+
+		@Override
+		public void remove() {
+			if (this.currentName == null) {
+				throw new IllegalStateException("No current header name");
+			}
+			getWritableHeaders().remove(this.currentName);
+			this.currentName = null;
+		}
+	}
+
+
+	/**
+	 * Entry for a request header, setting its value on the copy, which is
+	 * created on the first modification.
+	 */
+	@SuppressWarnings("serial")
+	private class HeaderEntry extends SimpleEntry<String, List<String>> {
+
+		HeaderEntry(String name) {
+			super(name, get(name));
+		}
+
+		@Override
+		public List<String> setValue(List<String> value) {
+			getWritableHeaders().put(getKey(), value);
+			return super.setValue(value);
+		}
+	}
+
+}
@@ -207,6 +207,15 @@ public class ControllerAdviceBean implements Ordered {
 		return this.order;
 	}
 
+	/**
+	 * Return whether the contained bean is a singleton, in which case
+	 * {@link #resolveBean()} always returns the same instance.
+	 * @since 6.1
+	 */
+	public boolean isSingleton() {
+		return this.isSingleton;
+	}
+
 	/**
 	 * Return the type of the contained bean.
 	 * <p>If the bean type is a CGLIB-generated class, the original user-defined
@@ -16,9 +16,14 @@
 
 package org.springframework.web.method.support;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -35,6 +40,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.validation.method.MethodValidator;
 import org.springframework.web.bind.WebDataBinder;
@@ -59,6 +65,17 @@ public class InvocableHandlerMethod extends HandlerMethod {
 
 	private static final Class<?>[] EMPTY_GROUPS = new Class<?>[0];
 
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	/** Cache of spreading method handles per handler method, or NO_METHOD_HANDLE. */
+	private static final Map<Method, MethodHandle> methodHandleCache = new ConcurrentReferenceHashMap<>(256);
+
+	private static final MethodHandle NO_METHOD_HANDLE = MethodHandles.constant(Object.class, null);
+
+	/** Numeric primitive types in the order of widening primitive conversions. */
+	private static final List<Class<?>> NUMERIC_WIDENING_ORDER =
+			List.of(byte.class, short.class, int.class, long.class, float.class, double.class);
+
 
 	private HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
 
@@ -70,6 +87,12 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	@Nullable
 	private MethodValidator methodValidator;
 
+	@Nullable
+	private volatile HandlerMethodArgumentResolver[] resolvedArgumentResolvers;
+
+	@Nullable
+	private volatile MethodHandle methodHandle;
+
 
 	/**
 	 * Create an instance from a {@code HandlerMethod}.
@@ -114,6 +137,7 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	 */
 	public void setHandlerMethodArgumentResolvers(HandlerMethodArgumentResolverComposite argumentResolvers) {
 		this.resolvers = argumentResolvers;
+		this.resolvedArgumentResolvers = null;
 	}
 
 	/**
@@ -202,6 +226,7 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			return EMPTY_ARGS;
 		}
 
+		HandlerMethodArgumentResolver[] argumentResolvers = getArgumentResolvers(parameters);
 		Object[] args = new Object[parameters.length];
 		for (int i = 0; i < parameters.length; i++) {
 			MethodParameter parameter = parameters[i];
@@ -210,11 +235,15 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			if (args[i] != null) {
 				continue;
 			}
-			if (!this.resolvers.supportsParameter(parameter)) {
-				throw new IllegalStateException(formatArgumentError(parameter, "No suitable resolver"));
+			HandlerMethodArgumentResolver resolver = (argumentResolvers != null ? argumentResolvers[i] : null);
+			if (resolver == null) {
+				if (!this.resolvers.supportsParameter(parameter)) {
+					throw new IllegalStateException(formatArgumentError(parameter, "No suitable resolver"));
+				}
+				resolver = this.resolvers;
 			}
 			try {
-				args[i] = this.resolvers.resolveArgument(parameter, mavContainer, request, this.dataBinderFactory);
+				args[i] = resolver.resolveArgument(parameter, mavContainer, request, this.dataBinderFactory);
 			}
 			catch (Exception ex) {
 				// Leave stack trace for later, exception may actually be resolved and handled...
@@ -230,6 +259,29 @@ public class InvocableHandlerMethod extends HandlerMethod {
 		return args;
 	}
 
+	/**
+	 * Return the argument resolver for each parameter, as determined by the
+	 * configured resolvers on first use, with {@code null} for parameters
+	 * without a resolver. Returns {@code null} if the configured resolvers
+	 * are a custom composite, which is then consulted for each argument.
+	 */
+	@Nullable
+	private HandlerMethodArgumentResolver[] getArgumentResolvers(MethodParameter[] parameters) {
+		if (this.resolvers.getClass() != HandlerMethodArgumentResolverComposite.class) {
+			return null;
+		}
+		HandlerMethodArgumentResolver[] argumentResolvers = this.resolvedArgumentResolvers;
+		if (argumentResolvers == null) {
+			argumentResolvers = new HandlerMethodArgumentResolver[parameters.length];
+			for (int i = 0; i < parameters.length; i++) {
+				parameters[i].initParameterNameDiscovery(this.parameterNameDiscoverer);
+				argumentResolvers[i] = this.resolvers.getArgumentResolver(parameters[i]);
+			}
+			this.resolvedArgumentResolvers = argumentResolvers;
+		}
+		return argumentResolvers;
+	}
+
 	private Class<?>[] getValidationGroups() {
 		return ((shouldValidateArguments() || shouldValidateReturnValue()) && this.methodValidator != null ?
 				this.methodValidator.determineValidationGroups(getBean(), getBridgedMethod()) : EMPTY_GROUPS);
@@ -250,6 +302,10 @@ public class InvocableHandlerMethod extends HandlerMethod {
 					return KotlinDelegate.invokeFunction(method, getBean(), args);
 				}
 			}
+			MethodHandle methodHandle = getMethodHandle(method);
+			if (methodHandle != NO_METHOD_HANDLE) {
+				return invokeMethodHandle(methodHandle, method, args);
+			}
 			return method.invoke(getBean(), args);
 		}
 		catch (IllegalArgumentException ex) {
@@ -276,6 +332,97 @@ public class InvocableHandlerMethod extends HandlerMethod {
 		}
 	}
 
+	private MethodHandle getMethodHandle(Method method) {
+		MethodHandle methodHandle = this.methodHandle;
+		if (methodHandle == null) {
+			methodHandle = methodHandleCache.computeIfAbsent(method, InvocableHandlerMethod::createMethodHandle);
+			this.methodHandle = methodHandle;
+		}
+		return methodHandle;
+	}
+
+	/**
+	 * Invoke the given method handle, reporting failures in the same way as
+	 * {@link Method#invoke}: exceptions thrown by the method are wrapped in an
+	 * {@link InvocationTargetException}, while argument mismatches, which
+	 * prevent the method from being invoked at all, are left to reflection.
+	 * Arguments are checked up front, so that the method is never invoked
+	 * again reflectively after it has been entered through the handle.
+	 */
+	@Nullable
+	private Object invokeMethodHandle(MethodHandle methodHandle, Method method, Object[] args) throws Exception {
+		Object bean = getBean();
+		if (!isInvocable(method, bean, args)) {
+			return method.invoke(bean, args);
+		}
+		try {
+			return methodHandle.invokeExact(bean, args);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	/**
+	 * Determine whether the given method can be invoked with the given arguments,
+	 * applying the same unboxing and widening conversions as {@link Method#invoke}
+	 * and the method handle adapted to {@link #INVOKER_TYPE}.
+	 */
+	private static boolean isInvocable(Method method, Object bean, Object[] args) {
+		if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(bean)) {
+			return false;
+		}
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		if (parameterTypes.length != args.length) {
+			return false;
+		}
+		for (int i = 0; i < args.length; i++) {
+			Class<?> parameterType = parameterTypes[i];
+			Object arg = args[i];
+			if (arg == null ? parameterType.isPrimitive() : !(parameterType.isInstance(arg) ||
+					(parameterType.isPrimitive() && isPrimitiveWidening(arg.getClass(), parameterType)))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether a value of the given wrapper type can be unboxed to the given
+	 * primitive type, possibly followed by a widening primitive conversion.
+	 */
+	private static boolean isPrimitiveWidening(Class<?> wrapperType, Class<?> primitiveType) {
+		Class<?> sourceType = MethodType.methodType(wrapperType).unwrap().returnType();
+		if (sourceType == primitiveType) {
+			return true;
+		}
+		int targetIndex = NUMERIC_WIDENING_ORDER.indexOf(primitiveType);
+		if (sourceType == char.class) {
+			// char widens to int, long, float and double
+			return (targetIndex >= NUMERIC_WIDENING_ORDER.indexOf(int.class));
+		}
+		int sourceIndex = NUMERIC_WIDENING_ORDER.indexOf(sourceType);
+		return (sourceIndex >= 0 && sourceIndex < targetIndex);
+	}
+
+	/**
+	 * Create a method handle of type {@code (Object, Object[])Object} for the
+	 * given method, or {@link #NO_METHOD_HANDLE} if it cannot be accessed
+	 * that way, in which case it is invoked reflectively.
+	 */
+	private static MethodHandle createMethodHandle(Method method) {
+		try {
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (Modifier.isStatic(method.getModifiers())) {
+				methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+			}
+			return methodHandle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			return NO_METHOD_HANDLE;
+		}
+	}
+
 	/**
 	 * Invoke the given Kotlin coroutine suspended function.
 	 *
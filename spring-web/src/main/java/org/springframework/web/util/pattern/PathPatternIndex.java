@@ -0,0 +1,205 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.PathContainer.Element;
+import org.springframework.http.server.PathContainer.PathSegment;
+import org.springframework.http.server.PathContainer.Separator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Prefix tree over the leading literal segments of a set of {@link PathPattern}s,
+ * used to narrow down the patterns that may possibly match a given path before
+ * falling back on {@link PathPattern#matches(PathContainer)}.
+ *
+ * <p>For example, the patterns {@code "/api/users/{id}"} and {@code "/api/orders/**"}
+ * are registered under the nodes {@code api -> users} and {@code api -> orders}
+ * respectively, so that a lookup for {@code "/api/users/42"} only returns values
+ * registered for the former, in addition to any values registered for patterns
+ * without a literal prefix such as {@code "/{*path}"}.
+ *
+ * <p>The candidates returned by {@link #getCandidates(PathContainer)} are a
+ * superset of the values whose pattern matches the path, so callers are still
+ * expected to match each candidate against the path.
+ *
+ * <p>This class is not thread-safe. Callers are expected to guard modifications
+ * and lookups, e.g. with a read-write lock as handler mappings already do.
+ *
+ * @author Spring Framework Team
+ * @since 6.1
+ * @param <T> the type of values associated with patterns
+ */
+public class PathPatternIndex<T> {
+
+	private static final String SEPARATOR = "/";
+
+
+	private final Node<T> root = new Node<>();
+
+	private int size;
+
+
+	/**
+	 * Register a value for the given pattern.
+	 * @param pattern the pattern to index by
+	 * @param value the value to return as candidate for paths under the
+	 * literal prefix of the pattern
+	 */
+	public void add(PathPattern pattern, T value) {
+		Assert.notNull(pattern, "PathPattern must not be null");
+		Assert.notNull(value, "Value must not be null");
+		Node<T> node = this.root;
+		for (String segment : getLiteralPrefix(pattern)) {
+			node = node.children.computeIfAbsent(segment, key -> new Node<>());
+		}
+		node.values.add(value);
+		this.size++;
+	}
+
+	/**
+	 * Remove a value previously {@link #add(PathPattern, Object) registered}
+	 * for the given pattern.
+	 * @param pattern the pattern the value was registered with
+	 * @param value the value to remove
+	 * @return {@code true} if the value was found and removed
+	 */
+	public boolean remove(PathPattern pattern, T value) {
+		Assert.notNull(pattern, "PathPattern must not be null");
+		List<String> prefix = getLiteralPrefix(pattern);
+		List<Node<T>> nodes = new ArrayList<>(prefix.size() + 1);
+		Node<T> node = this.root;
+		nodes.add(node);
+		for (String segment : prefix) {
+			node = node.children.get(segment);
+			if (node == null) {
+				return false;
+			}
+			nodes.add(node);
+		}
+		if (!node.values.remove(value)) {
+			return false;
+		}
+		this.size--;
+		// Prune nodes that no longer lead to any value
+		for (int i = prefix.size(); i > 0; i--) {
+			Node<T> current = nodes.get(i);
+			if (!current.values.isEmpty() || !current.children.isEmpty()) {
+				break;
+			}
+			nodes.get(i - 1).children.remove(prefix.get(i - 1));
+		}
+		return true;
+	}
+
+	/**
+	 * Return the number of registered values, counting a value once for
+	 * every pattern it was registered with.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Whether no values have been registered.
+	 */
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+	 * Remove all registered values.
+	 */
+	public void clear() {
+		this.root.children.clear();
+		this.root.values.clear();
+		this.size = 0;
+	}
+
+	/**
+	 * Return the values registered for patterns that may match the given path,
+	 * in registration order per node and from the least to the most specific
+	 * literal prefix. A value registered for several patterns is returned once.
+	 * @param path the path to find candidates for
+	 * @return the candidate values, possibly empty
+	 */
+	public Set<T> getCandidates(PathContainer path) {
+		Set<T> result = new LinkedHashSet<>();
+		Node<T> node = this.root;
+		List<Element> elements = path.elements();
+		int index = 0;
+		while (true) {
+			result.addAll(node.values);
+			node = getChild(node, elements, index);
+			if (node == null) {
+				return result;
+			}
+			index += 2;
+		}
+	}
+
+	@Nullable
+	private Node<T> getChild(Node<T> node, List<Element> elements, int index) {
+		if (node.children.isEmpty() || index + 1 >= elements.size()) {
+			return null;
+		}
+		if (!(elements.get(index) instanceof Separator separator) || !SEPARATOR.equals(separator.value()) ||
+				!(elements.get(index + 1) instanceof PathSegment segment)) {
+			return null;
+		}
+		return node.children.get(segment.valueToMatch());
+	}
+
+	/**
+	 * Return the literal segments at the start of the pattern, i.e. the segments
+	 * that any path matched by the pattern must begin with, each preceded by a
+	 * single separator. Patterns that are case-insensitive or use a separator
+	 * other than '/' are not indexed and match at the root.
+	 */
+	private static List<String> getLiteralPrefix(PathPattern pattern) {
+		if (!pattern.isCaseSensitive() || pattern.getSeparator() != SEPARATOR.charAt(0)) {
+			return List.of();
+		}
+		List<String> segments = null;
+		PathElement element = pattern.getHeadSection();
+		while (element instanceof SeparatorPathElement && element.next instanceof LiteralPathElement literal) {
+			if (segments == null) {
+				segments = new ArrayList<>();
+			}
+			segments.add(new String(literal.getChars()));
+			element = literal.next;
+		}
+		return (segments != null ? segments : List.of());
+	}
+
+
+	private static final class Node<T> {
+
+		private final Map<String, Node<T>> children = new HashMap<>();
+
+		private final List<T> values = new ArrayList<>(1);
+	}
+
+}
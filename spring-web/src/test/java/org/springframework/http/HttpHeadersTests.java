@@ -729,6 +729,21 @@ public class HttpHeadersTests {
 		assertThat(addAllHeaders.entrySet()).extracting(Entry::getKey).containsExactly(expectedKeys);
 	}
 
+	@Test
+	void readOnlyHttpHeadersCacheParsedValues() {
+		headers.setContentLength(42);
+		headers.setIfNoneMatch("\"v1\"");
+		headers.setIfModifiedSince(1000L);
+
+		HttpHeaders readOnlyHttpHeaders = HttpHeaders.readOnlyHttpHeaders(headers);
+		assertThat(readOnlyHttpHeaders.getContentLength()).isEqualTo(42);
+		assertThat(readOnlyHttpHeaders.getIfNoneMatch()).containsExactly("\"v1\"");
+		assertThat(readOnlyHttpHeaders.getIfNoneMatch()).isSameAs(readOnlyHttpHeaders.getIfNoneMatch());
+		assertThat(readOnlyHttpHeaders.getIfMatch()).isEmpty();
+		assertThat(readOnlyHttpHeaders.getIfModifiedSince()).isEqualTo(1000L);
+		assertThat(readOnlyHttpHeaders.getIfUnmodifiedSince()).isEqualTo(-1);
+	}
+
 	@Test // gh-25034
 	void equalsUnwrapsHttpHeaders() {
 		HttpHeaders headers1 = new HttpHeaders();
@@ -41,6 +41,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.CodecException;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.core.testfixture.codec.AbstractDecoderTests;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.json.JacksonViewBean.MyJacksonView1;
@@ -322,6 +323,72 @@ public class Jackson2JsonDecoderTests extends AbstractDecoderTests<Jackson2JsonD
 				null);
 	}
 
+	@Test
+	public void decodeWithDirectElementDecoding() {
+		this.decoder.setDirectElementDecoding(true);
+		Flux<DataBuffer> input = Flux.concat(
+				stringBuffer("[ {\"bar\":\"b1\",\"fo"),
+				stringBuffer("o\":\"f1\"} ,null,\n"),
+				stringBuffer("{\"bar\":\"b2\",\"foo\":\"f2\"}]"));
+
+		testDecodeAll(input, Pojo.class, step -> step
+				.expectNext(pojo1)
+				.expectNext(pojo2)
+				.verifyComplete());
+	}
+
+	@Test
+	public void decodeStreamWithDirectElementDecoding() {
+		this.decoder.setDirectElementDecoding(true);
+		Flux<DataBuffer> input = Flux.concat(
+				stringBuffer("{\"bar\":\"b1\",\"foo\":\"f1\"}\n{\"bar\":"),
+				stringBuffer("\"b2\",\"foo\":\"f2\"}\n"));
+
+		testDecode(input, ResolvableType.forClass(Pojo.class), step -> step
+				.expectNext(pojo1)
+				.expectNext(pojo2)
+				.verifyComplete(), APPLICATION_NDJSON, null);
+	}
+
+	@Test
+	public void decodeNestedArraysWithDirectElementDecoding() {
+		this.decoder.setDirectElementDecoding(true);
+		Flux<DataBuffer> input = Flux.concat(stringBuffer("[[1,2],"), stringBuffer("[3], 4, \"5\"]"));
+
+		testDecode(input, ResolvableType.forClass(Object.class), step -> step
+				.expectNext(List.of(1, 2))
+				.expectNext(List.of(3))
+				.expectNext(4)
+				.expectNext("5")
+				.verifyComplete(), null, null);
+	}
+
+	@Test
+	public void invalidDataWithDirectElementDecoding() {
+		this.decoder.setDirectElementDecoding(true);
+		Flux<DataBuffer> input = Flux.concat(
+				stringBuffer("[{\"bar\":\"b1\",\"foo\":\"f1\"},"),
+				stringBuffer("{\"bar\":\"b2\",\"foo\":f2}]"));
+
+		testDecode(input, Pojo.class, step -> step
+				.expectNext(pojo1)
+				.verifyError(DecodingException.class));
+	}
+
+	@Test
+	public void maxInMemorySizeWithDirectElementDecoding() {
+		this.decoder.setDirectElementDecoding(true);
+		this.decoder.setMaxInMemorySize(32);
+		Flux<DataBuffer> input = Flux.concat(
+				stringBuffer("[{\"bar\":\"b1\",\"foo\":\"f1\"},"),
+				stringBuffer("{\"bar\":\"b2\",\"foo\":\"too long to fit"),
+				stringBuffer("\"}]"));
+
+		testDecode(input, Pojo.class, step -> step
+				.expectNext(pojo1)
+				.verifyError(DataBufferLimitException.class));
+	}
+
 
 	private Mono<DataBuffer> stringBuffer(String value) {
 		return stringBuffer(value, StandardCharsets.UTF_8);
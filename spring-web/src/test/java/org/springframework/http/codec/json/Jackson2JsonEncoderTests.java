@@ -39,6 +39,7 @@ import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.codec.json.JacksonViewBean.MyJacksonView1;
 import org.springframework.http.codec.json.JacksonViewBean.MyJacksonView3;
 import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.converter.json.SerializedValueCache;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.testfixture.xml.Pojo;
@@ -298,6 +299,47 @@ public class Jackson2JsonEncoderTests extends AbstractEncoderTests<Jackson2JsonE
 	}
 
 
+	@Test
+	public void encodeValueWithSerializedValueCache() {
+		SerializedValueCache cache = SerializedValueCache.forIdentity(1024, Pojo.class);
+		this.encoder.setSerializedValueCache(cache);
+		Pojo pojo = new Pojo("foo", "bar");
+		ResolvableType type = ResolvableType.forClass(Pojo.class);
+
+		DataBuffer buffer = this.encoder.encodeValue(pojo, this.bufferFactory, type, APPLICATION_JSON, null);
+		expectString("{\"foo\":\"foo\",\"bar\":\"bar\"}").accept(buffer);
+
+		// The cached bytes are written, even if the (supposedly immutable) value has changed
+		pojo.setFoo("baz");
+		buffer = this.encoder.encodeValue(pojo, this.bufferFactory, type, APPLICATION_JSON, null);
+		expectString("{\"foo\":\"foo\",\"bar\":\"bar\"}").accept(buffer);
+
+		buffer = this.encoder.encodeValue(new Pojo("foo", "baz"), this.bufferFactory, type, APPLICATION_JSON, null);
+		expectString("{\"foo\":\"foo\",\"bar\":\"baz\"}").accept(buffer);
+
+		assertThat(cache.getStatistics().hitCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().missCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void encodeValueWithSerializedValueCacheAndJsonView() {
+		this.encoder.setSerializedValueCache(SerializedValueCache.forIdentity(1024, JacksonViewBean.class));
+		JacksonViewBean bean = new JacksonViewBean();
+		bean.setWithView1("with");
+		bean.setWithView2("with");
+		bean.setWithoutView("without");
+		ResolvableType type = ResolvableType.forClass(JacksonViewBean.class);
+
+		DataBuffer buffer = this.encoder.encodeValue(bean, this.bufferFactory, type, APPLICATION_JSON,
+				singletonMap(JSON_VIEW_HINT, MyJacksonView1.class));
+		expectString("{\"withView1\":\"with\"}").accept(buffer);
+
+		buffer = this.encoder.encodeValue(bean, this.bufferFactory, type, APPLICATION_JSON,
+				singletonMap(JSON_VIEW_HINT, MyJacksonView3.class));
+		expectString("{\"withoutView\":\"without\"}").accept(buffer);
+	}
+
+
 	@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
 	private static class ParentClass {
 	}
@@ -405,6 +405,66 @@ public class MappingJackson2HttpMessageConverterTests {
 		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(")))\"foo\"");
 	}
 
+	@Test
+	public void writeWithSerializedValueCache() throws Exception {
+		SerializedValueCache cache = SerializedValueCache.forIdentity(1024, MyBean.class);
+		this.converter.setSerializedValueCache(cache);
+		MyBean bean = new MyBean();
+		bean.setString("Foo");
+
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		this.converter.writeInternal(bean, null, outputMessage);
+		String result = outputMessage.getBodyAsString(StandardCharsets.UTF_8);
+		assertThat(result).contains("\"string\":\"Foo\"");
+
+		// The cached bytes are written, even if the (supposedly immutable) bean has changed
+		bean.setString("Bar");
+		outputMessage = new MockHttpOutputMessage();
+		this.converter.writeInternal(bean, null, outputMessage);
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(result);
+
+		outputMessage = new MockHttpOutputMessage();
+		this.converter.writeInternal(Map.of("string", "Baz"), null, outputMessage);
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"string\":\"Baz\"}");
+
+		assertThat(cache.getStatistics().hitCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().missCount()).isEqualTo(1);
+		assertThat(cache.size()).isEqualTo(result.length());
+	}
+
+	@Test
+	public void writeWithSerializedValueCacheAndPrefix() throws Exception {
+		this.converter.setSerializedValueCache(SerializedValueCache.forIdentity(1024, String.class));
+		this.converter.setPrefixJson(true);
+		String value = "foo";
+
+		for (int i = 0; i < 2; i++) {
+			MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+			this.converter.writeInternal(value, null, outputMessage);
+			assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(")]}', \"foo\"");
+		}
+	}
+
+	@Test
+	public void writeWithSerializedValueCacheAndJsonView() throws Exception {
+		this.converter.setSerializedValueCache(SerializedValueCache.forIdentity(1024, JacksonViewBean.class));
+		JacksonViewBean bean = new JacksonViewBean();
+		bean.setWithView1("with");
+		bean.setWithView2("with");
+		bean.setWithoutView("without");
+
+		MappingJacksonValue jacksonValue = new MappingJacksonValue(bean);
+		jacksonValue.setSerializationView(MyJacksonView1.class);
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		this.converter.writeInternal(jacksonValue, null, outputMessage);
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"withView1\":\"with\"}");
+
+		jacksonValue.setSerializationView(MyJacksonView2.class);
+		outputMessage = new MockHttpOutputMessage();
+		this.converter.writeInternal(jacksonValue, null, outputMessage);
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"withView2\":\"with\"}");
+	}
+
 	@Test
 	public void fieldLevelJsonView() throws Exception {
 		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.converter.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link SerializedValueCache}.
+ *
+ * @author Spring Framework Team
+ */
+class SerializedValueCacheTests {
+
+	@Test
+	void cacheByVersionKey() throws IOException {
+		SerializedValueCache cache = new SerializedValueCache(1024,
+				value -> (value instanceof Catalog catalog ? catalog.version() : null));
+
+		assertThat(cache.get(new Catalog(1, "a"), "json", () -> bytes("a"))).isEqualTo(bytes("a"));
+		assertThat(cache.get(new Catalog(1, "b"), "json", () -> bytes("b"))).isEqualTo(bytes("a"));
+		assertThat(cache.get(new Catalog(2, "b"), "json", () -> bytes("b"))).isEqualTo(bytes("b"));
+		assertThat(cache.get(new Catalog(1, "a"), "other", () -> bytes("c"))).isEqualTo(bytes("c"));
+		assertThat(cache.get("not cached", "json", () -> bytes("d"))).isNull();
+
+		assertThat(cache.getStatistics().hitCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().missCount()).isEqualTo(3);
+		assertThat(cache.size()).isEqualTo(3);
+
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void cacheByIdentity() throws IOException {
+		SerializedValueCache cache = SerializedValueCache.forIdentity(1024, Catalog.class);
+		Catalog catalog = new Catalog(1, "a");
+
+		assertThat(cache.get(catalog, "json", () -> bytes("a"))).isEqualTo(bytes("a"));
+		assertThat(cache.get(catalog, "json", () -> bytes("b"))).isEqualTo(bytes("a"));
+		assertThat(cache.get(new Catalog(1, "a"), "json", () -> bytes("c"))).isEqualTo(bytes("c"));
+	}
+
+	@Test
+	void evictLeastRecentlyUsedOnceMaxBytesExceeded() throws IOException {
+		SerializedValueCache cache = new SerializedValueCache(10, value -> ((Catalog) value).version());
+
+		cache.get(new Catalog(1, "a"), "json", () -> new byte[6]);
+		cache.get(new Catalog(2, "b"), "json", () -> new byte[6]);
+
+		assertThat(cache.size()).isEqualTo(6);
+		assertThat(cache.getStatistics().evictionCount()).isEqualTo(1);
+		assertThat(cache.get(new Catalog(2, "b"), "json", () -> bytes("x"))).hasSize(6);
+	}
+
+	@Test
+	void serializerExceptionIsPropagated() {
+		SerializedValueCache cache = SerializedValueCache.forIdentity(1024, Catalog.class);
+
+		assertThatIOException().isThrownBy(() ->
+				cache.get(new Catalog(1, "a"), "json", () -> { throw new IOException("failure"); }));
+		assertThat(cache.size()).isZero();
+	}
+
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+
+	private record Catalog(int version, String name) {
+	}
+
+}
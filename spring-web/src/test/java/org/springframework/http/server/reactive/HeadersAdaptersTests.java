@@ -22,13 +22,16 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.undertow.util.HeaderMap;
 import org.apache.tomcat.util.http.MimeHeaders;
 import org.eclipse.jetty.http.HttpFields;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -39,6 +42,7 @@ import org.springframework.http.support.Netty5HeadersAdapter;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -127,6 +131,51 @@ class HeadersAdaptersTests {
 		assertThatThrownBy(names::remove).isInstanceOf(IllegalStateException.class);
 	}
 
+	@Test
+	void servletHeadersKeySetRemoveIfBeforeModification() {
+		MockHttpServletRequest request = servletRequestWithHeaders();
+		ServletHeadersAdapter headers = new ServletHeadersAdapter(request);
+		assertThat(headers.keySet().removeIf("First"::equalsIgnoreCase)).isTrue();
+		assertThat(headers.keySet()).containsExactly("Second");
+		assertThat(headers.get("First")).isNull();
+		assertThat(request.getHeader("First")).isEqualTo("1");
+	}
+
+	@Test
+	void servletHeadersValuesRemoveIfBeforeModification() {
+		ServletHeadersAdapter headers = new ServletHeadersAdapter(servletRequestWithHeaders());
+		assertThat(headers.values().removeIf(values -> values.contains("2"))).isTrue();
+		assertThat(headers.keySet()).containsExactly("First");
+	}
+
+	@Test
+	void servletHeadersEntrySetRemoveBeforeModification() {
+		ServletHeadersAdapter headers = new ServletHeadersAdapter(servletRequestWithHeaders());
+		Iterator<Map.Entry<String, List<String>>> entries = headers.entrySet().iterator();
+		assertThat(entries.next().getKey()).isEqualTo("First");
+		entries.remove();
+		assertThatThrownBy(entries::remove).isInstanceOf(IllegalStateException.class);
+		assertThat(entries.next().getKey()).isEqualTo("Second");
+		assertThat(headers.keySet()).containsExactly("Second");
+	}
+
+	@Test
+	void servletHeadersReplaceAllBeforeModification() {
+		MockHttpServletRequest request = servletRequestWithHeaders();
+		ServletHeadersAdapter headers = new ServletHeadersAdapter(request);
+		headers.replaceAll((name, values) -> List.of(values.get(0) + "0"));
+		assertThat(headers.get("First")).containsExactly("10");
+		assertThat(headers.get("Second")).containsExactly("20");
+		assertThat(request.getHeader("First")).isEqualTo("1");
+	}
+
+	private static MockHttpServletRequest servletRequestWithHeaders() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("First", "1");
+		request.addHeader("Second", "2");
+		return request;
+	}
+
 	@Retention(RetentionPolicy.RUNTIME)
 	@Target(ElementType.METHOD)
 	@ParameterizedTest(name = "[{index}] {0}")
@@ -141,7 +190,8 @@ class HeadersAdaptersTests {
 				arguments(named("Netty", new Netty5HeadersAdapter(io.netty5.handler.codec.http.headers.HttpHeaders.newHeaders()))),
 				arguments(named("Tomcat", new TomcatHeadersAdapter(new MimeHeaders()))),
 				arguments(named("Undertow", new UndertowHeadersAdapter(new HeaderMap()))),
-				arguments(named("Jetty", new JettyHeadersAdapter(HttpFields.build())))
+				arguments(named("Jetty", new JettyHeadersAdapter(HttpFields.build()))),
+				arguments(named("Servlet", new ServletHeadersAdapter(new MockHttpServletRequest())))
 		);
 	}
 
@@ -28,6 +28,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.util.MultiValueMap;
@@ -212,6 +213,35 @@ public class ServerHttpRequestTests {
 		assertThat(nativeRequest).isInstanceOf(HttpServletRequest.class);
 	}
 
+	@Test
+	void headersFromServletRequest() throws Exception {
+		MockHttpServletRequest servletRequest = new TestHttpServletRequest(URI.create("/path"));
+		servletRequest.addHeader("Accept", "text/plain");
+		servletRequest.addHeader("X-Custom", "value1");
+		servletRequest.addHeader("X-Custom", "value2");
+		ServerHttpRequest request = createRequest(servletRequest);
+
+		HttpHeaders headers = request.getHeaders();
+		assertThat(headers.get("x-custom")).containsExactly("value1", "value2");
+		assertThat(headers.getFirst("X-Custom")).isEqualTo("value1");
+		assertThat(headers.getAccept()).containsExactly(MediaType.TEXT_PLAIN);
+		assertThat(headers.keySet()).containsExactly("Accept", "X-Custom");
+		assertThat(headers.get("X-Other")).isNull();
+		assertThat(headers.containsKey("X-Other")).isFalse();
+	}
+
+	@Test
+	void headersFromServletRequestWithContentLength() throws Exception {
+		MockHttpServletRequest servletRequest = new TestHttpServletRequest(URI.create("/path"));
+		servletRequest.addHeader("X-Custom", "value");
+		servletRequest.setContent(new byte[] {1, 2, 3});
+		ServerHttpRequest request = createRequest(servletRequest);
+
+		HttpHeaders headers = request.getHeaders();
+		assertThat(headers.getContentLength()).isEqualTo(3);
+		assertThat(headers.getFirst("X-Custom")).isEqualTo("value");
+	}
+
 	private ServerHttpRequest createRequest(String uriString) throws Exception {
 		return createRequest(uriString, "");
 	}
@@ -220,6 +250,10 @@ public class ServerHttpRequestTests {
 		URI uri = URI.create(uriString);
 		MockHttpServletRequest request = new TestHttpServletRequest(uri);
 		request.setContextPath(contextPath);
+		return createRequest(request);
+	}
+
+	private ServerHttpRequest createRequest(MockHttpServletRequest request) throws Exception {
 		AsyncContext asyncContext = new MockAsyncContext(request, new MockHttpServletResponse());
 		return new ServletServerHttpRequest(request, asyncContext, "", DefaultDataBufferFactory.sharedInstance, 1024);
 	}
@@ -18,15 +18,20 @@ package org.springframework.http.server.reactive;
 
 import java.io.File;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
 
 import reactor.core.publisher.Mono;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.codec.ResourceHttpMessageWriter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.testfixture.http.server.reactive.bootstrap.AbstractHttpHandlerIntegrationTests;
 import org.springframework.web.testfixture.http.server.reactive.bootstrap.HttpServer;
@@ -70,11 +75,45 @@ class ZeroCopyIntegrationTests extends AbstractHttpHandlerIntegrationTests {
 		assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_PNG);
 	}
 
+	@ParameterizedHttpServerTest
+	void multipleByteRanges(HttpServer httpServer) throws Exception {
+		assumeTrue(httpServer instanceof ReactorHttpServer, "File regions are only supported on Reactor Netty");
+
+		startServer(httpServer);
+
+		URI url = URI.create("http://localhost:" + port + "/ranges");
+		RequestEntity<?> request = RequestEntity.get(url).header(HttpHeaders.RANGE, "bytes=0-99,500-599").build();
+		@SuppressWarnings("resource")
+		ResponseEntity<byte[]> response = new RestTemplate().exchange(request, byte[].class);
+
+		assertThat(response.getStatusCode().value()).isEqualTo(206);
+		assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.MULTIPART_BYTERANGES)).isTrue();
+		byte[] content = springLogoResource.getContentAsByteArray();
+		byte[] body = response.getBody();
+		int first = indexOf(body, Arrays.copyOfRange(content, 0, 100), 0);
+		assertThat(first).isNotNegative();
+		assertThat(indexOf(body, Arrays.copyOfRange(content, 500, 600), first + 100)).isNotNegative();
+	}
+
+	private static int indexOf(byte[] source, byte[] target, int fromIndex) {
+		for (int i = fromIndex; i <= source.length - target.length; i++) {
+			if (Arrays.equals(source, i, i + target.length, target, 0, target.length)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 
 	private static class ZeroCopyHandler implements HttpHandler {
 
 		@Override
 		public Mono<Void> handle(ServerHttpRequest request, ServerHttpResponse response) {
+			if (request.getPath().value().equals("/ranges")) {
+				return new ResourceHttpMessageWriter().write(Mono.just(springLogoResource),
+						null, ResolvableType.forClass(Resource.class), MediaType.IMAGE_PNG,
+						request, response, Collections.emptyMap());
+			}
 			try {
 				ZeroCopyHttpOutputMessage zeroCopyResponse = (ZeroCopyHttpOutputMessage) response;
 				File logoFile = springLogoResource.getFile();
@@ -158,6 +158,49 @@ public class InvocableHandlerMethodTests {
 			.withMessageContaining("Illegal argument");
 	}
 
+	@Test
+	public void illegalArgumentExceptionFromHandler() throws Exception {
+		IllegalArgumentException exception = new IllegalArgumentException("error");
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> getInvocable(Throwable.class).invokeForRequest(this.request, null, exception))
+			.isSameAs(exception);
+	}
+
+	@Test
+	public void widenPrimitiveArg() throws Exception {
+		this.composite.addResolver(new StubArgumentResolver(double.class, 5));
+		InvocableHandlerMethod handlerMethod = getInvocable(double.class);
+		handlerMethod.invokeForRequest(this.request, null);
+		handlerMethod.invokeForRequest(this.request, null);
+
+		assertThat(getStubResolver(0).getResolvedParameters()).hasSize(2);
+	}
+
+	@Test
+	public void widenPrimitiveArgWithExceptionFromHandler() throws Exception {
+		this.composite.addResolver(new StubArgumentResolver(long.class, 5));
+		InvocableHandlerMethod handlerMethod = getInvocable(long.class);
+		assertThatIllegalStateException()
+			.isThrownBy(() -> handlerMethod.invokeForRequest(this.request, null))
+			.withMessage("Failure for 5");
+
+		assertThat(((Handler) handlerMethod.getBean()).invocationCount).isEqualTo(1);
+	}
+
+	@Test
+	public void resolveArgWithReplacedResolvers() throws Exception {
+		this.composite.addResolver(new StubArgumentResolver(99));
+		this.composite.addResolver(new StubArgumentResolver("value"));
+		InvocableHandlerMethod handlerMethod = getInvocable(Integer.class, String.class);
+		assertThat(handlerMethod.invokeForRequest(this.request, null)).isEqualTo("99-value");
+
+		HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
+		resolvers.addResolver(new StubArgumentResolver(1));
+		resolvers.addResolver(new StubArgumentResolver("other"));
+		handlerMethod.setHandlerMethodArgumentResolvers(resolvers);
+		assertThat(handlerMethod.invokeForRequest(this.request, null)).isEqualTo("1-other");
+	}
+
 	private InvocableHandlerMethod getInvocable(Class<?>... argTypes) {
 		Method method = ResolvableMethod.on(Handler.class).argTypes(argTypes).resolveMethod();
 		InvocableHandlerMethod handlerMethod = new InvocableHandlerMethod(new Handler(), method);
@@ -174,6 +217,8 @@ public class InvocableHandlerMethodTests {
 	@SuppressWarnings("unused")
 	private static class Handler {
 
+		int invocationCount;
+
 		public String handle(Integer intArg, String stringArg) {
 			return intArg + "-" + stringArg;
 		}
@@ -181,6 +226,11 @@ public class InvocableHandlerMethodTests {
 		public void handle(double amount) {
 		}
 
+		public void handleAndFail(long amount) {
+			this.invocationCount++;
+			throw new IllegalStateException("Failure for " + amount);
+		}
+
 		public void handleWithException(Throwable ex) throws Throwable {
 			throw ex;
 		}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.server.PathContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PathPatternIndex}.
+ *
+ * @author Spring Framework Team
+ */
+class PathPatternIndexTests {
+
+	private final PathPatternParser parser = new PathPatternParser();
+
+	private final PathPatternIndex<String> index = new PathPatternIndex<>();
+
+
+	@Test
+	void candidatesForLiteralPrefix() {
+		add("/api/users/{id}", "/api/orders/**", "/api/users", "/docs/{*path}");
+
+		assertThat(candidates("/api/users/42")).containsExactly("/api/users/{id}", "/api/users");
+		assertThat(candidates("/api/orders/1/lines")).containsExactly("/api/orders/**");
+		assertThat(candidates("/docs/index.html")).containsExactly("/docs/{*path}");
+		assertThat(candidates("/other")).isEmpty();
+	}
+
+	@Test
+	void candidatesIncludePatternsWithoutLiteralPrefix() {
+		add("/**", "/{name}", "/api/{version}/users", "/api*/users");
+
+		assertThat(candidates("/api/v1/users"))
+				.containsExactly("/**", "/{name}", "/api*/users", "/api/{version}/users");
+		assertThat(candidates("/")).containsExactly("/**", "/{name}", "/api*/users");
+	}
+
+	@Test
+	void candidatesAreSupersetOfMatches() {
+		List<String> patterns = List.of("/", "/a", "/a/", "/a/b", "/a/b/{c}", "/a/*/c", "/a/b/c/**",
+				"/a/{b}.json", "/a/b;c", "/a//b", "a/b", "", "/a/b?", "/a/b/c/{*rest}");
+		patterns.forEach(this::add);
+		List<String> paths = List.of("", "/", "/a", "/a/", "/a/b", "/a/b/", "/a/b/c", "/a/b/c/d/e",
+				"/a/x/c", "/a/b.json", "/a/b;c=d", "/a//b", "a/b", "/a/bc", "//a/b", "/a%2Fb");
+
+		for (String path : paths) {
+			PathContainer container = PathContainer.parsePath(path);
+			Set<String> matches = patterns.stream()
+					.filter(pattern -> this.parser.parse(pattern).matches(container))
+					.collect(Collectors.toSet());
+			assertThat(this.index.getCandidates(container)).as(path).containsAll(matches);
+		}
+	}
+
+	@Test
+	void candidatesForCaseInsensitivePatterns() {
+		PathPatternParser caseInsensitiveParser = new PathPatternParser();
+		caseInsensitiveParser.setCaseSensitive(false);
+		this.index.add(caseInsensitiveParser.parse("/API/users"), "/API/users");
+
+		assertThat(candidates("/api/users")).containsExactly("/API/users");
+	}
+
+	@Test
+	void candidatesForEncodedPath() {
+		add("/hello world/{id}");
+
+		assertThat(candidates("/hello%20world/42")).containsExactly("/hello world/{id}");
+	}
+
+	@Test
+	void valueRegisteredForSeveralPatternsIsReturnedOnce() {
+		this.index.add(this.parser.parse("/api/users"), "users");
+		this.index.add(this.parser.parse("/api/users/{id}"), "users");
+
+		assertThat(candidates("/api/users/42")).containsExactly("users");
+		assertThat(this.index.size()).isEqualTo(2);
+	}
+
+	@Test
+	void remove() {
+		add("/api/users/{id}", "/api/orders");
+
+		assertThat(this.index.remove(this.parser.parse("/api/users/{id}"), "/api/users/{id}")).isTrue();
+		assertThat(this.index.remove(this.parser.parse("/api/users/{id}"), "/api/users/{id}")).isFalse();
+		assertThat(this.index.remove(this.parser.parse("/api/other"), "/api/orders")).isFalse();
+		assertThat(candidates("/api/users/42")).isEmpty();
+		assertThat(candidates("/api/orders")).containsExactly("/api/orders");
+		assertThat(this.index.size()).isEqualTo(1);
+
+		this.index.clear();
+		assertThat(this.index.isEmpty()).isTrue();
+		assertThat(candidates("/api/orders")).isEmpty();
+	}
+
+
+	private void add(String... patterns) {
+		for (String pattern : patterns) {
+			this.index.add(this.parser.parse(pattern), pattern);
+		}
+	}
+
+	private Set<String> candidates(String path) {
+		return this.index.getCandidates(PathContainer.parsePath(path));
+	}
+
+}
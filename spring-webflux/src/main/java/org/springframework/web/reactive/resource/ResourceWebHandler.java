@@ -36,6 +36,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.Hints;
+import org.springframework.core.codec.ResourceEncoder;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.log.LogFormatUtils;
@@ -129,6 +130,8 @@ public class ResourceWebHandler implements WebHandler, InitializingBean {
 
 	private boolean optimizeLocations = false;
 
+	private boolean useMemoryMappedFiles = false;
+
 
 	/**
 	 * Provide the ResourceLoader to load {@link #setLocationValues location values} with.
@@ -326,6 +329,28 @@ public class ResourceWebHandler implements WebHandler, InitializingBean {
 		return this.optimizeLocations;
 	}
 
+	/**
+	 * Set whether file-based resources should be read through memory-mapped
+	 * regions of the file, wrapped as data buffers, rather than copied into
+	 * allocated buffers. This keeps heap usage constant when serving large
+	 * files on servers that do not support zero-copy transfers.
+	 * <p>The default is {@code false}.
+	 * @since 6.1
+	 * @see ResourceEncoder#MEMORY_MAPPED_HINT
+	 */
+	public void setUseMemoryMappedFiles(boolean useMemoryMappedFiles) {
+		this.useMemoryMappedFiles = useMemoryMappedFiles;
+	}
+
+	/**
+	 * Return whether file-based resources are read through memory-mapped
+	 * regions of the file.
+	 * @since 6.1
+	 */
+	public boolean isUseMemoryMappedFiles() {
+		return this.useMemoryMappedFiles;
+	}
+
 	/**
 	 * Add mappings between file extensions extracted from the filename of static
 	 * {@link Resource}s and the media types to use for the response.
@@ -471,10 +496,13 @@ public class ResourceWebHandler implements WebHandler, InitializingBean {
 									.then(exchange.getResponse().setComplete());
 						}
 						else {
+							Map<String, Object> hints = Hints.from(Hints.LOG_PREFIX_HINT, exchange.getLogPrefix());
+							if (this.useMemoryMappedFiles) {
+								hints = Hints.merge(hints, ResourceEncoder.MEMORY_MAPPED_HINT, true);
+							}
 							return writer.write(Mono.just(resource),
 									null, ResolvableType.forClass(Resource.class), mediaType,
-									exchange.getRequest(), exchange.getResponse(),
-									Hints.from(Hints.LOG_PREFIX_HINT, exchange.getLogPrefix()));
+									exchange.getRequest(), exchange.getResponse(), hints);
 						}
 					}
 					catch (IOException ex) {
@@ -49,6 +49,8 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.handler.AbstractHandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
 
 /**
  * Abstract base class for {@link HandlerMapping} implementations that define
@@ -325,7 +327,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, exchange);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, exchange);
+			addMatchingMappings(this.mappingRegistry.getMappingsByPathPrefix(exchange), matches, exchange);
 		}
 		if (!matches.isEmpty()) {
 			Comparator<Match> comparator = new MatchComparator(getMappingComparator(exchange));
@@ -441,6 +443,22 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the patterns of the given mapping, used to index mappings by the
+	 * literal prefix of their patterns so that lookups that do not hit a
+	 * {@link #getDirectPaths(Object) direct path} only check mappings that
+	 * may match the request path.
+	 * <p>By default this returns {@code null}, in which case such lookups
+	 * check all mappings.
+	 * @param mapping the mapping to get the patterns for
+	 * @return the patterns, or {@code null} if not available
+	 * @since 6.1
+	 */
+	@Nullable
+	protected Set<PathPattern> getPathPatterns(T mapping) {
+		return null;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -472,6 +490,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final PathPatternIndex<T> pathPatternIndex = new PathPatternIndex<>();
+
+		private int unindexedMappingCount;
+
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
@@ -495,6 +517,20 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(path);
 		}
 
+		/**
+		 * Return the mappings that may match the request path, based on the literal
+		 * prefix of their {@link #getPathPatterns(Object) patterns}, or all
+		 * mappings if some of them could not be indexed. Not thread-safe.
+		 * @since 6.1
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPathPrefix(ServerWebExchange exchange) {
+			if (this.unindexedMappingCount > 0 || this.pathPatternIndex.isEmpty()) {
+				return this.registry.keySet();
+			}
+			return this.pathPatternIndex.getCandidates(exchange.getRequest().getPath().pathWithinApplication());
+		}
+
 		/**
 		 * Return CORS configuration. Thread-safe for concurrent use.
 		 */
@@ -535,8 +571,11 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.corsLookup.put(handlerMethod, corsConfig);
 				}
 
-				this.registry.put(mapping,
+				MappingRegistration<T> existing = this.registry.put(mapping,
 						new MappingRegistration<>(mapping, handlerMethod, directPaths, corsConfig != null));
+				if (existing == null) {
+					addToPathPatternIndex(mapping);
+				}
 			}
 			finally {
 				this.readWriteLock.writeLock().unlock();
@@ -554,6 +593,28 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			}
 		}
 
+		private void addToPathPatternIndex(T mapping) {
+			Set<PathPattern> patterns = getPathPatterns(mapping);
+			if (patterns == null || patterns.isEmpty()) {
+				this.unindexedMappingCount++;
+				return;
+			}
+			for (PathPattern pattern : patterns) {
+				this.pathPatternIndex.add(pattern, mapping);
+			}
+		}
+
+		private void removeFromPathPatternIndex(T mapping) {
+			Set<PathPattern> patterns = getPathPatterns(mapping);
+			if (patterns == null || patterns.isEmpty()) {
+				this.unindexedMappingCount--;
+				return;
+			}
+			for (PathPattern pattern : patterns) {
+				this.pathPatternIndex.remove(pattern, mapping);
+			}
+		}
+
 		public void unregister(T mapping) {
 			this.readWriteLock.writeLock().lock();
 			try {
@@ -572,6 +633,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				removeFromPathPatternIndex(registration.getMapping());
+
 				this.corsLookup.remove(registration.getHandlerMethod());
 			}
 			finally {
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.mvc.method;
+
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+
+/**
+ * Benchmark for looking up the handler of a request among many mappings for
+ * the same path that differ by HTTP method, parameters and media types.
+ *
+ * @author Spring Framework Team
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RequestMappingInfoHandlerMappingBenchmark {
+
+	@Benchmark
+	public void getHandlerByMethod(BenchmarkState state, Blackhole bh) throws Exception {
+		bh.consume(state.handlerMapping.getHandler(state.createRequest("DELETE", null, null)));
+	}
+
+	@Benchmark
+	public void getHandlerByContentType(BenchmarkState state, Blackhole bh) throws Exception {
+		bh.consume(state.handlerMapping.getHandler(state.createRequest("POST", state.contentType, null)));
+	}
+
+	@Benchmark
+	public void getHandlerByAccept(BenchmarkState state, Blackhole bh) throws Exception {
+		bh.consume(state.handlerMapping.getHandler(state.createRequest("GET", null, state.accept)));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		private static final RequestMethod[] METHODS = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT};
+
+		@Param({"100", "500"})
+		public int numberOfMappings;
+
+		RequestMappingHandlerMapping handlerMapping;
+
+		String contentType;
+
+		String accept;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.handlerMapping = new RequestMappingHandlerMapping();
+			RequestMappingInfo.BuilderConfiguration options = new RequestMappingInfo.BuilderConfiguration();
+			options.setPatternParser(this.handlerMapping.getPatternParser());
+			Method method = Handler.class.getMethod("handle");
+			for (int i = 0; i < this.numberOfMappings; i++) {
+				String mediaType = "application/vnd.example.v" + i + "+json";
+				RequestMethod requestMethod = METHODS[i % METHODS.length];
+				RequestMappingInfo info = RequestMappingInfo.paths("/api/items")
+						.methods(requestMethod)
+						.consumes(requestMethod != RequestMethod.GET ? new String[] {mediaType} : new String[0])
+						.produces(mediaType)
+						.options(options)
+						.build();
+				this.handlerMapping.registerMapping(info, new Handler(), method);
+				// Match the last registered candidates for POST and GET
+				if (requestMethod == RequestMethod.POST) {
+					this.contentType = mediaType;
+				}
+				else if (requestMethod == RequestMethod.GET) {
+					this.accept = mediaType;
+				}
+			}
+			RequestMappingInfo info = RequestMappingInfo.paths("/api/items")
+					.methods(RequestMethod.DELETE)
+					.options(options)
+					.build();
+			this.handlerMapping.registerMapping(info, new Handler(), method);
+		}
+
+		MockHttpServletRequest createRequest(String method, @Nullable String contentType, @Nullable String accept) {
+			MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/items");
+			if (contentType != null) {
+				request.setContentType(contentType);
+				request.setContent(new byte[] {0});
+			}
+			if (accept != null) {
+				request.addHeader("Accept", accept);
+			}
+			return request;
+		}
+	}
+
+
+	public static class Handler {
+
+		public void handle() {
+		}
+	}
+
+}
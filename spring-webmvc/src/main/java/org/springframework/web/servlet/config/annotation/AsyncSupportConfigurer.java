@@ -38,6 +38,8 @@ public class AsyncSupportConfigurer {
 	@Nullable
 	private AsyncTaskExecutor taskExecutor;
 
+	private boolean virtualThreads;
+
 	@Nullable
 	private Long timeout;
 
@@ -63,6 +65,21 @@ public class AsyncSupportConfigurer {
 		return this;
 	}
 
+	/**
+	 * Whether to run controller methods on virtual threads, releasing the
+	 * container thread while a blocking controller method executes. Unless a
+	 * {@link #setTaskExecutor task executor} is configured, virtual threads
+	 * are also used for the purposes listed there.
+	 * <p>Requires Java 21 or higher.
+	 * @param virtualThreads whether to use virtual threads
+	 * @since 6.1
+	 * @see org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter#setVirtualThreads
+	 */
+	public AsyncSupportConfigurer setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+		return this;
+	}
+
 	/**
 	 * Specify the amount of time, in milliseconds, before asynchronous request
 	 * handling times out. In Servlet 3, the timeout begins after the main request
@@ -106,6 +123,10 @@ public class AsyncSupportConfigurer {
 		return this.taskExecutor;
 	}
 
+	protected boolean isVirtualThreads() {
+		return this.virtualThreads;
+	}
+
 	@Nullable
 	protected Long getTimeout() {
 		return this.timeout;
@@ -39,6 +39,7 @@ import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -49,6 +50,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
@@ -404,7 +408,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, request);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, request);
+			addMatchingMappings(this.mappingRegistry.getMappingsByPathPrefix(lookupPath, request), matches, request);
 		}
 		if (!matches.isEmpty()) {
 			Match bestMatch = matches.get(0);
@@ -543,6 +547,23 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return urls;
 	}
 
+	/**
+	 * Return the parsed patterns of the given mapping, used to index mappings
+	 * by the literal prefix of their patterns so that lookups that do not hit
+	 * a {@link #getDirectPaths(Object) direct path} only check mappings that
+	 * may match the request path.
+	 * <p>By default this returns {@code null}, in which case such lookups
+	 * check all mappings.
+	 * @param mapping the mapping to get the patterns for
+	 * @return the patterns, or {@code null} if the mapping does not use
+	 * parsed {@link PathPattern PathPatterns}
+	 * @since 6.1
+	 */
+	@Nullable
+	protected Set<PathPattern> getPathPatterns(T mapping) {
+		return null;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -573,6 +594,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final PathPatternIndex<T> pathPatternIndex = new PathPatternIndex<>();
+
+		private int unindexedMappingCount;
+
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
@@ -596,6 +621,23 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(urlPath);
 		}
 
+		/**
+		 * Return the mappings that may match the given path, based on the literal
+		 * prefix of their {@link #getPathPatterns(Object) patterns}, or all
+		 * mappings if some of them could not be indexed. Not thread-safe.
+		 * @since 6.1
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPathPrefix(String lookupPath, HttpServletRequest request) {
+			if (this.unindexedMappingCount > 0 || this.pathPatternIndex.isEmpty()) {
+				return this.registry.keySet();
+			}
+			PathContainer path = (ServletRequestPathUtils.hasParsedRequestPath(request) ?
+					ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication() :
+					PathContainer.parsePath(lookupPath));
+			return this.pathPatternIndex.getCandidates(path);
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -649,8 +691,11 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.corsLookup.put(handlerMethod, corsConfig);
 				}
 
-				this.registry.put(mapping,
+				MappingRegistration<T> existing = this.registry.put(mapping,
 						new MappingRegistration<>(mapping, handlerMethod, directPaths, name, corsConfig != null));
+				if (existing == null) {
+					addToPathPatternIndex(mapping);
+				}
 			}
 			finally {
 				this.readWriteLock.writeLock().unlock();
@@ -668,6 +713,28 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			}
 		}
 
+		private void addToPathPatternIndex(T mapping) {
+			Set<PathPattern> patterns = getPathPatterns(mapping);
+			if (patterns == null || patterns.isEmpty()) {
+				this.unindexedMappingCount++;
+				return;
+			}
+			for (PathPattern pattern : patterns) {
+				this.pathPatternIndex.add(pattern, mapping);
+			}
+		}
+
+		private void removeFromPathPatternIndex(T mapping) {
+			Set<PathPattern> patterns = getPathPatterns(mapping);
+			if (patterns == null || patterns.isEmpty()) {
+				this.unindexedMappingCount--;
+				return;
+			}
+			for (PathPattern pattern : patterns) {
+				this.pathPatternIndex.remove(pattern, mapping);
+			}
+		}
+
 		private void addMappingName(String name, HandlerMethod handlerMethod) {
 			List<HandlerMethod> oldList = this.nameLookup.get(name);
 			if (oldList == null) {
@@ -704,6 +771,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				removeFromPathPatternIndex(registration.getMapping());
+
 				removeMappingName(registration);
 
 				this.corsLookup.remove(registration.getHandlerMethod());
@@ -52,6 +52,8 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 
 	private static final ConsumesRequestCondition EMPTY_CONDITION = new ConsumesRequestCondition();
 
+	private static final String CONTENT_TYPE_ATTRIBUTE = ConsumesRequestCondition.class.getName() + ".CONTENT_TYPE";
+
 
 	private final List<ConsumeMediaTypeExpression> expressions;
 
@@ -191,8 +193,8 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 	 * to contain matching expressions only. The match is performed via
 	 * {@link MediaType#includes(MediaType)}.
 	 * @param request the current request
-	 * @return the same instance if the condition contains no expressions;
-	 * or a new condition with matching expressions only;
+	 * @return the same instance if the condition contains no expressions or
+	 * if all expressions match; or a new condition with matching expressions only;
 	 * or {@code null} if no expressions match
 	 */
 	@Override
@@ -208,20 +210,40 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 			return EMPTY_CONDITION;
 		}
 
-		// Common media types are cached at the level of MimeTypeUtils
+		MediaType contentType = getContentType(request);
+		if (contentType == null) {
+			return null;
+		}
+
+		List<ConsumeMediaTypeExpression> result = getMatchingExpressions(contentType);
+		if (CollectionUtils.isEmpty(result)) {
+			return null;
+		}
+		return (result.size() == this.expressions.size() ? this : new ConsumesRequestCondition(result));
+	}
 
+	/**
+	 * Return the parsed 'Content-Type' of the request, or {@code null} if it
+	 * is invalid. The result is kept in a request attribute along with the
+	 * raw header value, so that it is parsed once for all candidate mappings.
+	 */
+	@Nullable
+	private MediaType getContentType(HttpServletRequest request) {
+		String value = request.getContentType();
+		if (request.getAttribute(CONTENT_TYPE_ATTRIBUTE) instanceof ParsedContentType parsed &&
+				ObjectUtils.nullSafeEquals(parsed.value(), value)) {
+			return parsed.mediaType();
+		}
 		MediaType contentType;
 		try {
-			contentType = StringUtils.hasLength(request.getContentType()) ?
-					MediaType.parseMediaType(request.getContentType()) :
-					MediaType.APPLICATION_OCTET_STREAM;
+			contentType = (StringUtils.hasLength(value) ?
+					MediaType.parseMediaType(value) : MediaType.APPLICATION_OCTET_STREAM);
 		}
 		catch (InvalidMediaTypeException ex) {
 			return null;
 		}
-
-		List<ConsumeMediaTypeExpression> result = getMatchingExpressions(contentType);
-		return !CollectionUtils.isEmpty(result) ? new ConsumesRequestCondition(result) : null;
+		request.setAttribute(CONTENT_TYPE_ATTRIBUTE, new ParsedContentType(value, contentType));
+		return contentType;
 	}
 
 	private boolean hasBody(HttpServletRequest request) {
@@ -271,6 +293,13 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 	}
 
 
+	/**
+	 * A 'Content-Type' header value and the media type parsed from it.
+	 */
+	private record ParsedContentType(@Nullable String value, MediaType mediaType) {
+	}
+
+
 	/**
 	 * Parses and matches a single media type expression to a request's 'Content-Type' header.
 	 */
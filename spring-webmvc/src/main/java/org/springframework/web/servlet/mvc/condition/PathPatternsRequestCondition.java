@@ -182,8 +182,8 @@ public final class PathPatternsRequestCondition extends AbstractRequestCondition
 	 * Checks if any of the patterns match the given request and returns an
 	 * instance that is guaranteed to contain matching patterns, sorted.
 	 * @param request the current request
-	 * @return the same instance if the condition contains no patterns;
-	 * or a new condition with sorted matching patterns;
+	 * @return the same instance if the condition contains no patterns or if
+	 * all patterns match; or a new condition with sorted matching patterns;
 	 * or {@code null} if no patterns match.
 	 */
 	@Override
@@ -191,7 +191,10 @@ public final class PathPatternsRequestCondition extends AbstractRequestCondition
 	public PathPatternsRequestCondition getMatchingCondition(HttpServletRequest request) {
 		PathContainer path = ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication();
 		SortedSet<PathPattern> matches = getMatchingPatterns(path);
-		return (matches != null ? new PathPatternsRequestCondition(matches) : null);
+		if (matches == null) {
+			return null;
+		}
+		return (matches.size() == this.patterns.size() ? this : new PathPatternsRequestCondition(matches));
 	}
 
 	@Nullable
@@ -190,8 +190,8 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 	 * to contain matching expressions only. The match is performed via
 	 * {@link MediaType#isCompatibleWith(MediaType)}.
 	 * @param request the current request
-	 * @return the same instance if there are no expressions;
-	 * or a new condition with matching expressions;
+	 * @return the same instance if there are no expressions or if all
+	 * expressions match; or a new condition with matching expressions;
 	 * or {@code null} if no expressions match.
 	 */
 	@Override
@@ -212,7 +212,7 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 		}
 		List<ProduceMediaTypeExpression> result = getMatchingExpressions(acceptedMediaTypes);
 		if (!CollectionUtils.isEmpty(result)) {
-			return new ProducesRequestCondition(result, this);
+			return (result.size() == this.expressions.size() ? this : new ProducesRequestCondition(result, this));
 		}
 		else if (MediaType.ALL.isPresentIn(acceptedMediaTypes)) {
 			return EMPTY_CONDITION;
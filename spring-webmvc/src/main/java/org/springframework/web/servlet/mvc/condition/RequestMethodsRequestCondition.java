@@ -118,7 +118,8 @@ public final class RequestMethodsRequestCondition extends AbstractRequestConditi
 	 * return an instance that contains the matching HTTP request method only.
 	 * @param request the current request
 	 * @return the same instance if the condition is empty (unless the request
-	 * method is HTTP OPTIONS), a new condition with the matched request method,
+	 * method is HTTP OPTIONS) or if the matched request method is the only one,
+	 * a new condition with the matched request method,
 	 * or {@code null} if there is no match or the condition is empty and the
 	 * request method is OPTIONS.
 	 */
@@ -160,7 +161,7 @@ public final class RequestMethodsRequestCondition extends AbstractRequestConditi
 		RequestMethod requestMethod = RequestMethod.resolve(httpMethodValue);
 		if (requestMethod != null) {
 			if (getMethods().contains(requestMethod)) {
-				return requestMethodConditionCache.get(httpMethodValue);
+				return (this.methods.size() == 1 ? this : requestMethodConditionCache.get(httpMethodValue));
 			}
 			if (requestMethod.equals(RequestMethod.HEAD) && getMethods().contains(RequestMethod.GET)) {
 				return requestMethodConditionCache.get(HttpMethod.GET.name());
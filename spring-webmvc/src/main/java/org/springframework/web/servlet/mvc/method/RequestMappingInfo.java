@@ -103,6 +103,9 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 
 	private final RequestConditionHolder customConditionHolder;
 
+	/** Bit per {@link RequestMethod} ordinal of the declared HTTP methods, or 0 if none. */
+	private final int requestMethodMask;
+
 	private final int hashCode;
 
 	private final BuilderConfiguration options;
@@ -176,6 +179,7 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 		this.customConditionHolder = customCondition;
 		this.options = options;
 
+		this.requestMethodMask = calculateRequestMethodMask(this.methodsCondition);
 		this.hashCode = calculateHashCode(
 				this.pathPatternsCondition, this.patternsCondition,
 				this.methodsCondition, this.paramsCondition, this.headersCondition,
@@ -377,11 +381,15 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 	 * <p>For example the returned instance may contain the subset of URL
 	 * patterns that match to the current request, sorted with best matching
 	 * patterns on top.
-	 * @return a new instance in case of a match; or {@code null} otherwise
+	 * @return a new instance in case of a match, or the same instance if all
+	 * conditions match as a whole; or {@code null} otherwise
 	 */
 	@Override
 	@Nullable
 	public RequestMappingInfo getMatchingCondition(HttpServletRequest request) {
+		if (!matchesRequestMethod(request)) {
+			return null;
+		}
 		RequestMethodsRequestCondition methods = this.methodsCondition.getMatchingCondition(request);
 		if (methods == null) {
 			return null;
@@ -420,10 +428,31 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 		if (custom == null) {
 			return null;
 		}
+		if (pathPatterns == this.pathPatternsCondition && patterns == this.patternsCondition &&
+				methods == this.methodsCondition && params == this.paramsCondition &&
+				headers == this.headersCondition && consumes == this.consumesCondition &&
+				produces == this.producesCondition && custom == this.customConditionHolder) {
+			return this;
+		}
 		return new RequestMappingInfo(this.name, pathPatterns, patterns,
 				methods, params, headers, consumes, produces, custom, this.options);
 	}
 
+	/**
+	 * Quick check of the request's HTTP method against the declared methods,
+	 * which rejects most non-matching candidates before any condition is
+	 * evaluated. OPTIONS requests are left to the full condition, since
+	 * pre-flight requests are matched by their requested method instead.
+	 */
+	private boolean matchesRequestMethod(HttpServletRequest request) {
+		if (this.requestMethodMask == 0) {
+			return true;
+		}
+		RequestMethod requestMethod = RequestMethod.resolve(request.getMethod());
+		return (requestMethod != null && (requestMethod == RequestMethod.OPTIONS ||
+				(this.requestMethodMask & (1 << requestMethod.ordinal())) != 0));
+	}
+
 	/**
 	 * Compares "this" info (i.e. the current instance) with another info in the
 	 * context of a request.
@@ -490,6 +519,18 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 		return this.hashCode;
 	}
 
+	private static int calculateRequestMethodMask(RequestMethodsRequestCondition methodsCondition) {
+		int mask = 0;
+		for (RequestMethod method : methodsCondition.getMethods()) {
+			mask |= 1 << method.ordinal();
+		}
+		if (methodsCondition.getMethods().contains(RequestMethod.GET)) {
+			// HEAD is matched to GET
+			mask |= 1 << RequestMethod.HEAD.ordinal();
+		}
+		return mask;
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	private static int calculateHashCode(
 			@Nullable PathPatternsRequestCondition pathPatterns, @Nullable PatternsRequestCondition patterns,
@@ -20,8 +20,10 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -427,8 +429,11 @@ class ReactiveTypeHandler {
 
 		@Override
 		protected void send(Object element) throws IOException {
-			getEmitter().send(element, MediaType.APPLICATION_JSON);
-			getEmitter().send("\n", MediaType.TEXT_PLAIN);
+			// Write the element and the delimiter with a single flush
+			Set<ResponseBodyEmitter.DataWithMediaType> items = new LinkedHashSet<>(2);
+			items.add(new ResponseBodyEmitter.DataWithMediaType(element, MediaType.APPLICATION_JSON));
+			items.add(new ResponseBodyEmitter.DataWithMediaType("\n", MediaType.TEXT_PLAIN));
+			getEmitter().send(items);
 		}
 	}
 
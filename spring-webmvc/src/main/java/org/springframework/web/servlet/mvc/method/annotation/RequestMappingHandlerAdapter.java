@@ -23,7 +23,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -34,6 +36,8 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.MethodIntrospector;
@@ -44,12 +48,15 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.log.LogFormatUtils;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.ui.ModelMap;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ReflectionUtils.MethodFilter;
@@ -64,10 +71,13 @@ import org.springframework.web.bind.support.SessionAttributeStore;
 import org.springframework.web.bind.support.WebBindingInitializer;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.context.request.async.AsyncWebRequest;
 import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
 import org.springframework.web.context.request.async.WebAsyncManager;
 import org.springframework.web.context.request.async.WebAsyncTask;
@@ -137,6 +147,25 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 	private static final boolean BEAN_VALIDATION_PRESENT =
 			ClassUtils.isPresent("jakarta.validation.Validator", HandlerMethod.class.getClassLoader());
 
+	/**
+	 * The maximum number of handler methods for which an invocation plan is cached.
+	 */
+	private static final int INVOCATION_PLAN_CACHE_LIMIT = 1024;
+
+	/**
+	 * Return value types that start asynchronous processing themselves, and
+	 * are therefore not invoked on a virtual thread.
+	 */
+	private static final Class<?>[] ASYNC_RETURN_TYPES = {Callable.class, WebAsyncTask.class,
+			DeferredResult.class, CompletionStage.class, Future.class, ResponseBodyEmitter.class,
+			StreamingResponseBody.class};
+
+	/**
+	 * Concurrent result for a handler method that was invoked, and its return
+	 * value handled, on a virtual thread.
+	 */
+	private static final Object VIRTUAL_THREAD_INVOCATION_COMPLETE = new Object();
+
 
 	@Nullable
 	private List<HandlerMethodArgumentResolver> customArgumentResolvers;
@@ -170,6 +199,9 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 
 	private AsyncTaskExecutor taskExecutor = new MvcSimpleAsyncTaskExecutor();
 
+	@Nullable
+	private AsyncTaskExecutor virtualThreadExecutor;
+
 	@Nullable
 	private Long asyncRequestTimeout;
 
@@ -202,6 +234,8 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 
 	private final Map<ControllerAdviceBean, Set<Method>> modelAttributeAdviceCache = new LinkedHashMap<>();
 
+	private final Map<HandlerMethod, InvocationPlan> invocationPlanCache = new ConcurrentHashMap<>(256);
+
 
 	/**
 	 * Provide resolvers for custom argument types. Custom resolvers are ordered
@@ -406,6 +440,34 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Whether to run controller methods on virtual threads, releasing the
+	 * container thread while a blocking controller method executes.
+	 * <p>This applies to controller methods that do not produce an asynchronous
+	 * return value themselves, i.e. anything other than a {@link Callable},
+	 * {@link WebAsyncTask}, {@link DeferredResult}, {@link CompletionStage},
+	 * {@link ResponseBodyEmitter}, {@link StreamingResponseBody} or reactive
+	 * type. Such a method is invoked, along with the handling of its return
+	 * value, on a new virtual thread through asynchronous request processing,
+	 * followed by a dispatch back to the container to complete processing.
+	 * The {@code RequestContextHolder} and {@code LocaleContextHolder} are
+	 * exposed to the virtual thread, {@link CallableProcessingInterceptor
+	 * CallableProcessingInterceptors} apply, and so does the
+	 * {@link #setAsyncRequestTimeout async request timeout}.
+	 * <p>Not applied to requests that do not support asynchronous processing,
+	 * nor if {@link #setSynchronizeOnSession synchronizeOnSession} is "true",
+	 * since the session mutex cannot be held across threads.
+	 * <p>Unless a specific {@link #setTaskExecutor task executor} has been
+	 * configured, virtual threads are also used for {@link Callable} and
+	 * streaming return values.
+	 * <p>The default is "false". Requires Java 21 or higher.
+	 * @since 6.1
+	 * @see VirtualThreadTaskExecutor
+	 */
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreadExecutor = (virtualThreads ? new VirtualThreadTaskExecutor("mvc-virtual-") : null);
+	}
+
 	/**
 	 * Specify the amount of time, in milliseconds, before concurrent handling
 	 * should time out. In Servlet 3, the timeout begins after the main request
@@ -591,6 +653,7 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 	}
 
 	private void initControllerAdviceCache() {
+		this.invocationPlanCache.clear();
 		if (getApplicationContext() == null) {
 			return;
 		}
@@ -742,7 +805,7 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		handlers.add(new ModelMethodProcessor());
 		handlers.add(new ViewMethodReturnValueHandler());
 		handlers.add(new ResponseBodyEmitterReturnValueHandler(getMessageConverters(),
-				this.reactiveAdapterRegistry, this.taskExecutor, this.contentNegotiationManager));
+				this.reactiveAdapterRegistry, getAsyncTaskExecutor(), this.contentNegotiationManager));
 		handlers.add(new StreamingResponseBodyReturnValueHandler());
 		handlers.add(new HttpEntityMethodProcessor(getMessageConverters(),
 				this.contentNegotiationManager, this.requestResponseBodyAdvice));
@@ -875,19 +938,10 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 			HttpServletResponse response, HandlerMethod handlerMethod) throws Exception {
 
 		ServletWebRequest webRequest = new ServletWebRequest(request, response);
-		WebDataBinderFactory binderFactory = getDataBinderFactory(handlerMethod);
-		ModelFactory modelFactory = getModelFactory(handlerMethod, binderFactory);
-
-		ServletInvocableHandlerMethod invocableMethod = createInvocableHandlerMethod(handlerMethod);
-		if (this.argumentResolvers != null) {
-			invocableMethod.setHandlerMethodArgumentResolvers(this.argumentResolvers);
-		}
-		if (this.returnValueHandlers != null) {
-			invocableMethod.setHandlerMethodReturnValueHandlers(this.returnValueHandlers);
-		}
-		invocableMethod.setDataBinderFactory(binderFactory);
-		invocableMethod.setParameterNameDiscoverer(this.parameterNameDiscoverer);
-		invocableMethod.setMethodValidator(this.methodValidator);
+		InvocationPlan invocationPlan = getInvocationPlan(handlerMethod);
+		ModelFactory modelFactory = new ModelFactory(invocationPlan.modelAttributeMethods(),
+				invocationPlan.binderFactory(), invocationPlan.sessionAttributesHandler());
+		ServletInvocableHandlerMethod invocableMethod = invocationPlan.invocableMethod();
 
 		ModelAndViewContainer mavContainer = new ModelAndViewContainer();
 		mavContainer.addAllAttributes(RequestContextUtils.getInputFlashMap(request));
@@ -898,7 +952,7 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		asyncWebRequest.setTimeout(this.asyncRequestTimeout);
 
 		WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
-		asyncManager.setTaskExecutor(this.taskExecutor);
+		asyncManager.setTaskExecutor(getAsyncTaskExecutor());
 		asyncManager.setAsyncWebRequest(asyncWebRequest);
 		asyncManager.registerCallableInterceptors(this.callableInterceptors);
 		asyncManager.registerDeferredResultInterceptors(this.deferredResultInterceptors);
@@ -907,14 +961,22 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 			Object result = asyncManager.getConcurrentResult();
 			mavContainer = (ModelAndViewContainer) asyncManager.getConcurrentResultContext()[0];
 			asyncManager.clearConcurrentResult();
-			LogFormatUtils.traceDebug(logger, traceOn -> {
-				String formatted = LogFormatUtils.formatValue(result, !traceOn);
-				return "Resume with async result [" + formatted + "]";
-			});
-			invocableMethod = invocableMethod.wrapConcurrentResult(result);
+			if (result != VIRTUAL_THREAD_INVOCATION_COMPLETE) {
+				LogFormatUtils.traceDebug(logger, traceOn -> {
+					String formatted = LogFormatUtils.formatValue(result, !traceOn);
+					return "Resume with async result [" + formatted + "]";
+				});
+				invocableMethod = invocableMethod.wrapConcurrentResult(result);
+				invocableMethod.invokeAndHandle(webRequest, mavContainer);
+			}
+		}
+		else if (invocationPlan.virtualThreads() && request.isAsyncSupported()) {
+			startVirtualThreadInvocation(invocableMethod, webRequest, mavContainer, asyncManager);
+		}
+		else {
+			invocableMethod.invokeAndHandle(webRequest, mavContainer);
 		}
 
-		invocableMethod.invokeAndHandle(webRequest, mavContainer);
 		if (asyncManager.isConcurrentHandlingStarted()) {
 			return null;
 		}
@@ -922,8 +984,59 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		return getModelAndView(mavContainer, modelFactory, webRequest);
 	}
 
+	/**
+	 * Return the executor for asynchronous processing: the virtual thread
+	 * executor if enabled, unless a specific executor has been configured.
+	 */
+	private AsyncTaskExecutor getAsyncTaskExecutor() {
+		if (this.virtualThreadExecutor != null && this.taskExecutor instanceof MvcSimpleAsyncTaskExecutor) {
+			return this.virtualThreadExecutor;
+		}
+		return this.taskExecutor;
+	}
+
+	/**
+	 * Invoke the handler method and handle its return value on a virtual thread,
+	 * through asynchronous request processing. Once complete, the request is
+	 * dispatched back with {@link #VIRTUAL_THREAD_INVOCATION_COMPLETE} as the
+	 * concurrent result, or with the exception raised by the invocation.
+	 */
+	private void startVirtualThreadInvocation(ServletInvocableHandlerMethod invocableMethod,
+			ServletWebRequest webRequest, ModelAndViewContainer mavContainer, WebAsyncManager asyncManager)
+			throws Exception {
+
+		Assert.state(this.virtualThreadExecutor != null, "No virtual thread executor");
+		LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+		Callable<Object> callable = () -> {
+			// Expose the request to the virtual thread, unless already bound by
+			// a CallableProcessingInterceptor such as FrameworkServlet's
+			ServletRequestAttributes attributes = null;
+			if (RequestContextHolder.getRequestAttributes() == null) {
+				attributes = new ServletRequestAttributes(webRequest.getRequest(), webRequest.getResponse());
+				RequestContextHolder.setRequestAttributes(attributes);
+				LocaleContextHolder.setLocaleContext(localeContext);
+			}
+			try {
+				invocableMethod.invokeAndHandle(webRequest, mavContainer);
+				return VIRTUAL_THREAD_INVOCATION_COMPLETE;
+			}
+			finally {
+				if (attributes != null) {
+					attributes.requestCompleted();
+					RequestContextHolder.resetRequestAttributes();
+					LocaleContextHolder.resetLocaleContext();
+				}
+			}
+		};
+		WebAsyncTask<Object> task = new WebAsyncTask<>(null, this.virtualThreadExecutor, callable);
+		asyncManager.startCallableProcessing(task, mavContainer);
+	}
+
 	/**
 	 * Create a {@link ServletInvocableHandlerMethod} from the given {@link HandlerMethod} definition.
+	 * <p>As of 6.1, the returned instance is kept in the invocation plan of
+	 * the handler method and reused for further requests to the same
+	 * handler bean instance, so it must not hold request-specific state.
 	 * @param handlerMethod the {@link HandlerMethod} definition
 	 * @return the corresponding {@link ServletInvocableHandlerMethod} (or custom subclass thereof)
 	 * @since 4.2
@@ -932,8 +1045,106 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		return new ServletInvocableHandlerMethod(handlerMethod);
 	}
 
-	private ModelFactory getModelFactory(HandlerMethod handlerMethod, WebDataBinderFactory binderFactory) {
-		SessionAttributesHandler sessionAttrHandler = getSessionAttributesHandler(handlerMethod);
+	/**
+	 * Return the invocation plan for the given handler method, creating it on
+	 * first use. A plan is reused as long as the handler bean is the same
+	 * singleton instance and all applicable {@code @ControllerAdvice} beans
+	 * are singletons; otherwise, a new plan is created for each request.
+	 * <p>The cache is bounded, so that plans for handler methods that are
+	 * no longer mapped do not accumulate: all plans are discarded once
+	 * {@link #INVOCATION_PLAN_CACHE_LIMIT} handler methods are cached.
+	 */
+	private InvocationPlan getInvocationPlan(HandlerMethod handlerMethod) throws Exception {
+		HandlerMethod key = handlerMethod.getResolvedFromHandlerMethod();
+		if (key == null) {
+			key = handlerMethod;
+		}
+		else if (!isSingletonHandler(key)) {
+			// Handler resolved for each request, e.g. a prototype or non-proxied scoped bean
+			return createInvocationPlan(handlerMethod);
+		}
+		InvocationPlan invocationPlan = this.invocationPlanCache.get(key);
+		if (invocationPlan != null && invocationPlan.bean() == handlerMethod.getBean()) {
+			return invocationPlan;
+		}
+		invocationPlan = createInvocationPlan(handlerMethod);
+		if (hasSingletonAdviceOnly(handlerMethod.getBeanType())) {
+			if (this.invocationPlanCache.size() >= INVOCATION_PLAN_CACHE_LIMIT &&
+					!this.invocationPlanCache.containsKey(key)) {
+				// Too many handler methods, e.g. mappings registered and unregistered at runtime
+				this.invocationPlanCache.clear();
+			}
+			// Replace any plan for a previous handler instance
+			this.invocationPlanCache.put(key, invocationPlan);
+		}
+		return invocationPlan;
+	}
+
+	private boolean isSingletonHandler(HandlerMethod handlerMethod) {
+		return (!(handlerMethod.getBean() instanceof String beanName) || this.beanFactory == null ||
+				this.beanFactory.isSingleton(beanName));
+	}
+
+	private InvocationPlan createInvocationPlan(HandlerMethod handlerMethod) throws Exception {
+		WebDataBinderFactory binderFactory = getDataBinderFactory(handlerMethod);
+		List<InvocableHandlerMethod> modelAttributeMethods = getModelAttributeMethods(handlerMethod, binderFactory);
+
+		ServletInvocableHandlerMethod invocableMethod = createInvocableHandlerMethod(handlerMethod);
+		if (this.argumentResolvers != null) {
+			invocableMethod.setHandlerMethodArgumentResolvers(this.argumentResolvers);
+		}
+		if (this.returnValueHandlers != null) {
+			invocableMethod.setHandlerMethodReturnValueHandlers(this.returnValueHandlers);
+		}
+		invocableMethod.setDataBinderFactory(binderFactory);
+		invocableMethod.setParameterNameDiscoverer(this.parameterNameDiscoverer);
+		invocableMethod.setMethodValidator(this.methodValidator);
+
+		boolean virtualThreads = (this.virtualThreadExecutor != null && !this.synchronizeOnSession &&
+				!mayReturnAsyncValue(handlerMethod));
+
+		return new InvocationPlan(handlerMethod.getBean(), invocableMethod, binderFactory,
+				modelAttributeMethods, getSessionAttributesHandler(handlerMethod), virtualThreads);
+	}
+
+	/**
+	 * Whether the handler method may return a value that starts asynchronous
+	 * processing itself, based on its declared return type.
+	 */
+	private boolean mayReturnAsyncValue(HandlerMethod handlerMethod) {
+		if (KotlinDetector.isSuspendingFunction(handlerMethod.getMethod())) {
+			return true;
+		}
+		MethodParameter returnType = handlerMethod.getReturnType();
+		Class<?> type = returnType.getParameterType();
+		if (HttpEntity.class.isAssignableFrom(type)) {
+			type = returnType.nested().getNestedParameterType();
+		}
+		for (Class<?> asyncType : ASYNC_RETURN_TYPES) {
+			if (asyncType.isAssignableFrom(type) || type.isAssignableFrom(asyncType)) {
+				return true;
+			}
+		}
+		return (this.reactiveAdapterRegistry.getAdapter(type) != null);
+	}
+
+	private boolean hasSingletonAdviceOnly(Class<?> handlerType) {
+		for (ControllerAdviceBean adviceBean : this.initBinderAdviceCache.keySet()) {
+			if (!adviceBean.isSingleton() && adviceBean.isApplicableToBeanType(handlerType)) {
+				return false;
+			}
+		}
+		for (ControllerAdviceBean adviceBean : this.modelAttributeAdviceCache.keySet()) {
+			if (!adviceBean.isSingleton() && adviceBean.isApplicableToBeanType(handlerType)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private List<InvocableHandlerMethod> getModelAttributeMethods(
+			HandlerMethod handlerMethod, WebDataBinderFactory binderFactory) {
+
 		Class<?> handlerType = handlerMethod.getBeanType();
 		Set<Method> methods = this.modelAttributeCache.get(handlerType);
 		if (methods == null) {
@@ -954,7 +1165,7 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 			Object bean = handlerMethod.getBean();
 			attrMethods.add(createModelAttributeMethod(binderFactory, bean, method));
 		}
-		return new ModelFactory(attrMethods, binderFactory, sessionAttrHandler);
+		return attrMethods;
 	}
 
 	private InvocableHandlerMethod createModelAttributeMethod(WebDataBinderFactory factory, Object bean, Method method) {
@@ -1041,6 +1252,26 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 	}
 
 
+	/**
+	 * Everything needed to invoke a handler method that does not depend on
+	 * the current request: the configured invocable method with its argument
+	 * resolvers and return value handlers, the binder factory with the
+	 * {@code @InitBinder} methods, and the {@code @ModelAttribute} methods,
+	 * each including the applicable {@code @ControllerAdvice} methods.
+	 * @param bean the handler bean that the plan was created for
+	 * @param invocableMethod the invocable handler method
+	 * @param binderFactory the binder factory for the handler method
+	 * @param modelAttributeMethods the {@code @ModelAttribute} methods to
+	 * create a {@link ModelFactory} with
+	 * @param sessionAttributesHandler the handler for session attributes
+	 * @param virtualThreads whether to invoke the handler method on a virtual thread
+	 */
+	private record InvocationPlan(Object bean, ServletInvocableHandlerMethod invocableMethod,
+			WebDataBinderFactory binderFactory, List<InvocableHandlerMethod> modelAttributeMethods,
+			SessionAttributesHandler sessionAttributesHandler, boolean virtualThreads) {
+	}
+
+
 	/**
 	 * A default Spring MVC AsyncTaskExecutor that warns if used.
 	 */
@@ -17,8 +17,15 @@
 package org.springframework.web.servlet.mvc.method.annotation;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 import org.springframework.http.MediaType;
@@ -57,6 +64,14 @@ import org.springframework.util.ObjectUtils;
  * emitter.complete();
  * </pre>
  *
+ * <p>As of 6.1, data can also be sent without blocking through
+ * {@link #trySend(Object)}: the data is then added to a bounded send buffer
+ * and written from the {@linkplain #setSendExecutor send executor}, with all
+ * data buffered in the meantime written in a batch followed by a single
+ * flush. When the buffer is full, e.g. because the client is slow to read,
+ * the configured {@link OverflowStrategy} applies. This is useful when
+ * broadcasting to many emitters from a single thread.
+ *
  * @author Rossen Stoyanchev
  * @author Juergen Hoeller
  * @since 4.2
@@ -95,6 +110,38 @@ public class ResponseBodyEmitter {
 
 	private final DefaultCallback completionCallback = new DefaultCallback();
 
+	/**
+	 * Guards the emitter state and the sending of data. A lock rather than
+	 * a monitor, so that virtual threads blocked on I/O while sending do not
+	 * pin their carrier thread.
+	 */
+	private final Lock lock = new ReentrantLock();
+
+	/** Data passed to {@link #trySend}, waiting to be written. */
+	private final Deque<Set<DataWithMediaType>> sendBuffer = new ArrayDeque<>();
+
+	/** Guards the send buffer and the drain state, never held while writing. */
+	private final Lock sendBufferLock = new ReentrantLock();
+
+	private int sendBufferLimit = 256;
+
+	private OverflowStrategy overflowStrategy = OverflowStrategy.DISCONNECT;
+
+	@Nullable
+	private Executor sendExecutor;
+
+	/** Whether the send buffer is being drained, or a drain is scheduled. */
+	private boolean draining;
+
+	/** Whether completion is deferred until the send buffer is drained. */
+	private boolean completeAfterDrain;
+
+	/** Whether the send buffer overflowed with {@link OverflowStrategy#DISCONNECT}. */
+	private boolean sendBufferOverflow;
+
+	/** Whether writing buffered data failed, after which no more is accepted. */
+	private boolean sendBufferFailure;
+
 
 	/**
 	 * Create a new ResponseBodyEmitter instance.
@@ -123,37 +170,126 @@ public class ResponseBodyEmitter {
 		return this.timeout;
 	}
 
+	/**
+	 * Set the maximum number of {@link #trySend} calls whose data may be
+	 * buffered while waiting to be written to the response. An SSE event
+	 * counts as one, regardless of the number of its parts.
+	 * <p>By default this is set to 256.
+	 * @param sendBufferLimit the send buffer limit
+	 * @since 6.1
+	 * @see #setOverflowStrategy(OverflowStrategy)
+	 */
+	public void setSendBufferLimit(int sendBufferLimit) {
+		Assert.isTrue(sendBufferLimit > 0, "Send buffer limit must be greater than 0");
+		this.sendBufferLimit = sendBufferLimit;
+	}
+
+	/**
+	 * Set what to do when {@link #trySend} is called while the send buffer
+	 * is full.
+	 * <p>By default this is set to {@link OverflowStrategy#DISCONNECT}.
+	 * @param overflowStrategy the overflow strategy
+	 * @since 6.1
+	 * @see #setSendBufferLimit(int)
+	 */
+	public void setOverflowStrategy(OverflowStrategy overflowStrategy) {
+		Assert.notNull(overflowStrategy, "OverflowStrategy must not be null");
+		this.overflowStrategy = overflowStrategy;
+	}
 
-	synchronized void initialize(Handler handler) throws IOException {
-		this.handler = handler;
+	/**
+	 * Set the executor to write data passed to {@link #trySend} with.
+	 * <p>By default, the executor for asynchronous request processing that is
+	 * configured in the MVC Java Config or the MVC namespace is used.
+	 * @param sendExecutor the executor to use
+	 * @since 6.1
+	 */
+	public void setSendExecutor(Executor sendExecutor) {
+		Assert.notNull(sendExecutor, "Executor must not be null");
+		this.sendExecutor = sendExecutor;
+	}
 
+	/**
+	 * Return the number of {@link #trySend} calls whose data has not been
+	 * written yet, e.g. to find out whether a client is slow to read.
+	 * @since 6.1
+	 */
+	public int getSendBufferSize() {
+		this.sendBufferLock.lock();
 		try {
-			sendInternal(this.earlySendAttempts);
+			return this.sendBuffer.size();
 		}
 		finally {
-			this.earlySendAttempts.clear();
+			this.sendBufferLock.unlock();
 		}
+	}
 
-		if (this.complete) {
-			if (this.failure != null) {
-				this.handler.completeWithError(this.failure);
+
+	void initialize(Handler handler) throws IOException {
+		initialize(handler, null);
+	}
+
+	void initialize(Handler handler, @Nullable Executor defaultSendExecutor) throws IOException {
+		this.lock.lock();
+		try {
+			this.handler = handler;
+
+			try {
+				sendInternal(this.earlySendAttempts);
+			}
+			finally {
+				this.earlySendAttempts.clear();
+			}
+
+			boolean drain;
+			this.sendBufferLock.lock();
+			try {
+				if (this.sendExecutor == null) {
+					this.sendExecutor = (defaultSendExecutor != null ? defaultSendExecutor : Runnable::run);
+				}
+				drain = (!this.sendBuffer.isEmpty() || this.sendBufferOverflow);
+				this.draining = drain;
+			}
+			finally {
+				this.sendBufferLock.unlock();
+			}
+			if (drain) {
+				RejectedExecutionException rejection = executeDrain(this.sendExecutor);
+				if (rejection != null) {
+					this.complete = true;
+					if (this.failure == null) {
+						this.failure = rejection;
+					}
+				}
+			}
+
+			if (this.complete) {
+				if (!deferCompletionUntilDrained()) {
+					completeHandler();
+				}
 			}
 			else {
-				this.handler.complete();
+				this.handler.onTimeout(this.timeoutCallback);
+				this.handler.onError(this.errorCallback);
+				this.handler.onCompletion(this.completionCallback);
 			}
 		}
-		else {
-			this.handler.onTimeout(this.timeoutCallback);
-			this.handler.onError(this.errorCallback);
-			this.handler.onCompletion(this.completionCallback);
+		finally {
+			this.lock.unlock();
 		}
 	}
 
-	synchronized void initializeWithError(Throwable ex) {
-		this.complete = true;
-		this.failure = ex;
-		this.earlySendAttempts.clear();
-		this.errorCallback.accept(ex);
+	void initializeWithError(Throwable ex) {
+		this.lock.lock();
+		try {
+			this.complete = true;
+			this.failure = ex;
+			this.earlySendAttempts.clear();
+			this.errorCallback.accept(ex);
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 	/**
@@ -190,23 +326,29 @@ public class ResponseBodyEmitter {
 	 * @throws IOException raised when an I/O error occurs
 	 * @throws java.lang.IllegalStateException wraps any other errors
 	 */
-	public synchronized void send(Object object, @Nullable MediaType mediaType) throws IOException {
-		Assert.state(!this.complete, () -> "ResponseBodyEmitter has already completed" +
-				(this.failure != null ? " with error: " + this.failure : ""));
-		if (this.handler != null) {
-			try {
-				this.handler.send(object, mediaType);
-			}
-			catch (IOException ex) {
-				this.ioErrorOnSend = true;
-				throw ex;
+	public void send(Object object, @Nullable MediaType mediaType) throws IOException {
+		this.lock.lock();
+		try {
+			Assert.state(!this.complete, () -> "ResponseBodyEmitter has already completed" +
+					(this.failure != null ? " with error: " + this.failure : ""));
+			if (this.handler != null) {
+				try {
+					this.handler.send(object, mediaType);
+				}
+				catch (IOException ex) {
+					this.ioErrorOnSend = true;
+					throw ex;
+				}
+				catch (Throwable ex) {
+					throw new IllegalStateException("Failed to send " + object, ex);
+				}
 			}
-			catch (Throwable ex) {
-				throw new IllegalStateException("Failed to send " + object, ex);
+			else {
+				this.earlySendAttempts.add(new DataWithMediaType(object, mediaType));
 			}
 		}
-		else {
-			this.earlySendAttempts.add(new DataWithMediaType(object, mediaType));
+		finally {
+			this.lock.unlock();
 		}
 	}
 
@@ -219,10 +361,16 @@ public class ResponseBodyEmitter {
 	 * @throws java.lang.IllegalStateException wraps any other errors
 	 * @since 6.0.12
 	 */
-	public synchronized void send(Set<DataWithMediaType> items) throws IOException {
-		Assert.state(!this.complete, () -> "ResponseBodyEmitter has already completed" +
-				(this.failure != null ? " with error: " + this.failure : ""));
-		sendInternal(items);
+	public void send(Set<DataWithMediaType> items) throws IOException {
+		this.lock.lock();
+		try {
+			Assert.state(!this.complete, () -> "ResponseBodyEmitter has already completed" +
+					(this.failure != null ? " with error: " + this.failure : ""));
+			sendInternal(items);
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 	private void sendInternal(Set<DataWithMediaType> items) throws IOException {
@@ -246,6 +394,225 @@ public class ResponseBodyEmitter {
 		}
 	}
 
+	/**
+	 * Send the given object without blocking, by adding it to the send buffer
+	 * to be written from the {@linkplain #setSendExecutor send executor}.
+	 * <p>Data passed to this method is written in order, but not necessarily
+	 * in order with data passed to {@link #send(Object)}; the two should not
+	 * be mixed. Completing the emitter writes buffered data first.
+	 * @param object the object to write
+	 * @return {@code true} if the object was buffered, {@code false} if it was
+	 * rejected because the send buffer is full, or because writing previously
+	 * buffered data failed; if the send executor rejects writing the data,
+	 * the emitter is completed with the {@link RejectedExecutionException}
+	 * @throws java.lang.IllegalStateException if the emitter has completed
+	 * @since 6.1
+	 * @see #setSendBufferLimit(int)
+	 * @see #setOverflowStrategy(OverflowStrategy)
+	 */
+	public boolean trySend(Object object) {
+		return trySend(object, null);
+	}
+
+	/**
+	 * Overloaded variant of {@link #trySend(Object)} that also accepts a
+	 * MediaType hint for how to serialize the given Object.
+	 * @param object the object to write
+	 * @param mediaType a MediaType hint for selecting an HttpMessageConverter
+	 * @return whether the object was buffered
+	 * @throws java.lang.IllegalStateException if the emitter has completed
+	 * @since 6.1
+	 */
+	public boolean trySend(Object object, @Nullable MediaType mediaType) {
+		return trySend(Collections.singleton(new DataWithMediaType(object, mediaType)));
+	}
+
+	/**
+	 * Variant of {@link #trySend(Object)} for a set of data and MediaType pairs,
+	 * which are buffered, and written, as a whole.
+	 * @param items the object and media type pairs to write
+	 * @return whether the items were buffered
+	 * @throws java.lang.IllegalStateException if the emitter has completed
+	 * @since 6.1
+	 */
+	public boolean trySend(Set<DataWithMediaType> items) {
+		Assert.state(!this.complete, () -> "ResponseBodyEmitter has already completed" +
+				(this.failure != null ? " with error: " + this.failure : ""));
+		Executor executor;
+		this.sendBufferLock.lock();
+		try {
+			if (this.sendBufferOverflow || this.sendBufferFailure) {
+				return false;
+			}
+			if (this.sendBuffer.size() >= this.sendBufferLimit) {
+				switch (this.overflowStrategy) {
+					case DROP_LATEST -> {
+						return false;
+					}
+					case DROP_OLDEST -> this.sendBuffer.pollFirst();
+					case DISCONNECT -> {
+						this.sendBuffer.clear();
+						this.sendBufferOverflow = true;
+						return false;
+					}
+				}
+			}
+			this.sendBuffer.add(items);
+			if (this.draining || this.sendExecutor == null) {
+				return true;
+			}
+			this.draining = true;
+			executor = this.sendExecutor;
+		}
+		finally {
+			this.sendBufferLock.unlock();
+		}
+		RejectedExecutionException rejection = executeDrain(executor);
+		if (rejection != null) {
+			completeWithError(rejection);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Execute a drain of the send buffer with the given executor. If the
+	 * executor rejects it, the buffered data is discarded and the drain
+	 * state is reset, leaving it to the caller to complete with an error.
+	 * @return the rejection, or {@code null} if the drain was executed
+	 */
+	@Nullable
+	private RejectedExecutionException executeDrain(Executor executor) {
+		try {
+			executor.execute(this::drainSendBuffer);
+			return null;
+		}
+		catch (RejectedExecutionException ex) {
+			this.sendBufferLock.lock();
+			try {
+				this.sendBuffer.clear();
+				this.sendBufferFailure = true;
+				this.draining = false;
+				this.completeAfterDrain = false;
+			}
+			finally {
+				this.sendBufferLock.unlock();
+			}
+			return ex;
+		}
+	}
+
+	/**
+	 * Write buffered data in batches until the send buffer is empty, then
+	 * complete if requested in the meantime. A buffer overflow is handled
+	 * as an error.
+	 */
+	private void drainSendBuffer() {
+		while (true) {
+			Set<DataWithMediaType> batch = new LinkedHashSet<>();
+			boolean overflow;
+			boolean complete = false;
+			this.sendBufferLock.lock();
+			try {
+				overflow = this.sendBufferOverflow;
+				if (!overflow) {
+					this.sendBuffer.forEach(batch::addAll);
+				}
+				this.sendBuffer.clear();
+				if (overflow || batch.isEmpty()) {
+					this.draining = false;
+					complete = this.completeAfterDrain;
+					this.completeAfterDrain = false;
+				}
+			}
+			finally {
+				this.sendBufferLock.unlock();
+			}
+			if (overflow) {
+				completeWithError(new IllegalStateException(
+						"Send buffer limit of " + this.sendBufferLimit + " exceeded"));
+				return;
+			}
+			if (batch.isEmpty()) {
+				if (complete) {
+					this.lock.lock();
+					try {
+						completeHandler();
+					}
+					finally {
+						this.lock.unlock();
+					}
+				}
+				return;
+			}
+			if (!sendBatch(batch)) {
+				return;
+			}
+		}
+	}
+
+	private boolean sendBatch(Set<DataWithMediaType> batch) {
+		Throwable failure = null;
+		this.lock.lock();
+		try {
+			if (!this.ioErrorOnSend) {
+				sendInternal(batch);
+				return true;
+			}
+		}
+		catch (IOException ex) {
+			// The Servlet container will notify us via AsyncListener#onError
+		}
+		catch (Throwable ex) {
+			failure = ex;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		this.sendBufferLock.lock();
+		try {
+			this.sendBuffer.clear();
+			this.sendBufferFailure = true;
+			this.draining = false;
+		}
+		finally {
+			this.sendBufferLock.unlock();
+		}
+		if (failure != null) {
+			completeWithError(failure);
+		}
+		return false;
+	}
+
+	/**
+	 * Defer completion of the handler until the send buffer is drained,
+	 * if currently draining.
+	 */
+	private boolean deferCompletionUntilDrained() {
+		this.sendBufferLock.lock();
+		try {
+			if (this.draining) {
+				this.completeAfterDrain = true;
+				return true;
+			}
+			return false;
+		}
+		finally {
+			this.sendBufferLock.unlock();
+		}
+	}
+
+	private void completeHandler() {
+		if (this.handler != null) {
+			if (this.failure != null) {
+				this.handler.completeWithError(this.failure);
+			}
+			else {
+				this.handler.complete();
+			}
+		}
+	}
+
 	/**
 	 * Complete request processing by performing a dispatch into the servlet
 	 * container, where Spring MVC is invoked once more, and completes the
@@ -254,14 +621,20 @@ public class ResponseBodyEmitter {
 	 * to complete request processing. It should not be used after container
 	 * related events such as an error while {@link #send(Object) sending}.
 	 */
-	public synchronized void complete() {
-		// Ignore complete after IO failure on send
-		if (this.ioErrorOnSend) {
-			return;
+	public void complete() {
+		this.lock.lock();
+		try {
+			// Ignore complete after IO failure on send
+			if (this.ioErrorOnSend) {
+				return;
+			}
+			this.complete = true;
+			if (this.handler != null && !deferCompletionUntilDrained()) {
+				this.handler.complete();
+			}
 		}
-		this.complete = true;
-		if (this.handler != null) {
-			this.handler.complete();
+		finally {
+			this.lock.unlock();
 		}
 	}
 
@@ -276,15 +649,21 @@ public class ResponseBodyEmitter {
 	 * container related events such as an error while
 	 * {@link #send(Object) sending}.
 	 */
-	public synchronized void completeWithError(Throwable ex) {
-		// Ignore complete after IO failure on send
-		if (this.ioErrorOnSend) {
-			return;
+	public void completeWithError(Throwable ex) {
+		this.lock.lock();
+		try {
+			// Ignore complete after IO failure on send
+			if (this.ioErrorOnSend) {
+				return;
+			}
+			this.complete = true;
+			this.failure = ex;
+			if (this.handler != null && !deferCompletionUntilDrained()) {
+				this.handler.completeWithError(ex);
+			}
 		}
-		this.complete = true;
-		this.failure = ex;
-		if (this.handler != null) {
-			this.handler.completeWithError(ex);
+		finally {
+			this.lock.unlock();
 		}
 	}
 
@@ -292,8 +671,14 @@ public class ResponseBodyEmitter {
 	 * Register code to invoke when the async request times out. This method is
 	 * called from a container thread when an async request times out.
 	 */
-	public synchronized void onTimeout(Runnable callback) {
-		this.timeoutCallback.setDelegate(callback);
+	public void onTimeout(Runnable callback) {
+		this.lock.lock();
+		try {
+			this.timeoutCallback.setDelegate(callback);
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 	/**
@@ -302,8 +687,14 @@ public class ResponseBodyEmitter {
 	 * while processing an async request.
 	 * @since 5.0
 	 */
-	public synchronized void onError(Consumer<Throwable> callback) {
-		this.errorCallback.setDelegate(callback);
+	public void onError(Consumer<Throwable> callback) {
+		this.lock.lock();
+		try {
+			this.errorCallback.setDelegate(callback);
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 	/**
@@ -312,8 +703,14 @@ public class ResponseBodyEmitter {
 	 * reason including timeout and network error. This method is useful for
 	 * detecting that a {@code ResponseBodyEmitter} instance is no longer usable.
 	 */
-	public synchronized void onCompletion(Runnable callback) {
-		this.completionCallback.setDelegate(callback);
+	public void onCompletion(Runnable callback) {
+		this.lock.lock();
+		try {
+			this.completionCallback.setDelegate(callback);
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 
@@ -354,6 +751,30 @@ public class ResponseBodyEmitter {
 	}
 
 
+	/**
+	 * Strategy for {@link #trySend} when the send buffer is full.
+	 * @since 6.1
+	 */
+	public enum OverflowStrategy {
+
+		/**
+		 * Reject the data to send.
+		 */
+		DROP_LATEST,
+
+		/**
+		 * Discard the oldest buffered data to make room for the data to send.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Reject the data to send, discard all buffered data, and complete the
+		 * emitter with an error, e.g. to make a slow client reconnect.
+		 */
+		DISCONNECT
+	}
+
+
 	/**
 	 * A simple holder of data to be written along with a MediaType hint for
 	 * selecting a message converter to write with.
@@ -65,6 +65,9 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 
 	private final ReactiveTypeHandler reactiveHandler;
 
+	@Nullable
+	private final TaskExecutor taskExecutor;
+
 
 	/**
 	 * Simple constructor with reactive type support based on a default instance of
@@ -76,13 +79,15 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 		Assert.notEmpty(messageConverters, "HttpMessageConverter List must not be empty");
 		this.sseMessageConverters = initSseConverters(messageConverters);
 		this.reactiveHandler = new ReactiveTypeHandler();
+		this.taskExecutor = null;
 	}
 
 	/**
 	 * Complete constructor with pluggable "reactive" type support.
 	 * @param messageConverters converters to write emitted objects with
 	 * @param registry for reactive return value type support
-	 * @param executor for blocking I/O writes of items emitted from reactive types
+	 * @param executor for blocking I/O writes of items emitted from reactive types,
+	 * and by default of data sent through {@link ResponseBodyEmitter#trySend}
 	 * @param manager for detecting streaming media types
 	 * @since 5.0
 	 */
@@ -92,6 +97,7 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 		Assert.notEmpty(messageConverters, "HttpMessageConverter List must not be empty");
 		this.sseMessageConverters = initSseConverters(messageConverters);
 		this.reactiveHandler = new ReactiveTypeHandler(registry, executor, manager);
+		this.taskExecutor = executor;
 	}
 
 	private static List<HttpMessageConverter<?>> initSseConverters(List<HttpMessageConverter<?>> converters) {
@@ -182,7 +188,7 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 			throw ex;
 		}
 
-		emitter.initialize(handler);
+		emitter.initialize(handler, this.taskExecutor);
 	}
 
 
@@ -139,6 +139,32 @@ public class SseEmitter extends ResponseBodyEmitter {
 		}
 	}
 
+	/**
+	 * Send the object formatted as a single SSE "data" line without blocking.
+	 * <p>Please, see {@link ResponseBodyEmitter#trySend(Object) parent Javadoc}
+	 * for details on the send buffer.
+	 * @param object the object to write
+	 * @param mediaType a MediaType hint for selecting an HttpMessageConverter
+	 * @return whether the event was buffered
+	 * @since 6.1
+	 */
+	@Override
+	public boolean trySend(Object object, @Nullable MediaType mediaType) {
+		return trySend(event().data(object, mediaType));
+	}
+
+	/**
+	 * Send an SSE event prepared with the given builder without blocking.
+	 * The event is buffered, and written, as a whole.
+	 * @param builder a builder for an SSE formatted event.
+	 * @return whether the event was buffered
+	 * @since 6.1
+	 * @see ResponseBodyEmitter#trySend(Object)
+	 */
+	public boolean trySend(SseEventBuilder builder) {
+		return trySend(builder.build());
+	}
+
 	@Override
 	public String toString() {
 		return "SseEmitter@" + ObjectUtils.getIdentityHexString(this);
@@ -133,6 +133,21 @@ public class ConsumesRequestConditionTests {
 		assertThat(condition.getMatchingCondition(request)).isNull();
 	}
 
+	@Test
+	public void consumesMatchWithChangedContentType() {
+		ConsumesRequestCondition condition = new ConsumesRequestCondition("text/plain");
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContentType("text/plain");
+		assertThat(condition.getMatchingCondition(request)).isSameAs(condition);
+
+		request.setContentType("application/xml");
+		assertThat(condition.getMatchingCondition(request)).isNull();
+
+		request.setContentType("01");
+		assertThat(condition.getMatchingCondition(request)).isNull();
+	}
+
 	@Test // gh-22010
 	public void consumesNoContent() {
 		ConsumesRequestCondition condition = new ConsumesRequestCondition("text/plain");
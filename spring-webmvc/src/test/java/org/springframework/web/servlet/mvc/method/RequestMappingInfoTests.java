@@ -183,6 +183,44 @@ class RequestMappingInfoTests {
 		assertThat(match).isNull();
 	}
 
+	@Test
+	void matchMethodsCondition() {
+		MockHttpServletRequest request = PathPatternsTestUtils.initRequest("GET", "/foo", false);
+
+		RequestMappingInfo info = RequestMappingInfo.paths("/foo").methods(GET, RequestMethod.POST).build();
+		assertThat(info.getMatchingCondition(request)).isNotNull();
+
+		request.setMethod("HEAD");
+		assertThat(info.getMatchingCondition(request)).isNotNull();
+
+		request.setMethod("PUT");
+		assertThat(info.getMatchingCondition(request)).isNull();
+
+		request.setMethod("PROPFIND");
+		assertThat(info.getMatchingCondition(request)).isNull();
+	}
+
+	@Test
+	void matchAllConditionsReturnsSameInstance() {
+		RequestMappingInfo.BuilderConfiguration options = new RequestMappingInfo.BuilderConfiguration();
+		options.setPatternParser(new PathPatternParser());
+		MockHttpServletRequest request = PathPatternsTestUtils.initRequest("POST", "/foo", true);
+		request.setContentType("application/json");
+		request.setContent("{}".getBytes());
+		request.addHeader("Accept", "application/json");
+		request.setParameter("foo", "bar");
+
+		RequestMappingInfo info = RequestMappingInfo.paths("/foo").methods(RequestMethod.POST).params("foo=bar")
+				.consumes("application/json").produces("application/json").options(options).build();
+		assertThat(info.getMatchingCondition(request)).isSameAs(info);
+
+		info = RequestMappingInfo.paths("/foo").methods(RequestMethod.POST)
+				.consumes("application/json", "application/xml").options(options).build();
+		RequestMappingInfo match = info.getMatchingCondition(request);
+		assertThat(match).isNotSameAs(info);
+		assertThat(match.getConsumesCondition().getConsumableMediaTypes()).containsExactly(MediaType.APPLICATION_JSON);
+	}
+
 	@Test
 	void compareToWithImplicitVsExplicitHttpMethodDeclaration() {
 		RequestMappingInfo noMethods = RequestMappingInfo.paths().build();
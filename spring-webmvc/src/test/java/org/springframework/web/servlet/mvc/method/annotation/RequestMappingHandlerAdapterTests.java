@@ -24,10 +24,14 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpInputMessage;
@@ -46,6 +50,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.SessionAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.support.StaticWebApplicationContext;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.annotation.ModelMethodProcessor;
@@ -55,10 +60,12 @@ import org.springframework.web.method.support.InvocableHandlerMethod;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.FlashMap;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.testfixture.servlet.MockAsyncContext;
 import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
 import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Unit tests for {@link RequestMappingHandlerAdapter}.
@@ -218,6 +225,73 @@ public class RequestMappingHandlerAdapterTests {
 		assertThat(model1.get("instance")).isNotSameAs(model2.get("instance"));
 	}
 
+	@Test
+	public void singletonControllerAdviceWithHandlerInstances() throws Exception {
+		this.webAppContext.registerSingleton("maa", ModelAttributeAdvice.class);
+		this.webAppContext.refresh();
+
+		SimpleController handler1 = new SimpleController();
+		SimpleController handler2 = new SimpleController();
+		HandlerMethod handlerMethod1 = handlerMethod(handler1, "handle");
+		HandlerMethod handlerMethod2 = handlerMethod(handler2, "handle");
+		this.handlerAdapter.afterPropertiesSet();
+		Map<String, Object> model1 = this.handlerAdapter.handle(this.request, this.response, handlerMethod1).getModel();
+		Map<String, Object> model2 = this.handlerAdapter.handle(this.request, this.response, handlerMethod1).getModel();
+		Map<String, Object> model3 = this.handlerAdapter.handle(this.request, this.response, handlerMethod2).getModel();
+
+		assertThat(model1.get("controller")).isSameAs(handler1);
+		assertThat(model2.get("controller")).isSameAs(handler1);
+		assertThat(model3.get("controller")).isSameAs(handler2);
+		assertThat(model1.get("instance")).isSameAs(model3.get("instance"));
+	}
+
+	@Test
+	public void prototypeControllerWithSingletonControllerAdvice() throws Exception {
+		this.webAppContext.registerSingleton("maa", ModelAttributeAdvice.class);
+		this.webAppContext.registerPrototype("controller", SimpleController.class);
+		this.webAppContext.refresh();
+
+		HandlerMethod handlerMethod = new HandlerMethod("controller", this.webAppContext.getBeanFactory(),
+				SimpleController.class.getDeclaredMethod("handle"));
+		this.handlerAdapter.setBeanFactory(this.webAppContext.getBeanFactory());
+		this.handlerAdapter.afterPropertiesSet();
+		HandlerMethod handlerMethod1 = handlerMethod.createWithResolvedBean();
+		HandlerMethod handlerMethod2 = handlerMethod.createWithResolvedBean();
+		Map<String, Object> model1 = this.handlerAdapter.handle(this.request, this.response, handlerMethod1).getModel();
+		Map<String, Object> model2 = this.handlerAdapter.handle(this.request, this.response, handlerMethod2).getModel();
+
+		assertThat(model1.get("controller")).isSameAs(handlerMethod1.getBean());
+		assertThat(model2.get("controller")).isSameAs(handlerMethod2.getBean());
+		assertThat(model1.get("controller")).isNotSameAs(model2.get("controller"));
+		assertThat(model1.get("instance")).isSameAs(model2.get("instance"));
+	}
+
+	@Test
+	public void invocationPlanCacheIsBounded() throws Exception {
+		List<HandlerMethod> createdPlans = new ArrayList<>();
+		RequestMappingHandlerAdapter handlerAdapter = new RequestMappingHandlerAdapter() {
+			@Override
+			protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+				createdPlans.add(handlerMethod);
+				return super.createInvocableHandlerMethod(handlerMethod);
+			}
+		};
+		handlerAdapter.setApplicationContext(this.webAppContext);
+		handlerAdapter.afterPropertiesSet();
+
+		HandlerMethod handlerMethod = handlerMethod(new SimpleController(), "handle");
+		handlerAdapter.handle(this.request, this.response, handlerMethod);
+		handlerAdapter.handle(this.request, this.response, handlerMethod);
+		assertThat(createdPlans).hasSize(1);
+
+		for (int i = 0; i < 1024; i++) {
+			handlerAdapter.handle(this.request, this.response, handlerMethod(new SimpleController(), "handle"));
+		}
+		assertThat(createdPlans).hasSize(1025);
+		handlerAdapter.handle(this.request, this.response, handlerMethod);
+		assertThat(createdPlans).hasSize(1026);
+	}
+
 	@Test
 	public void modelAttributeAdviceInParentContext() throws Exception {
 		StaticWebApplicationContext parent = new StaticWebApplicationContext();
@@ -271,6 +345,39 @@ public class RequestMappingHandlerAdapterTests {
 		assertThat(this.response.getContentAsString()).isEqualTo("{\"status\":400,\"message\":\"body\"}");
 	}
 
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	public void virtualThreads() throws Exception {
+		this.handlerAdapter.setVirtualThreads(true);
+		this.handlerAdapter.afterPropertiesSet();
+		this.request.setAsyncSupported(true);
+
+		HandlerMethod handlerMethod = handlerMethod(new SimpleController(), "handleBlocking", Model.class);
+		ModelAndView mav = this.handlerAdapter.handle(this.request, this.response, handlerMethod);
+
+		assertThat(mav).isNull();
+		assertThat(this.request.isAsyncStarted()).isTrue();
+
+		CountDownLatch latch = new CountDownLatch(1);
+		((MockAsyncContext) this.request.getAsyncContext()).addDispatchHandler(latch::countDown);
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		this.request.setAsyncStarted(false);
+		mav = this.handlerAdapter.handle(this.request, this.response, handlerMethod);
+
+		assertThat(mav).isNotNull();
+		assertThat(mav.getViewName()).isEqualTo("view");
+		assertThat((String) mav.getModel().get("thread")).startsWith("mvc-virtual-");
+		assertThat(mav.getModel().get("requestAttributes")).isEqualTo(true);
+	}
+
+	@Test
+	@EnabledForJreRange(max = JRE.JAVA_20)
+	public void virtualThreadsNotSupported() {
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> this.handlerAdapter.setVirtualThreads(true));
+	}
+
 	private HandlerMethod handlerMethod(Object handler, String methodName, Class<?>... paramTypes) throws Exception {
 		Method method = handler.getClass().getDeclaredMethod(methodName, paramTypes);
 		return new InvocableHandlerMethod(handler, method);
@@ -289,6 +396,7 @@ public class RequestMappingHandlerAdapterTests {
 		@ModelAttribute
 		public void addAttributes(Model model) {
 			model.addAttribute("attr1", "lAttr1");
+			model.addAttribute("controller", this);
 		}
 
 		public String handle() {
@@ -304,6 +412,12 @@ public class RequestMappingHandlerAdapterTests {
 			return new ResponseEntity<>("body", HttpStatus.BAD_REQUEST);
 		}
 
+		public String handleBlocking(Model model) {
+			model.addAttribute("thread", Thread.currentThread().getName());
+			model.addAttribute("requestAttributes", RequestContextHolder.getRequestAttributes() != null);
+			return "view";
+		}
+
 	}
 
 
@@ -17,14 +17,21 @@
 package org.springframework.web.servlet.mvc.method.annotation;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.OverflowStrategy;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIOException;
@@ -32,7 +39,9 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -50,6 +59,8 @@ public class ResponseBodyEmitterTests {
 
 	private final ResponseBodyEmitter emitter = new ResponseBodyEmitter();
 
+	private final List<Runnable> sendTasks = new ArrayList<>();
+
 
 	@Test
 	void sendBeforeHandlerInitialized() throws Exception {
@@ -245,4 +256,114 @@ public class ResponseBodyEmitterTests {
 		verify(runnable).run();
 	}
 
+	@Test
+	void trySendBatchesBufferedData() throws Exception {
+		this.emitter.initialize(this.handler, this.sendTasks::add);
+		assertThat(this.emitter.trySend("foo", MediaType.TEXT_PLAIN)).isTrue();
+		assertThat(this.emitter.trySend("bar", MediaType.TEXT_PLAIN)).isTrue();
+		assertThat(this.emitter.getSendBufferSize()).isEqualTo(2);
+		assertThat(this.sendTasks).hasSize(1);
+		verify(this.handler, never()).send(anySet());
+
+		this.sendTasks.get(0).run();
+		assertThat(captureSentData()).containsExactly("foo", "bar");
+		assertThat(this.emitter.getSendBufferSize()).isZero();
+	}
+
+	@Test
+	void trySendBeforeHandlerInitialized() throws Exception {
+		this.emitter.trySend("foo", MediaType.TEXT_PLAIN);
+		this.emitter.complete();
+		verifyNoMoreInteractions(this.handler);
+
+		this.emitter.initialize(this.handler);
+		InOrder inOrder = inOrder(this.handler);
+		inOrder.verify(this.handler).send(anySet());
+		inOrder.verify(this.handler).complete();
+	}
+
+	@Test
+	void trySendWithDropLatest() throws Exception {
+		this.emitter.setSendBufferLimit(1);
+		this.emitter.setOverflowStrategy(OverflowStrategy.DROP_LATEST);
+		this.emitter.initialize(this.handler, this.sendTasks::add);
+		assertThat(this.emitter.trySend("foo")).isTrue();
+		assertThat(this.emitter.trySend("bar")).isFalse();
+
+		this.sendTasks.get(0).run();
+		assertThat(captureSentData()).containsExactly("foo");
+	}
+
+	@Test
+	void trySendWithDropOldest() throws Exception {
+		this.emitter.setSendBufferLimit(1);
+		this.emitter.setOverflowStrategy(OverflowStrategy.DROP_OLDEST);
+		this.emitter.initialize(this.handler, this.sendTasks::add);
+		assertThat(this.emitter.trySend("foo")).isTrue();
+		assertThat(this.emitter.trySend("bar")).isTrue();
+
+		this.sendTasks.get(0).run();
+		assertThat(captureSentData()).containsExactly("bar");
+	}
+
+	@Test
+	void trySendWithDisconnect() throws Exception {
+		this.emitter.setSendBufferLimit(1);
+		this.emitter.initialize(this.handler, this.sendTasks::add);
+		assertThat(this.emitter.trySend("foo")).isTrue();
+		assertThat(this.emitter.trySend("bar")).isFalse();
+		assertThat(this.emitter.trySend("baz")).isFalse();
+		assertThat(this.emitter.getSendBufferSize()).isZero();
+
+		this.sendTasks.get(0).run();
+		verify(this.handler, never()).send(anySet());
+		verify(this.handler).completeWithError(any(IllegalStateException.class));
+	}
+
+	@Test
+	void completeAfterTrySendWaitsForBufferedData() throws Exception {
+		this.emitter.initialize(this.handler, this.sendTasks::add);
+		this.emitter.trySend("foo");
+		this.emitter.complete();
+		verify(this.handler, never()).complete();
+		assertThatIllegalStateException().isThrownBy(() -> this.emitter.trySend("bar"));
+
+		this.sendTasks.get(0).run();
+		InOrder inOrder = inOrder(this.handler);
+		inOrder.verify(this.handler).send(anySet());
+		inOrder.verify(this.handler).complete();
+	}
+
+	@Test
+	void trySendWithRejectingSendExecutor() throws Exception {
+		RejectedExecutionException rejection = new RejectedExecutionException("Rejected");
+		this.emitter.initialize(this.handler, task -> {
+			throw rejection;
+		});
+		assertThat(this.emitter.trySend("foo")).isFalse();
+		assertThat(this.emitter.getSendBufferSize()).isZero();
+		verify(this.handler).completeWithError(rejection);
+		assertThatIllegalStateException().isThrownBy(() -> this.emitter.trySend("bar"));
+		verify(this.handler, never()).send(anySet());
+	}
+
+	@Test
+	void trySendBeforeHandlerInitializedWithRejectingSendExecutor() throws Exception {
+		RejectedExecutionException rejection = new RejectedExecutionException("Rejected");
+		this.emitter.trySend("foo");
+		this.emitter.initialize(this.handler, task -> {
+			throw rejection;
+		});
+		verify(this.handler).completeWithError(rejection);
+		verify(this.handler, never()).send(anySet());
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private List<Object> captureSentData() throws IOException {
+		ArgumentCaptor<Set<DataWithMediaType>> captor = (ArgumentCaptor) ArgumentCaptor.forClass(Set.class);
+		verify(this.handler).send(captor.capture());
+		return captor.getValue().stream().map(DataWithMediaType::getData).toList();
+	}
+
+
 }
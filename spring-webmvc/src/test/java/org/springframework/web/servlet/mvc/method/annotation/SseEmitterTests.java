@@ -135,6 +135,29 @@ public class SseEmitterTests {
 		this.handler.assertObject(4, "\nevent:test\nretry:5000\nid:1\n\n", TEXT_PLAIN_UTF8);
 		this.handler.assertWriteCount(1);
 	}
+	@Test
+	public void trySendBatchesEvents() throws Exception {
+		List<Runnable> tasks = new ArrayList<>();
+		this.emitter = new SseEmitter();
+		this.emitter.setSendExecutor(tasks::add);
+		this.emitter.initialize(this.handler);
+
+		assertThat(this.emitter.trySend(event().id("1").data("foo"))).isTrue();
+		assertThat(this.emitter.trySend("bar")).isTrue();
+		assertThat(tasks).hasSize(1);
+		this.handler.assertWriteCount(0);
+
+		tasks.get(0).run();
+		this.handler.assertSentObjectCount(6);
+		this.handler.assertObject(0, "id:1\ndata:", TEXT_PLAIN_UTF8);
+		this.handler.assertObject(1, "foo");
+		this.handler.assertObject(2, "\n\n", TEXT_PLAIN_UTF8);
+		this.handler.assertObject(3, "data:", TEXT_PLAIN_UTF8);
+		this.handler.assertObject(4, "bar");
+		this.handler.assertObject(5, "\n\n", TEXT_PLAIN_UTF8);
+		this.handler.assertWriteCount(1);
+	}
+
 
 
 	private static class TestHandler implements ResponseBodyEmitter.Handler {